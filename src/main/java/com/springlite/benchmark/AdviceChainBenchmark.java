@@ -0,0 +1,87 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.aop.AopProxyFactory;
+import com.springlite.framework.aop.AspectScanner;
+import com.springlite.framework.aop.JoinPoint;
+import com.springlite.framework.aop.ProceedingJoinPoint;
+import com.springlite.framework.aop.annotations.AfterReturning;
+import com.springlite.framework.aop.annotations.Around;
+import com.springlite.framework.aop.annotations.Aspect;
+import com.springlite.framework.aop.annotations.Before;
+
+/**
+ * 🎭 AOP 프록시 메서드 호출 비용 벤치마크
+ *
+ * 같은 프록시에서 어드바이스가 없는 메서드와 어드바이스 3개(@Before, @Around, @AfterReturning)가 걸린 메서드를 호출합니다.
+ * 인터셉터 체인은 클래스마다 한 번 만들어져 모든 프록시가 공유하므로 호출 시 포인트컷 평가는 없습니다.
+ * - 어드바이스 없음 : 체인 조회 후 바로 원본 호출
+ * - 어드바이스 3개  : 미리 정렬된 체인을 따라 호출
+ */
+public class AdviceChainBenchmark {
+
+    private static final int OPS = 1_000_000;
+
+    public interface Calculator {
+        int plain(int value);
+
+        int advised(int value);
+    }
+
+    public static class SimpleCalculator implements Calculator {
+        @Override
+        public int plain(int value) {
+            return value + 1;
+        }
+
+        @Override
+        public int advised(int value) {
+            return value + 1;
+        }
+    }
+
+    @Aspect
+    public static class ThreeAdviceAspect {
+        long before;
+        long around;
+        long afterReturning;
+
+        @Before("execution(* *.advised(..))")
+        public void before(JoinPoint joinPoint) {
+            before++;
+        }
+
+        @Around("execution(* *.advised(..))")
+        public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+            around++;
+            return joinPoint.proceed();
+        }
+
+        @AfterReturning(pointcut = "execution(* *.advised(..))", returning = "result")
+        public void afterReturning(JoinPoint joinPoint, Object result) {
+            afterReturning++;
+        }
+    }
+
+    public static void run() {
+        BenchmarkSupport.printHeader("AOP 프록시 호출 비용 (어드바이스 0개 vs 3개)");
+
+        ThreeAdviceAspect aspect = new ThreeAdviceAspect();
+        AopProxyFactory factory = new AopProxyFactory();
+        factory.addAspect(AspectScanner.processAspect(aspect));
+
+        Calculator direct = new SimpleCalculator();
+        Calculator proxy = (Calculator) factory.createProxy(new SimpleCalculator());
+
+        long[] sink = new long[1];
+        BenchmarkSupport.measure("direct  advised()", OPS, 5, 10, () -> sink[0] += direct.advised(1));
+        BenchmarkSupport.measure("proxy   plain()    (no advice)", OPS, 5, 10, () -> sink[0] += proxy.plain(1));
+        BenchmarkSupport.measure("proxy   advised()  (3 advice)", OPS, 5, 10, () -> sink[0] += proxy.advised(1));
+
+        long creations = 100_000;
+        BenchmarkSupport.measure("createProxy (shared chain table)", (int) creations, 2, 5,
+            () -> sink[0] += factory.createProxy(new SimpleCalculator()).hashCode() & 1);
+
+        System.out.println("(checksum " + sink[0] + ", advice " + aspect.before + "/" + aspect.around + "/"
+            + aspect.afterReturning + ")");
+    }
+}
@@ -0,0 +1,124 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.aop.AopProxyFactory;
+import com.springlite.framework.aop.AspectScanner;
+import com.springlite.framework.aop.ProceedingJoinPoint;
+import com.springlite.framework.aop.annotations.Around;
+import com.springlite.framework.aop.annotations.Aspect;
+
+/**
+ * 🧅 깊은 @Around 체인 호출 비용 벤치마크
+ *
+ * @Around 어드바이스 10개가 겹겹이 걸린 메서드를 인터페이스 프록시(JDK Proxy)와 서브클래스 프록시로 호출합니다.
+ * 어드바이스 메서드와 원본 메서드 호출 비용(리플렉션 vs 미리 바인딩한 MethodHandle)이 체인 깊이만큼 곱해집니다.
+ */
+public class AroundChainBenchmark {
+
+    private static final int OPS = 500_000;
+
+    public interface Pricing {
+        int price(int amount);
+    }
+
+    public static class SimplePricing implements Pricing {
+        @Override
+        public int price(int amount) {
+            return amount + 1;
+        }
+    }
+
+    /**
+     * 인터페이스가 없어 서브클래스 프록시가 만들어지는 빈
+     */
+    public static class PricingEngine {
+        public int price(int amount) {
+            return amount + 1;
+        }
+    }
+
+    @Aspect
+    public static class LayeredAspect {
+        long calls;
+
+        @Around("execution(* price(..))")
+        public Object layer1(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer2(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer3(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer4(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer5(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer6(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer7(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer8(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer9(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+
+        @Around("execution(* price(..))")
+        public Object layer10(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+    }
+
+    public static void run() {
+        BenchmarkSupport.printHeader("@Around 10겹 체인 호출 비용 (인터페이스 프록시 / 서브클래스 프록시)");
+
+        LayeredAspect aspect = new LayeredAspect();
+        AopProxyFactory factory = new AopProxyFactory();
+        factory.addAspect(AspectScanner.processAspect(aspect));
+
+        Pricing direct = new SimplePricing();
+        Pricing interfaceProxy = (Pricing) factory.createProxy(new SimplePricing());
+        PricingEngine subclassProxy = (PricingEngine) factory.createProxy(new PricingEngine());
+
+        long[] sink = new long[1];
+        BenchmarkSupport.measure("direct          price()", OPS, 5, 10, () -> sink[0] += direct.price(1));
+        BenchmarkSupport.measure("interface proxy price()  (10 @Around)", OPS, 5, 10,
+            () -> sink[0] += interfaceProxy.price(1));
+        BenchmarkSupport.measure("subclass proxy  price()  (10 @Around)", OPS, 5, 10,
+            () -> sink[0] += subclassProxy.price(1));
+
+        System.out.println("(checksum " + sink[0] + ", advice calls " + aspect.calls + ")");
+    }
+}
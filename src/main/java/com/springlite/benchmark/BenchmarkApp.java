@@ -0,0 +1,76 @@
+package com.springlite.benchmark;
+
+/**
+ * ⏱️ Spring Lite 벤치마크 실행기
+ * 
+ * 사용법:
+ * ./gradlew runBenchmark --args="component-index"
+ * ./gradlew runBenchmark --args="prototype"
+ * ./gradlew runBenchmark --args="snapshot"
+ * ./gradlew runBenchmark --args="scope"
+ * ./gradlew runBenchmark --args="dispatcher"
+ * ./gradlew runBenchmark --args="scheduler"
+ * ./gradlew runBenchmark --args="proxy-chain"
+ * ./gradlew runBenchmark --args="advice-chain"
+ * ./gradlew runBenchmark --args="pointcut-filter"
+ * ./gradlew runBenchmark --args="around-chain"
+ */
+public class BenchmarkApp {
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            printUsage();
+            return;
+        }
+        
+        switch (args[0]) {
+            case "component-index":
+                ComponentIndexBenchmark.run();
+                break;
+            case "prototype":
+                PrototypeBeanBenchmark.run();
+                break;
+            case "snapshot":
+                ContextSnapshotBenchmark.run();
+                break;
+            case "scope":
+                ScopedBeanBenchmark.run();
+                break;
+            case "dispatcher":
+                DispatcherServletBenchmark.run();
+                break;
+            case "scheduler":
+                SchedulerBenchmark.run();
+                break;
+            case "proxy-chain":
+                ProxyChainBenchmark.run();
+                break;
+            case "advice-chain":
+                AdviceChainBenchmark.run();
+                break;
+            case "pointcut-filter":
+                PointcutFilterBenchmark.run();
+                break;
+            case "around-chain":
+                AroundChainBenchmark.run();
+                break;
+            default:
+                System.err.println("알 수 없는 벤치마크: " + args[0]);
+                printUsage();
+        }
+    }
+    
+    private static void printUsage() {
+        System.out.println("사용 가능한 벤치마크:");
+        System.out.println("  component-index   컴포넌트 인덱스 vs 클래스패스 스캔 기동 시간");
+        System.out.println("  prototype         프로토타입 빈 getBean 처리량 (주입 계획)");
+        System.out.println("  snapshot          컨텍스트 스냅샷 vs 일반 기동 첫 요청 시간");
+        System.out.println("  scope             빈 스코프별 (prototype/request/thread/pooled) 할당량");
+        System.out.println("  dispatcher        DispatcherServlet 처리량 (로깅 off vs debug)");
+        System.out.println("  scheduler         주기 작업 N개: 작업별 Timer vs 공유 타이머 휠 (스레드 수, 지연)");
+        System.out.println("  proxy-chain       애스펙트 + @Transactional 빈 호출 비용: 프록시 2겹 vs 체인 1개");
+        System.out.println("  advice-chain      AOP 프록시 호출 비용: 어드바이스 없는 메서드 vs 어드바이스 3개");
+        System.out.println("  pointcut-filter   애스펙트 20개 × 빈 클래스 32개의 프록시 필요 여부 판단 (클래스 필터)");
+        System.out.println("  around-chain      @Around 10겹 체인 호출 비용 (인터페이스 / 서브클래스 프록시)");
+    }
+}
@@ -0,0 +1,174 @@
+package com.springlite.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ⏱️ 벤치마크 공통 유틸리티
+ * 
+ * JMH 대신 사용하는 간단한 측정 도구입니다.
+ * - 워밍업 후 여러 번 측정하여 중앙값을 사용
+ * - com.sun.management.ThreadMXBean으로 연산당 할당 바이트 측정 (JMH -prof gc 대용)
+ */
+public final class BenchmarkSupport {
+    
+    private BenchmarkSupport() {
+    }
+    
+    /**
+     * 반복 실행 벤치마크 결과
+     */
+    public static final class Result {
+        private final String label;
+        private final double nanosPerOp;
+        private final double bytesPerOp;
+        
+        Result(String label, double nanosPerOp, double bytesPerOp) {
+            this.label = label;
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+        
+        public double getNanosPerOp() {
+            return nanosPerOp;
+        }
+        
+        public double getBytesPerOp() {
+            return bytesPerOp;
+        }
+        
+        public double getOpsPerSecond() {
+            return 1_000_000_000d / nanosPerOp;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("%-45s %12.1f ns/op %14.0f ops/s %10.1f B/op",
+                label, nanosPerOp, getOpsPerSecond(), bytesPerOp);
+        }
+    }
+    
+    /**
+     * op 을 opsPerIteration 번씩 반복 실행하여 연산당 시간과 할당량을 측정합니다.
+     */
+    public static Result measure(String label, int opsPerIteration, int warmupIterations,
+                                 int measureIterations, Runnable op) {
+        for (int i = 0; i < warmupIterations; i++) {
+            for (int j = 0; j < opsPerIteration; j++) {
+                op.run();
+            }
+        }
+        
+        double[] nanos = new double[measureIterations];
+        double[] bytes = new double[measureIterations];
+        for (int i = 0; i < measureIterations; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            for (int j = 0; j < opsPerIteration; j++) {
+                op.run();
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            nanos[i] = (double) elapsed / opsPerIteration;
+            bytes[i] = (double) allocated / opsPerIteration;
+        }
+        Result result = new Result(label, median(nanos), median(bytes));
+        System.out.println(result);
+        return result;
+    }
+    
+    /**
+     * threads개 스레드가 동시에 op 을 opsPerThread 번씩 실행하여 전체 처리량(ops/s)의 중앙값을 반환합니다.
+     * (공유 락 경합처럼 단일 스레드 측정으로는 드러나지 않는 비용 확인용)
+     */
+    public static double measureThroughput(String label, int threads, int opsPerThread, int warmupIterations,
+                                           int measureIterations, Runnable op) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                runConcurrently(executor, threads, opsPerThread, op);
+            }
+            double[] opsPerSecond = new double[measureIterations];
+            for (int i = 0; i < measureIterations; i++) {
+                long elapsed = runConcurrently(executor, threads, opsPerThread, op);
+                opsPerSecond[i] = (double) threads * opsPerThread * 1_000_000_000d / elapsed;
+            }
+            double result = median(opsPerSecond);
+            System.out.println(String.format("%-45s %14.0f ops/s (%d threads)", label, result, threads));
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static long runConcurrently(ExecutorService executor, int threads, int opsPerThread, Runnable op) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < opsPerThread; j++) {
+                    op.run();
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return System.nanoTime() - begin;
+    }
+    
+    /**
+     * 한 번 실행하는 작업(컨텍스트 기동 등)의 소요 시간을 여러 번 측정하여 중앙값(ms)을 반환합니다.
+     */
+    public static double medianMillis(int runs, Runnable task) {
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            task.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000d;
+        }
+        return median(millis);
+    }
+    
+    /**
+     * 현재 스레드가 지금까지 할당한 바이트 수 (지원하지 않는 JVM이면 0)
+     */
+    public static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0L;
+    }
+    
+    public static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+    
+    public static void printHeader(String title) {
+        System.out.println();
+        System.out.println("⏱️  " + title);
+        System.out.println("================================================================");
+    }
+}
@@ -0,0 +1,133 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.context.AnnotationApplicationContext;
+import com.springlite.framework.context.index.CandidateComponentsIndex;
+import com.springlite.framework.context.index.ComponentIndexProcessor;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 🗂️ 컴포넌트 인덱스 vs 클래스패스 스캔 기동 시간 비교
+ *
+ * 수천 개의 클래스(그중 일부만 @Component)로 이루어진 합성 패키지를 생성하고
+ * ComponentIndexProcessor를 붙여 컴파일한 뒤, 두 가지 모드로 컨텍스트를 기동합니다.
+ * - scan  : -Dspringlite.index.ignore=true (클래스패스 탐색 + 바이트코드 파싱, 후보만 로딩)
+ * - index : META-INF/spring-lite.components 인덱스 사용
+ *
+ * 매 실행마다 새로운 클래스로더를 사용하므로 클래스 로딩 비용까지 포함됩니다.
+ */
+public class ComponentIndexBenchmark {
+
+    private static final String PACKAGE = "bench.synthetic";
+    private static final int CLASS_COUNT = 3000;
+    private static final int COMPONENT_EVERY = 20;
+    private static final int RUNS = 5;
+
+    public static void run() throws IOException {
+        BenchmarkSupport.printHeader("컴포넌트 인덱스 기동 벤치마크 (" + CLASS_COUNT + " classes, "
+                + (CLASS_COUNT / COMPONENT_EVERY) + " components)");
+
+        Path workDir = Files.createTempDirectory("springlite-index-bench");
+        Path classesDir = compileSyntheticPackage(workDir);
+        URL[] urls = {classesDir.toUri().toURL()};
+
+        // JIT 워밍업
+        startContext(urls, true);
+        startContext(urls, false);
+
+        double scanMillis = BenchmarkSupport.medianMillis(RUNS, () -> startContext(urls, true));
+        double indexMillis = BenchmarkSupport.medianMillis(RUNS, () -> startContext(urls, false));
+
+        System.out.println();
+        System.out.printf("scan  (bytecode scan)  : %8.1f ms%n", scanMillis);
+        System.out.printf("index (compile time)   : %8.1f ms%n", indexMillis);
+        System.out.printf("speedup                : %8.1fx%n", scanMillis / indexMillis);
+    }
+
+    private static void startContext(URL[] urls, boolean ignoreIndex) {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        System.setProperty(CandidateComponentsIndex.IGNORE_INDEX_PROPERTY, String.valueOf(ignoreIndex));
+        try (URLClassLoader loader = new URLClassLoader(urls, original)) {
+            thread.setContextClassLoader(loader);
+            try (AnnotationApplicationContext context = new AnnotationApplicationContext(PACKAGE)) {
+                // 컨텍스트가 직접 등록하는 빈(environment 등)은 제외하고 합성 컴포넌트만 확인
+                long components = Arrays.stream(context.getBeanDefinitionNames())
+                    .filter(name -> name.startsWith("synthetic"))
+                    .count();
+                if (components != CLASS_COUNT / COMPONENT_EVERY) {
+                    throw new IllegalStateException("Unexpected component count: " + components);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            thread.setContextClassLoader(original);
+            System.clearProperty(CandidateComponentsIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    /**
+     * 합성 소스를 생성하고 인덱스 프로세서와 함께 컴파일합니다.
+     */
+    private static Path compileSyntheticPackage(Path workDir) throws IOException {
+        Path sourceDir = workDir.resolve("src");
+        Path classesDir = workDir.resolve("classes");
+        Files.createDirectories(classesDir);
+
+        List<File> sources = new ArrayList<>();
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            // 10개 하위 패키지로 분산
+            String subPackage = "p" + (i % 10);
+            String className = "Synthetic" + i;
+            Path dir = sourceDir.resolve(PACKAGE.replace('.', '/')).resolve(subPackage);
+            Files.createDirectories(dir);
+
+            StringBuilder source = new StringBuilder();
+            source.append("package ").append(PACKAGE).append('.').append(subPackage).append(";\n");
+            if (i % COMPONENT_EVERY == 0) {
+                source.append("@com.springlite.framework.annotations.Component\n");
+            }
+            source.append("public class ").append(className).append(" {\n");
+            source.append("    static final long SEED = System.nanoTime();\n");
+            source.append("    public int value() { return ").append(i).append("; }\n");
+            source.append("}\n");
+
+            Path file = dir.resolve(className + ".java");
+            Files.write(file, source.toString().getBytes(StandardCharsets.UTF_8));
+            sources.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("JDK(javac)가 필요합니다");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sources);
+            List<String> options = Arrays.asList(
+                "-d", classesDir.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+            if (!task.call()) {
+                throw new IllegalStateException("합성 패키지 컴파일 실패");
+            }
+        }
+        System.out.println("합성 패키지 컴파일 완료: " + classesDir);
+        return classesDir;
+    }
+}
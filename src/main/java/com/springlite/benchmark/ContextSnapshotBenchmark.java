@@ -0,0 +1,242 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.context.AnnotationApplicationContext;
+import com.springlite.framework.context.ContextSnapshot;
+import com.springlite.framework.context.index.ComponentIndexProcessor;
+import com.springlite.framework.web.DispatcherServlet;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📦 컨텍스트 스냅샷 vs 일반 기동: 첫 요청까지 걸리는 시간 (time-to-first-request)
+ *
+ * @Service 체인, @PostConstruct, @Configuration/@Bean, @Aspect, @Controller로 이루어진 합성 앱을 컴파일하고
+ * 두 가지 모드로 "컨텍스트 기동 → DispatcherServlet 생성 → GET /hello 한 번 처리"를 측정합니다.
+ * - scan     : 컴포넌트 인덱스 + 리플렉션 기반 탐색 (현재 기본 경로)
+ * - snapshot : 빌드 시점에 만든 스냅샷 파일로 기동
+ *
+ * 매 실행마다 새로운 클래스로더를 사용하므로 클래스 로딩 비용까지 포함됩니다.
+ */
+public class ContextSnapshotBenchmark {
+
+    private static final String PACKAGE = "bench.snapshot";
+    private static final int SERVICE_COUNT = 300;
+    private static final int CHAIN_LENGTH = 10;
+    private static final int BEAN_METHOD_COUNT = 20;
+    private static final int RUNS = 7;
+
+    public static void run() throws IOException {
+        BenchmarkSupport.printHeader("컨텍스트 스냅샷 첫 요청 시간 벤치마크 (" + SERVICE_COUNT + " services, "
+                + BEAN_METHOD_COUNT + " @Bean methods)");
+
+        Path workDir = Files.createTempDirectory("springlite-snapshot-bench");
+        Path classesDir = compileSyntheticApp(workDir);
+        URL[] urls = {classesDir.toUri().toURL()};
+        Path snapshotFile = workDir.resolve("spring-lite.snapshot");
+
+        withClassLoader(urls, () -> {
+            try (AnnotationApplicationContext context = new AnnotationApplicationContext(PACKAGE)) {
+                context.createSnapshot().write(snapshotFile);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        System.out.println("스냅샷 생성 완료: " + snapshotFile + " (" + Files.size(snapshotFile) + " bytes)");
+
+        // JIT 워밍업
+        firstRequest(urls, null);
+        firstRequest(urls, snapshotFile);
+
+        double scanMillis = BenchmarkSupport.medianMillis(RUNS, () -> firstRequest(urls, null));
+        double snapshotMillis = BenchmarkSupport.medianMillis(RUNS, () -> firstRequest(urls, snapshotFile));
+
+        System.out.println();
+        System.out.printf("scan     (index + reflection) : %8.1f ms%n", scanMillis);
+        System.out.printf("snapshot (AOT metadata)       : %8.1f ms%n", snapshotMillis);
+        System.out.printf("speedup                       : %8.1fx%n", scanMillis / snapshotMillis);
+    }
+
+    /**
+     * 컨텍스트 기동부터 첫 요청 응답까지 (snapshotFile이 null이면 일반 기동)
+     */
+    private static void firstRequest(URL[] urls, Path snapshotFile) {
+        withClassLoader(urls, () -> {
+            try (AnnotationApplicationContext context = snapshotFile == null
+                    ? new AnnotationApplicationContext(PACKAGE)
+                    : new AnnotationApplicationContext(ContextSnapshot.read(snapshotFile))) {
+                DispatcherServlet servlet = new DispatcherServlet(context);
+                StringWriter body = new StringWriter();
+                servlet.service((ServletRequest) fakeRequest("GET", "/hello"),
+                    (ServletResponse) fakeResponse(new PrintWriter(body, true)));
+                if (!body.toString().equals("s" + (SERVICE_COUNT - 1))) {
+                    throw new IllegalStateException("Unexpected response: " + body);
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void withClassLoader(URL[] urls, Runnable task) {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(urls, original)) {
+            thread.setContextClassLoader(loader);
+            task.run();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /**
+     * 서블릿 컨테이너 없이 DispatcherServlet을 호출하기 위한 가짜 요청 (DispatcherServletBenchmark에서도 사용)
+     */
+    static HttpServletRequest fakeRequest(String method, String uri) {
+        return (HttpServletRequest) Proxy.newProxyInstance(ContextSnapshotBenchmark.class.getClassLoader(),
+            new Class<?>[]{HttpServletRequest.class}, (proxy, invoked, args) -> {
+                switch (invoked.getName()) {
+                    case "getMethod":
+                        return method;
+                    case "getRequestURI":
+                    case "getServletPath":
+                        return uri;
+                    default:
+                        return defaultValue(invoked.getReturnType());
+                }
+            });
+    }
+
+    static HttpServletResponse fakeResponse(PrintWriter writer) {
+        return (HttpServletResponse) Proxy.newProxyInstance(ContextSnapshotBenchmark.class.getClassLoader(),
+            new Class<?>[]{HttpServletResponse.class}, (proxy, invoked, args) ->
+                invoked.getName().equals("getWriter") ? writer : defaultValue(invoked.getReturnType()));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /**
+     * 합성 앱 소스를 생성하고 컴포넌트 인덱스 프로세서와 함께 컴파일합니다.
+     */
+    private static Path compileSyntheticApp(Path workDir) throws IOException {
+        Path sourceDir = workDir.resolve("src");
+        Path classesDir = workDir.resolve("classes");
+        Files.createDirectories(classesDir);
+
+        List<File> sources = new ArrayList<>();
+        String component = "com.springlite.framework.annotations.";
+
+        for (int i = 0; i < SERVICE_COUNT; i++) {
+            sources.add(write(sourceDir, "svc", "Service" + i,
+                "public interface Service" + i + " {\n"
+                + "    String call();\n"
+                + "}\n"));
+
+            // 같은 체인 안에서 이전 서비스를 주입받음
+            boolean chained = i % CHAIN_LENGTH != 0;
+            StringBuilder impl = new StringBuilder();
+            impl.append("@").append(component).append("Service\n");
+            impl.append("public class Service").append(i).append("Impl implements Service").append(i).append(" {\n");
+            if (chained) {
+                impl.append("    @").append(component).append("Autowired\n");
+                impl.append("    private Service").append(i - 1).append(" previous;\n");
+            }
+            impl.append("    private boolean ready;\n");
+            impl.append("    @").append(component).append("PostConstruct\n");
+            impl.append("    void init() { ready = true; }\n");
+            impl.append("    public String call() { return ")
+                .append(chained ? "previous.call().isEmpty() ? \"\" : " : "")
+                .append("\"s").append(i).append("\"; }\n");
+            impl.append("}\n");
+            sources.add(write(sourceDir, "svc", "Service" + i + "Impl", impl.toString()));
+        }
+
+        StringBuilder config = new StringBuilder();
+        config.append("@").append(component).append("Configuration\n");
+        config.append("public class BenchConfig {\n");
+        for (int i = 0; i < BEAN_METHOD_COUNT; i++) {
+            config.append("    @").append(component).append("Bean\n");
+            config.append("    public java.util.concurrent.atomic.AtomicLong counter").append(i)
+                .append("() { return new java.util.concurrent.atomic.AtomicLong(").append(i).append("); }\n");
+        }
+        config.append("}\n");
+        sources.add(write(sourceDir, "config", "BenchConfig", config.toString()));
+
+        sources.add(write(sourceDir, "aspect", "TraceAspect",
+            "@com.springlite.framework.aop.annotations.Aspect\n"
+            + "@" + component + "Component\n"
+            + "public class TraceAspect {\n"
+            + "    @com.springlite.framework.aop.annotations.Before(\"execution(* " + PACKAGE + ".svc.Service1Impl.*(..))\")\n"
+            + "    public void trace(com.springlite.framework.aop.JoinPoint joinPoint) { }\n"
+            + "}\n"));
+
+        sources.add(write(sourceDir, "web", "HelloController",
+            "@" + component + "Controller\n"
+            + "public class HelloController {\n"
+            + "    @" + component + "Autowired\n"
+            + "    private " + PACKAGE + ".svc.Service" + (SERVICE_COUNT - 1) + " service;\n"
+            + "    @" + component + "GetMapping(\"/hello\")\n"
+            + "    public String hello() { return service.call(); }\n"
+            + "}\n"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("JDK(javac)가 필요합니다");
+        }
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sources);
+            List<String> options = Arrays.asList(
+                "-d", classesDir.toString(),
+                "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+            if (!task.call()) {
+                throw new IllegalStateException("합성 앱 컴파일 실패");
+            }
+        }
+        System.out.println("합성 앱 컴파일 완료: " + classesDir);
+        return classesDir;
+    }
+
+    private static File write(Path sourceDir, String subPackage, String className, String body) throws IOException {
+        Path dir = sourceDir.resolve(PACKAGE.replace('.', '/')).resolve(subPackage);
+        Files.createDirectories(dir);
+        Path file = dir.resolve(className + ".java");
+        String source = "package " + PACKAGE + "." + subPackage + ";\n" + body;
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+}
@@ -0,0 +1,110 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.annotations.Controller;
+import com.springlite.framework.annotations.GetMapping;
+import com.springlite.framework.annotations.PathVariable;
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.context.AnnotationApplicationContext;
+import com.springlite.framework.logging.LogFactory;
+import com.springlite.framework.logging.LogLevel;
+import com.springlite.framework.web.DispatcherServlet;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * 📝 DispatcherServlet 처리량: 로깅 off vs debug
+ *
+ * 여러 스레드가 동시에 GET /hello, GET /users/{id} 를 처리합니다.
+ * - off   : 전역 로그 임계값 OFF (레벨 확인 한 번으로 끝, 메시지를 만들지 않음)
+ * - debug : 요청마다 디스패처 / 핸들러 어댑터의 debug 로그를 실제로 포맷팅하고 출력
+ *
+ * 출력은 버려지는 스트림으로 보내므로 터미널 I/O가 아닌 포맷팅 + 출력 락 비용만 측정됩니다.
+ * SLF4J(slf4j-simple) 백엔드는 System.err로 출력하고 debug 레벨이 켜져 있어야 합니다.
+ * (runBenchmark 태스크가 -Dorg.slf4j.simpleLogger.defaultLogLevel=debug 를 넘김)
+ */
+public class DispatcherServletBenchmark {
+
+    private static final int OPS_PER_THREAD = 20_000;
+
+    @Controller
+    public static class BenchController {
+
+        @GetMapping("/hello")
+        public String hello() {
+            return "hello";
+        }
+
+        @GetMapping("/users/{id}")
+        public String user(@PathVariable("id") String id) {
+            return id;
+        }
+    }
+
+    public static void run() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        BenchmarkSupport.printHeader("DispatcherServlet 처리량: 로깅 off vs debug (" + LogFactory.getBackendName() + " 백엔드)");
+
+        AnnotationApplicationContext context = new AnnotationApplicationContext();
+        context.registerBeanDefinition(new BeanDefinition("benchController", BenchController.class));
+        context.refresh();
+        DispatcherServlet servlet = new DispatcherServlet(context);
+
+        LogLevel originalLevel = LogFactory.getLevel();
+        PrintStream originalErr = System.err;
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+        Handler julHandler = new StreamHandler(discard, new SimpleFormatter());
+        julHandler.setLevel(Level.ALL);
+        Logger julLogger = Logger.getLogger("com.springlite.framework");
+        Level originalJulLevel = julLogger.getLevel();
+
+        ThreadLocal<ServletResponse> responses = ThreadLocal.withInitial(() ->
+            (ServletResponse) ContextSnapshotBenchmark.fakeResponse(new PrintWriter(OutputStream.nullOutputStream())));
+        ServletRequest hello = (ServletRequest) ContextSnapshotBenchmark.fakeRequest("GET", "/hello");
+        ServletRequest user = (ServletRequest) ContextSnapshotBenchmark.fakeRequest("GET", "/users/42");
+        Runnable op = () -> {
+            try {
+                servlet.service(hello, responses.get());
+                servlet.service(user, responses.get());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        try {
+            LogFactory.setLevel(LogLevel.OFF);
+            double off = BenchmarkSupport.measureThroughput("logging off   (2 requests/op)", threads, OPS_PER_THREAD, 2, 5, op);
+
+            LogFactory.setLevel(LogLevel.DEBUG);
+            julLogger.setLevel(Level.FINE);
+            julLogger.setUseParentHandlers(false);
+            julLogger.addHandler(julHandler);
+            if (!LogFactory.getLog(DispatcherServlet.class).isDebugEnabled()) {
+                System.out.println("⚠️  백엔드의 debug 레벨이 꺼져 있어 debug 로그가 출력되지 않습니다");
+            }
+            System.setErr(discard);
+            double debug;
+            try {
+                debug = BenchmarkSupport.measureThroughput("logging debug (2 requests/op)", threads, OPS_PER_THREAD, 2, 5, op);
+            } finally {
+                System.setErr(originalErr);
+            }
+
+            System.out.printf("logging off vs debug: %.1fx throughput%n", off / debug);
+        } finally {
+            LogFactory.setLevel(originalLevel);
+            julLogger.removeHandler(julHandler);
+            julLogger.setUseParentHandlers(true);
+            julLogger.setLevel(originalJulLevel);
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.aop.AopProxyFactory;
+import com.springlite.framework.aop.AspectMetadata;
+import com.springlite.framework.aop.AspectScanner;
+import com.springlite.framework.aop.JoinPoint;
+import com.springlite.framework.aop.PointcutMatchStatistics;
+import com.springlite.framework.aop.annotations.AfterReturning;
+import com.springlite.framework.aop.annotations.Aspect;
+import com.springlite.framework.aop.annotations.Before;
+import com.springlite.framework.transaction.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Stack;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🎯 프록시 필요 여부 판단 비용 벤치마크 (refresh 중 빈마다 한 번)
+ *
+ * 애스펙트 20개(각 어드바이스 3개: 패키지 execution, within, @within + bean)와
+ * 애스펙트와 무관한 빈 클래스 30개 + 어드바이스가 걸리는 빈 클래스 2개에 대해 needsProxy를 호출합니다.
+ * 포인트컷마다 클래스 필터가 있으면 무관한 클래스는 메서드를 하나도 검사하지 않고 제외됩니다.
+ */
+public class PointcutFilterBenchmark {
+
+    private static final int ASPECT_COPIES = 5;
+    private static final int RUNS = 50;
+
+    @Aspect
+    public static class BillingAspect {
+        @Before("execution(* com.example.billing..*.*(..))")
+        public void audit(JoinPoint joinPoint) {
+        }
+
+        @AfterReturning(pointcut = "execution(* com.example.billing.*Gateway.charge*(..))", returning = "result")
+        public void record(JoinPoint joinPoint, Object result) {
+        }
+
+        @Before("within(com.example.billing..*) && execution(public * *(..))")
+        public void checkAccess(JoinPoint joinPoint) {
+        }
+    }
+
+    @Aspect
+    public static class OrdersAspect {
+        @Before("within(com.example.orders..*)")
+        public void trace(JoinPoint joinPoint) {
+        }
+
+        @Before("bean(*OrderService) && execution(* place*(..))")
+        public void validate(JoinPoint joinPoint) {
+        }
+
+        @Before("within(com.example.orders.api.*Controller)")
+        public void rateLimit(JoinPoint joinPoint) {
+        }
+    }
+
+    @Aspect
+    public static class TransactionalAuditAspect {
+        @Before("@within(com.springlite.framework.transaction.Transactional)")
+        public void audit(JoinPoint joinPoint) {
+        }
+
+        @Before("@within(com.springlite.framework.transaction.Transactional) && execution(* save*(..))")
+        public void beforeSave(JoinPoint joinPoint) {
+        }
+
+        @Before("bean(*Repository) && execution(* delete*(..))")
+        public void beforeDelete(JoinPoint joinPoint) {
+        }
+    }
+
+    @Aspect
+    public static class MetricsAspect {
+        @Before("execution(* com.springlite.benchmark.PointcutFilterBenchmark$Metered*.*(..))")
+        public void count(JoinPoint joinPoint) {
+        }
+
+        @Before("within(com.example.metrics..*) || bean(metrics*)")
+        public void tag(JoinPoint joinPoint) {
+        }
+
+        @Before("execution(* com.example..*Scheduler.run(..))")
+        public void time(JoinPoint joinPoint) {
+        }
+    }
+
+    /**
+     * 어드바이스가 걸리는 빈 (@within(Transactional))
+     */
+    @Transactional
+    public static class AccountRepository {
+        public void save(String account) {
+        }
+    }
+
+    /**
+     * 어드바이스가 걸리는 빈 (MetricsAspect의 execution 선언 타입)
+     */
+    public static class MeteredJob {
+        public void run() {
+        }
+    }
+
+    public static void run() {
+        List<Object> aspectInstances = new ArrayList<>();
+        for (int i = 0; i < ASPECT_COPIES; i++) {
+            aspectInstances.add(new BillingAspect());
+            aspectInstances.add(new OrdersAspect());
+            aspectInstances.add(new TransactionalAuditAspect());
+            aspectInstances.add(new MetricsAspect());
+        }
+        List<AspectMetadata> aspects = new ArrayList<>();
+        for (Object aspectInstance : aspectInstances) {
+            aspects.add(AspectScanner.processAspect(aspectInstance));
+        }
+        List<Object> beans = beans();
+        int methods = 0;
+        for (Object bean : beans) {
+            methods += bean.getClass().getDeclaredMethods().length;
+        }
+
+        BenchmarkSupport.printHeader("needsProxy 판단 비용 (애스펙트 " + aspects.size() + "개 × 어드바이스 3개, 빈 클래스 "
+            + beans.size() + "개, 메서드 " + methods + "개)");
+
+        int[] proxied = new int[1];
+        AopProxyFactory[] last = new AopProxyFactory[1];
+        Runnable decideAll = () -> {
+            AopProxyFactory factory = new AopProxyFactory();
+            for (AspectMetadata aspect : aspects) {
+                factory.addAspect(aspect);
+            }
+            int count = 0;
+            for (Object bean : beans) {
+                if (factory.needsProxy(bean)) {
+                    count++;
+                }
+            }
+            proxied[0] = count;
+            last[0] = factory;
+        };
+
+        // JIT 워밍업
+        BenchmarkSupport.medianMillis(RUNS, decideAll);
+        double millis = BenchmarkSupport.medianMillis(RUNS, decideAll);
+
+        PointcutMatchStatistics statistics = last[0].getMatchStatistics();
+        System.out.println();
+        System.out.printf("needsProxy (all beans)  : %8.3f ms  (proxied %d/%d)%n", millis, proxied[0], beans.size());
+        System.out.println("classes rejected        : " + statistics.getClassesRejected() + "/" + statistics.getClassesChecked());
+        System.out.println("method checks performed : " + statistics.getMethodChecks());
+        System.out.println("method checks skipped   : " + statistics.getMethodChecksSkipped());
+    }
+
+    /**
+     * 애스펙트와 무관한 빈 30개 (메서드가 많은 JDK 클래스) + 어드바이스가 걸리는 빈 2개
+     */
+    private static List<Object> beans() {
+        List<Object> beans = new ArrayList<>();
+        beans.add(new ArrayList<>());
+        beans.add(new LinkedList<>());
+        beans.add(new HashMap<>());
+        beans.add(new LinkedHashMap<>());
+        beans.add(new TreeMap<>());
+        beans.add(new HashSet<>());
+        beans.add(new TreeSet<>());
+        beans.add(new ArrayDeque<>());
+        beans.add(new PriorityQueue<>());
+        beans.add(new Vector<>());
+        beans.add(new Stack<>());
+        beans.add(new Hashtable<>());
+        beans.add(new Properties());
+        beans.add(new IdentityHashMap<>());
+        beans.add(new WeakHashMap<>());
+        beans.add(new ConcurrentHashMap<>());
+        beans.add(new ConcurrentLinkedQueue<>());
+        beans.add(new CopyOnWriteArrayList<>());
+        beans.add(new LinkedBlockingQueue<>());
+        beans.add(new BitSet());
+        beans.add(new Random());
+        beans.add(new StringJoiner(","));
+        beans.add(new StringBuilder());
+        beans.add(new AtomicLong());
+        beans.add(new ReentrantLock());
+        beans.add(new Semaphore(1));
+        beans.add(new Thread());
+        beans.add(new Object());
+        beans.add("string");
+        beans.add(new AopProxyFactory());
+        beans.add(new AccountRepository());
+        beans.add(new MeteredJob());
+        return beans;
+    }
+}
@@ -0,0 +1,93 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.annotations.Autowired;
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.context.AnnotationApplicationContext;
+
+/**
+ * 🧪 프로토타입 빈 getBean 처리량 벤치마크
+ *
+ * 생성자 / 필드 / 세터 주입을 모두 사용하는 프로토타입 빈을 반복 생성합니다.
+ * 의존성 중 하나는 인터페이스 타입이라 구현 클래스가 아닌 타입으로 조회하는 경로도 포함됩니다.
+ * 실제 애플리케이션처럼 다른 싱글톤 빈 정의들도 함께 등록합니다.
+ */
+public class PrototypeBeanBenchmark {
+    
+    private static final int FILLER_BEANS = 100;
+    private static final int OPS = 100_000;
+    
+    public interface OrderRepository {
+        int count();
+    }
+    
+    public static class InMemoryOrderRepository implements OrderRepository {
+        @Override
+        public int count() {
+            return 42;
+        }
+    }
+    
+    public static class PriceCalculator {
+        public int price(int quantity) {
+            return quantity * 100;
+        }
+    }
+    
+    public static class AuditTrail {
+    }
+    
+    public static class FillerBean {
+    }
+    
+    /**
+     * 요청마다 새로 만들어지는 프로토타입 빈
+     */
+    public static class OrderCommand {
+        private final OrderRepository repository;
+        
+        @Autowired
+        private PriceCalculator calculator;
+        
+        private AuditTrail auditTrail;
+        
+        @Autowired
+        public OrderCommand(OrderRepository repository) {
+            this.repository = repository;
+        }
+        
+        @Autowired
+        public void setAuditTrail(AuditTrail auditTrail) {
+            this.auditTrail = auditTrail;
+        }
+        
+        public int execute() {
+            return calculator.price(repository.count()) + (auditTrail != null ? 1 : 0);
+        }
+    }
+    
+    public static void run() {
+        BenchmarkSupport.printHeader("프로토타입 빈 getBean 벤치마크 (" + FILLER_BEANS + " other beans)");
+        
+        AnnotationApplicationContext context = new AnnotationApplicationContext();
+        for (int i = 0; i < FILLER_BEANS; i++) {
+            context.registerBeanDefinition(new BeanDefinition("filler" + i, FillerBean.class));
+        }
+        context.registerBeanDefinition(new BeanDefinition("orderRepository", InMemoryOrderRepository.class));
+        context.registerBeanDefinition(new BeanDefinition("priceCalculator", PriceCalculator.class));
+        context.registerBeanDefinition(new BeanDefinition("auditTrail", AuditTrail.class));
+        
+        BeanDefinition command = new BeanDefinition("orderCommand", OrderCommand.class);
+        command.setSingleton(false);
+        context.registerBeanDefinition(command);
+        context.refresh();
+        
+        int[] sink = new int[1];
+        BenchmarkSupport.measure("getBean(\"orderCommand\")", OPS, 5, 10,
+            () -> sink[0] += context.getBean("orderCommand", OrderCommand.class).execute());
+        BenchmarkSupport.measure("getBean(OrderCommand.class)", OPS, 5, 10,
+            () -> sink[0] += context.getBean(OrderCommand.class).execute());
+        
+        System.out.println("(checksum " + sink[0] + ")");
+        context.close();
+    }
+}
@@ -0,0 +1,125 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.aop.Advisor;
+import com.springlite.framework.aop.AopProxyFactory;
+import com.springlite.framework.aop.AspectScanner;
+import com.springlite.framework.aop.MethodInterceptor;
+import com.springlite.framework.aop.ProceedingJoinPoint;
+import com.springlite.framework.aop.annotations.Around;
+import com.springlite.framework.aop.annotations.Aspect;
+import com.springlite.framework.transaction.DefaultTransactionStatus;
+import com.springlite.framework.transaction.TransactionAdvisor;
+import com.springlite.framework.transaction.TransactionDefinition;
+import com.springlite.framework.transaction.TransactionManager;
+import com.springlite.framework.transaction.TransactionStatus;
+import com.springlite.framework.transaction.Transactional;
+
+import java.lang.reflect.Method;
+
+/**
+ * 🎭 프록시 체인 호출 비용 벤치마크
+ *
+ * 애스펙트(@Around)와 @Transactional이 모두 걸린 빈의 메서드 한 번 호출 비용을 비교합니다.
+ * - direct  : 프록시 없이 원본 호출
+ * - stacked : AOP 프록시 위에 트랜잭션 프록시를 한 겹 더 씌운 기존 구조 (프록시 2겹, 원본 호출 2번)
+ * - merged  : 애스펙트와 트랜잭션 인터셉터를 하나의 체인으로 합친 프록시 1겹
+ *
+ * 트랜잭션 매니저는 아무 일도 하지 않으므로 측정값은 순수한 프록시 / 체인 비용입니다.
+ */
+public class ProxyChainBenchmark {
+
+    private static final int OPS = 1_000_000;
+
+    public interface Account {
+        int deposit(int amount);
+    }
+
+    @Transactional
+    public static class AccountService implements Account {
+        private int balance;
+
+        @Override
+        public int deposit(int amount) {
+            balance += amount;
+            return balance;
+        }
+    }
+
+    @Aspect
+    public static class CountingAspect {
+        long calls;
+
+        @Around("execution(* *.deposit(..))")
+        public Object count(ProceedingJoinPoint joinPoint) throws Throwable {
+            calls++;
+            return joinPoint.proceed();
+        }
+    }
+
+    public static class NoOpTransactionManager implements TransactionManager {
+        long commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new DefaultTransactionStatus(null, true);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    public static void run() {
+        BenchmarkSupport.printHeader("프록시 체인 호출 비용 (@Around 애스펙트 + @Transactional)");
+
+        CountingAspect aspect = new CountingAspect();
+        NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+        TransactionAdvisor transactionAdvisor = new TransactionAdvisor(() -> transactionManager, Integer.MAX_VALUE);
+
+        Account direct = new AccountService();
+
+        // 기존 구조: 애스펙트만 적용한 프록시 → 그 위에 트랜잭션만 적용한 프록시
+        AopProxyFactory aspectOnly = new AopProxyFactory();
+        aspectOnly.addAspect(AspectScanner.processAspect(aspect));
+        AopProxyFactory transactionOnly = new AopProxyFactory();
+        transactionOnly.addAdvisor(new Advisor() {
+            @Override
+            public int getOrder() {
+                return transactionAdvisor.getOrder();
+            }
+
+            @Override
+            public MethodInterceptor getInterceptor(Method method, Class<?> targetClass) {
+                // 바깥 프록시의 타겟은 안쪽 프록시이므로 @Transactional은 원본 클래스에서 찾음
+                return transactionAdvisor.getInterceptor(method, AccountService.class);
+            }
+        });
+        Account stacked = (Account) transactionOnly.createProxy(aspectOnly.createProxy(new AccountService()));
+
+        // 새 구조: 애스펙트 + 트랜잭션 인터셉터를 하나의 체인으로
+        AopProxyFactory merged = new AopProxyFactory();
+        merged.addAspect(AspectScanner.processAspect(aspect));
+        merged.addAdvisor(transactionAdvisor);
+        Account single = (Account) merged.createProxy(new AccountService());
+
+        long[] sink = new long[1];
+        BenchmarkSupport.Result directResult = BenchmarkSupport.measure("direct  deposit()", OPS, 5, 10,
+            () -> sink[0] += direct.deposit(1));
+        BenchmarkSupport.Result stackedResult = BenchmarkSupport.measure("stacked aop proxy + tx proxy", OPS, 5, 10,
+            () -> sink[0] += stacked.deposit(1));
+        BenchmarkSupport.Result mergedResult = BenchmarkSupport.measure("merged  single proxy, one chain", OPS, 5, 10,
+            () -> sink[0] += single.deposit(1));
+
+        double stackedOverhead = stackedResult.getNanosPerOp() - directResult.getNanosPerOp();
+        double mergedOverhead = mergedResult.getNanosPerOp() - directResult.getNanosPerOp();
+        System.out.printf("per-call proxy overhead: stacked %.1f ns / %.0f B → merged %.1f ns / %.0f B (%.1f%% less time)%n",
+            stackedOverhead, stackedResult.getBytesPerOp(), mergedOverhead, mergedResult.getBytesPerOp(),
+            100 * (1 - mergedOverhead / stackedOverhead));
+        System.out.println("(checksum " + sink[0] + ", advice " + aspect.calls + ", commits " + transactionManager.commits + ")");
+    }
+}
@@ -0,0 +1,116 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.scheduling.WheelTaskScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ⏰ 주기 작업 N개: 작업마다 java.util.Timer vs 공유 타이머 휠 스케줄러
+ *
+ * 같은 수의 fixedRate 작업(주기 100ms, 시작 시각 분산)을 일정 시간 실행하고
+ * 사용한 스레드 수, 실행 횟수, 계획 시각 대비 지연(평균 / 최대)을 비교합니다.
+ * 작업 본문은 카운터 증가뿐이므로 스케줄링 자체의 비용만 측정됩니다.
+ * (계획 시각은 작업을 등록하는 순간을 기준으로 계산하므로 첫 등록의 클래스 로딩 시간은 지연에 포함되지 않음)
+ */
+public class SchedulerBenchmark {
+
+    private static final int TASKS = 2_000;
+    private static final long PERIOD_MILLIS = 100;
+    private static final long RUN_MILLIS = 3_000;
+
+    private static final class Stats {
+        final LongAdder executions = new LongAdder();
+        final LongAdder latenessNanos = new LongAdder();
+        final AtomicLong maxLatenessNanos = new AtomicLong();
+
+        void record(long plannedNanos) {
+            long lateness = Math.max(System.nanoTime() - plannedNanos, 0L);
+            executions.increment();
+            latenessNanos.add(lateness);
+            maxLatenessNanos.accumulateAndGet(lateness, Math::max);
+        }
+    }
+
+    /**
+     * 계획 시각을 스스로 계산하는 fixedRate 작업 본문
+     */
+    private static final class PeriodicBody implements Runnable {
+        private final Stats stats;
+        private long plannedNanos;
+
+        PeriodicBody(Stats stats, long firstPlannedNanos) {
+            this.stats = stats;
+            this.plannedNanos = firstPlannedNanos;
+        }
+
+        @Override
+        public void run() {
+            stats.record(plannedNanos);
+            plannedNanos += TimeUnit.MILLISECONDS.toNanos(PERIOD_MILLIS);
+        }
+    }
+
+    public static void run() throws InterruptedException {
+        BenchmarkSupport.printHeader("주기 작업 " + TASKS + "개 (" + PERIOD_MILLIS + "ms 주기, " + RUN_MILLIS + "ms 실행)");
+
+        runTimerPerTask();
+        runWheelScheduler();
+    }
+
+    private static void runTimerPerTask() throws InterruptedException {
+        Stats stats = new Stats();
+        int threadsBefore = liveThreads();
+        List<Timer> timers = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            long initialDelay = i % PERIOD_MILLIS;
+            PeriodicBody body = new PeriodicBody(stats, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay));
+            Timer timer = new Timer("bench-timer-" + i, true);
+            timer.scheduleAtFixedRate(new TimerTask() {
+                @Override
+                public void run() {
+                    body.run();
+                }
+            }, initialDelay, PERIOD_MILLIS);
+            timers.add(timer);
+        }
+        Thread.sleep(RUN_MILLIS);
+        int threadsUsed = liveThreads() - threadsBefore;
+        for (Timer timer : timers) {
+            timer.cancel();
+        }
+        print("Timer per task", threadsUsed, stats);
+    }
+
+    private static void runWheelScheduler() throws InterruptedException {
+        Stats stats = new Stats();
+        int threadsBefore = liveThreads();
+        WheelTaskScheduler scheduler = new WheelTaskScheduler();
+        for (int i = 0; i < TASKS; i++) {
+            long initialDelay = i % PERIOD_MILLIS;
+            PeriodicBody body = new PeriodicBody(stats, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelay));
+            scheduler.scheduleAtFixedRate("bench-" + i, body, initialDelay, PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        Thread.sleep(RUN_MILLIS);
+        int threadsUsed = liveThreads() - threadsBefore;
+        scheduler.shutdown(5, TimeUnit.SECONDS);
+        print("Timer wheel (" + scheduler.getPoolSize() + " workers)", threadsUsed, stats);
+    }
+
+    private static int liveThreads() {
+        return ManagementFactory.getThreadMXBean().getThreadCount();
+    }
+
+    private static void print(String label, int threads, Stats stats) {
+        long executions = stats.executions.sum();
+        double avgLatenessMillis = executions == 0 ? 0 : stats.latenessNanos.sum() / (double) executions / 1_000_000.0;
+        System.out.printf("%-28s threads=%5d  executions=%7d  lateness avg=%6.2fms max=%7.2fms%n",
+            label, threads, executions, avgLatenessMillis, stats.maxLatenessNanos.get() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.springlite.benchmark;
+
+import com.springlite.framework.annotations.Scope;
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.context.AnnotationApplicationContext;
+import com.springlite.framework.context.scope.RequestContextHolder;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+/**
+ * ♻️ 빈 스코프별 할당량 벤치마크
+ *
+ * 생성 비용이 크고 thread-safe 하지 않은 SimpleDateFormat 기반 파서를 스코프별로 조회해서 한 번씩 사용합니다.
+ * - prototype : 조회할 때마다 새 파서 (기존 방식)
+ * - request   : 요청마다 새 파서 (요청 하나에 조회 한 번)
+ * - thread    : 스레드마다 하나의 파서
+ * - pooled    : 호출마다 풀에서 빌리고 반납
+ */
+public class ScopedBeanBenchmark {
+
+    private static final int OPS = 50_000;
+    private static final String TEXT = "2024-01-15 10:30:00";
+
+    public interface DateParser {
+        long parse(String text);
+    }
+
+    public static class SimpleDateParser implements DateParser {
+        private final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+        @Override
+        public long parse(String text) {
+            try {
+                return format.parse(text).getTime();
+            } catch (ParseException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    public static void run() {
+        BenchmarkSupport.printHeader("빈 스코프별 할당량 벤치마크 (SimpleDateFormat 파서)");
+
+        AnnotationApplicationContext context = new AnnotationApplicationContext();
+        context.registerBeanDefinition(scoped("prototypeParser", Scope.PROTOTYPE));
+        context.registerBeanDefinition(scoped("requestParser", Scope.REQUEST));
+        context.registerBeanDefinition(scoped("threadParser", Scope.THREAD));
+        context.registerBeanDefinition(scoped("pooledParser", Scope.POOLED));
+        context.refresh();
+
+        long[] sink = new long[1];
+        BenchmarkSupport.Result prototype = BenchmarkSupport.measure("prototype getBean + parse", OPS, 5, 10,
+            () -> sink[0] += context.getBean("prototypeParser", DateParser.class).parse(TEXT));
+        BenchmarkSupport.measure("request   begin + getBean + parse + end", OPS, 5, 10, () -> {
+            RequestContextHolder.beginRequest();
+            try {
+                sink[0] += context.getBean("requestParser", DateParser.class).parse(TEXT);
+            } finally {
+                RequestContextHolder.endRequest();
+            }
+        });
+        BenchmarkSupport.measure("thread    getBean + parse", OPS, 5, 10,
+            () -> sink[0] += context.getBean("threadParser", DateParser.class).parse(TEXT));
+        BenchmarkSupport.Result pooled = BenchmarkSupport.measure("pooled    getBean + parse", OPS, 5, 10,
+            () -> sink[0] += context.getBean("pooledParser", DateParser.class).parse(TEXT));
+
+        System.out.printf("pooled vs prototype allocation: %.1f%% less (%.0f → %.0f B/op)%n",
+            100 * (1 - pooled.getBytesPerOp() / prototype.getBytesPerOp()),
+            prototype.getBytesPerOp(), pooled.getBytesPerOp());
+        System.out.println("(checksum " + sink[0] + ")");
+        context.close();
+    }
+
+    private static BeanDefinition scoped(String beanName, String scope) {
+        BeanDefinition beanDefinition = new BeanDefinition(beanName, SimpleDateParser.class);
+        beanDefinition.setScope(scope);
+        beanDefinition.setPoolSize(4);
+        return beanDefinition;
+    }
+}
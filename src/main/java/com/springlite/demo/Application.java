@@ -2,6 +2,8 @@ package com.springlite.demo;
 
 import com.springlite.demo.config.AppConfig;
 import com.springlite.framework.context.AnnotationApplicationContext;
+import com.springlite.framework.context.ContextSnapshot;
+import com.springlite.framework.context.ContextSnapshotGenerator;
 import com.springlite.framework.web.DispatcherServlet;
 import com.springlite.framework.web.InternalResourceViewResolver;
 import org.eclipse.jetty.server.Server;
@@ -9,6 +11,10 @@ import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.DefaultServlet;
 import org.eclipse.jetty.webapp.WebAppContext;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 public class Application {
     
     public static void main(String[] args) {
@@ -17,7 +23,9 @@ public class Application {
             
             // 1. ApplicationContext 생성
             System.out.println("\n1. Creating ApplicationContext...");
-            AnnotationApplicationContext applicationContext = new AnnotationApplicationContext(AppConfig.class);
+            AnnotationApplicationContext applicationContext = createApplicationContext();
+            // 🛑 SIGTERM(컨테이너 종료 등) 시 빈을 의존성 역순으로 정리
+            applicationContext.registerShutdownHook();
             
             // 🔥 2. ViewResolver 설정 (실제 Spring Framework 방식)
             System.out.println("\n2. Creating ViewResolver...");
@@ -32,7 +40,10 @@ public class Application {
             
             // 4. Jetty 서버 설정 (WebAppContext with JSP support)
             System.out.println("\n4. Starting Jetty Server with JSP support...");
-            Server server = new Server(8080);
+            // ⚙️ 포트는 외부 설정에서 (-Dserver.port, SERVER_PORT, application.properties 순)
+            int port = applicationContext.getEnvironment().getProperty("server.port", Integer.class, 8080);
+            String baseUrl = "http://localhost:" + port;
+            Server server = new Server(port);
             
             // 🔥 WebAppContext 사용으로 실제 JSP 엔진 지원
             WebAppContext context = new WebAppContext();
@@ -95,18 +106,18 @@ public class Application {
             System.out.println(applicationContext.getBean("customName"));
             
             System.out.println("\n=== Server Started Successfully! ===");
-            System.out.println("Server running on: http://localhost:8080");
+            System.out.println("Server running on: " + baseUrl);
             System.out.println("\n🚀 REST API Endpoints:");
-            System.out.println("- GET http://localhost:8080/users/hello");
-            System.out.println("- GET http://localhost:8080/users/test");
-            System.out.println("- GET http://localhost:8080/users");
+            System.out.println("- GET " + baseUrl + "/users/hello");
+            System.out.println("- GET " + baseUrl + "/users/test");
+            System.out.println("- GET " + baseUrl + "/users");
             System.out.println("\n🎨 MVC Web Pages:");
-            System.out.println("- GET http://localhost:8080/users/view (사용자 목록 JSP)");
-            System.out.println("- GET http://localhost:8080/users/detail (사용자 상세 JSP)");
+            System.out.println("- GET " + baseUrl + "/users/view (사용자 목록 JSP)");
+            System.out.println("- GET " + baseUrl + "/users/detail (사용자 상세 JSP)");
             System.out.println("\n✨ 새로 추가된 @PathVariable, @RequestParam, @RequestBody 테스트:");
-            System.out.println("- GET http://localhost:8080/users/pathvar/123");
-            System.out.println("- GET http://localhost:8080/users/search?name=john&page=1");
-            System.out.println("- POST http://localhost:8080/users/create + JSON body");
+            System.out.println("- GET " + baseUrl + "/users/pathvar/123");
+            System.out.println("- GET " + baseUrl + "/users/search?name=john&page=1");
+            System.out.println("- POST " + baseUrl + "/users/create + JSON body");
             System.out.println("\n🎯 실제 Spring Framework와 동일한 서블릿 매핑 적용!");
             System.out.println("- DispatcherServlet: /* (모든 요청 처리, 실제 Spring과 동일)");
             System.out.println("- JSP Servlet: *.jsp (JSP 파일 처리)");
@@ -125,4 +136,16 @@ public class Application {
             e.printStackTrace();
         }
     }
+    
+    /**
+     * 📦 -Dspringlite.snapshot=파일 이 있으면 컨텍스트 스냅샷으로 시작 (./gradlew generateContextSnapshot)
+     */
+    private static AnnotationApplicationContext createApplicationContext() throws IOException {
+        String snapshotPath = System.getProperty(ContextSnapshotGenerator.SNAPSHOT_PROPERTY);
+        if (snapshotPath != null && Files.exists(Paths.get(snapshotPath))) {
+            System.out.println("📦 Using context snapshot: " + snapshotPath);
+            return new AnnotationApplicationContext(ContextSnapshot.read(Paths.get(snapshotPath)));
+        }
+        return new AnnotationApplicationContext(AppConfig.class);
+    }
 } 
\ No newline at end of file
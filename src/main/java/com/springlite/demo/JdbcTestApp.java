@@ -1,5 +1,6 @@
 package com.springlite.demo;
 
+import com.springlite.framework.env.Environment;
 import com.springlite.framework.jdbc.JdbcTemplate;
 import com.springlite.framework.jdbc.RowMapper;
 import com.springlite.demo.dto.User;
@@ -64,10 +65,14 @@ public class JdbcTestApp {
     private static DataSource createH2DataSource() {
         System.out.println("\n📊 H2 DataSource 생성 중...");
         
+        // ⚙️ 접속 정보는 외부 설정에서 (-Djdbc.url=..., JDBC_URL, application.properties 순)
+        Environment environment = new Environment();
+        String url = environment.getProperty("jdbc.url", "jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1");
         JdbcDataSource dataSource = new JdbcDataSource();
-        dataSource.setURL("jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1");
-        dataSource.setUser("sa");
-        dataSource.setPassword("");
+        dataSource.setURL(url);
+        dataSource.setUser(environment.getProperty("jdbc.username", "sa"));
+        dataSource.setPassword(environment.getProperty("jdbc.password", ""));
+        System.out.println("   URL: " + url);
         
         System.out.println("✅ H2 DataSource 생성 완료");
         return dataSource;
@@ -0,0 +1,312 @@
+package com.springlite.demo;
+
+import com.springlite.demo.service.UserService;
+import com.springlite.demo.service.UserServiceImpl;
+import com.springlite.framework.aop.PointcutMatcher;
+import com.springlite.framework.transaction.Transactional;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🎯 포인트컷 표현식 회귀 테스트
+ *
+ * AspectJ 스타일 표현식과 (대상 클래스, 메서드) 조합마다 기대 결과를 적어 둔 코퍼스입니다.
+ * 파서를 고칠 때 기존 표현식의 의미가 바뀌지 않았는지 확인합니다.
+ * - execution (수식어, 반환 타입, 선언 타입, 이름, 파라미터 패턴), within, @annotation, @within, bean
+ * - &&, ||, ! (and, or, not), 괄호, 명명된 포인트컷 참조
+ * - 잘못된 표현식은 IllegalArgumentException
+ * - 클래스 필터: 어떤 메서드도 매칭될 수 없는 클래스만 거르고, 매칭되는 메서드가 있는 클래스는 절대 거르지 않음
+ *
+ * 실패하면 종료 코드 1로 끝납니다.
+ */
+public class PointcutCorpusApp {
+
+    public interface Repository {
+        String findById(long id);
+    }
+
+    @Transactional
+    public static class OrderRepository implements Repository {
+        @Override
+        public String findById(long id) {
+            return "order-" + id;
+        }
+
+        public List<String> findAll(String prefix, int limit) {
+            return null;
+        }
+
+        @Transactional(readOnly = true)
+        public int count() {
+            return 0;
+        }
+
+        protected void flush() {
+        }
+
+        public static OrderRepository create() {
+            return new OrderRepository();
+        }
+    }
+
+    public static class AuditService {
+        public void record(String event, Object... details) {
+        }
+
+        public final void close() {
+        }
+    }
+
+    /**
+     * {expression, target class, method name, expected}
+     */
+    private static final Object[][] CORPUS = {
+        // execution: 이름 / 반환 타입 / 파라미터
+        {"execution(* *(..))", OrderRepository.class, "count", true},
+        {"execution(* find*(..))", OrderRepository.class, "findById", true},
+        {"execution(* find*(..))", OrderRepository.class, "count", false},
+        {"execution(* *Id(..))", OrderRepository.class, "findById", true},
+        {"execution(int *(..))", OrderRepository.class, "count", true},
+        {"execution(String *(..))", OrderRepository.class, "findById", true},
+        {"execution(java.lang.String *(..))", OrderRepository.class, "findById", true},
+        {"execution(java.util.List *(..))", OrderRepository.class, "findAll", true},
+        {"execution(java.util.Collection+ *(..))", OrderRepository.class, "findAll", true},
+        {"execution(java.util.Collection *(..))", OrderRepository.class, "findAll", false},
+        {"execution(void *(..))", OrderRepository.class, "count", false},
+        {"execution(* *())", OrderRepository.class, "count", true},
+        {"execution(* *())", OrderRepository.class, "findById", false},
+        {"execution(* *(*))", OrderRepository.class, "findById", true},
+        {"execution(* *(*))", OrderRepository.class, "findAll", false},
+        {"execution(* *(long))", OrderRepository.class, "findById", true},
+        {"execution(* *(int))", OrderRepository.class, "findById", false},
+        {"execution(* *(String, ..))", OrderRepository.class, "findAll", true},
+        {"execution(* *(.., int))", OrderRepository.class, "findAll", true},
+        {"execution(* *(String, *))", OrderRepository.class, "findAll", true},
+        {"execution(* *(String))", OrderRepository.class, "findAll", false},
+        {"execution(* *(String, Object[]))", AuditService.class, "record", true},
+        {"execution(* *(..) throws Exception)", OrderRepository.class, "count", true},
+
+        // execution: 수식어
+        {"execution(public * *(..))", OrderRepository.class, "count", true},
+        {"execution(public * *(..))", OrderRepository.class, "flush", false},
+        {"execution(protected * *(..))", OrderRepository.class, "flush", true},
+        {"execution(!public * *(..))", OrderRepository.class, "flush", true},
+        {"execution(public static * *(..))", OrderRepository.class, "create", true},
+        {"execution(public static * *(..))", OrderRepository.class, "count", false},
+        {"execution(public !final * *(..))", AuditService.class, "close", false},
+        {"execution(public !final * *(..))", AuditService.class, "record", true},
+
+        // execution: 선언 타입 (인터페이스 패턴은 구현 클래스에도 적용)
+        {"execution(* com.springlite.demo.service.*.*(..))", UserServiceImpl.class, "getUserById", true},
+        {"execution(* com.springlite.demo.service.*.*(..))", OrderRepository.class, "count", false},
+        {"execution(* com.springlite..*.*(..))", OrderRepository.class, "count", true},
+        {"execution(* com.springlite.demo..*(..))", OrderRepository.class, "count", true},
+        {"execution(* com.springlite..getUserById(..))", UserServiceImpl.class, "getUserById", true},
+        {"execution(* com.springlite.framework..count(..))", OrderRepository.class, "count", false},
+        {"execution(* com.springlite.framework..*.*(..))", OrderRepository.class, "count", false},
+        {"execution(* com.springlite.demo.service.UserService.getUserById(..))", UserServiceImpl.class, "getUserById", true},
+        {"execution(* com.springlite.demo.service.UserService.getUserById(..))", UserService.class, "getUserById", true},
+        {"execution(* com.springlite.demo.service.UserService.getUserById(..))", UserServiceImpl.class, "createUser", false},
+        {"execution(* UserService.getUserById(..))", UserServiceImpl.class, "getUserById", true},
+        {"execution(* Repository.findById(..))", OrderRepository.class, "findById", true},
+        {"execution(* Repository.*(..))", OrderRepository.class, "count", false},
+        {"execution(* Repository+.*(..))", OrderRepository.class, "count", true},
+        {"execution(* *Repository.*(..))", OrderRepository.class, "count", true},
+        {"execution(* *Repository.*(..))", AuditService.class, "record", false},
+        {"execution(* com.springlite.demo.PointcutCorpusApp$OrderRepository.count())", OrderRepository.class, "count", true},
+
+        // within
+        {"within(com.springlite.demo.service.*)", UserServiceImpl.class, "getUserById", true},
+        {"within(com.springlite.demo.*)", UserServiceImpl.class, "getUserById", false},
+        {"within(com.springlite.demo..*)", UserServiceImpl.class, "getUserById", true},
+        {"within(com.springlite.demo.service.UserServiceImpl)", UserServiceImpl.class, "getUserById", true},
+        {"within(com.springlite.demo.service.UserService)", UserServiceImpl.class, "getUserById", false},
+        {"within(com.springlite.demo.service.UserService+)", UserServiceImpl.class, "getUserById", true},
+        {"within(*Repository)", OrderRepository.class, "count", true},
+
+        // @annotation / @within
+        {"@annotation(com.springlite.framework.transaction.Transactional)", OrderRepository.class, "count", true},
+        {"@annotation(com.springlite.framework.transaction.Transactional)", OrderRepository.class, "findById", false},
+        {"@annotation(com.springlite.framework.transaction.Transactional)", UserServiceImpl.class, "getUserById", false},
+        {"@within(com.springlite.framework.transaction.Transactional)", OrderRepository.class, "findById", true},
+        {"@within(com.springlite.framework.transaction.Transactional)", AuditService.class, "record", false},
+        {"@annotation(com.example.Missing)", OrderRepository.class, "count", false},
+
+        // bean
+        {"bean(*Service)", AuditService.class, "record", true},
+        {"bean(*Service)", UserServiceImpl.class, "getUserById", false},
+        {"bean(userService*)", UserServiceImpl.class, "getUserById", true},
+        {"bean(orderRepository)", OrderRepository.class, "count", true},
+        {"bean(*)", OrderRepository.class, "count", true},
+
+        // 조합: &&, ||, !, and / or / not, 괄호, 우선순위
+        {"execution(* find*(..)) && within(*Repository)", OrderRepository.class, "findById", true},
+        {"execution(* find*(..)) && within(*Service)", OrderRepository.class, "findById", false},
+        {"execution(* find*(..)) || execution(* count(..))", OrderRepository.class, "count", true},
+        {"execution(* find*(..)) || execution(* count(..))", OrderRepository.class, "flush", false},
+        {"!execution(* find*(..))", OrderRepository.class, "count", true},
+        {"! execution(* find*(..))", OrderRepository.class, "findById", false},
+        {"within(*Repository) && !@annotation(com.springlite.framework.transaction.Transactional)", OrderRepository.class, "findById", true},
+        {"within(*Repository) && !@annotation(com.springlite.framework.transaction.Transactional)", OrderRepository.class, "count", false},
+        {"execution(* count(..)) || execution(* flush(..)) && within(*Service)", OrderRepository.class, "count", true},
+        {"(execution(* count(..)) || execution(* flush(..))) && within(*Service)", OrderRepository.class, "count", false},
+        {"!(execution(* count(..)) || execution(* flush(..)))", OrderRepository.class, "findById", true},
+        {"execution(* find*(..)) and not within(*Service)", OrderRepository.class, "findAll", true},
+        {"execution(* count(..)) or bean(*Service)", AuditService.class, "record", true},
+        {"execution(* *(..))&&within(*Repository)", OrderRepository.class, "count", true},
+
+        // 명명된 포인트컷 참조 (NAMED 참고)
+        {"repositoryMethods()", OrderRepository.class, "count", true},
+        {"repositoryMethods() && !finders()", OrderRepository.class, "findById", false},
+        {"repositoryMethods() && !finders()", OrderRepository.class, "count", true},
+        {"transactionalFinders()", OrderRepository.class, "findById", true},
+        {"transactionalFinders()", OrderRepository.class, "count", false},
+        {"unknownPointcut()", OrderRepository.class, "count", false},
+
+        // 빈 표현식은 아무것도 매칭하지 않음
+        {"", OrderRepository.class, "count", false},
+    };
+
+    /**
+     * 코퍼스에서 참조하는 명명된 포인트컷 (@Pointcut 메서드 이름 → 표현식)
+     */
+    private static final String[][] NAMED = {
+        {"repositoryMethods", "within(com.springlite.demo..*Repository)"},
+        {"finders", "execution(* find*(..))"},
+        {"transactionalFinders", "finders() && @within(com.springlite.framework.transaction.Transactional)"},
+    };
+
+    /**
+     * {expression, target class, 클래스 필터 통과 여부}
+     * (메서드 단위 조건은 클래스 필터를 통과시키고, 메서드 검사에서 걸러짐)
+     */
+    private static final Object[][] CLASS_FILTER = {
+        {"execution(* com.springlite.demo.service.*.*(..))", UserServiceImpl.class, true},
+        {"execution(* com.springlite.demo.service.*.*(..))", OrderRepository.class, false},
+        {"execution(* com.springlite.demo.service.UserService.*(..))", UserServiceImpl.class, true},
+        {"execution(* Repository+.*(..))", OrderRepository.class, true},
+        {"execution(* Repository+.*(..))", AuditService.class, false},
+        {"execution(* find*(..))", AuditService.class, true},
+        {"within(com.springlite.demo..*)", OrderRepository.class, true},
+        {"within(com.springlite.framework..*)", OrderRepository.class, false},
+        {"@within(com.springlite.framework.transaction.Transactional)", OrderRepository.class, true},
+        {"@within(com.springlite.framework.transaction.Transactional)", AuditService.class, false},
+        {"@annotation(com.springlite.framework.transaction.Transactional)", AuditService.class, true},
+        {"bean(*Service)", AuditService.class, true},
+        {"bean(*Service)", OrderRepository.class, false},
+        {"within(*Repository) && execution(* find*(..))", AuditService.class, false},
+        {"within(*Repository) || execution(* find*(..))", AuditService.class, true},
+        {"within(*Repository) || bean(*Service)", UserServiceImpl.class, false},
+        {"!within(*Repository)", OrderRepository.class, false},
+        {"!within(*Repository)", AuditService.class, true},
+        {"!execution(* find*(..))", OrderRepository.class, true},
+        {"!(within(*Repository) && execution(* find*(..)))", OrderRepository.class, true},
+        {"repositoryMethods()", AuditService.class, false},
+        {"", OrderRepository.class, false},
+    };
+
+    private static final String[] INVALID = {
+        "execution(* *(..)",
+        "execution(* *(..)) &&",
+        "execution(* *(..)) execution(* *(..))",
+        "(execution(* *(..))",
+        "execution(*)",
+        "execution(bogus * * *(..))",
+        "@target(com.springlite.framework.transaction.Transactional)",
+        "&& within(*)",
+        "within()",
+    };
+
+    public static void main(String[] args) {
+        System.out.println("\n🎯 Spring Lite Framework - 포인트컷 표현식 회귀 테스트\n");
+
+        Map<String, PointcutMatcher> named = new HashMap<>();
+        for (String[] pointcut : NAMED) {
+            named.put(pointcut[0], new PointcutMatcher(pointcut[1], named::get));
+        }
+
+        int failures = 0;
+        for (Object[] entry : CORPUS) {
+            String expression = (String) entry[0];
+            Class<?> targetClass = (Class<?>) entry[1];
+            String methodName = (String) entry[2];
+            boolean expected = (Boolean) entry[3];
+            try {
+                boolean actual = new PointcutMatcher(expression, named::get).matches(findMethod(targetClass, methodName), targetClass);
+                if (actual != expected) {
+                    failures++;
+                    System.err.println("❌ " + expression + " @ " + targetClass.getSimpleName() + "." + methodName
+                        + ": expected " + expected + " but was " + actual);
+                }
+            } catch (RuntimeException e) {
+                failures++;
+                System.err.println("❌ " + expression + " @ " + targetClass.getSimpleName() + "." + methodName + ": " + e);
+            }
+        }
+        System.out.println("1️⃣ 매칭: " + (CORPUS.length - failures) + "/" + CORPUS.length + " 통과");
+
+        int filterFailures = 0;
+        int filterChecks = CLASS_FILTER.length;
+        for (Object[] entry : CLASS_FILTER) {
+            String expression = (String) entry[0];
+            Class<?> targetClass = (Class<?>) entry[1];
+            boolean expected = (Boolean) entry[2];
+            boolean actual = new PointcutMatcher(expression, named::get).matchesClass(targetClass);
+            if (actual != expected) {
+                filterFailures++;
+                System.err.println("❌ 클래스 필터 " + expression + " @ " + targetClass.getSimpleName()
+                    + ": expected " + expected + " but was " + actual);
+            }
+        }
+        // 매칭되는 메서드가 있는데 클래스 필터가 거르면 어드바이스가 빠짐
+        for (Object[] entry : CORPUS) {
+            String expression = (String) entry[0];
+            Class<?> targetClass = (Class<?>) entry[1];
+            if (!(Boolean) entry[3]) {
+                continue;
+            }
+            filterChecks++;
+            if (!new PointcutMatcher(expression, named::get).matchesClass(targetClass)) {
+                filterFailures++;
+                System.err.println("❌ 클래스 필터가 매칭되는 클래스를 걸렀습니다: " + expression + " @ "
+                    + targetClass.getSimpleName());
+            }
+        }
+        System.out.println("2️⃣ 클래스 필터: " + (filterChecks - filterFailures) + "/" + filterChecks + " 통과");
+
+        int invalidFailures = 0;
+        for (String expression : INVALID) {
+            try {
+                new PointcutMatcher(expression);
+                invalidFailures++;
+                System.err.println("❌ 잘못된 표현식이 허용되었습니다: " + expression);
+            } catch (IllegalArgumentException e) {
+                // 예상된 예외
+            }
+        }
+        System.out.println("3️⃣ 잘못된 표현식 거부: " + (INVALID.length - invalidFailures) + "/" + INVALID.length + " 통과");
+
+        boolean passed = failures == 0 && filterFailures == 0 && invalidFailures == 0;
+        System.out.println(passed ? "\n✅ 포인트컷 회귀 테스트 통과!\n" : "\n❌ 포인트컷 회귀 테스트 실패!\n");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new IllegalArgumentException("No method " + name + " in " + type.getName());
+    }
+}
@@ -0,0 +1,186 @@
+package com.springlite.demo;
+
+import com.springlite.framework.annotations.Autowired;
+import com.springlite.framework.annotations.PostConstruct;
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.context.AnnotationApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🔒 싱글톤 동시 생성 스트레스 테스트
+ *
+ * 1. 여러 스레드가 동시에 지연(lazy) 싱글톤을 처음 요청해도
+ *    인스턴스 생성과 @PostConstruct가 정확히 한 번만 일어나는지 확인합니다.
+ * 2. 서로를 의존하는 지연 싱글톤 두 개를 서로 다른 스레드에서 동시에 요청하면
+ *    데드락 대신 순환 의존성 예외가 발생하는지 확인합니다.
+ *
+ * 실패하면 종료 코드 1로 끝납니다.
+ */
+public class SingletonConcurrencyTestApp {
+    
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 200;
+    
+    static final AtomicInteger cacheCreations = new AtomicInteger();
+    static final AtomicInteger reportCreations = new AtomicInteger();
+    
+    /**
+     * 느린 @PostConstruct를 가진 지연 싱글톤 (캐시 워밍업 흉내)
+     */
+    public static class ExpensiveCache {
+        public ExpensiveCache() {
+            cacheCreations.incrementAndGet();
+        }
+        
+        @PostConstruct
+        public void warmUp() throws InterruptedException {
+            Thread.sleep(2);
+        }
+    }
+    
+    /**
+     * ExpensiveCache에 의존하는 지연 싱글톤
+     */
+    public static class ReportService {
+        @Autowired
+        private ExpensiveCache cache;
+        
+        public ReportService() {
+            reportCreations.incrementAndGet();
+        }
+    }
+    
+    public static class Ping {
+        @Autowired
+        private Pong pong;
+    }
+    
+    public static class Pong {
+        @Autowired
+        private Ping ping;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        System.out.println("\n🔒 Spring Lite Framework - 싱글톤 동시 생성 스트레스 테스트\n");
+        
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            boolean passed = hammerLazySingletons(executor) & crossThreadCycleFails(executor);
+            System.out.println(passed ? "\n✅ 스트레스 테스트 통과!\n" : "\n❌ 스트레스 테스트 실패!\n");
+            if (!passed) {
+                System.exit(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private static boolean hammerLazySingletons(ExecutorService executor) throws Exception {
+        System.out.println("1️⃣ " + THREADS + "개 스레드 × " + ROUNDS + "라운드로 지연 싱글톤 동시 요청...");
+        int failedRounds = 0;
+        
+        for (int round = 0; round < ROUNDS; round++) {
+            cacheCreations.set(0);
+            reportCreations.set(0);
+            
+            AnnotationApplicationContext context = new AnnotationApplicationContext();
+            context.registerBeanDefinition(lazy(new BeanDefinition("expensiveCache", ExpensiveCache.class)));
+            context.registerBeanDefinition(lazy(new BeanDefinition("reportService", ReportService.class)));
+            context.refresh();
+            
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Object[]>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                boolean reportFirst = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    if (reportFirst) {
+                        Object report = context.getBean("reportService");
+                        return new Object[]{report, context.getBean("expensiveCache")};
+                    }
+                    Object cache = context.getBean(ExpensiveCache.class);
+                    return new Object[]{context.getBean(ReportService.class), cache};
+                }));
+            }
+            start.countDown();
+            
+            Set<Object> reports = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<Object> caches = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<Object[]> result : results) {
+                Object[] beans = result.get(10, TimeUnit.SECONDS);
+                reports.add(beans[0]);
+                caches.add(beans[1]);
+            }
+            
+            if (cacheCreations.get() != 1 || reportCreations.get() != 1 || reports.size() != 1 || caches.size() != 1) {
+                failedRounds++;
+                System.err.println("❌ 라운드 " + round + ": ExpensiveCache 생성 " + cacheCreations.get()
+                    + "회, ReportService 생성 " + reportCreations.get() + "회, 서로 다른 인스턴스 "
+                    + caches.size() + "/" + reports.size() + "개");
+            }
+            context.close();
+        }
+        
+        System.out.println("   결과: " + (ROUNDS - failedRounds) + "/" + ROUNDS + " 라운드에서 정확히 한 번 생성됨");
+        return failedRounds == 0;
+    }
+    
+    private static boolean crossThreadCycleFails(ExecutorService executor) throws Exception {
+        System.out.println("2️⃣ 서로 의존하는 지연 싱글톤을 다른 스레드에서 동시에 요청...");
+        
+        AnnotationApplicationContext context = new AnnotationApplicationContext();
+        context.registerBeanDefinition(lazy(new BeanDefinition("ping", Ping.class)));
+        context.registerBeanDefinition(lazy(new BeanDefinition("pong", Pong.class)));
+        context.refresh();
+        
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> ping = executor.submit(() -> {
+            start.await();
+            return context.getBean("ping");
+        });
+        Future<?> pong = executor.submit(() -> {
+            start.await();
+            return context.getBean("pong");
+        });
+        start.countDown();
+        
+        boolean passed = true;
+        for (Future<?> result : new Future<?>[]{ping, pong}) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                System.err.println("❌ 순환 의존성인데 빈이 생성되었습니다");
+                passed = false;
+            } catch (TimeoutException e) {
+                System.err.println("❌ 데드락: 10초 안에 끝나지 않았습니다");
+                passed = false;
+            } catch (java.util.concurrent.ExecutionException e) {
+                System.out.println("   예상된 예외: " + rootCause(e).getMessage());
+            }
+        }
+        return passed;
+    }
+    
+    private static BeanDefinition lazy(BeanDefinition beanDefinition) {
+        beanDefinition.setLazy(true);
+        return beanDefinition;
+    }
+    
+    private static Throwable rootCause(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+}
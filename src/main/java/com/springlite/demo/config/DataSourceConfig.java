@@ -0,0 +1,41 @@
+package com.springlite.demo.config;
+
+import com.springlite.framework.annotations.Bean;
+import com.springlite.framework.annotations.ConditionalOnClass;
+import com.springlite.framework.annotations.Configuration;
+import com.springlite.framework.annotations.Value;
+import com.springlite.framework.jdbc.JdbcTemplate;
+import com.springlite.framework.transaction.JdbcTransactionManager;
+import com.springlite.framework.transaction.TransactionManager;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * 💾 데모 데이터소스 설정 (H2 인메모리 DB)
+ * AuditService / BankService가 쓰는 JdbcTemplate과 트랜잭션 매니저를 등록합니다.
+ * (AppConfig로 refresh 하는 Application과 generateContextSnapshot 태스크용)
+ */
+@Configuration
+@ConditionalOnClass("org.h2.jdbcx.JdbcDataSource")
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource dataSource(@Value("${app.datasource.url:jdbc:h2:mem:demo;DB_CLOSE_DELAY=-1}") String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    public TransactionManager transactionManager(DataSource dataSource) {
+        return new JdbcTransactionManager(dataSource);
+    }
+}
@@ -2,6 +2,7 @@ package com.springlite.demo.config;
 
 import com.springlite.framework.annotations.Configuration;
 import com.springlite.framework.annotations.Bean;
+import com.springlite.framework.annotations.Value;
 
 /**
  * 🔧 @Bean 테스트를 위한 Configuration 클래스
@@ -16,9 +17,9 @@ public class TestConfig {
     }
     
     @Bean(initMethod = "customInit", destroyMethod = "customDestroy")
-    public CacheService cacheService() {
+    public CacheService cacheService(@Value("${app.cache.max-size:100}") int maxSize) {
         System.out.println("🔧 @Bean: CacheService 생성 중...");
-        return new CacheService(100);
+        return new CacheService(maxSize);
     }
     
     @Bean("customName")
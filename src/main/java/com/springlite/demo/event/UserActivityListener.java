@@ -0,0 +1,38 @@
+package com.springlite.demo.event;
+
+import com.springlite.framework.annotations.Async;
+import com.springlite.framework.annotations.Component;
+import com.springlite.framework.annotations.EventListener;
+import com.springlite.framework.context.event.ContextClosedEvent;
+import com.springlite.framework.context.event.ContextRefreshedEvent;
+
+/**
+ * 📣 이벤트 리스너 예제
+ * UserService는 이 클래스를 알지 못하고 UserCreatedEvent만 발행합니다.
+ */
+@Component
+public class UserActivityListener {
+    
+    @EventListener
+    public void onUserCreated(UserCreatedEvent event) {
+        System.out.println("📣 [동기] 사용자 생성됨: " + event.getUser().getName()
+            + " (" + Thread.currentThread().getName() + ")");
+    }
+    
+    @Async
+    @EventListener
+    public void sendWelcomeMail(UserCreatedEvent event) {
+        System.out.println("📧 [비동기] 환영 메일 발송: " + event.getUser().getEmail()
+            + " (" + Thread.currentThread().getName() + ")");
+    }
+    
+    @EventListener(ContextRefreshedEvent.class)
+    public void onRefreshed() {
+        System.out.println("📣 컨텍스트 준비 완료");
+    }
+    
+    @EventListener
+    public void onClosed(ContextClosedEvent event) {
+        System.out.println("📣 컨텍스트 종료 중");
+    }
+}
@@ -0,0 +1,21 @@
+package com.springlite.demo.event;
+
+import com.springlite.demo.dto.User;
+import com.springlite.framework.context.event.ApplicationEvent;
+
+/**
+ * 📣 사용자 생성 이벤트
+ */
+public class UserCreatedEvent extends ApplicationEvent {
+    
+    private final User user;
+    
+    public UserCreatedEvent(Object source, User user) {
+        super(source);
+        this.user = user;
+    }
+    
+    public User getUser() {
+        return user;
+    }
+}
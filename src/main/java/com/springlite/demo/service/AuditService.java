@@ -1,5 +1,6 @@
 package com.springlite.demo.service;
 
+import com.springlite.framework.annotations.Async;
 import com.springlite.framework.annotations.Service;
 import com.springlite.framework.annotations.Autowired;
 import com.springlite.framework.jdbc.JdbcTemplate;
@@ -52,6 +53,17 @@ public class AuditService implements AuditServiceInterface {
         System.out.println("================================");
     }
     
+    /**
+     * 🧵 활동 기록 (@Async)
+     * 호출한 스레드는 바로 반환되고 기록은 @Async 기본 실행기 스레드에서 실행됩니다.
+     */
+    @Override
+    @Async
+    public void logActivity(String action, String details) {
+        System.out.println("🧵 활동 기록: " + action + " - " + details
+            + " (" + Thread.currentThread().getName() + ")");
+    }
+    
     /**
      * 📋 모든 감사 로그 조회
      */
@@ -15,4 +15,9 @@ public interface AuditServiceInterface {
      * 📋 모든 감사 로그 조회
      */
     void printAllAuditLogs();
+    
+    /**
+     * 🧵 활동 기록 (비동기, 호출자를 막지 않음)
+     */
+    void logActivity(String action, String details);
 } 
\ No newline at end of file
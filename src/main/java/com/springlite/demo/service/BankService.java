@@ -167,6 +167,9 @@ public class BankService implements BankServiceInterface {
         // 3. 또 다른 감사 로그 (REQUIRES_NEW)
         auditService.logAudit("TRANSFER_SUCCESS", "Transfer completed successfully");
         
+        // 4. 활동 기록 (@Async - 송금 트랜잭션을 기다리게 하지 않음)
+        auditService.logActivity("TRANSFER", fromAccount + " → " + toAccount + " (" + amount + ")");
+        
         System.out.println("✅ 감사 로그와 함께 송금 완료");
     }
     
@@ -1,7 +1,10 @@
 package com.springlite.demo.service;
 
 import com.springlite.demo.dto.User;
+import com.springlite.demo.event.UserCreatedEvent;
+import com.springlite.framework.annotations.Autowired;
 import com.springlite.framework.annotations.Service;
+import com.springlite.framework.context.event.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -17,6 +20,9 @@ public class UserServiceImpl implements UserService {
     private final Map<Long, User> users = new HashMap<>();
     private Long nextId = 1L;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     @Override
     public User getUserById(Long id) {
         System.out.println("💾 데이터베이스에서 사용자 조회: " + id);
@@ -42,6 +48,9 @@ public class UserServiceImpl implements UserService {
         User user = new User(nextId++, name, email);
         users.put(user.getId(), user);
         
+        // 📣 리스너(UserActivityListener)를 직접 주입받지 않고 이벤트로 알림
+        eventPublisher.publishEvent(new UserCreatedEvent(this, user));
+        
         return user;
     }
     
@@ -0,0 +1,36 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Async annotation for running a method on a background executor
+ * Similar to Spring Framework's @Async annotation
+ *
+ * On a bean method (or on the class, for all its public methods) the call is handed
+ * to an executor by a proxy and returns immediately. The method must return void,
+ * CompletableFuture, CompletionStage or Future; a CompletableFuture returned by the
+ * target is unwrapped into the future handed back to the caller. The call is intercepted
+ * by the bean's AOP proxy (interface-based or subclass), so @Async works on any proxyable
+ * bean; the annotation may also sit on the interface method. Failed calls are counted in
+ * the executor's metrics.
+ *
+ * On an @EventListener method the event is handed to the context's bounded event executor
+ * instead of being delivered on the publishing thread. When the executor queue is full
+ * the publisher runs the listener itself, which slows publishing down (backpressure)
+ * instead of dropping events or growing the queue without limit.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Async {
+    
+    /**
+     * Name of the executor bean (any java.util.concurrent.Executor) to run on.
+     * Empty means the "taskExecutor" bean if present, otherwise the context's default
+     * executor (virtual-thread-per-task on JDKs that support it).
+     * Ignored on @EventListener methods.
+     */
+    String value() default "";
+}
@@ -0,0 +1,23 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @ConditionalOnClass annotation for registering a bean only when classes are on the classpath
+ * Similar to Spring Boot's @ConditionalOnClass(name = ...) annotation
+ *
+ * Class names are given as strings so the annotation can be read even when the classes are missing.
+ * The classes are looked up without being initialized.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnClass {
+    
+    /**
+     * Fully qualified class names; all of them must be present.
+     */
+    String[] value();
+}
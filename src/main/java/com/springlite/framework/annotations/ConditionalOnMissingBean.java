@@ -0,0 +1,29 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @ConditionalOnMissingBean annotation for registering a bean only when no other bean provides it
+ * Similar to Spring Boot's @ConditionalOnMissingBean annotation
+ *
+ * Evaluated after all unconditional bean definitions (components and @Bean methods) are registered,
+ * so the result does not depend on scan order. Conditional beans are then considered in registration order.
+ * Without value or name, the bean's own type (the class, or the @Bean method's return type) is used.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnMissingBean {
+    
+    /**
+     * Bean types that must not be registered yet.
+     */
+    Class<?>[] value() default {};
+    
+    /**
+     * Bean names that must not be registered yet.
+     */
+    String[] name() default {};
+}
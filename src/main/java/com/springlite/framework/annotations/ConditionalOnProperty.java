@@ -0,0 +1,38 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @ConditionalOnProperty annotation for registering a bean only when a property matches
+ * Similar to Spring Boot's @ConditionalOnProperty annotation
+ *
+ * Evaluated while the bean definition is registered, before any class is instantiated.
+ * Without havingValue, the property matches when it is present and not "false".
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalOnProperty {
+    
+    /**
+     * Property names; all of them must match.
+     */
+    String[] name();
+    
+    /**
+     * Prefix prepended to each name (a "." is added if missing).
+     */
+    String prefix() default "";
+    
+    /**
+     * Expected value (case-insensitive). Empty means "present and not false".
+     */
+    String havingValue() default "";
+    
+    /**
+     * Whether the condition matches when the property is not set.
+     */
+    boolean matchIfMissing() default false;
+}
@@ -0,0 +1,25 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @EventListener annotation for marking a bean method as an application event listener
+ * Similar to Spring Framework's @EventListener annotation
+ *
+ * The method takes the event as its single parameter; any object can be an event.
+ * A listener also receives subclasses of its event type. Listener methods are discovered
+ * when the bean definition is registered, and dispatch per event type is computed once.
+ * Combine with @Async to run the listener on the bounded event executor.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EventListener {
+    
+    /**
+     * Event types to listen to; only needed for methods without a parameter.
+     */
+    Class<?>[] value() default {};
+}
@@ -0,0 +1,26 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Lazy annotation for deferring bean creation
+ * Similar to Spring Framework's @Lazy annotation
+ *
+ * - On a component class or @Bean method: the singleton is not created during refresh,
+ *   only on first request.
+ * - On an injection point (field, parameter, or an @Autowired method/constructor):
+ *   a lazy-resolution proxy is injected and the target is looked up on first method call.
+ *   The injection point type must be an interface.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Lazy {
+    
+    /**
+     * Whether lazy initialization should occur.
+     */
+    boolean value() default true;
+}
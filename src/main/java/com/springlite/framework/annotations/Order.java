@@ -0,0 +1,25 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Order annotation for ordering aspects
+ * Similar to Spring Framework's @Order annotation
+ *
+ * Lower values have higher precedence: their advice runs first (outermost) on the way in
+ * and last on the way out. Aspects without @Order have the lowest precedence. Transaction
+ * interception takes part in the same ordering (see springlite.transaction.order).
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Order {
+    
+    int HIGHEST_PRECEDENCE = Integer.MIN_VALUE;
+    
+    int LOWEST_PRECEDENCE = Integer.MAX_VALUE;
+    
+    int value() default LOWEST_PRECEDENCE;
+}
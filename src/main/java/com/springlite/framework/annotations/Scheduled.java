@@ -0,0 +1,53 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Scheduled annotation for running a bean method periodically
+ * Similar to Spring Framework's @Scheduled annotation
+ *
+ * Exactly one of cron, fixedRate or fixedDelay must be set. The method must take no
+ * parameters and belong to a singleton bean. All scheduled methods share one timer
+ * wheel thread and a small worker pool, so thousands of tasks do not need thousands
+ * of threads. An execution never overlaps the previous one of the same method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scheduled {
+    
+    /**
+     * Cron expression: "second minute hour day-of-month month day-of-week"
+     * (a 5-field expression without seconds is also accepted, as are macros like "@hourly").
+     * ${...} placeholders are resolved against the Environment; "-" disables the task.
+     */
+    String cron() default "";
+    
+    /**
+     * Time zone for the cron expression (default: system zone).
+     */
+    String zone() default "";
+    
+    /**
+     * Period between planned start times. Missed executions are skipped, not made up.
+     */
+    long fixedRate() default -1;
+    
+    /**
+     * Delay between the end of one execution and the start of the next.
+     */
+    long fixedDelay() default -1;
+    
+    /**
+     * Delay before the first fixedRate / fixedDelay execution.
+     */
+    long initialDelay() default 0;
+    
+    /**
+     * Unit for fixedRate, fixedDelay and initialDelay.
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,42 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Scope annotation for choosing a bean's lifecycle
+ * Similar to Spring Framework's @Scope annotation
+ *
+ * - singleton: one shared instance per context (default)
+ * - prototype: a new instance for every lookup
+ * - thread:    one instance per thread
+ * - request:   one instance per DispatcherServlet request, destroyed when the request ends
+ * - pooled:    instances are borrowed from a bounded pool for each method call
+ *              (for expensive, non-thread-safe helpers such as parsers and formatters)
+ *
+ * Request and thread scoped beans injected into longer-lived beans are wrapped in a proxy
+ * that looks up the current instance on every call, so the injection point type must be an interface.
+ * Pooled beans are always exposed through such a proxy.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Scope {
+    
+    String SINGLETON = "singleton";
+    String PROTOTYPE = "prototype";
+    String THREAD = "thread";
+    String REQUEST = "request";
+    String POOLED = "pooled";
+    
+    /**
+     * Scope name.
+     */
+    String value() default SINGLETON;
+    
+    /**
+     * Maximum number of idle instances kept by a pooled scope.
+     */
+    int poolSize() default 8;
+}
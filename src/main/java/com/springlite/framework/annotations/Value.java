@@ -0,0 +1,25 @@
+package com.springlite.framework.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Value annotation for injecting externalized configuration
+ * Similar to Spring Framework's @Value annotation
+ *
+ * Supported on fields, constructor parameters and @Bean method parameters.
+ * The expression may mix literal text with ${key} and ${key:default} placeholders;
+ * the result is converted to the injection point type (see TypeConverter).
+ * Placeholders are resolved once per injection plan, not per created instance.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Value {
+    
+    /**
+     * The value expression, e.g. "${server.port:8080}".
+     */
+    String value();
+}
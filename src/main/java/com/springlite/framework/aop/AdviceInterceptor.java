@@ -0,0 +1,96 @@
+package com.springlite.framework.aop;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+/**
+ * Adapts one aspect advice method to the interceptor chain.
+ * <p>
+ * Within an aspect the chain order is @Around, @Before, @After, @AfterReturning, @AfterThrowing,
+ * so around advice wraps the others. Exceptions thrown by before/after advice are logged and
+ * do not affect the call; exceptions thrown by around advice propagate.
+ */
+final class AdviceInterceptor implements MethodInterceptor {
+    
+    private static final Log log = LogFactory.getLog(AdviceInterceptor.class);
+    
+    private final AdviceMetadata advice;
+    
+    AdviceInterceptor(AdviceMetadata advice) {
+        this.advice = advice;
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        switch (advice.getType()) {
+            case AROUND:
+                return advice.invokeAdvice(proceedingJoinPoint(invocation));
+            case BEFORE:
+                invokeQuietly("@Before", joinPoint(invocation));
+                return invocation.proceed();
+            case AFTER:
+                try {
+                    return invocation.proceed();
+                } finally {
+                    invokeQuietly("@After", joinPoint(invocation));
+                }
+            case AFTER_RETURNING: {
+                Object result = invocation.proceed();
+                invokeQuietly("@AfterReturning", joinPoint(invocation), result);
+                return result;
+            }
+            case AFTER_THROWING:
+                try {
+                    return invocation.proceed();
+                } catch (Throwable t) {
+                    invokeQuietly("@AfterThrowing", joinPoint(invocation), t);
+                    throw t;
+                }
+            default:
+                return invocation.proceed();
+        }
+    }
+    
+    private void invokeQuietly(String adviceKind, JoinPoint joinPoint) {
+        try {
+            advice.invokeAdvice(joinPoint);
+        } catch (Throwable t) {
+            log.error("❌ Error in {} advice", adviceKind, t);
+        }
+    }
+    
+    private void invokeQuietly(String adviceKind, JoinPoint joinPoint, Object value) {
+        try {
+            advice.invokeAdvice(joinPoint, value);
+        } catch (Throwable t) {
+            log.error("❌ Error in {} advice", adviceKind, t);
+        }
+    }
+    
+    /**
+     * The chain's own invocation is the join point, so no join point is allocated per advice.
+     */
+    private static JoinPoint joinPoint(MethodInvocation invocation) {
+        if (invocation instanceof JoinPoint) {
+            return (JoinPoint) invocation;
+        }
+        return new MethodJoinPoint(invocation.getMethod(), invocation.getArguments(),
+            invocation.getTarget(), invocation.getThis());
+    }
+    
+    private static ProceedingJoinPoint proceedingJoinPoint(MethodInvocation invocation) {
+        if (invocation instanceof ProceedingJoinPoint) {
+            return (ProceedingJoinPoint) invocation;
+        }
+        return new MethodProceedingJoinPoint(invocation);
+    }
+    
+    AdviceMetadata getAdvice() {
+        return advice;
+    }
+    
+    @Override
+    public String toString() {
+        return advice.toString();
+    }
+}
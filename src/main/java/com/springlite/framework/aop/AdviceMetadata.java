@@ -1,9 +1,21 @@
 package com.springlite.framework.aop;
 
+import com.springlite.framework.annotations.Order;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * Holds metadata about a single advice method.
+ * <p>
+ * The advice method is made accessible once and bound to the aspect instance as a {@link MethodHandle}
+ * when the aspect is registered. The interceptor chain calls it with a fixed arity (join point, or join
+ * point plus return value / exception), so no arguments array is built and exceptions thrown by the
+ * advice are not wrapped. Advice whose parameter count does not fit its advice type is called reflectively.
  */
 public class AdviceMetadata {
     
@@ -13,6 +25,9 @@ public class AdviceMetadata {
     private final PointcutMatcher pointcutMatcher;
     private final String returningParameterName;
     private final String throwingParameterName;
+    private final int order;
+    private final MethodInterceptor interceptor;
+    private final MethodHandle handle; // null if the advice is called reflectively
     
     public AdviceMetadata(Method adviceMethod, Object aspectInstance, AdviceType type, 
                          PointcutMatcher pointcutMatcher) {
@@ -28,6 +43,39 @@ public class AdviceMetadata {
         this.pointcutMatcher = pointcutMatcher;
         this.returningParameterName = returningParameterName;
         this.throwingParameterName = throwingParameterName;
+        Order aspectOrder = aspectInstance.getClass().getAnnotation(Order.class);
+        this.order = aspectOrder != null ? aspectOrder.value() : Order.LOWEST_PRECEDENCE;
+        this.interceptor = new AdviceInterceptor(this);
+        this.handle = bindHandle(adviceMethod, aspectInstance, type);
+    }
+    
+    /**
+     * Binds the advice method to the aspect instance as a handle of type (JoinPoint)Object, or
+     * (JoinPoint, Object)Object for @AfterReturning / @AfterThrowing. Returns null if the method's
+     * parameters do not fit that shape or the method cannot be accessed.
+     */
+    private static MethodHandle bindHandle(Method adviceMethod, Object aspectInstance, AdviceType type) {
+        try {
+            adviceMethod.setAccessible(true);
+        } catch (RuntimeException e) {
+            // public advice methods are still accessible
+        }
+        int arity = type == AdviceType.AFTER_RETURNING || type == AdviceType.AFTER_THROWING ? 2 : 1;
+        if (adviceMethod.getParameterCount() != arity) {
+            return null;
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(adviceMethod);
+            if (!Modifier.isStatic(adviceMethod.getModifiers())) {
+                handle = handle.bindTo(aspectInstance);
+            }
+            MethodType shape = arity == 1
+                ? MethodType.methodType(Object.class, JoinPoint.class)
+                : MethodType.methodType(Object.class, JoinPoint.class, Object.class);
+            return handle.asType(shape);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
     }
     
     /**
@@ -37,12 +85,48 @@ public class AdviceMetadata {
         return pointcutMatcher.matches(method, targetClass);
     }
     
+    /**
+     * Tests if this advice can match any method of the given class (see {@link PointcutMatcher#matchesClass}).
+     */
+    public boolean matchesClass(Class<?> targetClass) {
+        return pointcutMatcher.matchesClass(targetClass);
+    }
+    
+    /**
+     * Invokes this advice with the join point as its only argument (@Around, @Before, @After).
+     * Whatever the advice throws propagates unchanged.
+     */
+    Object invokeAdvice(JoinPoint joinPoint) throws Throwable {
+        if (handle != null) {
+            return (Object) handle.invokeExact(joinPoint);
+        }
+        return invokeReflectively(joinPoint);
+    }
+    
+    /**
+     * Invokes this advice with the join point and the return value or exception
+     * (@AfterReturning, @AfterThrowing). Whatever the advice throws propagates unchanged.
+     */
+    Object invokeAdvice(JoinPoint joinPoint, Object value) throws Throwable {
+        if (handle != null) {
+            return (Object) handle.invokeExact(joinPoint, value);
+        }
+        return invokeReflectively(joinPoint, value);
+    }
+    
+    private Object invokeReflectively(Object... args) throws Throwable {
+        try {
+            return adviceMethod.invoke(aspectInstance, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+    
     /**
      * Invokes this advice method.
      */
     public Object invoke(Object... args) throws Exception {
         try {
-            adviceMethod.setAccessible(true);
             return adviceMethod.invoke(aspectInstance, args);
         } catch (Exception e) {
             if (e.getCause() instanceof RuntimeException) {
@@ -79,6 +163,20 @@ public class AdviceMetadata {
         return throwingParameterName;
     }
     
+    /**
+     * The @Order of the declaring aspect (lowest precedence if absent).
+     */
+    public int getOrder() {
+        return order;
+    }
+    
+    /**
+     * This advice as a link of a proxy's interceptor chain.
+     */
+    public MethodInterceptor getInterceptor() {
+        return interceptor;
+    }
+    
     @Override
     public String toString() {
         return String.format("%s advice: %s.%s() with pointcut: %s", 
@@ -0,0 +1,21 @@
+package com.springlite.framework.aop;
+
+import java.lang.reflect.Method;
+
+/**
+ * Contributes an interceptor to proxied methods next to the aspects registered with an
+ * {@link AopProxyFactory}, e.g. transaction interception.
+ * <p>
+ * Interceptors of aspects and advisors form a single chain ordered by {@link #getOrder()}
+ * and the aspects' {@link com.springlite.framework.annotations.Order @Order}: lower values run first (outermost).
+ */
+public interface Advisor {
+    
+    int getOrder();
+    
+    /**
+     * Returns the interceptor for the given method, or null if the method is not advised.
+     * Called once per method when a proxy is created, never per invocation.
+     */
+    MethodInterceptor getInterceptor(Method method, Class<?> targetClass);
+}
@@ -1,17 +1,82 @@
 package com.springlite.framework.aop;
 
-import java.lang.reflect.InvocationHandler;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+import com.springlite.framework.proxy.DelegatingInvocationHandler;
+import com.springlite.framework.proxy.MethodInvoker;
+import com.springlite.framework.proxy.ProxyDispatcher;
+import com.springlite.framework.proxy.SubclassProxyFactory;
+
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Factory for creating AOP proxies with full aspect support.
+ * <p>
+ * Every proxied method gets a single interceptor chain that merges the advice of all aspects with the
+ * interceptors of registered {@link Advisor}s (e.g. transaction interception), ordered by
+ * {@link com.springlite.framework.annotations.Order @Order} / {@link Advisor#getOrder()}. A bean therefore
+ * has exactly one proxy layer, however many aspects and advisors apply to it. On equal order aspects
+ * come before advisors, in registration order.
+ * <p>
+ * Pointcut matching results and the resulting chain tables are cached per target class, so a factory
+ * shared by a parent context and its children evaluates each class only once, and all proxies of a class
+ * (e.g. prototype beans) share one immutable table. Adding an aspect or advisor clears the caches.
+ * <p>
+ * Before any method is matched, each advice pointcut's class filter (package, within, {@code @within},
+ * bean) is applied to the target class; classes rejected by every pointcut skip method matching, and
+ * only the surviving advice is matched per method. See {@link #getMatchStatistics()}.
  */
 public class AopProxyFactory {
     
+    private static final Log log = LogFactory.getLog(AopProxyFactory.class);
+    
+    private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    
+    /**
+     * Interface methods and target invokers of interface proxies, one per target class. The method list is
+     * computed once and kept with the invoker, since the invoker and the chain table are both indexed by it.
+     * The generated invoker calls the target class directly; classes whose package cannot be opened for
+     * class definition (e.g. JDK classes) use method handles instead.
+     */
+    private static final ClassValue<InterfaceTarget> interfaceTargets = new ClassValue<InterfaceTarget>() {
+        @Override
+        protected InterfaceTarget computeValue(Class<?> type) {
+            List<Method> methods = Collections.unmodifiableList(getInterfaceMethods(type));
+            try {
+                MethodInvoker invoker = SubclassProxyFactory.createInvoker(type, methods.toArray(new Method[0]));
+                return new InterfaceTarget(methods, invoker);
+            } catch (RuntimeException | LinkageError e) {
+                log.debug("📎 AOP: Using method handles to invoke {}: {}", type.getName(), e.getMessage());
+                return new InterfaceTarget(methods, new MethodHandleInvoker(methods));
+            }
+        }
+    };
+    
     private final List<AspectMetadata> aspects;
+    private final List<Advisor> advisors = new ArrayList<>();
+    private final Map<Class<?>, Boolean> needsProxyCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, List<AdviceMetadata>>> adviceCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ChainTable> chainCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<AdviceMetadata>> candidateCache = new ConcurrentHashMap<>();
+    
+    private final LongAdder classesChecked = new LongAdder();
+    private final LongAdder classesRejected = new LongAdder();
+    private final LongAdder methodChecks = new LongAdder();
+    private final LongAdder methodChecksSkipped = new LongAdder();
     
     public AopProxyFactory() {
         this.aspects = new ArrayList<>();
@@ -19,45 +84,312 @@ public class AopProxyFactory {
     
     public void addAspect(AspectMetadata aspect) {
         aspects.add(aspect);
-        System.out.println("📎 AOP: Added aspect " + aspect.getAspectClass().getSimpleName());
+        needsProxyCache.clear();
+        adviceCache.clear();
+        chainCache.clear();
+        candidateCache.clear();
+        log.debug("📎 AOP: Added aspect {}", aspect.getAspectClass().getSimpleName());
+    }
+    
+    public void addAdvisor(Advisor advisor) {
+        advisors.add(advisor);
+        needsProxyCache.clear();
+        chainCache.clear();
+        log.debug("📎 AOP: Added advisor {} (order {})", advisor.getClass().getSimpleName(), advisor.getOrder());
     }
     
     public Object createProxy(Object target) {
+        return createProxy(target, null);
+    }
+    
+    /**
+     * Creates a proxy whose aspect advice per method was matched ahead of time
+     * (see {@link #matchAdvice(Class)}), so no pointcut is evaluated at invocation time.
+     * A null map uses the chain table cached for the target class. Either way the interceptor
+     * chain of each method is built before the first call, never per invocation.
+     * <p>
+     * Classes without interfaces get a generated subclass proxy ({@link SubclassProxyFactory}).
+     */
+    public Object createProxy(Object target, Map<Method, List<AdviceMetadata>> adviceByMethod) {
         Class<?> targetClass = target.getClass();
-        Class<?>[] interfaces = targetClass.getInterfaces();
+        Class<?>[] interfaces = getProxyInterfaces(targetClass);
+        
+        if (interfaces.length == 0 && !SubclassProxyFactory.isProxyable(targetClass)) {
+            log.warn("⚠️ AOP: Cannot create proxy for final class without interfaces: {}", targetClass.getName());
+            return target;
+        }
+        ChainTable chains;
+        try {
+            chains = adviceByMethod != null
+                ? buildChainTable(targetClass, adviceByMethod)
+                : chainCache.computeIfAbsent(targetClass, type -> buildChainTable(type, matchAdvice(type)));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ AOP: Cannot create subclass proxy for {}: {}", targetClass.getName(), e.getMessage());
+            return target;
+        }
         
         if (interfaces.length > 0) {
             return Proxy.newProxyInstance(
                 targetClass.getClassLoader(),
                 interfaces,
-                new AopInvocationHandler(target, aspects)
+                new AopInvocationHandler(target, chains)
             );
-        } else {
-            System.out.println("⚠️ AOP: Cannot create proxy for class without interfaces: " + targetClass.getName());
-            return target;
         }
+        return chains.proxyClass.newInstance(new SubclassAopDispatcher(target, chains));
+    }
+    
+    /**
+     * Builds the interceptor chain of every proxied method, laid out by method index, together with the
+     * invoker that calls the target without reflection: the generated invoker of the subclass proxy class,
+     * or a generated (or method handle) invoker of the target class for interface proxies.
+     *
+     * @throws RuntimeException if the subclass proxy class cannot be generated
+     */
+    private ChainTable buildChainTable(Class<?> targetClass, Map<Method, List<AdviceMetadata>> adviceByMethod) {
+        if (targetClass.getInterfaces().length > 0) {
+            InterfaceTarget interfaceTarget = interfaceTargets.get(targetClass);
+            return new ChainTable(null, interfaceTarget.methods, interfaceTarget.invoker,
+                buildChains(interfaceTarget.methods, targetClass, adviceByMethod));
+        }
+        SubclassProxyFactory.ProxyClass proxyClass = SubclassProxyFactory.getProxyClass(targetClass);
+        List<Method> methods = proxyClass.getMethods();
+        return new ChainTable(proxyClass, methods, proxyClass.getInvoker(),
+            buildChains(methods, targetClass, adviceByMethod));
+    }
+    
+    private MethodInterceptor[][] buildChains(List<Method> methods, Class<?> targetClass,
+                                              Map<Method, List<AdviceMetadata>> adviceByMethod) {
+        MethodInterceptor[][] byIndex = new MethodInterceptor[methods.size()][];
+        for (int i = 0; i < byIndex.length; i++) {
+            Method method = methods.get(i);
+            byIndex[i] = method.getDeclaringClass() == Object.class
+                ? NO_INTERCEPTORS
+                : buildChain(method, targetClass, adviceByMethod.getOrDefault(method, Collections.emptyList()));
+        }
+        return byIndex;
+    }
+    
+    /**
+     * Merges the method's aspect advice with the advisors' interceptors into one chain, outermost first.
+     * The sort is stable, so advice of one aspect keeps its advice-type order.
+     */
+    private MethodInterceptor[] buildChain(Method method, Class<?> targetClass, List<AdviceMetadata> advice) {
+        List<OrderedInterceptor> chain = new ArrayList<>();
+        for (AdviceMetadata adviceMetadata : advice) {
+            chain.add(new OrderedInterceptor(adviceMetadata.getOrder(), adviceMetadata.getInterceptor()));
+        }
+        for (Advisor advisor : advisors) {
+            MethodInterceptor interceptor = advisor.getInterceptor(method, targetClass);
+            if (interceptor != null) {
+                chain.add(new OrderedInterceptor(advisor.getOrder(), interceptor));
+            }
+        }
+        if (chain.isEmpty()) {
+            return NO_INTERCEPTORS;
+        }
+        chain.sort(Comparator.comparingInt(ordered -> ordered.order));
+        MethodInterceptor[] interceptors = new MethodInterceptor[chain.size()];
+        for (int i = 0; i < interceptors.length; i++) {
+            interceptors[i] = chain.get(i).interceptor;
+        }
+        return interceptors;
+    }
+    
+    /**
+     * Immutable interceptor chains of one target class, shared by all of its proxies.
+     */
+    private static final class ChainTable {
+        final SubclassProxyFactory.ProxyClass proxyClass; // null for interface proxies
+        final List<Method> methods;
+        final MethodInvoker invoker;
+        final MethodInterceptor[][] byIndex;
+        final Map<Method, Integer> indexByMethod;
+        
+        ChainTable(SubclassProxyFactory.ProxyClass proxyClass, List<Method> methods, MethodInvoker invoker,
+                   MethodInterceptor[][] byIndex) {
+            this.proxyClass = proxyClass;
+            this.methods = methods;
+            this.invoker = invoker;
+            this.byIndex = byIndex;
+            Map<Method, Integer> indexByMethod = new HashMap<>();
+            for (int i = 0; i < methods.size(); i++) {
+                indexByMethod.put(methods.get(i), i);
+            }
+            this.indexByMethod = Collections.unmodifiableMap(indexByMethod);
+        }
+    }
+    
+    private static final class InterfaceTarget {
+        final List<Method> methods;
+        final MethodInvoker invoker;
+        
+        InterfaceTarget(List<Method> methods, MethodInvoker invoker) {
+            this.methods = methods;
+            this.invoker = invoker;
+        }
+    }
+    
+    private static final class OrderedInterceptor {
+        final int order;
+        final MethodInterceptor interceptor;
+        
+        OrderedInterceptor(int order, MethodInterceptor interceptor) {
+            this.order = order;
+            this.interceptor = interceptor;
+        }
+    }
+    
+    /**
+     * Evaluates every pointcut against every method the proxy for targetClass would expose.
+     * Only methods with at least one matching advice are included.
+     * The returned map is cached per class and must not be modified.
+     */
+    public Map<Method, List<AdviceMetadata>> matchAdvice(Class<?> targetClass) {
+        return adviceCache.computeIfAbsent(targetClass, this::computeAdvice);
+    }
+    
+    private Map<Method, List<AdviceMetadata>> computeAdvice(Class<?> targetClass) {
+        List<AdviceMetadata> candidates = getCandidateAdvice(targetClass);
+        List<Method> methods = getProxiedMethods(targetClass);
+        methodChecksSkipped.add((long) (countAdvice() - candidates.size()) * methods.size());
+        if (candidates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        
+        Map<Method, List<AdviceMetadata>> adviceByMethod = new LinkedHashMap<>();
+        for (Method method : methods) {
+            List<AdviceMetadata> matchingAdvice = new ArrayList<>();
+            for (AdviceMetadata advice : candidates) {
+                methodChecks.increment();
+                if (advice.matches(method, targetClass)) {
+                    matchingAdvice.add(advice);
+                }
+            }
+            if (!matchingAdvice.isEmpty()) {
+                adviceByMethod.putIfAbsent(method, matchingAdvice);
+            }
+        }
+        return Collections.unmodifiableMap(adviceByMethod);
+    }
+    
+    /**
+     * Advice of all aspects whose pointcut passes the class filter for targetClass, in aspect order and
+     * advice type order within an aspect (the order {@link AspectMetadata#getMatchingAdvice} yields).
+     * Cached per class.
+     */
+    private List<AdviceMetadata> getCandidateAdvice(Class<?> targetClass) {
+        return candidateCache.computeIfAbsent(targetClass, type -> {
+            List<AdviceMetadata> candidates = new ArrayList<>();
+            for (AspectMetadata aspect : aspects) {
+                candidates.addAll(aspect.getCandidateAdvice(type));
+            }
+            classesChecked.increment();
+            if (candidates.isEmpty()) {
+                classesRejected.increment();
+                log.trace("🔍 AOP: No pointcut can match {}, skipping method checks", type.getSimpleName());
+            }
+            return Collections.unmodifiableList(candidates);
+        });
+    }
+    
+    private int countAdvice() {
+        int count = 0;
+        for (AspectMetadata aspect : aspects) {
+            count += aspect.getAdviceList().size();
+        }
+        return count;
+    }
+    
+    /**
+     * Pointcut matching work done so far: classes rejected by the class filters and method checks
+     * performed / skipped. Cumulative across cache resets.
+     */
+    public PointcutMatchStatistics getMatchStatistics() {
+        return new PointcutMatchStatistics(classesChecked.sum(), classesRejected.sum(),
+            methodChecks.sum(), methodChecksSkipped.sum());
+    }
+    
+    /**
+     * Methods the proxy for targetClass exposes: interface methods for JDK proxies, otherwise the
+     * overridable methods of a subclass proxy (methods inherited unchanged from Object are never advised).
+     */
+    private static List<Method> getProxiedMethods(Class<?> targetClass) {
+        List<Method> methods = new ArrayList<>();
+        Class<?>[] interfaces = getProxyInterfaces(targetClass);
+        if (interfaces.length > 0) {
+            for (Class<?> proxyInterface : interfaces) {
+                methods.addAll(Arrays.asList(proxyInterface.getMethods()));
+            }
+        } else if (SubclassProxyFactory.isProxyable(targetClass)) {
+            // the same methods the generated proxy class overrides, without generating it
+            for (Method method : SubclassProxyFactory.collectProxyMethods(targetClass)) {
+                if (method.getDeclaringClass() != Object.class) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
+    
+    /**
+     * Interfaces of a JDK proxy for targetClass: those it declares and those declared by its superclasses.
+     * Empty when targetClass declares none itself, in which case a subclass proxy is used.
+     */
+    private static Class<?>[] getProxyInterfaces(Class<?> targetClass) {
+        if (targetClass.getInterfaces().length == 0) {
+            return targetClass.getInterfaces();
+        }
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            interfaces.addAll(Arrays.asList(type.getInterfaces()));
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+    
+    /**
+     * The distinct methods of all interfaces of targetClass, in a stable order (the method indexes of an
+     * interface proxy).
+     */
+    private static List<Method> getInterfaceMethods(Class<?> targetClass) {
+        return new ArrayList<>(new LinkedHashSet<>(getProxiedMethods(targetClass)));
+    }
+    
+    public List<AspectMetadata> getAspects() {
+        return aspects;
+    }
+    
+    public List<Advisor> getAdvisors() {
+        return advisors;
     }
     
     public boolean needsProxy(Object target) {
-        if (aspects.isEmpty()) {
-            System.out.println("🔍 AOP: No aspects available, proxy not needed for " + target.getClass().getSimpleName());
+        if (aspects.isEmpty() && advisors.isEmpty()) {
+            log.trace("🔍 AOP: No aspects or advisors available, proxy not needed for {}", target.getClass().getSimpleName());
             return false;
         }
         
-        Class<?> targetClass = target.getClass();
-        Method[] methods = targetClass.getDeclaredMethods();
+        return needsProxyCache.computeIfAbsent(target.getClass(), this::hasMatchingAdvice);
+    }
+    
+    /**
+     * Decides on the same methods the proxy would expose ({@link #getProxiedMethods}), so inherited
+     * methods of a subclass proxy and annotations placed on interface methods are seen here too.
+     */
+    private boolean hasMatchingAdvice(Class<?> targetClass) {
+        List<Method> methods = getProxiedMethods(targetClass);
+        log.trace("🔍 AOP: Checking if proxy needed for {} with {} methods", targetClass.getSimpleName(), methods.size());
         
-        System.out.println("🔍 AOP: Checking if proxy needed for " + targetClass.getSimpleName() + " with " + methods.length + " methods");
+        // The cached advice map is reused by createProxy, so each class is matched (and counted) once
+        if (!aspects.isEmpty() && !matchAdvice(targetClass).isEmpty()) {
+            log.trace("  ✅ Aspect advice matches {}", targetClass.getSimpleName());
+            return true;
+        }
         
-        for (AspectMetadata aspect : aspects) {
-            System.out.println("  🔍 Checking aspect: " + aspect.getAspectClass().getSimpleName());
+        for (Advisor advisor : advisors) {
             for (Method method : methods) {
-                List<AdviceMetadata> matchingAdvice = aspect.getMatchingAdvice(method, targetClass);
-                if (!matchingAdvice.isEmpty()) {
-                    System.out.println("  ✅ Found " + matchingAdvice.size() + " matching advice for method: " + method.getName());
+                if (advisor.getInterceptor(method, targetClass) != null) {
+                    log.trace("  ✅ Advisor {} applies to method: {}", advisor.getClass().getSimpleName(), method.getName());
                     return true;
-                } else {
-                    System.out.println("  ❌ No matching advice for method: " + method.getName());
                 }
             }
         }
@@ -65,14 +397,18 @@ public class AopProxyFactory {
         return false;
     }
     
-    private static class AopInvocationHandler implements InvocationHandler {
+    /**
+     * Invocation handler for interface proxies. The method index is looked up once per call; the
+     * interceptor chain and the target invoker are then taken from the shared chain table.
+     */
+    private static class AopInvocationHandler implements DelegatingInvocationHandler {
         
         private final Object target;
-        private final List<AspectMetadata> aspects;
+        private final ChainTable chains;
         
-        public AopInvocationHandler(Object target, List<AspectMetadata> aspects) {
+        AopInvocationHandler(Object target, ChainTable chains) {
             this.target = target;
-            this.aspects = aspects;
+            this.chains = chains;
         }
         
         @Override
@@ -81,101 +417,58 @@ public class AopProxyFactory {
                 return method.invoke(target, args);
             }
             
-            List<AdviceMetadata> allMatchingAdvice = new ArrayList<>();
-            for (AspectMetadata aspect : aspects) {
-                allMatchingAdvice.addAll(aspect.getMatchingAdvice(method, target.getClass()));
+            Integer index = chains.indexByMethod.get(method);
+            if (index == null) {
+                return ReflectiveMethodInvocation.invokeReflectively(method, target, args);
             }
             
-            if (allMatchingAdvice.isEmpty()) {
-                return method.invoke(target, args);
+            int methodIndex = index;
+            MethodInterceptor[] chain = chains.byIndex[methodIndex];
+            if (chain.length == 0) {
+                return chains.invoker.invoke(methodIndex, target, args != null ? args : NO_ARGUMENTS);
             }
-            
-            return applyAdvice(method, args, target, proxy, allMatchingAdvice);
+            return new ReflectiveMethodInvocation(proxy, target, method, args, chain, chains.invoker, methodIndex)
+                .proceed();
         }
         
-        private Object applyAdvice(Method method, Object[] args, Object target, Object proxy,
-                                 List<AdviceMetadata> allAdvice) throws Throwable {
-            
-            List<AdviceMetadata> aroundAdvice = new ArrayList<>();
-            List<AdviceMetadata> beforeAdvice = new ArrayList<>();
-            List<AdviceMetadata> afterAdvice = new ArrayList<>();
-            List<AdviceMetadata> afterReturningAdvice = new ArrayList<>();
-            List<AdviceMetadata> afterThrowingAdvice = new ArrayList<>();
-            
-            for (AdviceMetadata advice : allAdvice) {
-                switch (advice.getType()) {
-                    case AROUND:
-                        aroundAdvice.add(advice);
-                        break;
-                    case BEFORE:
-                        beforeAdvice.add(advice);
-                        break;
-                    case AFTER:
-                        afterAdvice.add(advice);
-                        break;
-                    case AFTER_RETURNING:
-                        afterReturningAdvice.add(advice);
-                        break;
-                    case AFTER_THROWING:
-                        afterThrowingAdvice.add(advice);
-                        break;
-                }
-            }
-            
-            Object result = null;
-            Throwable exception = null;
-            
-            try {
-                JoinPoint joinPoint = new MethodJoinPoint(method, args, target, proxy);
-                for (AdviceMetadata advice : beforeAdvice) {
-                    try {
-                        advice.invoke(joinPoint);
-                    } catch (Exception e) {
-                        System.err.println("❌ Error in @Before advice: " + e.getMessage());
-                    }
-                }
-                
-                if (!aroundAdvice.isEmpty()) {
-                    ProceedingJoinPoint pjp = new MethodProceedingJoinPoint(
-                            method, args, target, proxy, aroundAdvice, 0);
-                    result = pjp.proceed();
-                } else {
-                    result = method.invoke(target, args);
-                }
-                
-                for (AdviceMetadata advice : afterReturningAdvice) {
-                    try {
-                        advice.invoke(joinPoint, result);
-                    } catch (Exception e) {
-                        System.err.println("❌ Error in @AfterReturning advice: " + e.getMessage());
-                    }
-                }
-                
-            } catch (Throwable t) {
-                exception = t;
-                
-                JoinPoint joinPoint = new MethodJoinPoint(method, args, target, proxy);
-                for (AdviceMetadata advice : afterThrowingAdvice) {
-                    try {
-                        advice.invoke(joinPoint, exception);
-                    } catch (Exception e) {
-                        System.err.println("❌ Error in @AfterThrowing advice: " + e.getMessage());
-                    }
-                }
-                
-                throw exception;
-            } finally {
-                JoinPoint joinPoint = new MethodJoinPoint(method, args, target, proxy);
-                for (AdviceMetadata advice : afterAdvice) {
-                    try {
-                        advice.invoke(joinPoint);
-                    } catch (Exception e) {
-                        System.err.println("❌ Error in @After advice: " + e.getMessage());
-                    }
-                }
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+    }
+    
+    /**
+     * Dispatcher for subclass proxies. The interceptor chains are looked up by method index in the
+     * class's shared chain table; methods without interceptors go straight to the target through the
+     * generated invoker.
+     */
+    private static class SubclassAopDispatcher implements ProxyDispatcher {
+        
+        private final Object target;
+        private final List<Method> methods;
+        private final MethodInterceptor[][] chainByIndex;
+        private final MethodInvoker invoker;
+        
+        SubclassAopDispatcher(Object target, ChainTable chains) {
+            this.target = target;
+            this.methods = chains.methods;
+            this.invoker = chains.invoker;
+            this.chainByIndex = chains.byIndex;
+        }
+        
+        @Override
+        public Object dispatch(Object proxy, int methodIndex, Object[] args) throws Throwable {
+            MethodInterceptor[] chain = chainByIndex[methodIndex];
+            if (chain.length == 0) {
+                return invoker.invoke(methodIndex, target, args);
             }
-            
-            return result;
+            return new ReflectiveMethodInvocation(proxy, target, methods.get(methodIndex), args, chain,
+                invoker, methodIndex).proceed();
+        }
+        
+        @Override
+        public Object getTarget() {
+            return target;
         }
     }
-} 
\ No newline at end of file
+}
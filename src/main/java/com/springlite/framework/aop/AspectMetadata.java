@@ -64,6 +64,25 @@ public class AspectMetadata {
         return matchingAdvice;
     }
     
+    /**
+     * Returns the advice whose pointcut passes the class filter for targetClass, in advice type order.
+     * Only these need to be matched against the class's methods; an empty list means the aspect
+     * cannot apply to the class at all.
+     */
+    public List<AdviceMetadata> getCandidateAdvice(Class<?> targetClass) {
+        List<AdviceMetadata> candidates = new ArrayList<>();
+        
+        for (AdviceMetadata advice : adviceList) {
+            if (advice.matchesClass(targetClass)) {
+                candidates.add(advice);
+            }
+        }
+        
+        candidates.sort((a1, a2) -> Integer.compare(getAdviceOrder(a1.getType()), getAdviceOrder(a2.getType())));
+        
+        return candidates;
+    }
+    
     private int getAdviceOrder(AdviceType type) {
         switch (type) {
             case AROUND: return 1;
@@ -1,16 +1,22 @@
 package com.springlite.framework.aop;
 
 import com.springlite.framework.aop.annotations.*;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Scans for @Aspect annotated classes and extracts their pointcuts and advice.
  */
 public class AspectScanner {
     
+    private static final Log log = LogFactory.getLog(AspectScanner.class);
+    
     /**
      * Processes an aspect instance and extracts its metadata.
      */
@@ -26,12 +32,17 @@ public class AspectScanner {
         // Process all methods in the aspect
         Method[] methods = aspectClass.getDeclaredMethods();
         
-        // First pass: collect @Pointcut definitions
+        // First pass: collect @Pointcut definitions, then compile them (they may reference each other)
+        Map<String, String> pointcutExpressions = new LinkedHashMap<>();
         for (Method method : methods) {
             if (method.isAnnotationPresent(Pointcut.class)) {
-                processPointcutMethod(method, aspectMetadata);
+                pointcutExpressions.put(method.getName(), method.getAnnotation(Pointcut.class).value());
             }
         }
+        Set<String> compiling = new HashSet<>();
+        for (String pointcutName : pointcutExpressions.keySet()) {
+            compileNamedPointcut(pointcutName, pointcutExpressions, compiling, aspectMetadata);
+        }
         
         // Second pass: collect advice methods
         for (Method method : methods) {
@@ -48,24 +59,35 @@ public class AspectScanner {
             }
         }
         
-        System.out.println("🔍 AOP: Processed aspect " + aspectClass.getSimpleName() + 
-                          " with " + aspectMetadata.getAdviceList().size() + " advice methods");
+        log.debug("🔍 AOP: Processed aspect {} with {} advice methods", aspectClass.getSimpleName(), aspectMetadata.getAdviceList().size());
         
         return aspectMetadata;
     }
     
     /**
-     * Processes a @Pointcut annotated method.
+     * Compiles a @Pointcut method's expression, compiling the named pointcuts it references first.
      */
-    private static void processPointcutMethod(Method method, AspectMetadata aspectMetadata) {
-        Pointcut pointcut = method.getAnnotation(Pointcut.class);
-        String expression = pointcut.value();
-        String pointcutName = method.getName();
-        
-        PointcutMatcher matcher = new PointcutMatcher(expression);
+    private static PointcutMatcher compileNamedPointcut(String pointcutName, Map<String, String> pointcutExpressions,
+                                                        Set<String> compiling, AspectMetadata aspectMetadata) {
+        PointcutMatcher compiled = aspectMetadata.getNamedPointcuts().get(pointcutName);
+        if (compiled != null) {
+            return compiled;
+        }
+        String expression = pointcutExpressions.get(pointcutName);
+        if (expression == null) {
+            return null;
+        }
+        if (!compiling.add(pointcutName)) {
+            throw new IllegalArgumentException("Circular pointcut reference: " + pointcutName + "() in "
+                + aspectMetadata.getAspectInstance().getClass().getName());
+        }
+        PointcutMatcher matcher = new PointcutMatcher(expression,
+            name -> compileNamedPointcut(name, pointcutExpressions, compiling, aspectMetadata));
+        compiling.remove(pointcutName);
         aspectMetadata.addNamedPointcut(pointcutName, matcher);
         
-        System.out.println("  📍 Found pointcut: " + pointcutName + "() = " + expression);
+        log.debug("  📍 Found pointcut: {}() = {}", pointcutName, expression);
+        return matcher;
     }
     
     /**
@@ -80,7 +102,7 @@ public class AspectScanner {
                                                   AdviceType.BEFORE, matcher);
         
         aspectMetadata.addAdvice(advice);
-        System.out.println("  ⬅️ Found @Before advice: " + method.getName() + "() with pointcut: " + expression);
+        log.debug("  ⬅️ Found @Before advice: {}() with pointcut: {}", method.getName(), expression);
     }
     
     /**
@@ -95,7 +117,7 @@ public class AspectScanner {
                                                   AdviceType.AFTER, matcher);
         
         aspectMetadata.addAdvice(advice);
-        System.out.println("  ➡️ Found @After advice: " + method.getName() + "() with pointcut: " + expression);
+        log.debug("  ➡️ Found @After advice: {}() with pointcut: {}", method.getName(), expression);
     }
     
     /**
@@ -110,7 +132,7 @@ public class AspectScanner {
                                                   AdviceType.AROUND, matcher);
         
         aspectMetadata.addAdvice(advice);
-        System.out.println("  🔄 Found @Around advice: " + method.getName() + "() with pointcut: " + expression);
+        log.debug("  🔄 Found @Around advice: {}() with pointcut: {}", method.getName(), expression);
     }
     
     /**
@@ -127,7 +149,7 @@ public class AspectScanner {
                                                   AdviceType.AFTER_RETURNING, matcher, returning, null);
         
         aspectMetadata.addAdvice(advice);
-        System.out.println("  ↩️ Found @AfterReturning advice: " + method.getName() + "() with pointcut: " + expression);
+        log.debug("  ↩️ Found @AfterReturning advice: {}() with pointcut: {}", method.getName(), expression);
     }
     
     /**
@@ -144,31 +166,13 @@ public class AspectScanner {
                                                   AdviceType.AFTER_THROWING, matcher, null, throwing);
         
         aspectMetadata.addAdvice(advice);
-        System.out.println("  ❌ Found @AfterThrowing advice: " + method.getName() + "() with pointcut: " + expression);
+        log.debug("  ❌ Found @AfterThrowing advice: {}() with pointcut: {}", method.getName(), expression);
     }
     
     /**
-     * Resolves a pointcut expression, handling both inline expressions and named pointcut references.
+     * Compiles an advice pointcut expression; named pointcut references resolve to the aspect's @Pointcut methods.
      */
     private static PointcutMatcher resolvePointcutExpression(String expression, AspectMetadata aspectMetadata) {
-        // Check if it's a named pointcut reference (e.g., "dataAccessOperation()")
-        if (expression.contains("(") && expression.endsWith(")") && !expression.contains("execution") 
-            && !expression.contains("@annotation") && !expression.contains("within") 
-            && !expression.contains("bean") && !expression.contains("*")) {
-            
-            String pointcutName = expression.substring(0, expression.indexOf("("));
-            PointcutMatcher namedPointcut = aspectMetadata.getNamedPointcuts().get(pointcutName);
-            
-            if (namedPointcut != null) {
-                System.out.println("  🔗 명명된 pointcut 참조 해결: " + pointcutName + " → " + namedPointcut.getExpression());
-                return namedPointcut;
-            } else {
-                System.err.println("⚠️ Named pointcut not found: " + pointcutName + ". Available: " + aspectMetadata.getNamedPointcuts().keySet());
-                return new PointcutMatcher(""); // Return empty matcher
-            }
-        }
-        
-        // It's an inline expression
-        return new PointcutMatcher(expression);
+        return new PointcutMatcher(expression, aspectMetadata.getNamedPointcuts()::get);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.springlite.framework.aop;
+
+import com.springlite.framework.proxy.MethodInvoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Calls the target methods of an interface proxy through {@link MethodHandle}s, one per method index.
+ * Used when no invoker class can be generated for the target class (see {@link AopProxyFactory}).
+ * <p>
+ * Each method is made accessible once, when the chain table of the target class is built, and unreflected
+ * into a handle of type (Object, Object[])Object that spreads the proxy's arguments array. Unlike
+ * {@link Method#invoke} there is no access check per call and exceptions thrown by the target method are
+ * not wrapped. Methods that cannot be unreflected fall back to reflection.
+ */
+final class MethodHandleInvoker implements MethodInvoker {
+    
+    private static final MethodType SHAPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    
+    private final Method[] methods;
+    private final MethodHandle[] handles; // null entries are called reflectively
+    
+    MethodHandleInvoker(List<Method> methods) {
+        this.methods = methods.toArray(new Method[0]);
+        this.handles = new MethodHandle[this.methods.length];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = unreflect(this.methods[i]);
+        }
+    }
+    
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // methods of public types in exported packages are still accessible
+        }
+        try {
+            return MethodHandles.lookup().unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(SHAPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    @Override
+    public Object invoke(int methodIndex, Object target, Object[] args) throws Throwable {
+        MethodHandle handle = handles[methodIndex];
+        if (handle != null) {
+            return (Object) handle.invokeExact(target, args);
+        }
+        return ReflectiveMethodInvocation.invokeReflectively(methods[methodIndex], target, args);
+    }
+}
@@ -0,0 +1,15 @@
+package com.springlite.framework.aop;
+
+/**
+ * One link of a proxy's interceptor chain. Aspect advice and transaction
+ * interception are both applied as method interceptors.
+ * Similar to AOP Alliance's MethodInterceptor.
+ */
+public interface MethodInterceptor {
+    
+    /**
+     * @param invocation the call; {@link MethodInvocation#proceed()} runs the rest of the chain
+     * @return the result to return to the caller
+     */
+    Object invoke(MethodInvocation invocation) throws Throwable;
+}
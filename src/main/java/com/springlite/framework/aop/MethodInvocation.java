@@ -0,0 +1,42 @@
+package com.springlite.framework.aop;
+
+import java.lang.reflect.Method;
+
+/**
+ * A method call travelling through a proxy's interceptor chain.
+ * Similar to AOP Alliance's MethodInvocation.
+ */
+public interface MethodInvocation {
+    
+    Method getMethod();
+    
+    /**
+     * The arguments passed to the rest of the chain (not a copy).
+     */
+    Object[] getArguments();
+    
+    /**
+     * Replaces the arguments passed to the rest of the chain and the target method.
+     */
+    void setArguments(Object[] arguments);
+    
+    /**
+     * The proxy the call was made on.
+     */
+    Object getThis();
+    
+    Object getTarget();
+    
+    /**
+     * Invokes the next interceptor in the chain, or the target method after the last one.
+     * May be called more than once (e.g. to retry).
+     */
+    Object proceed() throws Throwable;
+    
+    /**
+     * A copy positioned at the same interceptor, with its own copy of the arguments. Its {@link #proceed()}
+     * runs the rest of the chain independently of this invocation, e.g. on another thread after this
+     * interceptor has returned.
+     */
+    MethodInvocation invocableClone();
+}
@@ -7,6 +7,8 @@ import java.lang.reflect.Method;
  */
 public class MethodJoinPoint implements JoinPoint {
     
+    static final String METHOD_EXECUTION = "method-execution";
+    
     private final Method method;
     private final Object[] args;
     private final Object target;
@@ -41,6 +43,10 @@ public class MethodJoinPoint implements JoinPoint {
     
     @Override
     public String getSignature() {
+        return signature(method);
+    }
+    
+    static String signature(Method method) {
         StringBuilder sb = new StringBuilder();
         sb.append(method.getReturnType().getSimpleName()).append(" ");
         sb.append(method.getDeclaringClass().getSimpleName()).append(".");
@@ -57,11 +63,15 @@ public class MethodJoinPoint implements JoinPoint {
     
     @Override
     public String getKind() {
-        return "method-execution";
+        return METHOD_EXECUTION;
     }
     
     @Override
     public String toShortString() {
+        return shortString(method);
+    }
+    
+    static String shortString(Method method) {
         return String.format("execution(%s.%s(..))", 
                 method.getDeclaringClass().getSimpleName(), 
                 method.getName());
@@ -0,0 +1,513 @@
+package com.springlite.framework.aop;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled pointcut expression: a tree of matcher nodes built once by {@link PointcutParser}.
+ * <p>
+ * Name globs are precompiled {@link Pattern}s and annotation types are resolved {@link Class} objects,
+ * so matching never parses or splits expression text. Boolean nodes short-circuit.
+ * <p>
+ * Every node also has a class filter ({@link #couldMatchClass}) that looks only at the target class
+ * (package, within, @within, bean), so classes no method of which can match are rejected without
+ * evaluating any method.
+ */
+abstract class PointcutExpression {
+
+    static final PointcutExpression NEVER = new Constant(false);
+
+    abstract boolean matches(Method method, Class<?> targetClass);
+
+    /**
+     * Returns false if no method of targetClass can match. A true result only means the methods have to be
+     * checked; it is exact only for {@link #isClassLevel() class-level} expressions.
+     */
+    abstract boolean couldMatchClass(Class<?> targetClass);
+
+    /**
+     * Whether the result depends on the target class alone, so {@link #couldMatchClass} is exact
+     * (and can be negated).
+     */
+    boolean isClassLevel() {
+        return false;
+    }
+
+    static final class Constant extends PointcutExpression {
+        private final boolean value;
+
+        Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return value;
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            return value;
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+
+    static final class And extends PointcutExpression {
+        private final PointcutExpression left;
+        private final PointcutExpression right;
+
+        And(PointcutExpression left, PointcutExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return left.matches(method, targetClass) && right.matches(method, targetClass);
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            return left.couldMatchClass(targetClass) && right.couldMatchClass(targetClass);
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return left.isClassLevel() && right.isClassLevel();
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " && " + right + ")";
+        }
+    }
+
+    static final class Or extends PointcutExpression {
+        private final PointcutExpression left;
+        private final PointcutExpression right;
+
+        Or(PointcutExpression left, PointcutExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return left.matches(method, targetClass) || right.matches(method, targetClass);
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            return left.couldMatchClass(targetClass) || right.couldMatchClass(targetClass);
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return left.isClassLevel() && right.isClassLevel();
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + " || " + right + ")";
+        }
+    }
+
+    static final class Not extends PointcutExpression {
+        private final PointcutExpression operand;
+
+        Not(PointcutExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return !operand.matches(method, targetClass);
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            // a negated method-level condition cannot be decided from the class alone
+            return !operand.isClassLevel() || !operand.couldMatchClass(targetClass);
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return operand.isClassLevel();
+        }
+
+        @Override
+        public String toString() {
+            return "!" + operand;
+        }
+    }
+
+    /**
+     * execution(modifiers? ret-type declaring-type?.name(params) throws?)
+     * <p>
+     * The declaring type pattern matches the method's declaring class, the target class, or any supertype
+     * of the target class that declares the method (so an interface pattern matches its implementations).
+     */
+    static final class Execution extends PointcutExpression {
+        private final int requiredModifiers;
+        private final int excludedModifiers;
+        private final TypePattern returnType;
+        private final TypePattern declaringType; // null: any
+        private final Pattern name; // null: any
+        private final ParameterPattern parameters;
+        private final String source;
+
+        Execution(int requiredModifiers, int excludedModifiers, TypePattern returnType, TypePattern declaringType,
+                  Pattern name, ParameterPattern parameters, String source) {
+            this.requiredModifiers = requiredModifiers;
+            this.excludedModifiers = excludedModifiers;
+            this.returnType = returnType;
+            this.declaringType = declaringType;
+            this.name = name;
+            this.parameters = parameters;
+            this.source = source;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            int modifiers = method.getModifiers();
+            if ((modifiers & requiredModifiers) != requiredModifiers || (modifiers & excludedModifiers) != 0) {
+                return false;
+            }
+            if (name != null && !name.matcher(method.getName()).matches()) {
+                return false;
+            }
+            if (!parameters.matches(method)) {
+                return false;
+            }
+            if (!returnType.matches(method.getReturnType())) {
+                return false;
+            }
+            return declaringType == null || matchesDeclaringType(method, targetClass);
+        }
+
+        /**
+         * Any method of targetClass is declared by targetClass or one of its supertypes, so the declaring
+         * type pattern (e.g. a package) has to match one of them.
+         */
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            if (declaringType == null || declaringType.matches(targetClass)) {
+                return true;
+            }
+            for (Class<?> type : supertypes(targetClass)) {
+                if (declaringType.matches(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesDeclaringType(Method method, Class<?> targetClass) {
+            Class<?> declaringClass = method.getDeclaringClass();
+            if (declaringType.matches(declaringClass) || declaringType.matches(targetClass)) {
+                return true;
+            }
+            for (Class<?> type : supertypes(targetClass)) {
+                if (type != declaringClass && declaringType.matches(type) && declaresMethod(type, method)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean declaresMethod(Class<?> type, Method method) {
+            for (Method candidate : type.getDeclaredMethods()) {
+                if (candidate.getName().equals(method.getName())
+                        && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "execution(" + source + ")";
+        }
+    }
+
+    /**
+     * within(type-pattern): the target class matches the type pattern.
+     */
+    static final class Within extends PointcutExpression {
+        private final TypePattern type;
+        private final String source;
+
+        Within(TypePattern type, String source) {
+            this.type = type;
+            this.source = source;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return type.matches(targetClass);
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            return type.matches(targetClass);
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "within(" + source + ")";
+        }
+    }
+
+    /**
+     * {@code @annotation(type)}: the method, or the target class's implementation of it, has the annotation.
+     */
+    static final class AnnotatedMethod extends PointcutExpression {
+        private final Class<? extends Annotation> annotationType;
+
+        AnnotatedMethod(Class<? extends Annotation> annotationType) {
+            this.annotationType = annotationType;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            if (method.isAnnotationPresent(annotationType)) {
+                return true;
+            }
+            if (method.getDeclaringClass() == targetClass) {
+                return false;
+            }
+            try {
+                return targetClass.getMethod(method.getName(), method.getParameterTypes())
+                    .isAnnotationPresent(annotationType);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "@annotation(" + annotationType.getName() + ")";
+        }
+    }
+
+    /**
+     * {@code @within(type)}: the target class or the method's declaring class has the annotation.
+     */
+    static final class AnnotatedType extends PointcutExpression {
+        private final Class<? extends Annotation> annotationType;
+
+        AnnotatedType(Class<? extends Annotation> annotationType) {
+            this.annotationType = annotationType;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return targetClass.isAnnotationPresent(annotationType)
+                || method.getDeclaringClass().isAnnotationPresent(annotationType);
+        }
+
+        /**
+         * Methods are declared by targetClass or its supertypes, so one of them must carry the annotation.
+         */
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            if (targetClass.isAnnotationPresent(annotationType)) {
+                return true;
+            }
+            for (Class<?> type : supertypes(targetClass)) {
+                if (type.isAnnotationPresent(annotationType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "@within(" + annotationType.getName() + ")";
+        }
+    }
+
+    /**
+     * bean(name-pattern). The bean name is not known to the matcher, so the pattern is matched against the
+     * default bean name of the target class (decapitalized simple name) and its simple name.
+     */
+    static final class BeanName extends PointcutExpression {
+        private final Pattern pattern;
+        private final String source;
+
+        BeanName(Pattern pattern, String source) {
+            this.pattern = pattern;
+            this.source = source;
+        }
+
+        @Override
+        boolean matches(Method method, Class<?> targetClass) {
+            return couldMatchClass(targetClass);
+        }
+
+        @Override
+        boolean couldMatchClass(Class<?> targetClass) {
+            String simpleName = targetClass.getSimpleName();
+            if (pattern.matcher(simpleName).matches()) {
+                return true;
+            }
+            return !simpleName.isEmpty()
+                && pattern.matcher(Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1)).matches();
+        }
+
+        @Override
+        boolean isClassLevel() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "bean(" + source + ")";
+        }
+    }
+
+    /**
+     * A compiled type name pattern ({@code *}, {@code com.xyz..*}, {@code *Service}, {@code java.util.List+}).
+     * Patterns without a dot match the simple name, others the fully qualified name.
+     */
+    static final class TypePattern {
+        static final TypePattern ANY = new TypePattern(null, false, false);
+
+        private final Pattern pattern; // null: any
+        private final boolean simpleName;
+        private final boolean includeSubtypes;
+
+        TypePattern(Pattern pattern, boolean simpleName, boolean includeSubtypes) {
+            this.pattern = pattern;
+            this.simpleName = simpleName;
+            this.includeSubtypes = includeSubtypes;
+        }
+
+        boolean matches(Class<?> type) {
+            if (pattern == null) {
+                return true;
+            }
+            if (matchesName(type)) {
+                return true;
+            }
+            if (includeSubtypes) {
+                for (Class<?> supertype : supertypes(type)) {
+                    if (matchesName(supertype)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean matchesName(Class<?> type) {
+            return pattern.matcher(simpleName ? type.getSimpleName() : type.getTypeName()).matches();
+        }
+    }
+
+    /**
+     * A compiled parameter list pattern: {@code ..} matches any number of parameters, {@code *} exactly one.
+     */
+    static final class ParameterPattern {
+        static final ParameterPattern ANY = new ParameterPattern(null);
+
+        private final TypePattern[] elements; // null: (..); a null element is ".."
+
+        ParameterPattern(TypePattern[] elements) {
+            this.elements = elements;
+        }
+
+        boolean matches(Method method) {
+            if (elements == null) {
+                return true;
+            }
+            return matches(0, method.getParameterTypes(), 0);
+        }
+
+        private boolean matches(int patternIndex, Class<?>[] types, int typeIndex) {
+            if (patternIndex == elements.length) {
+                return typeIndex == types.length;
+            }
+            TypePattern element = elements[patternIndex];
+            if (element == null) {
+                for (int next = typeIndex; next <= types.length; next++) {
+                    if (matches(patternIndex + 1, types, next)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return typeIndex < types.length && element.matches(types[typeIndex])
+                && matches(patternIndex + 1, types, typeIndex + 1);
+        }
+    }
+
+    /**
+     * All superclasses and interfaces of type (excluding type itself), computed once per class.
+     */
+    static Class<?>[] supertypes(Class<?> type) {
+        return SUPERTYPES.get(type);
+    }
+
+    private static final ClassValue<Class<?>[]> SUPERTYPES = new ClassValue<Class<?>[]>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> supertypes = new LinkedHashSet<>();
+            Deque<Class<?>> pending = new ArrayDeque<>();
+            pending.add(type);
+            while (!pending.isEmpty()) {
+                Class<?> current = pending.poll();
+                Class<?> superclass = current.getSuperclass();
+                if (superclass != null && supertypes.add(superclass)) {
+                    pending.add(superclass);
+                }
+                for (Class<?> implemented : current.getInterfaces()) {
+                    if (supertypes.add(implemented)) {
+                        pending.add(implemented);
+                    }
+                }
+            }
+            return supertypes.toArray(new Class<?>[0]);
+        }
+    };
+
+    static int modifierFlag(String modifier) {
+        switch (modifier) {
+            case "public": return Modifier.PUBLIC;
+            case "protected": return Modifier.PROTECTED;
+            case "private": return Modifier.PRIVATE;
+            case "static": return Modifier.STATIC;
+            case "final": return Modifier.FINAL;
+            case "synchronized": return Modifier.SYNCHRONIZED;
+            default: return 0;
+        }
+    }
+}
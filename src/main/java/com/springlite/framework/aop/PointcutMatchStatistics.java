@@ -0,0 +1,51 @@
+package com.springlite.framework.aop;
+
+/**
+ * Snapshot of the pointcut matching work done by an {@link AopProxyFactory}.
+ * <p>
+ * Every bean class first goes through the class filter of each advice pointcut (package, within,
+ * {@code @within}, bean). Classes rejected by all of them skip method matching entirely, and for the
+ * other classes only the advice that passed the filter is matched against each method.
+ * <ul>
+ *   <li>classesChecked: bean classes run through the class filters</li>
+ *   <li>classesRejected: classes no advice pointcut can match (no method checks at all)</li>
+ *   <li>methodChecks: pointcut evaluations against a method that were performed</li>
+ *   <li>methodChecksSkipped: pointcut evaluations avoided because the advice failed the class filter</li>
+ * </ul>
+ */
+public final class PointcutMatchStatistics {
+    
+    private final long classesChecked;
+    private final long classesRejected;
+    private final long methodChecks;
+    private final long methodChecksSkipped;
+    
+    PointcutMatchStatistics(long classesChecked, long classesRejected, long methodChecks, long methodChecksSkipped) {
+        this.classesChecked = classesChecked;
+        this.classesRejected = classesRejected;
+        this.methodChecks = methodChecks;
+        this.methodChecksSkipped = methodChecksSkipped;
+    }
+    
+    public long getClassesChecked() {
+        return classesChecked;
+    }
+    
+    public long getClassesRejected() {
+        return classesRejected;
+    }
+    
+    public long getMethodChecks() {
+        return methodChecks;
+    }
+    
+    public long getMethodChecksSkipped() {
+        return methodChecksSkipped;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("PointcutMatchStatistics{classesChecked=%d, classesRejected=%d, methodChecks=%d, methodChecksSkipped=%d}",
+            classesChecked, classesRejected, methodChecks, methodChecksSkipped);
+    }
+}
@@ -0,0 +1,325 @@
+package com.springlite.framework.aop;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles an AspectJ-style pointcut expression into a {@link PointcutExpression} tree.
+ * <p>
+ * Grammar (a subset of the AspectJ pointcut language used by Spring AOP):
+ * <pre>
+ * expression := and (('||' | 'or') and)*
+ * and        := unary (('&amp;&amp;' | 'and') unary)*
+ * unary      := ('!' | 'not') unary | '(' expression ')' | designator
+ * designator := execution(..) | within(..) | @annotation(..) | @within(..) | bean(..) | name()
+ * </pre>
+ * {@code name()} refers to a named pointcut and is resolved while compiling. Unknown named pointcuts and
+ * annotation types that cannot be loaded never match (with a warning); syntax errors are rejected.
+ */
+final class PointcutParser {
+
+    private static final Log log = LogFactory.getLog(PointcutParser.class);
+
+    private final String expression;
+    private final Function<String, PointcutExpression> namedPointcuts;
+    private int position;
+
+    private PointcutParser(String expression, Function<String, PointcutExpression> namedPointcuts) {
+        this.expression = expression;
+        this.namedPointcuts = namedPointcuts;
+    }
+
+    /**
+     * @param namedPointcuts resolves a named pointcut reference, or returns null if unknown (may be null)
+     * @throws IllegalArgumentException if the expression is malformed
+     */
+    static PointcutExpression parse(String expression, Function<String, PointcutExpression> namedPointcuts) {
+        if (expression == null || expression.trim().isEmpty()) {
+            return PointcutExpression.NEVER;
+        }
+        PointcutParser parser = new PointcutParser(expression, namedPointcuts);
+        PointcutExpression result = parser.parseOr();
+        parser.skipWhitespace();
+        if (parser.position < expression.length()) {
+            throw parser.error("unexpected '" + expression.substring(parser.position) + "'");
+        }
+        return result;
+    }
+
+    private PointcutExpression parseOr() {
+        PointcutExpression left = parseAnd();
+        while (consume("||") || consumeKeyword("or")) {
+            left = new PointcutExpression.Or(left, parseAnd());
+        }
+        return left;
+    }
+
+    private PointcutExpression parseAnd() {
+        PointcutExpression left = parseUnary();
+        while (consume("&&") || consumeKeyword("and")) {
+            left = new PointcutExpression.And(left, parseUnary());
+        }
+        return left;
+    }
+
+    private PointcutExpression parseUnary() {
+        if (consume("!") || consumeKeyword("not")) {
+            return new PointcutExpression.Not(parseUnary());
+        }
+        if (consume("(")) {
+            PointcutExpression inner = parseOr();
+            if (!consume(")")) {
+                throw error("missing ')'");
+            }
+            return inner;
+        }
+        return parseDesignator();
+    }
+
+    private PointcutExpression parseDesignator() {
+        skipWhitespace();
+        int start = position;
+        if (position < expression.length() && expression.charAt(position) == '@') {
+            position++;
+        }
+        while (position < expression.length() && isNameChar(expression.charAt(position))) {
+            position++;
+        }
+        String designator = expression.substring(start, position);
+        if (designator.isEmpty() || designator.equals("@")) {
+            throw error("expected a pointcut designator");
+        }
+        if (!consume("(")) {
+            throw error("expected '(' after " + designator);
+        }
+        String body = readBody().trim();
+
+        switch (designator) {
+            case "execution":
+                return compileExecution(body);
+            case "within":
+                return new PointcutExpression.Within(compileTypePattern(body), body);
+            case "@annotation":
+                return annotationNode(body, false);
+            case "@within":
+                return annotationNode(body, true);
+            case "bean":
+                return new PointcutExpression.BeanName(compileGlob(body), body);
+            default:
+                if (designator.startsWith("@") || !body.isEmpty()) {
+                    throw error("unsupported pointcut designator " + designator);
+                }
+                return namedPointcut(designator);
+        }
+    }
+
+    /**
+     * Reads up to the ')' that closes the designator's '(' and returns the text in between.
+     */
+    private String readBody() {
+        int start = position;
+        int depth = 1;
+        while (position < expression.length()) {
+            char c = expression.charAt(position++);
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return expression.substring(start, position - 1);
+            }
+        }
+        throw error("missing ')'");
+    }
+
+    private PointcutExpression namedPointcut(String name) {
+        PointcutExpression resolved = namedPointcuts != null ? namedPointcuts.apply(name) : null;
+        if (resolved == null) {
+            log.warn("⚠️ Named pointcut not found: {}() in '{}'", name, expression);
+            return PointcutExpression.NEVER;
+        }
+        return resolved;
+    }
+
+    private PointcutExpression annotationNode(String typeName, boolean onType) {
+        Class<? extends Annotation> annotationType = resolveAnnotation(typeName);
+        if (annotationType == null) {
+            log.warn("⚠️ Annotation type not found: {} in '{}'", typeName, expression);
+            return PointcutExpression.NEVER;
+        }
+        return onType ? new PointcutExpression.AnnotatedType(annotationType)
+                      : new PointcutExpression.AnnotatedMethod(annotationType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> resolveAnnotation(String typeName) {
+        List<ClassLoader> classLoaders = new ArrayList<>();
+        classLoaders.add(Thread.currentThread().getContextClassLoader());
+        classLoaders.add(PointcutParser.class.getClassLoader());
+        for (ClassLoader classLoader : classLoaders) {
+            try {
+                Class<?> type = Class.forName(typeName, false, classLoader);
+                return type.isAnnotation() ? (Class<? extends Annotation>) type : null;
+            } catch (ClassNotFoundException | LinkageError e) {
+                // try the next class loader
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compiles the body of execution(...): modifiers? ret-type declaring-type?.name(params) throws?
+     */
+    private PointcutExpression compileExecution(String body) {
+        int open = body.indexOf('(');
+        int close = body.lastIndexOf(')');
+        if (open < 0 || close < open) {
+            throw error("execution pattern needs a parameter list: " + body);
+        }
+        String trailer = body.substring(close + 1).trim();
+        if (!trailer.isEmpty() && !trailer.startsWith("throws")) {
+            throw error("unexpected '" + trailer + "' in execution pattern");
+        }
+
+        String[] head = body.substring(0, open).trim().split("\\s+");
+        int required = 0;
+        int excluded = 0;
+        int index = 0;
+        while (head.length - index > 2) {
+            String modifier = head[index++];
+            boolean negated = modifier.startsWith("!");
+            int flag = PointcutExpression.modifierFlag(negated ? modifier.substring(1) : modifier);
+            if (flag == 0) {
+                throw error("unknown modifier '" + modifier + "' in execution pattern");
+            }
+            if (negated) {
+                excluded |= flag;
+            } else {
+                required |= flag;
+            }
+        }
+        if (head.length - index != 2) {
+            throw error("execution pattern needs a return type and a method name: " + body);
+        }
+
+        PointcutExpression.TypePattern returnType = compileTypePattern(head[index]);
+        String qualifiedName = head[index + 1];
+        PointcutExpression.TypePattern declaringType = null;
+        String namePattern = qualifiedName;
+        int lastDot = qualifiedName.lastIndexOf('.');
+        if (lastDot >= 0) {
+            String typePattern = qualifiedName.substring(0, lastDot);
+            // "com.xyz..find" → declaring type "com.xyz..*"
+            declaringType = compileTypePattern(typePattern.endsWith(".") ? typePattern + ".*" : typePattern);
+            namePattern = qualifiedName.substring(lastDot + 1);
+        }
+        if (namePattern.isEmpty()) {
+            throw error("missing method name in execution pattern: " + body);
+        }
+        if (declaringType == PointcutExpression.TypePattern.ANY) {
+            declaringType = null;
+        }
+        Pattern name = namePattern.equals("*") ? null : compileGlob(namePattern);
+
+        return new PointcutExpression.Execution(required, excluded, returnType, declaringType, name,
+            compileParameters(body.substring(open + 1, close).trim()), body);
+    }
+
+    private PointcutExpression.ParameterPattern compileParameters(String parameters) {
+        if (parameters.equals("..")) {
+            return PointcutExpression.ParameterPattern.ANY;
+        }
+        if (parameters.isEmpty()) {
+            return new PointcutExpression.ParameterPattern(new PointcutExpression.TypePattern[0]);
+        }
+        String[] parts = parameters.split(",");
+        PointcutExpression.TypePattern[] elements = new PointcutExpression.TypePattern[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                throw error("empty parameter pattern in (" + parameters + ")");
+            }
+            elements[i] = part.equals("..") ? null : compileTypePattern(part);
+        }
+        return new PointcutExpression.ParameterPattern(elements);
+    }
+
+    private PointcutExpression.TypePattern compileTypePattern(String text) {
+        String pattern = text.trim();
+        if (pattern.isEmpty()) {
+            throw error("empty type pattern");
+        }
+        boolean includeSubtypes = pattern.endsWith("+");
+        if (includeSubtypes) {
+            pattern = pattern.substring(0, pattern.length() - 1);
+        }
+        if (pattern.equals("*") && !includeSubtypes) {
+            return PointcutExpression.TypePattern.ANY;
+        }
+        return new PointcutExpression.TypePattern(compileGlob(pattern), pattern.indexOf('.') < 0, includeSubtypes);
+    }
+
+    /**
+     * Converts a name glob to a regular expression: {@code *} matches within one name segment,
+     * {@code ..} matches any number of package segments.
+     */
+    private Pattern compileGlob(String glob) {
+        if (glob.isEmpty()) {
+            throw error("empty name pattern");
+        }
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '.' && i + 1 < glob.length() && glob.charAt(i + 1) == '.') {
+                regex.append("\\.(?:.*\\.)?");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^.]*");
+            } else if (Character.isLetterOrDigit(c) || c == '_') {
+                regex.append(c);
+            } else {
+                regex.append('\\').append(c);
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private boolean consume(String token) {
+        skipWhitespace();
+        if (expression.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        skipWhitespace();
+        int end = position + keyword.length();
+        if (expression.startsWith(keyword, position)
+                && (end == expression.length() || !isNameChar(expression.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isJavaIdentifierPart(c) || c == '.';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(
+            "Invalid pointcut expression '" + expression + "' at position " + position + ": " + message);
+    }
+}
@@ -0,0 +1,157 @@
+package com.springlite.framework.aop;
+
+import com.springlite.framework.proxy.MethodInvoker;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Walks a proxy's interceptor chain for one call and finally invokes the target method through the
+ * chain table's invoker, which is generated per target class (or backed by method handles, see
+ * {@link MethodHandleInvoker}).
+ * <p>
+ * This is the only object allocated per proxied call: it is also the {@link ProceedingJoinPoint}
+ * handed to every advice in the chain, and the arguments array passed in by the proxy is used as is.
+ * Arguments are copied only when an advice replaces them ({@link #proceed(Object[])}) or asks for
+ * a copy of them ({@link #getArgs()}).
+ * <p>
+ * The position in the chain is restored after each interceptor returns, so an interceptor may
+ * call {@link #proceed()} more than once.
+ */
+final class ReflectiveMethodInvocation implements MethodInvocation, ProceedingJoinPoint {
+    
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    
+    private final Object proxy;
+    private final Object target;
+    private final Method method;
+    private Object[] arguments;
+    private final MethodInterceptor[] interceptors;
+    private final MethodInvoker invoker;
+    private final int methodIndex;
+    private int currentInterceptorIndex = -1;
+    
+    /**
+     * @param invoker invoker used to call the target method, or null for reflection
+     * @param methodIndex index of the method in the invoker
+     */
+    ReflectiveMethodInvocation(Object proxy, Object target, Method method, Object[] arguments,
+                               MethodInterceptor[] interceptors, MethodInvoker invoker, int methodIndex) {
+        this.proxy = proxy;
+        this.target = target;
+        this.method = method;
+        this.arguments = arguments != null ? arguments : NO_ARGUMENTS;
+        this.interceptors = interceptors;
+        this.invoker = invoker;
+        this.methodIndex = methodIndex;
+    }
+    
+    @Override
+    public Object proceed() throws Throwable {
+        int index = currentInterceptorIndex + 1;
+        if (index == interceptors.length) {
+            return invokeJoinpoint();
+        }
+        int previous = currentInterceptorIndex;
+        currentInterceptorIndex = index;
+        try {
+            return interceptors[index].invoke(this);
+        } finally {
+            currentInterceptorIndex = previous;
+        }
+    }
+    
+    @Override
+    public Object proceed(Object[] args) throws Throwable {
+        setArguments(args != null ? args.clone() : NO_ARGUMENTS);
+        return proceed();
+    }
+    
+    @Override
+    public MethodInvocation invocableClone() {
+        ReflectiveMethodInvocation clone = new ReflectiveMethodInvocation(proxy, target, method,
+            arguments.length == 0 ? NO_ARGUMENTS : arguments.clone(), interceptors, invoker, methodIndex);
+        clone.currentInterceptorIndex = currentInterceptorIndex;
+        return clone;
+    }
+    
+    private Object invokeJoinpoint() throws Throwable {
+        if (invoker != null) {
+            return invoker.invoke(methodIndex, target, arguments);
+        }
+        return invokeReflectively(method, target, arguments);
+    }
+    
+    /**
+     * Calls the target method reflectively, rethrowing whatever the method itself threw.
+     */
+    static Object invokeReflectively(Method method, Object target, Object[] arguments) throws Throwable {
+        try {
+            if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                method.setAccessible(true);
+            }
+            return method.invoke(target, arguments);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+    
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+    
+    @Override
+    public Object[] getArguments() {
+        return arguments;
+    }
+    
+    @Override
+    public void setArguments(Object[] arguments) {
+        this.arguments = arguments != null ? arguments : NO_ARGUMENTS;
+    }
+    
+    /**
+     * A copy of the current arguments (changing it does not affect the call).
+     */
+    @Override
+    public Object[] getArgs() {
+        return arguments.length == 0 ? NO_ARGUMENTS : arguments.clone();
+    }
+    
+    @Override
+    public Object getThis() {
+        return proxy;
+    }
+    
+    @Override
+    public Object getTarget() {
+        return target;
+    }
+    
+    @Override
+    public String getSignature() {
+        return MethodJoinPoint.signature(method);
+    }
+    
+    @Override
+    public String getKind() {
+        return MethodJoinPoint.METHOD_EXECUTION;
+    }
+    
+    @Override
+    public String toShortString() {
+        return MethodJoinPoint.shortString(method);
+    }
+    
+    @Override
+    public String toLongString() {
+        return "execution(" + getSignature() + ")";
+    }
+    
+    @Override
+    public String toString() {
+        return toShortString();
+    }
+}
@@ -0,0 +1,40 @@
+package com.springlite.framework.async;
+
+import com.springlite.framework.aop.Advisor;
+import com.springlite.framework.aop.MethodInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🧵 @Async 어드바이저
+ * Spring Framework의 AsyncAnnotationAdvisor를 참고하여 구현
+ *
+ * @Async 메서드(또는 클래스의 public 메서드)에 AsyncExecutionInterceptor를 붙입니다.
+ * 가장 높은 우선순위(가장 바깥)이므로 호출자는 바로 반환되고,
+ * 애스펙트 어드바이스와 트랜잭션은 실행기 스레드에서 적용됩니다.
+ */
+public class AsyncAdvisor implements Advisor {
+
+    private final AsyncExecutorRegistry registry;
+    private final Map<String, AsyncExecutionInterceptor> interceptors = new ConcurrentHashMap<>();
+
+    public AsyncAdvisor(AsyncExecutorRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public int getOrder() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public MethodInterceptor getInterceptor(Method method, Class<?> targetClass) {
+        String executorName = AsyncExecutionInterceptor.findExecutorName(method, targetClass);
+        if (executorName == null) {
+            return null;
+        }
+        return interceptors.computeIfAbsent(executorName, name -> new AsyncExecutionInterceptor(name, registry));
+    }
+}
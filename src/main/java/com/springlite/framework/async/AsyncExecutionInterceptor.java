@@ -0,0 +1,155 @@
+package com.springlite.framework.async;
+
+import com.springlite.framework.annotations.Async;
+import com.springlite.framework.annotations.EventListener;
+import com.springlite.framework.aop.MethodInterceptor;
+import com.springlite.framework.aop.MethodInvocation;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 🧵 @Async 메서드 호출을 실행기로 넘기는 인터셉터
+ * Spring Framework의 AsyncExecutionInterceptor를 참고하여 구현
+ *
+ * AsyncAdvisor가 AOP 인터셉터 체인의 가장 바깥에 넣으므로, 인터페이스 기반이든 클래스 기반이든
+ * AOP 프록시가 만들어지는 빈이면 모두 적용되고 나머지 체인(어드바이스, 트랜잭션)은 실행기 스레드에서 실행됩니다.
+ * - void 메서드: 바로 반환, 예외는 로그로만 기록
+ * - CompletableFuture / CompletionStage / Future 메서드: 호출자에게 CompletableFuture를 바로 반환하고,
+ *   대상이 돌려준 future의 결과(또는 예외)로 완료
+ * - 실행기가 작업을 거부하면 void는 예외를 던지고, 그 외는 예외로 완료된 future를 반환
+ * 작업이 실패하면(future가 예외로 완료되면) 실행기 지표의 failed로 셉니다.
+ */
+public class AsyncExecutionInterceptor implements MethodInterceptor {
+
+    private static final Log log = LogFactory.getLog(AsyncExecutionInterceptor.class);
+
+    private final String executorName;
+    private final AsyncExecutorRegistry registry;
+
+    /**
+     * @param executorName Executor 빈 이름 (빈 문자열이면 기본 실행기)
+     */
+    public AsyncExecutionInterceptor(String executorName, AsyncExecutorRegistry registry) {
+        this.executorName = executorName;
+        this.registry = registry;
+    }
+
+    /**
+     * 프록시 메서드(인터페이스 메서드 또는 클래스 메서드)가 @Async이면 실행기 이름, 아니면 null
+     * 타겟 클래스의 메서드 → (상위 클래스가 구현한 것까지) 인터페이스의 메서드 → 클래스(public 메서드만) 순으로 찾습니다.
+     * (@EventListener 메서드는 이벤트 실행기가 처리하므로 제외)
+     */
+    public static String findExecutorName(Method method, Class<?> targetClass) {
+        if (method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        Method targetMethod = method.getDeclaringClass().isInterface() ? findTargetMethod(targetClass, method) : method;
+        Async async = targetMethod != null ? targetMethod.getAnnotation(Async.class) : null;
+        if (async == null) {
+            async = findInterfaceAnnotation(targetClass, method);
+        }
+        if (async == null && targetMethod != null && Modifier.isPublic(targetMethod.getModifiers())) {
+            async = targetClass.getAnnotation(Async.class);
+        }
+        if (async == null || (targetMethod != null && targetMethod.isAnnotationPresent(EventListener.class))) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (returnType != void.class
+                && (returnType == Object.class || !returnType.isAssignableFrom(CompletableFuture.class))) {
+            throw new RuntimeException("@Async method must return void or CompletableFuture: " + method);
+        }
+        return async.value();
+    }
+
+    private static Method findTargetMethod(Class<?> targetClass, Method interfaceMethod) {
+        try {
+            return targetClass.getMethod(interfaceMethod.getName(), interfaceMethod.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Async findInterfaceAnnotation(Class<?> targetClass, Method method) {
+        if (method.getDeclaringClass().isInterface()) {
+            Async async = method.getAnnotation(Async.class);
+            if (async != null) {
+                return async;
+            }
+        }
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            for (Class<?> ifc : type.getInterfaces()) {
+                try {
+                    Async async = ifc.getMethod(method.getName(), method.getParameterTypes()).getAnnotation(Async.class);
+                    if (async != null) {
+                        return async;
+                    }
+                } catch (NoSuchMethodException e) {
+                    // 다음 인터페이스
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        boolean returnsVoid = method.getReturnType() == void.class;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        // 호출자 스레드의 invocation은 이 인터셉터가 반환하면 체인 위치가 되돌려지므로 복사본으로 진행
+        MethodInvocation asyncInvocation = invocation.invocableClone();
+        Runnable task = () -> {
+            try {
+                complete(future, asyncInvocation.proceed());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+        if (returnsVoid) {
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    log.error("❌ @Async 메서드 실패: {}.{}", method.getDeclaringClass().getSimpleName(), method.getName(), error);
+                }
+            });
+        }
+
+        try {
+            registry.getExecutor(executorName).execute(task, future);
+        } catch (RuntimeException e) {
+            if (returnsVoid) {
+                throw e;
+            }
+            future.completeExceptionally(e);
+        }
+        return returnsVoid ? null : future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void complete(CompletableFuture<Object> future, Object result) throws Exception {
+        if (result instanceof CompletionStage) {
+            ((CompletionStage<Object>) result).whenComplete((value, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } else if (result instanceof Future) {
+            try {
+                future.complete(((Future<?>) result).get());
+            } catch (ExecutionException e) {
+                future.completeExceptionally(e.getCause());
+            }
+        } else {
+            future.complete(result);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.springlite.framework.async;
+
+import com.springlite.framework.env.Environment;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 🧵 @Async 실행기 레지스트리
+ * Spring Framework의 AsyncExecutionAspectSupport(실행기 결정 부분)를 참고하여 구현
+ *
+ * @Async("이름") → 그 이름의 Executor 빈, @Async → taskExecutor 빈이 있으면 그 빈, 없으면 기본 실행기.
+ * 실행기는 이름별로 한 번만 찾아서 MonitoredExecutor로 감싸 두므로 호출마다 빈을 조회하지 않고,
+ * 이름별 지표(큐 깊이, 거부 수 등)를 getMetrics()로 볼 수 있습니다.
+ *
+ * 기본 실행기 (-Dspringlite.async.executor = virtual | pool, 없으면 지원 시 virtual):
+ * - virtual: 작업마다 가상 스레드 (Java 21+)
+ * - pool: springlite.async.pool-size 스레드 + springlite.async.queue-capacity 큐, 가득 차면 거부
+ */
+public class AsyncExecutorRegistry {
+
+    private static final Log log = LogFactory.getLog(AsyncExecutorRegistry.class);
+
+    public static final String DEFAULT_EXECUTOR_BEAN_NAME = "taskExecutor";
+    public static final String EXECUTOR_PROPERTY = "springlite.async.executor";
+    public static final String POOL_SIZE_PROPERTY = "springlite.async.pool-size";
+    public static final String QUEUE_CAPACITY_PROPERTY = "springlite.async.queue-capacity";
+
+    private static final String DEFAULT_KEY = "";
+
+    private final Function<String, Object> beanLookup;
+    private final Predicate<String> beanExists;
+    private final Supplier<Environment> environment;
+
+    private final Map<String, MonitoredExecutor> executors = new ConcurrentHashMap<>();
+    private volatile ExecutorService defaultExecutor; // 레지스트리가 만들었으므로 종료도 책임짐
+
+    public AsyncExecutorRegistry(Function<String, Object> beanLookup, Predicate<String> beanExists,
+                                 Supplier<Environment> environment) {
+        this.beanLookup = beanLookup;
+        this.beanExists = beanExists;
+        this.environment = environment;
+    }
+
+    /**
+     * @param name Executor 빈 이름 (빈 문자열이면 기본)
+     */
+    public MonitoredExecutor getExecutor(String name) {
+        MonitoredExecutor executor = executors.get(name);
+        if (executor == null) {
+            executor = executors.computeIfAbsent(name, this::resolveExecutor);
+        }
+        return executor;
+    }
+
+    private MonitoredExecutor resolveExecutor(String name) {
+        if (DEFAULT_KEY.equals(name)) {
+            if (beanExists.test(DEFAULT_EXECUTOR_BEAN_NAME)) {
+                return new MonitoredExecutor(DEFAULT_EXECUTOR_BEAN_NAME, lookupExecutorBean(DEFAULT_EXECUTOR_BEAN_NAME));
+            }
+            return new MonitoredExecutor("default", createDefaultExecutor());
+        }
+        return new MonitoredExecutor(name, lookupExecutorBean(name));
+    }
+
+    private Executor lookupExecutorBean(String name) {
+        Object bean = beanLookup.apply(name);
+        if (!(bean instanceof Executor)) {
+            throw new RuntimeException("@Async executor bean '" + name + "' is not a java.util.concurrent.Executor: "
+                + (bean != null ? bean.getClass().getName() : null));
+        }
+        return (Executor) bean;
+    }
+
+    private synchronized ExecutorService createDefaultExecutor() {
+        if (defaultExecutor != null) {
+            return defaultExecutor;
+        }
+        Environment env = environment.get();
+        String kind = env.getProperty(EXECUTOR_PROPERTY, AsyncExecutors.isVirtualThreadSupported() ? "virtual" : "pool");
+        if ("virtual".equalsIgnoreCase(kind)) {
+            defaultExecutor = AsyncExecutors.newVirtualThreadPerTaskExecutor();
+            log.info("🧵 @Async 기본 실행기: virtual-thread-per-task");
+        } else {
+            int poolSize = env.getProperty(POOL_SIZE_PROPERTY, Integer.class, Runtime.getRuntime().availableProcessors());
+            int queueCapacity = env.getProperty(QUEUE_CAPACITY_PROPERTY, Integer.class, 1024);
+            defaultExecutor = AsyncExecutors.newBoundedThreadPool("springlite-async-", poolSize, queueCapacity);
+            log.info("🧵 @Async 기본 실행기: {} threads, queue {}", poolSize, queueCapacity);
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * 지금까지 사용된 실행기들의 지표
+     */
+    public List<ExecutorMetrics> getMetrics() {
+        List<ExecutorMetrics> metrics = new ArrayList<>();
+        for (MonitoredExecutor executor : executors.values()) {
+            metrics.add(executor.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * 기본 실행기를 종료합니다. (Executor 빈은 빈의 소유자가 종료)
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        ExecutorService executor = defaultExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(timeout, unit)) {
+                    List<Runnable> dropped = executor.shutdownNow();
+                    log.warn("⚠️  @Async 작업 {}건을 처리하지 못하고 종료합니다", dropped.size());
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            defaultExecutor = null;
+        }
+        executors.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package com.springlite.framework.async;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧵 @Async 기본 실행기 생성
+ *
+ * 빌드 대상은 Java 11이므로 가상 스레드 API(Java 21)는 리플렉션으로 찾습니다.
+ * 지원하는 JDK에서 실행하면 작업마다 가상 스레드, 아니면 크기가 제한된 스레드 풀을 사용합니다.
+ */
+public final class AsyncExecutors {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private AsyncExecutors() {
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기 (지원하지 않는 JDK면 예외)
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR == null) {
+            throw new RuntimeException("Virtual threads are not supported on Java " + System.getProperty("java.version"));
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * 고정 크기 스레드 풀 + 제한된 큐. 큐가 가득 차면 거부합니다. (AbortPolicy → 거부 수 지표에 기록)
+     */
+    public static ThreadPoolExecutor newBoundedThreadPool(String threadNamePrefix, int poolSize, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,69 @@
+package com.springlite.framework.async;
+
+/**
+ * 📊 실행기 지표 스냅샷
+ *
+ * - queueDepth: 제출됐지만 아직 시작하지 않은 작업 수 (큐 대기)
+ * - rejected: 실행기가 받지 않은 작업 수 (RejectedExecutionException)
+ */
+public final class ExecutorMetrics {
+
+    private final String name;
+    private final long submitted;
+    private final long completed;
+    private final long failed;
+    private final long rejected;
+    private final int active;
+    private final int queueDepth;
+    private final int maxQueueDepth;
+
+    ExecutorMetrics(String name, long submitted, long completed, long failed, long rejected,
+                    int active, int queueDepth, int maxQueueDepth) {
+        this.name = name;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.failed = failed;
+        this.rejected = rejected;
+        this.active = active;
+        this.queueDepth = queueDepth;
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{submitted=%d, completed=%d, failed=%d, rejected=%d, active=%d, queueDepth=%d, maxQueueDepth=%d}",
+            name, submitted, completed, failed, rejected, active, queueDepth, maxQueueDepth);
+    }
+}
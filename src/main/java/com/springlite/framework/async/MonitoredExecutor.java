@@ -0,0 +1,88 @@
+package com.springlite.framework.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 📊 지표를 기록하는 실행기 래퍼
+ *
+ * 어떤 Executor든 감쌀 수 있도록 실행기 내부(ThreadPoolExecutor의 큐 등)가 아니라
+ * 제출 / 시작 / 종료 시점을 직접 세어서 큐 깊이와 거부 수를 계산합니다.
+ * (가상 스레드 실행기처럼 큐가 없는 실행기에서는 큐 깊이가 스레드 시작 대기 수가 됨)
+ */
+public class MonitoredExecutor implements Executor {
+
+    private final String name;
+    private final Executor delegate;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+    public MonitoredExecutor(String name, Executor delegate) {
+        this.name = name;
+        this.delegate = delegate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Executor getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        execute(task, null);
+    }
+
+    /**
+     * 예외를 던지지 않고 결과를 future로 넘기는 작업(@Async 메서드 호출)을 실행합니다.
+     * 작업이 끝난 뒤 result가 예외로 완료되면 실패로, 정상 완료되면 완료로 셉니다. (null이면 execute(task)와 같음)
+     */
+    public void execute(Runnable task, CompletableFuture<?> result) {
+        submitted.increment();
+        queueDepth.incrementAndGet();
+        try {
+            delegate.execute(() -> run(task, result));
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            rejected.increment();
+            throw e;
+        }
+        // 거부된 작업은 최대 깊이에 포함하지 않도록 받아들여진 뒤에 기록
+        maxQueueDepth.accumulateAndGet(queueDepth.get(), Math::max);
+    }
+
+    private void run(Runnable task, CompletableFuture<?> result) {
+        queueDepth.decrementAndGet();
+        active.incrementAndGet();
+        try {
+            task.run();
+            if (result == null) {
+                completed.increment();
+            } else {
+                // 작업이 돌려준 future를 기다리는 경우도 있으므로 결과가 나올 때 셈
+                result.whenComplete((value, error) -> (error != null ? failed : completed).increment());
+            }
+        } catch (RuntimeException | Error e) {
+            failed.increment();
+            throw e;
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    public ExecutorMetrics getMetrics() {
+        return new ExecutorMetrics(name, submitted.sum(), completed.sum(), failed.sum(), rejected.sum(),
+            active.get(), queueDepth.get(), maxQueueDepth.get());
+    }
+}
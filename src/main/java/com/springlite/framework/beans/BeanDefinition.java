@@ -1,6 +1,7 @@
 package com.springlite.framework.beans;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -11,6 +12,8 @@ public class BeanDefinition {
     private Class<?> beanClass;
     private Object beanInstance;
     private boolean singleton = true;
+    private String scope = "singleton"; // 🔥 새로 추가: singleton, prototype, thread, request, pooled
+    private int poolSize = 8; // pooled 스코프의 최대 유휴 인스턴스 수
     private boolean isLazy = false;
     private List<Field> autowiredFields = new ArrayList<>();
     private List<Method> autowiredMethods = new ArrayList<>();
@@ -28,6 +31,20 @@ public class BeanDefinition {
     private String destroyMethodName; // @Bean의 destroyMethod 속성
     private boolean defaultCandidate = true; // @Bean의 defaultCandidate 속성
     
+    // 📣 새로 추가: @EventListener 메서드들 (등록 시점에 스캔)
+    private List<Method> eventListenerMethods = new ArrayList<>();
+    
+    // ⏰ 새로 추가: @Scheduled 메서드들 (등록 시점에 스캔)
+    private List<Method> scheduledMethods = new ArrayList<>();
+    
+    // ⚡ 새로 추가: 미리 컴파일된 주입 계획 (첫 생성 시 컨텍스트가 만들어 둠)
+    private volatile InjectionPlan injectionPlan;
+    
+    // 📦 새로 추가: 컨텍스트 스냅샷(AOT) 지원
+    private String factoryBeanName; // @Bean 메서드를 가진 @Configuration 빈 이름
+    private List<String> dependsOn; // 미리 해석된 싱글톤 의존성 빈 이름 (없으면 null → 타입으로 해석)
+    private Boolean aopProxyRequired; // 미리 결정된 AOP 프록시(애스펙트 + 트랜잭션) 필요 여부 (없으면 null)
+    
     // 기존 생성자 (컴포넌트 스캔용)
     public BeanDefinition(String beanName, Class<?> beanClass) {
         this.beanName = beanName;
@@ -74,6 +91,31 @@ public class BeanDefinition {
     
     public void setSingleton(boolean singleton) {
         this.singleton = singleton;
+        this.scope = singleton ? "singleton" : "prototype";
+    }
+    
+    public String getScope() {
+        return scope;
+    }
+    
+    public void setScope(String scope) {
+        this.scope = scope;
+        this.singleton = "singleton".equals(scope);
+    }
+    
+    /**
+     * 🔥 새로 추가: 싱글톤도 프로토타입도 아닌 스코프 (thread, request, pooled 등)
+     */
+    public boolean isCustomScope() {
+        return !"singleton".equals(scope) && !"prototype".equals(scope);
+    }
+    
+    public int getPoolSize() {
+        return poolSize;
+    }
+    
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
     }
     
     public boolean isLazy() {
@@ -173,4 +215,98 @@ public class BeanDefinition {
     public void setDefaultCandidate(boolean defaultCandidate) {
         this.defaultCandidate = defaultCandidate;
     }
+    
+    public List<Method> getEventListenerMethods() {
+        return eventListenerMethods;
+    }
+    
+    public void setEventListenerMethods(List<Method> eventListenerMethods) {
+        this.eventListenerMethods = eventListenerMethods;
+    }
+    
+    public List<Method> getScheduledMethods() {
+        return scheduledMethods;
+    }
+    
+    public void setScheduledMethods(List<Method> scheduledMethods) {
+        this.scheduledMethods = scheduledMethods;
+    }
+    
+    public String getFactoryBeanName() {
+        return factoryBeanName;
+    }
+    
+    public void setFactoryBeanName(String factoryBeanName) {
+        this.factoryBeanName = factoryBeanName;
+    }
+    
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+    
+    public void setDependsOn(List<String> dependsOn) {
+        this.dependsOn = dependsOn;
+    }
+    
+    public Boolean getAopProxyRequired() {
+        return aopProxyRequired;
+    }
+    
+    public void setAopProxyRequired(Boolean aopProxyRequired) {
+        this.aopProxyRequired = aopProxyRequired;
+    }
+    
+    public InjectionPlan getInjectionPlan() {
+        return injectionPlan;
+    }
+    
+    public void setInjectionPlan(InjectionPlan injectionPlan) {
+        this.injectionPlan = injectionPlan;
+    }
+    
+    /**
+     * 🔥 새로 추가: 이 빈을 만들기 위해 주입받아야 하는 타입들
+     * (@Autowired 필드/메서드/생성자 파라미터, @Bean 메서드 파라미터)
+     * 빈 생성 순서 그래프(DAG)를 만들 때 사용합니다. @Lazy 주입 지점은 생성 시점에 필요 없으므로 제외합니다.
+     * @Value 주입 지점은 빈이 아닌 설정 값이므로 제외합니다.
+     */
+    public List<Class<?>> getDependencyTypes() {
+        return collectDependencyTypes(false);
+    }
+    
+    /**
+     * 💤 @Lazy 주입 지점의 타입들 (생성 시점에는 필요 없지만 @PostConstruct 등에서 처음 호출될 때 해석됨)
+     */
+    public List<Class<?>> getLazyDependencyTypes() {
+        return collectDependencyTypes(true);
+    }
+    
+    private List<Class<?>> collectDependencyTypes(boolean lazy) {
+        List<Class<?>> types = new ArrayList<>();
+        if (isBeanMethod && beanMethod != null) {
+            addParameterTypes(beanMethod, lazy, types);
+        }
+        if (autowiredConstructor != null) {
+            addParameterTypes(autowiredConstructor, lazy, types);
+        }
+        for (Field field : autowiredFields) {
+            if (InjectionPlan.isLazyInjectionPoint(field) == lazy && !InjectionPlan.isValueInjectionPoint(field)) {
+                types.add(field.getType());
+            }
+        }
+        for (Method method : autowiredMethods) {
+            addParameterTypes(method, lazy, types);
+        }
+        return types;
+    }
+    
+    private static void addParameterTypes(Executable executable, boolean lazy, List<Class<?>> types) {
+        Class<?>[] parameterTypes = executable.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (InjectionPlan.isLazyInjectionPoint(executable, i) == lazy
+                    && !InjectionPlan.isValueInjectionPoint(executable, i)) {
+                types.add(parameterTypes[i]);
+            }
+        }
+    }
 } 
\ No newline at end of file
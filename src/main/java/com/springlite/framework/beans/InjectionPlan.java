@@ -0,0 +1,314 @@
+package com.springlite.framework.beans;
+
+import com.springlite.framework.annotations.Bean;
+import com.springlite.framework.annotations.Lazy;
+import com.springlite.framework.annotations.Value;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ⚡ 미리 컴파일된 의존성 주입 계획
+ *
+ * BeanDefinition의 생성자 / @Bean 메서드 / @Autowired·@Value 필드·메서드 / @PostConstruct를
+ * MethodHandle로 한 번만 변환하고, 주입할 의존성도 타입이 아닌 빈 이름으로 미리 결정해 둡니다.
+ * 프로토타입 빈을 만들 때마다 리플렉션 호출과 타입 → 빈 이름 탐색을 반복하지 않습니다.
+ *
+ * 빈 정의나 애스펙트가 바뀌면 컨텍스트가 version을 올려서 계획을 다시 만듭니다.
+ *
+ * 의존성 슬롯은 빈 이름(String)이거나, 미리 결정된 값(ResolvedDependency)입니다.
+ * - @Lazy 주입 지점 또는 thread/request 스코프 빈: 미리 만든 프록시
+ * - @Value 주입 지점: 계획을 만들 때 한 번 해석·변환한 설정 값
+ */
+public class InjectionPlan {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType METHOD_INJECTOR_TYPE = MethodType.methodType(void.class, Object.class, Object[].class);
+    private static final MethodType CALLBACK_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final int version;
+
+    // (Object[])Object - 생성자 또는 설정 인스턴스에 바인딩된 @Bean 메서드
+    private final MethodHandle factory;
+    private final Object[] factoryDependencies;
+
+    private final String[] fieldNames;
+    private final MethodHandle[] fieldSetters;
+    private final Object[] fieldDependencies;
+
+    private final String[] methodNames;
+    private final MethodHandle[] methodInjectors;
+    private final Object[][] methodDependencies;
+
+    private final MethodHandle[] postConstructCallbacks;
+
+    // 첫 생성 시 결정되는 프록시 필요 여부 캐시 (매번 메서드 스캔을 하지 않도록)
+    private volatile Boolean aopProxyRequired;
+
+    /**
+     * 주입할 의존성을 결정하는 컨텍스트 측 콜백
+     */
+    public interface DependencyResolver {
+        
+        /**
+         * 의존성 타입 → 빈 이름 (찾지 못하면 예외)
+         */
+        String resolveBeanName(Class<?> type);
+        
+        /**
+         * @Lazy 주입 지점에 넣을 지연 프록시. 프록시를 만들 수 없는 타입이면 null (즉시 주입)
+         */
+        Object createLazyProxy(Class<?> type, String beanName);
+        
+        /**
+         * 호출마다 현재 인스턴스를 찾는 스코프 프록시. 스코프 프록시가 필요 없는 빈이면 null
+         */
+        Object createScopedProxy(Class<?> type, String beanName);
+        
+        /**
+         * ⚙️ @Value 표현식 → 주입할 값 (해석할 수 없으면 예외)
+         */
+        Object resolveValue(String expression, Class<?> type);
+    }
+
+    private static final class ResolvedDependency {
+        private final Object value;
+
+        ResolvedDependency(Object value) {
+            this.value = value;
+        }
+
+        Object get() {
+            // 배열은 가변이므로 인스턴스마다 복사해서 주입
+            if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+                System.arraycopy(value, 0, copy, 0, length);
+                return copy;
+            }
+            return value;
+        }
+    }
+
+    private InjectionPlan(int version, MethodHandle factory, Object[] factoryDependencies,
+                          String[] fieldNames, MethodHandle[] fieldSetters, Object[] fieldDependencies,
+                          String[] methodNames, MethodHandle[] methodInjectors, Object[][] methodDependencies,
+                          MethodHandle[] postConstructCallbacks) {
+        this.version = version;
+        this.factory = factory;
+        this.factoryDependencies = factoryDependencies;
+        this.fieldNames = fieldNames;
+        this.fieldSetters = fieldSetters;
+        this.fieldDependencies = fieldDependencies;
+        this.methodNames = methodNames;
+        this.methodInjectors = methodInjectors;
+        this.methodDependencies = methodDependencies;
+        this.postConstructCallbacks = postConstructCallbacks;
+    }
+
+    /**
+     * BeanDefinition으로부터 주입 계획을 만듭니다.
+     */
+    public static InjectionPlan compile(BeanDefinition beanDefinition, DependencyResolver resolver, int version) {
+        try {
+            MethodHandle factory;
+            Object[] factoryDependencies;
+
+            if (beanDefinition.isBeanMethod()) {
+                Method beanMethod = beanDefinition.getBeanMethod();
+                beanMethod.setAccessible(true);
+                MethodHandle handle = LOOKUP.unreflect(beanMethod);
+                if (!Modifier.isStatic(beanMethod.getModifiers())) {
+                    handle = handle.bindTo(beanDefinition.getConfigurationInstance());
+                }
+                factory = spread(handle, beanMethod.getParameterCount()).asType(FACTORY_TYPE);
+                factoryDependencies = resolve(beanMethod, resolver);
+            } else {
+                Constructor<?> constructor = beanDefinition.getAutowiredConstructor();
+                if (constructor == null) {
+                    constructor = beanDefinition.getBeanClass().getDeclaredConstructor();
+                    constructor.setAccessible(true);
+                }
+                factory = spread(LOOKUP.unreflectConstructor(constructor), constructor.getParameterCount())
+                    .asType(FACTORY_TYPE);
+                factoryDependencies = resolve(constructor, resolver);
+            }
+
+            List<Field> fields = beanDefinition.getAutowiredFields();
+            String[] fieldNames = new String[fields.size()];
+            MethodHandle[] fieldSetters = new MethodHandle[fields.size()];
+            Object[] fieldDependencies = new Object[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                fieldNames[i] = field.getName();
+                fieldSetters[i] = LOOKUP.unreflectSetter(field).asType(FIELD_SETTER_TYPE);
+                Value value = field.getAnnotation(Value.class);
+                fieldDependencies[i] = value != null
+                    ? new ResolvedDependency(resolver.resolveValue(value.value(), field.getType()))
+                    : resolve(field.getType(), isLazyInjectionPoint(field), resolver);
+            }
+
+            List<Method> methods = beanDefinition.getAutowiredMethods();
+            String[] methodNames = new String[methods.size()];
+            MethodHandle[] methodInjectors = new MethodHandle[methods.size()];
+            Object[][] methodDependencies = new Object[methods.size()][];
+            for (int i = 0; i < methods.size(); i++) {
+                Method method = methods.get(i);
+                methodNames[i] = method.getName();
+                methodInjectors[i] = spread(LOOKUP.unreflect(method), method.getParameterCount())
+                    .asType(METHOD_INJECTOR_TYPE);
+                methodDependencies[i] = resolve(method, resolver);
+            }
+
+            List<Method> postConstructMethods = beanDefinition.getPostConstructMethods();
+            MethodHandle[] postConstructCallbacks = new MethodHandle[postConstructMethods.size()];
+            for (int i = 0; i < postConstructMethods.size(); i++) {
+                Method method = postConstructMethods.get(i);
+                method.setAccessible(true);
+                postConstructCallbacks[i] = LOOKUP.unreflect(method).asType(CALLBACK_TYPE);
+            }
+
+            return new InjectionPlan(version, factory, factoryDependencies,
+                fieldNames, fieldSetters, fieldDependencies,
+                methodNames, methodInjectors, methodDependencies,
+                postConstructCallbacks);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new RuntimeException("Failed to compile injection plan for bean: " + beanDefinition.getBeanName(), e);
+        }
+    }
+
+    private static MethodHandle spread(MethodHandle handle, int parameterCount) {
+        // 인스턴스 메서드는 첫 번째 파라미터가 수신 객체이므로 나머지만 배열로 펼침
+        return handle.asSpreader(Object[].class, parameterCount);
+    }
+
+    private static Object[] resolve(Executable executable, DependencyResolver resolver) {
+        Class<?>[] types = executable.getParameterTypes();
+        Object[] dependencies = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Value value = executable.getParameters()[i].getAnnotation(Value.class);
+            if (value != null) {
+                dependencies[i] = new ResolvedDependency(resolver.resolveValue(value.value(), types[i]));
+            } else {
+                dependencies[i] = resolve(types[i], isLazyInjectionPoint(executable, i), resolver);
+            }
+        }
+        return dependencies;
+    }
+
+    private static Object resolve(Class<?> type, boolean lazy, DependencyResolver resolver) {
+        String beanName = resolver.resolveBeanName(type);
+        Object proxy = lazy ? resolver.createLazyProxy(type, beanName) : resolver.createScopedProxy(type, beanName);
+        if (proxy != null) {
+            return new ResolvedDependency(proxy);
+        }
+        return beanName;
+    }
+
+    private static Object lookup(Object dependency, Function<String, Object> beanLookup) {
+        if (dependency instanceof ResolvedDependency) {
+            return ((ResolvedDependency) dependency).get();
+        }
+        return beanLookup.apply((String) dependency);
+    }
+
+    private static Object[] lookup(Object[] dependencies, Function<String, Object> beanLookup) {
+        Object[] args = new Object[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            args[i] = lookup(dependencies[i], beanLookup);
+        }
+        return args;
+    }
+
+    /**
+     * ⚙️ @Value 필드 주입 지점인지 (빈 의존성이 아님)
+     */
+    public static boolean isValueInjectionPoint(Field field) {
+        return field.isAnnotationPresent(Value.class);
+    }
+
+    /**
+     * ⚙️ @Value 파라미터 주입 지점인지 (빈 의존성이 아님)
+     */
+    public static boolean isValueInjectionPoint(Executable executable, int parameterIndex) {
+        return executable.getParameters()[parameterIndex].isAnnotationPresent(Value.class);
+    }
+
+    /**
+     * 🔥 @Lazy 필드 주입 지점인지
+     */
+    public static boolean isLazyInjectionPoint(Field field) {
+        Lazy lazy = field.getAnnotation(Lazy.class);
+        return lazy != null && lazy.value();
+    }
+
+    /**
+     * 🔥 @Lazy 파라미터 주입 지점인지 (메서드/생성자에 붙은 @Lazy는 모든 파라미터에 적용)
+     */
+    public static boolean isLazyInjectionPoint(Executable executable, int parameterIndex) {
+        Lazy lazy = executable.getParameters()[parameterIndex].getAnnotation(Lazy.class);
+        if (lazy == null && !executable.isAnnotationPresent(Bean.class)) {
+            lazy = executable.getAnnotation(Lazy.class);
+        }
+        return lazy != null && lazy.value();
+    }
+
+    /**
+     * 생성자(또는 @Bean 메서드)를 호출해서 인스턴스를 만듭니다.
+     */
+    public Object instantiate(Function<String, Object> beanLookup) throws Throwable {
+        return (Object) factory.invokeExact(lookup(factoryDependencies, beanLookup));
+    }
+
+    /**
+     * @Autowired·@Value 필드와 @Autowired 메서드에 의존성을 주입합니다.
+     */
+    public void populate(Object instance, Function<String, Object> beanLookup) {
+        for (int i = 0; i < fieldSetters.length; i++) {
+            try {
+                fieldSetters[i].invokeExact(instance, lookup(fieldDependencies[i], beanLookup));
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to inject field: " + fieldNames[i], e);
+            }
+        }
+
+        for (int i = 0; i < methodInjectors.length; i++) {
+            try {
+                methodInjectors[i].invokeExact(instance, lookup(methodDependencies[i], beanLookup));
+            } catch (Throwable e) {
+                throw new RuntimeException("Failed to inject method: " + methodNames[i], e);
+            }
+        }
+    }
+
+    /**
+     * index번째 @PostConstruct 메서드를 호출합니다. (BeanDefinition.getPostConstructMethods() 순서)
+     */
+    public void invokePostConstruct(int index, Object instance) throws Throwable {
+        postConstructCallbacks[index].invokeExact(instance);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Boolean getAopProxyRequired() {
+        return aopProxyRequired;
+    }
+
+    public void setAopProxyRequired(Boolean aopProxyRequired) {
+        this.aopProxyRequired = aopProxyRequired;
+    }
+}
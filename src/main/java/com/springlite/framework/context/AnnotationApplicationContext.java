@@ -1,77 +1,528 @@
 package com.springlite.framework.context;
 
 import com.springlite.framework.annotations.*;
+import com.springlite.framework.annotations.EventListener;
 import com.springlite.framework.beans.BeanDefinition;
-import com.springlite.framework.proxy.ProxyFactory;
+import com.springlite.framework.beans.InjectionPlan;
+import com.springlite.framework.async.AsyncAdvisor;
+import com.springlite.framework.async.AsyncExecutorRegistry;
+import com.springlite.framework.async.ExecutorMetrics;
+import com.springlite.framework.context.event.ApplicationListenerMethodAdapter;
+import com.springlite.framework.context.event.ContextClosedEvent;
+import com.springlite.framework.context.event.ContextRefreshedEvent;
+import com.springlite.framework.context.event.SimpleApplicationEventMulticaster;
+import com.springlite.framework.context.index.CandidateComponentsIndex;
+import com.springlite.framework.context.scan.ClassPathComponentScanner;
+import com.springlite.framework.context.scope.BeanScope;
+import com.springlite.framework.context.scope.PooledBeanScope;
+import com.springlite.framework.context.scope.RequestBeanScope;
+import com.springlite.framework.context.scope.ThreadBeanScope;
+import com.springlite.framework.context.startup.StartupRecorder;
+import com.springlite.framework.context.startup.StartupReportWriter;
+import com.springlite.framework.env.Environment;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+import com.springlite.framework.proxy.ProxyUtils;
+import com.springlite.framework.scheduling.CronExpression;
+import com.springlite.framework.scheduling.ScheduledMethodRunnable;
+import com.springlite.framework.scheduling.WheelTaskScheduler;
 import com.springlite.framework.aop.*;
 import com.springlite.framework.aop.annotations.Aspect;
-import com.springlite.framework.transaction.Transactional;
+import com.springlite.framework.transaction.TransactionAdvisor;
+import com.springlite.framework.transaction.TransactionAspect;
+import com.springlite.framework.transaction.TransactionManager;
 
-import java.io.File;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.net.URL;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 public class AnnotationApplicationContext implements ApplicationContext, AutoCloseable {
     
+    private static final Log log = LogFactory.getLog(AnnotationApplicationContext.class);
+    
+    // ⚡ 싱글톤 병렬 생성 스레드 수 (1이면 기존처럼 순차 생성)
+    public static final String PARALLELISM_PROPERTY = "springlite.refresh.parallelism";
+    
+    // ⚙️ Environment 빈 이름 (refresh 시 없으면 등록)
+    public static final String ENVIRONMENT_BEAN_NAME = "environment";
+    
+    // 📣 이벤트 발행 빈 이름 (컨텍스트 자신) 및 @Async 리스너 실행기 설정
+    public static final String EVENT_PUBLISHER_BEAN_NAME = "applicationEventPublisher";
+    public static final String EVENT_POOL_SIZE_PROPERTY = "springlite.event.async.pool-size";
+    public static final String EVENT_QUEUE_CAPACITY_PROPERTY = "springlite.event.async.queue-capacity";
+    
+    // ⏰ @Scheduled 공유 스케줄러 설정 (작업 스레드 수, 휠 한 칸의 시간)
+    public static final String SCHEDULING_POOL_SIZE_PROPERTY = "springlite.scheduling.pool-size";
+    public static final String SCHEDULING_TICK_PROPERTY = "springlite.scheduling.tick-ms";
+    
+    // 🛑 close() 제한 시간 (전체 / 빈 하나의 소멸 콜백) 및 병렬 소멸 스레드 수
+    public static final String SHUTDOWN_TIMEOUT_PROPERTY = "springlite.shutdown.timeout";
+    public static final String SHUTDOWN_BEAN_TIMEOUT_PROPERTY = "springlite.shutdown.bean-timeout";
+    public static final String SHUTDOWN_PARALLELISM_PROPERTY = "springlite.shutdown.parallelism";
+    // 🔄 애스펙트 대비 트랜잭션 인터셉터의 순서 (@Order 값과 같은 규칙, 기본: 가장 안쪽)
+    public static final String TRANSACTION_ORDER_PROPERTY = "springlite.transaction.order";
+    
+    private static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_SHUTDOWN_BEAN_TIMEOUT = Duration.ofSeconds(10);
+    
+    // 컴포넌트 스캔 대상 스테레오타입 (isComponent와 동일한 집합)
+    private static final Set<String> STEREOTYPE_ANNOTATIONS = new HashSet<>(Arrays.asList(
+        Component.class.getName(),
+        Service.class.getName(),
+        Repository.class.getName(),
+        Controller.class.getName(),
+        Configuration.class.getName(),
+        Aspect.class.getName()
+    ));
+    
     private Map<String, BeanDefinition> beanDefinitionMap = new ConcurrentHashMap<>();
-    private Map<String, Object> singletonBeans = new ConcurrentHashMap<>();
-    private Map<Class<?>, String> typeToNameMap = new ConcurrentHashMap<>();
-    private Set<String> creatingBeans = new HashSet<>();
+    // 🔒 락 없는 읽기 + 빈별 정확히 한 번 생성을 보장하는 싱글톤 레지스트리
+    private final SingletonRegistry singletonBeans = new SingletonRegistry();
+    // 🔥 등록 순서 (타입 인덱스 후보 순서와 모호성 판단을 결정적으로 만들기 위해)
+    private final List<String> beanDefinitionNames = new CopyOnWriteArrayList<>();
+    private volatile BeanTypeIndex beanTypeIndex;
+    // 🔥 병렬 생성 시에도 안전하도록 스레드별 생성 중인 빈 집합으로 순환 의존성 체크
+    // (삽입 순서 = 현재 스레드의 생성 체인, 기동 리포트에 사용)
+    private final ThreadLocal<Set<String>> creatingBeans = ThreadLocal.withInitial(LinkedHashSet::new);
+    
+    // 🕒 새로 추가: 기동 단계 기록 (-Dspringlite.startup.report=경로 로 활성화)
+    private StartupRecorder startupRecorder = StartupRecorder.fromSystemProperties();
     private boolean running = false;
-    private ProxyFactory proxyFactory;
+    
+    // ⚡ 빈 정의/애스펙트가 바뀔 때마다 증가 → 오래된 InjectionPlan을 다시 컴파일
+    private volatile int definitionsVersion = 0;
+    
+    // 🛑 빈 이름 → 그 빈에 실제로 주입된(또는 @Lazy 프록시가 찾은) 빈 이름들 (소멸 순서 결정용)
+    private final Map<String, Set<String>> resolvedDependencies = new ConcurrentHashMap<>();
+    
+    // 🧭 새로 추가: 스코프 이름 → 스코프 (singleton, prototype은 컨텍스트가 직접 처리)
+    private final Map<String, BeanScope> scopes = new ConcurrentHashMap<>();
+    {
+        scopes.put(Scope.THREAD, new ThreadBeanScope());
+        scopes.put(Scope.REQUEST, new RequestBeanScope(this::destroyBean));
+        scopes.put(Scope.POOLED, new PooledBeanScope(this::destroyBean));
+    }
     
     // 🔥 새로 추가: @Configuration 클래스들을 관리
     private Map<Class<?>, Object> configurationInstances = new ConcurrentHashMap<>();
     
     // 🔥 새로 추가: AOP 관련
     private AopProxyFactory aopProxyFactory;
+    private volatile TransactionManager transactionManager; // 🔄 트랜잭션 인터셉터용 (처음 쓸 때 찾음)
     private List<AspectMetadata> aspects = new ArrayList<>();
     
+    // 📦 새로 추가: 컨텍스트 스냅샷(AOT) 관련
+    private ContextSnapshot snapshot; // 스냅샷으로 시작했으면 non-null
+    private final Map<Class<?>, String> configurationBeanNames = new ConcurrentHashMap<>();
+    private final Set<String> manualSingletonNames = ConcurrentHashMap.newKeySet();
+    private final Map<String, Class<?>> aopTargetClasses = new ConcurrentHashMap<>(); // 프록시로 감싼 실제 클래스
+    
+    // ⚙️ 새로 추가: 외부 설정 (@Value, @ConditionalOnProperty가 사용)
+    private volatile Environment environment;
+    
+    // 👪 새로 추가: 부모 컨텍스트 (이름 / 타입으로 찾지 못한 빈은 부모에서 찾음)
+    private final AnnotationApplicationContext parent;
+    
+    // 📣 새로 추가: 애플리케이션 이벤트 (라이프사이클 이벤트도 같은 버스로 전달)
+    private final SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
+    
+    // 🧵 새로 추가: @Async 메서드 실행기 (이름별 Executor 빈 / 기본 실행기)
+    private final AsyncExecutorRegistry asyncExecutors =
+        new AsyncExecutorRegistry(this::getBean, this::containsBean, this::getEnvironment);
+    
+    // ⏰ 새로 추가: @Scheduled 작업이 공유하는 타이머 휠 스케줄러 (처음 필요할 때 생성)
+    private volatile WheelTaskScheduler taskScheduler;
+    
+    // 🛑 새로 추가: 종료 (중복 close 방지, JVM 종료 훅, 제한 시간을 넘긴 빈)
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private volatile Thread shutdownHook;
+    private volatile List<String> shutdownBudgetExceededBeans = Collections.emptyList();
+    
+    // 🔀 새로 추가: 조건부 빈 등록 (@ConditionalOnMissingBean은 다른 빈 정의가 모두 모인 뒤 평가)
+    private final ConditionEvaluator conditionEvaluator = new ConditionEvaluator(Thread.currentThread().getContextClassLoader());
+    private final List<ConditionalRegistration> conditionalRegistrations = new ArrayList<>();
+    
     /**
      * 기본 생성자 - 수동으로 빈을 등록할 때 사용
      */
     public AnnotationApplicationContext() {
-        this.proxyFactory = new ProxyFactory();
+        this((AnnotationApplicationContext) null);
+    }
+    
+    /**
+     * 👪 새로 추가: 자식 컨텍스트 - 수동으로 빈을 등록한 뒤 refresh()를 호출합니다.
+     * 부모의 싱글톤(DataSource, 트랜잭션 매니저 등), Environment, 애스펙트를 다시 만들지 않고 재사용합니다.
+     */
+    public AnnotationApplicationContext(AnnotationApplicationContext parent) {
+        this(parent, parent != null ? parent.getEnvironment() : new Environment());
+    }
+    
+    private AnnotationApplicationContext(AnnotationApplicationContext parent, Environment environment) {
         this.aopProxyFactory = new AopProxyFactory();
+        this.parent = parent;
+        this.environment = environment;
     }
     
     public AnnotationApplicationContext(Class<?> configClass) {
-        this.proxyFactory = new ProxyFactory();
-        this.aopProxyFactory = new AopProxyFactory();
-        scan(configClass);
-        refresh();
+        this((AnnotationApplicationContext) null, configClass);
+    }
+    
+    /**
+     * 👪 새로 추가: configClass의 패키지를 스캔하는 자식 컨텍스트
+     */
+    public AnnotationApplicationContext(AnnotationApplicationContext parent, Class<?> configClass) {
+        this(parent);
+        scanAndRefresh(configClass);
+    }
+    
+    /**
+     * ⚙️ 새로 추가: 지정한 Environment로 configClass의 패키지를 스캔합니다.
+     * (조건부 빈 평가가 스캔 중에 일어나므로 Environment는 스캔 전에 정해져 있어야 함)
+     */
+    public AnnotationApplicationContext(Environment environment, Class<?> configClass) {
+        this((AnnotationApplicationContext) null, environment);
+        scanAndRefresh(configClass);
     }
     
     public AnnotationApplicationContext(String... basePackages) {
-        this.proxyFactory = new ProxyFactory();
-        this.aopProxyFactory = new AopProxyFactory();
-        scanPackages(basePackages);
+        this((AnnotationApplicationContext) null, basePackages);
+    }
+    
+    /**
+     * 👪 새로 추가: basePackages를 스캔하는 자식 컨텍스트
+     */
+    public AnnotationApplicationContext(AnnotationApplicationContext parent, String... basePackages) {
+        this(parent);
+        scanAndRefresh(basePackages);
+    }
+    
+    /**
+     * ⚙️ 새로 추가: 지정한 Environment로 basePackages를 스캔합니다.
+     */
+    public AnnotationApplicationContext(Environment environment, String... basePackages) {
+        this((AnnotationApplicationContext) null, environment);
+        scanAndRefresh(basePackages);
+    }
+    
+    private void scanAndRefresh(Class<?> configClass) {
+        try (StartupRecorder.Step step = startupRecorder.start("context.scan")) {
+            step.tag("configClass", configClass.getName());
+            scan(configClass);
+        }
+        refresh();
+    }
+    
+    private void scanAndRefresh(String... basePackages) {
+        try (StartupRecorder.Step step = startupRecorder.start("context.scan")) {
+            step.tag("basePackages", String.join(",", basePackages));
+            scanPackages(basePackages);
+        }
+        refresh();
+    }
+    
+    /**
+     * 📦 새로 추가: 컨텍스트 스냅샷으로 시작합니다.
+     * 컴포넌트 스캔, @Autowired/라이프사이클 멤버 탐색, @Bean 메서드 스캔, 포인트컷 평가를 건너뜁니다.
+     */
+    public AnnotationApplicationContext(ContextSnapshot snapshot) {
+        this((AnnotationApplicationContext) null);
+        this.snapshot = snapshot;
+        startupRecorder.record("context.snapshot-load", () -> {
+            for (BeanDefinition beanDefinition : snapshot.createBeanDefinitions(Thread.currentThread().getContextClassLoader())) {
+                putBeanDefinition(beanDefinition.getBeanName(), beanDefinition);
+            }
+        });
+        log.info("📦 컨텍스트 스냅샷에서 {}개 빈 정의 로딩", snapshot.getBeanCount());
         refresh();
     }
     
     @Override
     public void refresh() {
         // 1. 빈 정의 스캔 (이미 완료)
+        closed.set(false);
         
-        // @Configuration 클래스들을 먼저 인스턴스화
-        instantiateConfigurationClasses();
+        // ⚙️ Environment를 빈으로 노출 (설정 클래스도 주입받을 수 있도록 가장 먼저)
+        if (!containsLocalBean(ENVIRONMENT_BEAN_NAME)) {
+            registerBean(ENVIRONMENT_BEAN_NAME, environment);
+        }
+        // 📣 빈이 ApplicationEventPublisher를 주입받을 수 있도록 컨텍스트 자신을 등록
+        if (!containsLocalBean(EVENT_PUBLISHER_BEAN_NAME)) {
+            registerBean(EVENT_PUBLISHER_BEAN_NAME, this);
+        }
         
-        // @Bean 메서드들을 스캔해서 BeanDefinition 생성
-        scanBeanMethods();
+        // 📦 스냅샷에는 @Bean 빈 정의가 이미 들어 있으므로 설정 클래스를 미리 만들 필요가 없음
+        if (snapshot == null) {
+            // @Configuration 클래스들을 먼저 인스턴스화
+            startupRecorder.record("context.configuration-instantiate", this::instantiateConfigurationClasses);
+            
+            // @Bean 메서드들을 스캔해서 BeanDefinition 생성
+            startupRecorder.record("context.bean-method-scan", this::scanBeanMethods);
+            
+            // 🔀 @ConditionalOnMissingBean 빈은 나머지 빈 정의가 모두 등록된 뒤에 평가
+            startupRecorder.record("context.conditional-registration", this::registerConditionalBeans);
+        }
+        
+        // 🔥 새로 추가: 모든 빈 정의가 모였으므로 타입 → 후보 빈 이름 인덱스 구축
+        startupRecorder.record("context.type-index", this::getBeanTypeIndex);
         
         // 🔥 새로 추가: @Aspect 애스펙트 스캔 및 등록
-        scanAndRegisterAspects();
+        startupRecorder.record("context.aspect-registration", this::scanAndRegisterAspects);
+        
+        // 📣 @EventListener 메서드를 리스너로 등록 (빈 생성 중 발행되는 이벤트도 받도록 생성 전에)
+        startupRecorder.record("context.event-listeners", this::registerEventListeners);
         
         // 2. 빈 인스턴스 생성 및 의존성 주입
-        instantiateBeans();
+        startupRecorder.record("context.instantiate", this::instantiateBeans);
+        reportPointcutMatchStatistics();
+        
+        // ⏰ 모든 싱글톤이 준비된 뒤에 @Scheduled 메서드 실행 시작
+        startupRecorder.record("context.scheduled-tasks", this::registerScheduledTasks);
         // 3. 애플리케이션 컨텍스트 시작
         running = true;
-        System.out.println("ApplicationContext refreshed with " + beanDefinitionMap.size() + " beans and " + aspects.size() + " aspects");
+        log.info("ApplicationContext refreshed with {} beans and {} aspects", beanDefinitionMap.size(), aspects.size());
+        finishStartupRecording();
+        publishEvent(new ContextRefreshedEvent(this));
+    }
+    
+    /**
+     * 📣 새로 추가: 빈 정의에서 찾아 둔 @EventListener 메서드를 등록 순서대로 리스너로 등록합니다.
+     * @Async 리스너가 있으면 크기가 제한된 이벤트 실행기를 만듭니다.
+     */
+    private void registerEventListeners() {
+        eventMulticaster.removeAllListeners();
+        for (String beanName : beanDefinitionNames) {
+            BeanDefinition beanDefinition = beanDefinitionMap.get(beanName);
+            for (Method method : beanDefinition.getEventListenerMethods()) {
+                eventMulticaster.addListener(new ApplicationListenerMethodAdapter(
+                    beanName, method, beanDefinition.isSingleton(), this::getBean));
+            }
+        }
+        
+        if (eventMulticaster.hasAsyncListeners() && eventMulticaster.getAsyncExecutor() == null) {
+            int poolSize = environment.getProperty(EVENT_POOL_SIZE_PROPERTY, Integer.class,
+                Math.min(4, Runtime.getRuntime().availableProcessors()));
+            int queueCapacity = environment.getProperty(EVENT_QUEUE_CAPACITY_PROPERTY, Integer.class, 1024);
+            eventMulticaster.setAsyncExecutor(
+                SimpleApplicationEventMulticaster.createBoundedExecutor("springlite-event-", poolSize, queueCapacity));
+            log.debug("📣 비동기 이벤트 실행기: {} threads, queue {}", poolSize, queueCapacity);
+        }
+        log.debug("📣 이벤트 리스너 {}개 등록", eventMulticaster.getListeners().size());
+    }
+    
+    /**
+     * ⏰ 새로 추가: 빈 정의에서 찾아 둔 @Scheduled 메서드를 공유 스케줄러에 등록합니다.
+     * 싱글톤 빈만 지원하며, @Lazy 빈도 여기서 생성됩니다. (cron의 ${...}는 Environment로 해석)
+     */
+    private void registerScheduledTasks() {
+        int count = 0;
+        for (String beanName : beanDefinitionNames) {
+            BeanDefinition beanDefinition = beanDefinitionMap.get(beanName);
+            if (beanDefinition.getScheduledMethods().isEmpty()) {
+                continue;
+            }
+            if (!beanDefinition.isSingleton()) {
+                throw new RuntimeException("@Scheduled methods are only supported on singleton beans: " + beanName);
+            }
+            Object bean = getBean(beanName);
+            for (Method method : beanDefinition.getScheduledMethods()) {
+                if (scheduleMethod(beanName, bean, method)) {
+                    count++;
+                }
+            }
+        }
+        if (count > 0) {
+            log.info("⏰ @Scheduled 작업 {}개 등록 (작업 스레드 {}개)", count, taskScheduler.getPoolSize());
+        }
+    }
+    
+    private boolean scheduleMethod(String beanName, Object bean, Method method) {
+        Scheduled scheduled = method.getAnnotation(Scheduled.class);
+        String description = beanName + "." + method.getName();
+        if (method.getParameterCount() != 0) {
+            throw new RuntimeException("@Scheduled method must not have parameters: " + description);
+        }
+        
+        String cron = scheduled.cron().isEmpty() ? "" : environment.resolveRequiredPlaceholders(scheduled.cron()).trim();
+        int triggers = (scheduled.cron().isEmpty() ? 0 : 1)
+            + (scheduled.fixedRate() >= 0 ? 1 : 0)
+            + (scheduled.fixedDelay() >= 0 ? 1 : 0);
+        if (triggers != 1) {
+            throw new RuntimeException("@Scheduled requires exactly one of cron, fixedRate or fixedDelay: " + description);
+        }
+        if ("-".equals(cron)) {
+            log.debug("⏰ 비활성화된 @Scheduled 작업: {}", description);
+            return false;
+        }
+        
+        ScheduledMethodRunnable runnable = new ScheduledMethodRunnable(beanName, bean, method);
+        WheelTaskScheduler scheduler = getTaskScheduler();
+        try {
+            if (!cron.isEmpty()) {
+                ZoneId zone = scheduled.zone().isEmpty() ? ZoneId.systemDefault() : ZoneId.of(scheduled.zone());
+                scheduler.schedule(description, runnable, CronExpression.parse(cron), zone);
+            } else if (scheduled.fixedRate() >= 0) {
+                scheduler.scheduleAtFixedRate(description, runnable,
+                    scheduled.initialDelay(), scheduled.fixedRate(), scheduled.timeUnit());
+            } else {
+                scheduler.scheduleWithFixedDelay(description, runnable,
+                    scheduled.initialDelay(), scheduled.fixedDelay(), scheduled.timeUnit());
+            }
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid @Scheduled on " + description + ": " + e.getMessage(), e);
+        }
+        log.debug("⏰ @Scheduled 등록: {}", description);
+        return true;
+    }
+    
+    /**
+     * ⏰ 새로 추가: @Scheduled 작업이 공유하는 스케줄러
+     * 애플리케이션 코드도 자체 Timer 스레드 대신 이 스케줄러에 작업을 등록할 수 있습니다. (close 시 함께 종료)
+     */
+    public WheelTaskScheduler getTaskScheduler() {
+        WheelTaskScheduler scheduler = taskScheduler;
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = taskScheduler;
+                if (scheduler == null) {
+                    int poolSize = environment.getProperty(SCHEDULING_POOL_SIZE_PROPERTY, Integer.class,
+                        WheelTaskScheduler.DEFAULT_POOL_SIZE);
+                    long tickMillis = environment.getProperty(SCHEDULING_TICK_PROPERTY, Long.class,
+                        WheelTaskScheduler.DEFAULT_TICK_MILLIS);
+                    scheduler = new WheelTaskScheduler(poolSize, tickMillis, WheelTaskScheduler.DEFAULT_WHEEL_SIZE);
+                    taskScheduler = scheduler;
+                }
+            }
+        }
+        return scheduler;
+    }
+    
+    /**
+     * 📣 새로 추가: 이벤트 발행
+     * 이벤트 클래스별 리스너 목록은 한 번만 계산되므로 발행마다 리플렉션 탐색을 하지 않습니다.
+     */
+    @Override
+    public void publishEvent(Object event) {
+        if (event == null) {
+            throw new RuntimeException("Event must not be null");
+        }
+        eventMulticaster.multicastEvent(event);
+        // 👪 자식 컨텍스트의 이벤트는 부모의 리스너에게도 전달
+        if (parent != null) {
+            parent.publishEvent(event);
+        }
+    }
+    
+    /**
+     * 🧵 새로 추가: 지금까지 사용된 @Async 실행기별 지표 (큐 깊이, 거부 수 등)
+     */
+    public List<ExecutorMetrics> getAsyncExecutorMetrics() {
+        return asyncExecutors.getMetrics();
+    }
+    
+    /**
+     * 📣 새로 추가: 이벤트 멀티캐스터 (리스너 목록, 비동기 실행기 교체 등)
+     */
+    public SimpleApplicationEventMulticaster getEventMulticaster() {
+        return eventMulticaster;
+    }
+    
+    /**
+     * 🕒 기록을 멈추고, -Dspringlite.startup.report 가 있으면 JSON / collapsed stack 리포트를 저장합니다.
+     */
+    private void finishStartupRecording() {
+        if (!startupRecorder.isRecording()) {
+            return;
+        }
+        startupRecorder.finish();
+        
+        String reportPrefix = System.getProperty(StartupRecorder.REPORT_PROPERTY);
+        if (reportPrefix == null) {
+            return;
+        }
+        try {
+            startupRecorder.writeReports(reportPrefix);
+            log.info("🕒 기동 리포트 저장: {}.json, {}.collapsed", reportPrefix, reportPrefix);
+            
+            // 느린 빈 상위 5개 (info가 꺼져 있으면 포맷하지 않음)
+            if (log.isInfoEnabled()) {
+                StartupReportWriter writer = new StartupReportWriter(startupRecorder);
+                List<StartupRecorder.Step> beanSteps = writer.getBeanSteps();
+                for (int i = 0; i < Math.min(5, beanSteps.size()); i++) {
+                    StartupRecorder.Step step = beanSteps.get(i);
+                    log.info(String.format("   %d. %s %.1fms (self %.1fms, %s)", i + 1, step.getTags().get("beanName"),
+                        step.getDurationNanos() / 1_000_000d, writer.getSelfNanos(step) / 1_000_000d,
+                        step.getTags().get("chain")));
+                }
+            }
+        } catch (java.io.IOException e) {
+            log.warn("⚠️  기동 리포트 저장 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * ⚙️ 새로 추가: 외부 설정 (시스템 프로퍼티 → 환경 변수 → application.properties)
+     */
+    public Environment getEnvironment() {
+        return environment;
+    }
+    
+    /**
+     * ⚙️ 새로 추가: 다른 설정 출처를 쓰려면 스캔 전에 지정합니다.
+     * 스캔하는 생성자는 바로 refresh 하므로, 기본 생성자로 만든 뒤 지정하고 scanPackages / refresh를 호출하거나
+     * Environment를 받는 생성자를 사용합니다.
+     * (조건부 빈은 등록 시점에, @Value는 주입 계획을 만들 때 이 Environment로 해석됨)
+     */
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+    
+    /**
+     * 🎯 새로 추가: 포인트컷 매칭 통계 (클래스 필터로 제외된 클래스, 수행 / 생략된 메서드 검사 수)
+     * 부모의 AopProxyFactory를 공유하는 자식 컨텍스트는 부모와 합산된 값을 봅니다.
+     */
+    public PointcutMatchStatistics getPointcutMatchStatistics() {
+        return aopProxyFactory.getMatchStatistics();
+    }
+    
+    /**
+     * 🎯 refresh 중 포인트컷 클래스 필터 덕분에 건너뛴 검사 수를 보고합니다. (애스펙트가 있을 때만)
+     */
+    private void reportPointcutMatchStatistics() {
+        if (aopProxyFactory.getAspects().isEmpty()) {
+            return;
+        }
+        PointcutMatchStatistics statistics = aopProxyFactory.getMatchStatistics();
+        if (statistics.getClassesChecked() == 0) {
+            return; // 스냅샷의 프록시 결정을 그대로 사용
+        }
+        log.info("🎯 포인트컷 클래스 필터: 클래스 {}개 중 {}개 제외, 메서드 검사 {}회 수행 / {}회 생략",
+            statistics.getClassesChecked(), statistics.getClassesRejected(),
+            statistics.getMethodChecks(), statistics.getMethodChecksSkipped());
+    }
+    
+    /**
+     * 🕒 새로 추가: 기동 단계 기록기 (리포트를 직접 분석할 때 사용)
+     */
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
+    
+    /**
+     * 🕒 새로 추가: 기본 생성자로 만든 컨텍스트에서 refresh 전에 기록기를 지정합니다.
+     */
+    public void setStartupRecorder(StartupRecorder startupRecorder) {
+        this.startupRecorder = startupRecorder;
     }
     
     private void scan(Class<?> configClass) {
@@ -98,42 +549,50 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
     }
     
     private void scanPackage(String basePackage) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        
+        // 🔥 새로 추가: 컴파일 시점 인덱스가 있으면 인덱스가 있는 루트는 디렉토리 탐색 대신 사용
+        Set<String> candidates = new LinkedHashSet<>();
+        CandidateComponentsIndex index = CandidateComponentsIndex.load(classLoader);
+        if (index != null) {
+            candidates.addAll(index.getCandidateTypes(basePackage));
+        }
+        
+        // 🔥 새로 추가: 바이트코드만 읽어서 후보를 고르고, 후보 클래스만 로딩 (jar 지원)
+        // 인덱스 파일이 없는 루트(프로세서 없이 빌드한 디렉토리, 인덱싱되지 않은 jar)만 탐색
         try {
-            String packagePath = basePackage.replace('.', '/');
-            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-            URL resource = classLoader.getResource(packagePath);
-            
-            if (resource != null) {
-                File packageDir = new File(resource.getFile());
-                scanDirectory(packageDir, basePackage);
-            }
+            ClassPathComponentScanner scanner = new ClassPathComponentScanner(classLoader, STEREOTYPE_ANNOTATIONS);
+            candidates.addAll(scanner.findCandidateComponents(basePackage, root -> {
+                if (index == null) {
+                    return true;
+                }
+                if (index.covers(root, basePackage)) {
+                    return false;
+                }
+                log.debug("🗂️ 컴포넌트 인덱스가 없는 클래스패스 루트 스캔: {}", root);
+                return true;
+            }));
         } catch (Exception e) {
-            System.err.println("Error scanning package: " + basePackage + " - " + e.getMessage());
+            log.error("Error scanning package: {}", basePackage, e);
+        }
+        
+        for (String className : candidates) {
+            registerCandidate(className, classLoader);
         }
     }
     
-    private void scanDirectory(File dir, String packageName) {
-        if (!dir.exists() || !dir.isDirectory()) {
-            return;
-        }
-        
-        File[] files = dir.listFiles();
-        if (files == null) return;
-        
-        for (File file : files) {
-            if (file.isDirectory()) {
-                scanDirectory(file, packageName + "." + file.getName());
-            } else if (file.getName().endsWith(".class")) {
-                String className = packageName + "." + file.getName().replace(".class", "");
-                try {
-                    Class<?> clazz = Class.forName(className);
-                    if (isComponent(clazz)) {
-                        registerBean(clazz);
-                    }
-                } catch (ClassNotFoundException e) {
-                    // 클래스 로딩 실패 - 무시
-                }
+    /**
+     * 후보 클래스를 로딩해서 컴포넌트이면 빈으로 등록합니다.
+     * 정적 초기화를 실행하지 않도록 initialize=false 로 로딩합니다.
+     */
+    private void registerCandidate(String className, ClassLoader classLoader) {
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+            if (isComponent(clazz)) {
+                registerBean(clazz);
             }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // 클래스 로딩 실패 - 무시
         }
     }
     
@@ -143,12 +602,88 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
                clazz.isAnnotationPresent(Repository.class) ||
                clazz.isAnnotationPresent(Controller.class) ||
                clazz.isAnnotationPresent(Configuration.class) ||
-               clazz.isAnnotationPresent(Aspect.class);
+               clazz.isAnnotationPresent(Aspect.class) ||
+               isMetaAnnotatedComponent(clazz);
+    }
+    
+    /**
+     * 🔥 새로 추가: @Component로 메타 어노테이션된 사용자 정의 스테레오타입 지원
+     */
+    private boolean isMetaAnnotatedComponent(Class<?> clazz) {
+        for (Annotation annotation : clazz.getAnnotations()) {
+            if (annotation.annotationType().isAnnotationPresent(Component.class)) {
+                return true;
+            }
+        }
+        return false;
     }
     
     private void registerBean(Class<?> clazz) {
-        String beanName = getBeanName(clazz);
-        BeanDefinition beanDefinition = new BeanDefinition(beanName, clazz);
+        // 🔀 새로 추가: 조건이 맞지 않으면 빈 정의를 만들지 않음 (@Autowired 멤버 탐색도 하지 않음)
+        String failedCondition = conditionEvaluator.findFailedImmediateCondition(clazz, environment);
+        if (failedCondition != null) {
+            log.debug("🔀 조건 불일치로 빈 등록 건너뜀: {} ({})", clazz.getName(), failedCondition);
+            return;
+        }
+        if (conditionEvaluator.hasMissingBeanCondition(clazz)) {
+            conditionalRegistrations.add(new ConditionalRegistration(clazz, clazz, () -> {
+                BeanDefinition beanDefinition = new BeanDefinition(getBeanName(clazz), clazz);
+                registerBeanDefinition(beanDefinition);
+                if (clazz.isAnnotationPresent(Configuration.class)) {
+                    instantiateConfigurationClass(beanDefinition);
+                    scanBeanMethods(clazz, configurationInstances.get(clazz));
+                }
+            }));
+            return;
+        }
+        registerBeanDefinition(new BeanDefinition(getBeanName(clazz), clazz));
+    }
+    
+    /**
+     * 🔀 보류해 둔 @ConditionalOnMissingBean 빈을 등록 순서대로 평가합니다.
+     * 앞에서 등록된 조건부 빈도 뒤의 조건 평가에 포함되고,
+     * 조건부 @Configuration 클래스의 @Bean 메서드는 등록되는 즉시 스캔됩니다.
+     */
+    private void registerConditionalBeans() {
+        for (int i = 0; i < conditionalRegistrations.size(); i++) {
+            ConditionalRegistration registration = conditionalRegistrations.get(i);
+            String existingBean = conditionEvaluator.findExistingBean(
+                registration.element, registration.beanType, getBeanDefinitionsInHierarchy());
+            if (existingBean != null) {
+                log.debug("🔀 @ConditionalOnMissingBean: {} 이미 등록됨, 건너뜀: {}", existingBean, registration.element);
+            } else {
+                registration.register.run();
+            }
+        }
+        conditionalRegistrations.clear();
+    }
+    
+    /**
+     * 👪 @ConditionalOnMissingBean은 부모 컨텍스트의 빈도 "이미 있는 빈"으로 봅니다.
+     */
+    private Collection<BeanDefinition> getBeanDefinitionsInHierarchy() {
+        if (parent == null) {
+            return beanDefinitionMap.values();
+        }
+        List<BeanDefinition> beanDefinitions = new ArrayList<>(beanDefinitionMap.values());
+        beanDefinitions.addAll(parent.getBeanDefinitionsInHierarchy());
+        return beanDefinitions;
+    }
+    
+    private void putBeanDefinition(String beanName, BeanDefinition beanDefinition) {
+        if (beanDefinitionMap.put(beanName, beanDefinition) == null) {
+            beanDefinitionNames.add(beanName);
+        }
+        definitionsVersion++;
+    }
+    
+    /**
+     * 🔥 새로 추가: BeanDefinition을 직접 등록합니다 (예: setSingleton(false)로 프로토타입 빈 등록)
+     * 클래스의 @Autowired 멤버와 라이프사이클 메서드는 여기서 스캔합니다.
+     */
+    public void registerBeanDefinition(BeanDefinition beanDefinition) {
+        String beanName = beanDefinition.getBeanName();
+        Class<?> clazz = beanDefinition.getBeanClass();
         
         // Autowired 필드, 메소드, 생성자 찾기
         findAutowiredMembers(beanDefinition);
@@ -156,10 +691,35 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
         // 🔥 새로 추가: 빈 라이프사이클 메서드 스캔
         scanLifecycleMethods(clazz, beanDefinition);
         
-        beanDefinitionMap.put(beanName, beanDefinition);
-        typeToNameMap.put(clazz, beanName);
+        // 🔥 새로 추가: @Lazy 클래스는 refresh 시 생성하지 않음
+        Lazy lazy = clazz.getAnnotation(Lazy.class);
+        if (lazy != null) {
+            beanDefinition.setLazy(lazy.value());
+        }
+        
+        // 🧭 새로 추가: @Scope
+        applyScope(clazz.getAnnotation(Scope.class), beanDefinition);
         
-        System.out.println("Registered bean: " + beanName + " of type " + clazz.getSimpleName());
+        putBeanDefinition(beanName, beanDefinition);
+        
+        log.debug("Registered bean: {} of type {}", beanName, clazz.getSimpleName());
+    }
+    
+    private void applyScope(Scope scope, BeanDefinition beanDefinition) {
+        if (scope != null) {
+            beanDefinition.setScope(scope.value());
+            beanDefinition.setPoolSize(scope.poolSize());
+        }
+    }
+    
+    /**
+     * 🧭 새로 추가: 사용자 정의 스코프 등록 (@Scope("이름")으로 사용)
+     */
+    public void registerScope(String scopeName, BeanScope scope) {
+        if (Scope.SINGLETON.equals(scopeName) || Scope.PROTOTYPE.equals(scopeName)) {
+            throw new RuntimeException("Cannot replace built-in scope: " + scopeName);
+        }
+        scopes.put(scopeName, scope);
     }
     
     private String getBeanName(Class<?> clazz) {
@@ -205,10 +765,10 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
     private void findAutowiredMembers(BeanDefinition beanDefinition) {
         Class<?> clazz = beanDefinition.getBeanClass();
         
-        // @Autowired 필드 찾기
+        // @Autowired, @Value 필드 찾기
         Field[] fields = clazz.getDeclaredFields();
         for (Field field : fields) {
-            if (field.isAnnotationPresent(Autowired.class)) {
+            if (field.isAnnotationPresent(Autowired.class) || field.isAnnotationPresent(Value.class)) {
                 field.setAccessible(true);
                 beanDefinition.getAutowiredFields().add(field);
             }
@@ -223,10 +783,10 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
             }
         }
         
-        // @Autowired 생성자 찾기
+        // @Autowired 생성자 찾기 (파라미터에 @Value가 있는 생성자도 주입 대상)
         Constructor<?>[] constructors = clazz.getDeclaredConstructors();
         for (Constructor<?> constructor : constructors) {
-            if (constructor.isAnnotationPresent(Autowired.class)) {
+            if (constructor.isAnnotationPresent(Autowired.class) || hasValueParameter(constructor)) {
                 constructor.setAccessible(true);
                 beanDefinition.setAutowiredConstructor(constructor);
                 break;
@@ -234,117 +794,529 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
         }
     }
     
+    private static boolean hasValueParameter(Constructor<?> constructor) {
+        for (int i = 0; i < constructor.getParameterCount(); i++) {
+            if (InjectionPlan.isValueInjectionPoint(constructor, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * ⚡ 싱글톤 빈 생성
+     * 의존성 그래프(DAG)를 만들어 서로 독립적인 빈들은 병렬로 생성합니다.
+     */
     private void instantiateBeans() {
+        List<String> eagerBeanNames = new ArrayList<>();
         for (BeanDefinition beanDefinition : beanDefinitionMap.values()) {
-            if (!beanDefinition.isLazy()) {
-                getBean(beanDefinition.getBeanName());
+            if (!beanDefinition.isLazy() && beanDefinition.isSingleton()
+                    && !singletonBeans.contains(beanDefinition.getBeanName())) {
+                eagerBeanNames.add(beanDefinition.getBeanName());
             }
         }
+        
+        int parallelism = environment.getProperty(PARALLELISM_PROPERTY, Integer.class,
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
+        if (parallelism <= 1 || eagerBeanNames.size() < 2) {
+            for (String beanName : eagerBeanNames) {
+                getBean(beanName);
+            }
+            return;
+        }
+        
+        Map<String, Set<String>> dependencyGraph = buildDependencyGraph(eagerBeanNames);
+        ParallelSingletonInstantiator.Report report =
+            new ParallelSingletonInstantiator(parallelism).instantiate(dependencyGraph, this::getBean);
+        
+        // 순환 의존성이 있는 빈은 순차 생성 (순환 의존성 오류를 그대로 보고)
+        for (String beanName : report.getUnresolved()) {
+            getBean(beanName);
+        }
+        log.info("{}", report);
+    }
+    
+    /**
+     * 빈 이름 → 먼저 생성되어야 하는 싱글톤 빈 이름들
+     * 즉시 생성 대상이 의존하는 지연(lazy) 싱글톤도 그래프에 포함하여 한 번만 생성되도록 합니다.
+     * 프로토타입 의존성은 빈을 만들 때 함께 생성되므로, 그 프로토타입이 의존하는 싱글톤까지 따라갑니다.
+     * @Lazy 주입 지점은 대상을 생성하게 만들지 않지만, 어차피 생성될 빈이면 먼저 생성되도록 순서에 넣습니다.
+     * (@PostConstruct에서 지연 프록시를 호출해도 되도록. 이 간선으로 순환이 생긴 빈은 순차 생성됩니다)
+     */
+    private Map<String, Set<String>> buildDependencyGraph(List<String> eagerBeanNames) {
+        Map<String, Set<String>> graph = new LinkedHashMap<>();
+        Deque<String> queue = new ArrayDeque<>(eagerBeanNames);
+        while (!queue.isEmpty()) {
+            String beanName = queue.poll();
+            if (graph.containsKey(beanName)) {
+                continue;
+            }
+            Set<String> dependencies = new LinkedHashSet<>();
+            collectSingletonDependencies(beanName, getDependencyBeanNames(beanDefinitionMap.get(beanName)),
+                dependencies, new HashSet<>());
+            queue.addAll(dependencies);
+            graph.put(beanName, dependencies);
+        }
+        
+        for (Map.Entry<String, Set<String>> entry : graph.entrySet()) {
+            for (String dependencyName : getLazyDependencyBeanNames(beanDefinitionMap.get(entry.getKey()))) {
+                if (graph.containsKey(dependencyName) && !dependencyName.equals(entry.getKey())) {
+                    entry.getValue().add(dependencyName);
+                }
+            }
+        }
+        return graph;
+    }
+    
+    /**
+     * dependencyNames 중 아직 생성되지 않은 싱글톤을 result에 모읍니다. 프로토타입은 그 의존성을 따라갑니다.
+     */
+    private void collectSingletonDependencies(String beanName, List<String> dependencyNames,
+                                              Set<String> result, Set<String> visited) {
+        for (String dependencyName : dependencyNames) {
+            BeanDefinition dependency = beanDefinitionMap.get(dependencyName);
+            if (dependency == null || dependencyName.equals(beanName)
+                    || singletonBeans.contains(dependencyName) || !visited.add(dependencyName)) {
+                continue;
+            }
+            if (dependency.isSingleton()) {
+                result.add(dependencyName);
+            } else if (!dependency.isCustomScope()) {
+                collectSingletonDependencies(beanName, getDependencyBeanNames(dependency), result, visited);
+            }
+        }
+    }
+    
+    /**
+     * 💤 @Lazy 주입 지점이 가리키는 빈 이름들 (해석할 수 없는 타입은 무시)
+     */
+    private List<String> getLazyDependencyBeanNames(BeanDefinition beanDefinition) {
+        List<String> dependencyNames = new ArrayList<>();
+        for (Class<?> dependencyType : beanDefinition.getLazyDependencyTypes()) {
+            try {
+                String dependencyName = resolveBeanNameForType(dependencyType);
+                if (dependencyName != null && !dependencyNames.contains(dependencyName)) {
+                    dependencyNames.add(dependencyName);
+                }
+            } catch (RuntimeException e) {
+                // 모호한 타입 등 - 주입할 때 같은 오류가 보고됨
+            }
+        }
+        return dependencyNames;
+    }
+    
+    /**
+     * 빈이 생성될 때 필요한 빈 이름들 (@Bean 빈은 설정 빈 포함)
+     * 스냅샷에 미리 해석된 목록이 있으면 타입 해석을 건너뜁니다.
+     */
+    private List<String> getDependencyBeanNames(BeanDefinition beanDefinition) {
+        if (beanDefinition.getDependsOn() != null) {
+            return beanDefinition.getDependsOn();
+        }
+        List<String> dependencyNames = new ArrayList<>();
+        if (beanDefinition.getFactoryBeanName() != null) {
+            dependencyNames.add(beanDefinition.getFactoryBeanName());
+        }
+        for (Class<?> dependencyType : beanDefinition.getDependencyTypes()) {
+            String dependencyName = resolveBeanNameForType(dependencyType);
+            if (dependencyName != null && !dependencyNames.contains(dependencyName)) {
+                dependencyNames.add(dependencyName);
+            }
+        }
+        return dependencyNames;
     }
     
     @Override
     public Object getBean(String name) {
         BeanDefinition beanDefinition = beanDefinitionMap.get(name);
         if (beanDefinition == null) {
+            // 👪 자식에 없는 빈은 부모에서 (부모의 싱글톤을 그대로 공유)
+            if (parent != null) {
+                return parent.getBean(name);
+            }
             throw new RuntimeException("No bean found with name: " + name);
         }
         
         if (beanDefinition.isSingleton()) {
-            Object instance = singletonBeans.get(name);
-            if (instance == null) {
-                instance = createBean(beanDefinition);
-                singletonBeans.put(name, instance);
+            return singletonBeans.getOrCreate(name, () -> createBean(beanDefinition));
+        } else if (beanDefinition.isCustomScope()) {
+            // 🧭 thread / request / pooled 등은 스코프가 보관과 재사용을 결정
+            BeanScope scope = scopes.get(beanDefinition.getScope());
+            if (scope == null) {
+                throw new RuntimeException("No scope registered for scope name '" + beanDefinition.getScope()
+                    + "' (bean: " + name + ")");
             }
-            return instance;
+            return scope.get(beanDefinition, () -> createBean(beanDefinition));
         } else {
             return createBean(beanDefinition);
         }
     }
     
-    @Override
-    public <T> T getBean(String name, Class<T> requiredType) {
-        Object bean = getBean(name);
-        if (requiredType.isInstance(bean)) {
-            return requiredType.cast(bean);
+    @Override
+    public <T> T getBean(String name, Class<T> requiredType) {
+        Object bean = getBean(name);
+        if (requiredType.isInstance(bean)) {
+            return requiredType.cast(bean);
+        }
+        throw new RuntimeException("Bean " + name + " is not of required type " + requiredType.getName());
+    }
+    
+    @Override
+    public <T> T getBean(Class<T> requiredType) {
+        String beanName = resolveBeanNameForType(requiredType);
+        if (beanName != null) {
+            return getBean(beanName, requiredType);
+        }
+        if (parent != null) {
+            return parent.getBean(requiredType);
+        }
+        
+        throw new RuntimeException("No bean found of type: " + requiredType.getName());
+    }
+    
+    private String requireBeanNameForType(Class<?> requiredType) {
+        String beanName = resolveBeanNameInHierarchy(requiredType);
+        if (beanName == null) {
+            throw new RuntimeException("No bean found of type: " + requiredType.getName());
+        }
+        return beanName;
+    }
+    
+    /**
+     * 타입으로 빈 이름 찾기 (없으면 null)
+     * 후보가 여러 개면 defaultCandidate=false 인 빈을 제외하고, 그래도 여러 개면
+     * 요청한 타입과 클래스가 정확히 같은 빈을 고릅니다. 그래도 결정되지 않으면 예외를 던집니다.
+     */
+    private String resolveBeanNameForType(Class<?> requiredType) {
+        BeanTypeIndex index = getBeanTypeIndex();
+        String beanName = index.getResolvedName(requiredType);
+        if (beanName != null) {
+            return beanName;
+        }
+        
+        List<String> candidates = index.getCandidates(requiredType);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() > 1) {
+            candidates = narrowCandidates(requiredType, candidates);
+        }
+        beanName = candidates.get(0);
+        index.cacheResolvedName(requiredType, beanName);
+        return beanName;
+    }
+    
+    /**
+     * 👪 자식 컨텍스트에서 먼저 찾고 없으면 부모에서 찾습니다. (자식의 빈이 부모의 같은 타입 빈을 가림)
+     */
+    private String resolveBeanNameInHierarchy(Class<?> requiredType) {
+        String beanName = resolveBeanNameForType(requiredType);
+        if (beanName == null && parent != null) {
+            beanName = parent.resolveBeanNameInHierarchy(requiredType);
+        }
+        return beanName;
+    }
+    
+    private List<String> narrowCandidates(Class<?> requiredType, List<String> candidates) {
+        List<String> defaults = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (beanDefinitionMap.get(candidate).isDefaultCandidate()) {
+                defaults.add(candidate);
+            }
+        }
+        if (defaults.size() == 1) {
+            return defaults;
+        }
+        
+        List<String> remaining = defaults.isEmpty() ? candidates : defaults;
+        List<String> exact = new ArrayList<>();
+        for (String candidate : remaining) {
+            if (beanDefinitionMap.get(candidate).getBeanClass() == requiredType) {
+                exact.add(candidate);
+            }
+        }
+        if (exact.size() == 1) {
+            return exact;
+        }
+        
+        throw new RuntimeException("No unique bean of type " + requiredType.getName()
+            + ": expected single matching bean but found " + remaining.size() + ": " + String.join(", ", remaining));
+    }
+    
+    /**
+     * 🔥 새로 추가: 타입 인덱스 (빈 정의가 바뀌었으면 다시 구축)
+     */
+    private BeanTypeIndex getBeanTypeIndex() {
+        int version = definitionsVersion;
+        BeanTypeIndex index = beanTypeIndex;
+        if (index == null || index.getVersion() != version) {
+            List<BeanDefinition> beanDefinitions = new ArrayList<>();
+            for (String beanName : beanDefinitionNames) {
+                beanDefinitions.add(beanDefinitionMap.get(beanName));
+            }
+            index = BeanTypeIndex.build(beanDefinitions, version);
+            beanTypeIndex = index;
+        }
+        return index;
+    }
+    
+    /**
+     * 🔥 새로 추가: 타입에 할당 가능한 모든 빈 이름 (등록 순서)
+     */
+    @Override
+    public String[] getBeanNamesForType(Class<?> type) {
+        return getBeanTypeIndex().getCandidates(type).toArray(new String[0]);
+    }
+    
+    /**
+     * 🔥 새로 추가: 타입에 할당 가능한 모든 빈 (빈 이름 → 인스턴스, 등록 순서)
+     */
+    @Override
+    public <T> Map<String, T> getBeansOfType(Class<T> type) {
+        Map<String, T> beans = new LinkedHashMap<>();
+        for (String beanName : getBeanTypeIndex().getCandidates(type)) {
+            beans.put(beanName, getBean(beanName, type));
+        }
+        return beans;
+    }
+    
+    @Override
+    public boolean containsBean(String name) {
+        return beanDefinitionMap.containsKey(name) || (parent != null && parent.containsBean(name));
+    }
+    
+    /**
+     * 👪 새로 추가: 부모를 보지 않고 이 컨텍스트에 등록된 빈만 확인
+     */
+    public boolean containsLocalBean(String name) {
+        return beanDefinitionMap.containsKey(name);
+    }
+    
+    @Override
+    public boolean isSingleton(String name) {
+        BeanDefinition beanDefinition = findBeanDefinition(name);
+        return beanDefinition != null && beanDefinition.isSingleton();
+    }
+    
+    @Override
+    public Class<?> getType(String name) {
+        BeanDefinition beanDefinition = findBeanDefinition(name);
+        return beanDefinition != null ? beanDefinition.getBeanClass() : null;
+    }
+    
+    @Override
+    public ApplicationContext getParent() {
+        return parent;
+    }
+    
+    /**
+     * 👪 이 컨텍스트 또는 조상 컨텍스트의 빈 정의 (없으면 null)
+     */
+    private BeanDefinition findBeanDefinition(String name) {
+        BeanDefinition beanDefinition = beanDefinitionMap.get(name);
+        if (beanDefinition == null && parent != null) {
+            beanDefinition = parent.findBeanDefinition(name);
+        }
+        return beanDefinition;
+    }
+    
+    @Override
+    public void close() {
+        // 🛑 명시적 close와 JVM 종료 훅이 겹쳐도 한 번만 종료
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        removeShutdownHook();
+        log.info("🔴 ApplicationContext 종료 중...");
+        
+        Duration shutdownTimeout = environment.getProperty(SHUTDOWN_TIMEOUT_PROPERTY, Duration.class, DEFAULT_SHUTDOWN_TIMEOUT);
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        
+        // 📣 새로 추가: 빈이 아직 살아 있을 때 종료 이벤트 전달, 남은 비동기 이벤트 처리
+        if (running) {
+            try {
+                publishEvent(new ContextClosedEvent(this));
+            } catch (RuntimeException e) {
+                log.error("❌ ContextClosedEvent 리스너 오류", e);
+            }
+        }
+        // ⏰ 새로 추가: 빈을 소멸시키기 전에 스케줄 작업 중단 (실행 중인 회차는 최대 5초, 전체 제한 시간 안에서 대기)
+        if (taskScheduler != null) {
+            taskScheduler.shutdown(remainingMillis(deadline, 5000), TimeUnit.MILLISECONDS);
+        }
+        eventMulticaster.shutdown(remainingMillis(deadline, 5000), TimeUnit.MILLISECONDS);
+        asyncExecutors.shutdown(remainingMillis(deadline, 5000), TimeUnit.MILLISECONDS);
+        
+        // 🧭 새로 추가: 스코프에 보관 중인 인스턴스 정리 (풀의 유휴 인스턴스 등)
+        for (BeanScope scope : scopes.values()) {
+            scope.close();
+        }
+        
+        // 🛑 새로 추가: 의존성 역순으로 @PreDestroy / destroyMethod 호출 (독립적인 빈은 병렬로)
+        destroySingletons(deadline);
+        
+        running = false;
+        singletonBeans.clear();
+        resolvedDependencies.clear();
+        log.info("✅ ApplicationContext 종료 완료");
+    }
+    
+    private static long remainingMillis(long deadline, long maxMillis) {
+        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        return Math.max(0L, Math.min(remaining, maxMillis));
+    }
+    
+    /**
+     * 🛑 새로 추가: 생성된 싱글톤을 의존성 그래프의 역순으로 소멸시킵니다.
+     * 빈에 의존하는 빈들이 모두 소멸된 뒤에 그 빈을 소멸시키므로 커넥션 풀 같은 빈은 마지막에 닫힙니다.
+     * 빈 하나의 소멸 콜백은 springlite.shutdown.bean-timeout (기본 10s), 전체는 springlite.shutdown.timeout
+     * (기본 30s) 안에서 실행하고, 넘긴 빈은 경고 로그와 getShutdownBudgetExceededBeans()로 알려 줍니다.
+     */
+    private void destroySingletons(long deadline) {
+        Map<String, Set<String>> destructionGraph = buildDestructionGraph();
+        if (destructionGraph.isEmpty()) {
+            return;
+        }
+        
+        int parallelism = environment.getProperty(SHUTDOWN_PARALLELISM_PROPERTY, Integer.class,
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
+        Duration beanTimeout = environment.getProperty(SHUTDOWN_BEAN_TIMEOUT_PROPERTY, Duration.class,
+            DEFAULT_SHUTDOWN_BEAN_TIMEOUT);
+        long remainingNanos = Math.max(0L, deadline - System.nanoTime());
+        
+        ParallelSingletonDestroyer.Report report =
+            new ParallelSingletonDestroyer(parallelism, beanTimeout.toNanos(), remainingNanos, TimeUnit.NANOSECONDS)
+                .destroy(destructionGraph,
+                    beanName -> hasDestroyCallbacks(beanDefinitionMap.get(beanName)),
+                    beanName -> destroyBean(beanDefinitionMap.get(beanName), singletonBeans.get(beanName)));
+        
+        List<String> exceeded = new ArrayList<>();
+        for (String beanName : report.getTimedOut()) {
+            log.warn("⚠️  빈 소멸 제한 시간 초과 ({}ms): {}", beanTimeout.toMillis(), beanName);
+            exceeded.add(beanName);
+        }
+        if (!report.getAbandoned().isEmpty()) {
+            log.warn("⚠️  전체 종료 제한 시간이 지나 소멸하지 못한 빈 {}개: {}", report.getAbandoned().size(), report.getAbandoned());
+            exceeded.addAll(report.getAbandoned());
+        }
+        shutdownBudgetExceededBeans = Collections.unmodifiableList(exceeded);
+        log.debug("{}", report);
+    }
+    
+    /**
+     * 생성된 싱글톤 이름 → 그 빈이 의존하는 생성된 싱글톤 이름들 (등록 순서)
+     * 선언된 의존성 타입이 아니라 실제로 주입된 빈(resolvedDependencies)을 사용하므로
+     * @Lazy 프록시가 찾은 빈과 프로토타입을 거쳐 주입된 싱글톤도 순서에 포함됩니다.
+     */
+    private Map<String, Set<String>> buildDestructionGraph() {
+        Map<String, Set<String>> graph = new LinkedHashMap<>();
+        for (String beanName : beanDefinitionNames) {
+            if (!singletonBeans.contains(beanName)) {
+                continue;
+            }
+            Set<String> dependencies = new LinkedHashSet<>();
+            collectResolvedSingletonDependencies(beanName, beanName, dependencies, new HashSet<>());
+            graph.put(beanName, dependencies);
         }
-        throw new RuntimeException("Bean " + name + " is not of required type " + requiredType.getName());
+        return graph;
     }
     
-    @Override
-    public <T> T getBean(Class<T> requiredType) {
-        String beanName = typeToNameMap.get(requiredType);
-        if (beanName != null) {
-            return getBean(beanName, requiredType);
+    /**
+     * beanName이 실제로 사용한 생성된 싱글톤을 result에 모읍니다. 싱글톤이 아닌 빈은 그 빈의 의존성을 따라갑니다.
+     */
+    private void collectResolvedSingletonDependencies(String rootBeanName, String beanName,
+                                                      Set<String> result, Set<String> visited) {
+        Set<String> dependencyNames = resolvedDependencies.get(beanName);
+        if (dependencyNames == null) {
+            return;
         }
-        
-        // 타입으로 빈 찾기
-        for (BeanDefinition beanDefinition : beanDefinitionMap.values()) {
-            if (requiredType.isAssignableFrom(beanDefinition.getBeanClass())) {
-                return getBean(beanDefinition.getBeanName(), requiredType);
+        for (String dependencyName : dependencyNames) {
+            if (dependencyName.equals(rootBeanName) || !visited.add(dependencyName)) {
+                continue;
+            }
+            if (singletonBeans.contains(dependencyName)) {
+                result.add(dependencyName);
+            } else {
+                BeanDefinition dependency = beanDefinitionMap.get(dependencyName);
+                if (dependency != null && !dependency.isSingleton()) {
+                    collectResolvedSingletonDependencies(rootBeanName, dependencyName, result, visited);
+                }
             }
         }
-        
-        throw new RuntimeException("No bean found of type: " + requiredType.getName());
     }
     
-    @Override
-    public boolean containsBean(String name) {
-        return beanDefinitionMap.containsKey(name);
+    private static boolean hasDestroyCallbacks(BeanDefinition beanDefinition) {
+        String destroyMethodName = beanDefinition.getDestroyMethodName();
+        return !beanDefinition.getPreDestroyMethods().isEmpty()
+            || (destroyMethodName != null && !destroyMethodName.isEmpty());
     }
     
-    @Override
-    public boolean isSingleton(String name) {
-        BeanDefinition beanDefinition = beanDefinitionMap.get(name);
-        return beanDefinition != null && beanDefinition.isSingleton();
+    /**
+     * 🛑 새로 추가: JVM 종료 시(SIGTERM 등) close()를 호출하는 종료 훅을 등록합니다.
+     * 명시적으로 close()를 호출하면 훅은 제거됩니다.
+     */
+    public void registerShutdownHook() {
+        if (shutdownHook == null) {
+            synchronized (this) {
+                if (shutdownHook == null) {
+                    Thread hook = new Thread(this::close, "springlite-shutdown-hook");
+                    Runtime.getRuntime().addShutdownHook(hook);
+                    shutdownHook = hook;
+                }
+            }
+        }
     }
     
-    @Override
-    public Class<?> getType(String name) {
-        BeanDefinition beanDefinition = beanDefinitionMap.get(name);
-        return beanDefinition != null ? beanDefinition.getBeanClass() : null;
+    private void removeShutdownHook() {
+        Thread hook = shutdownHook;
+        shutdownHook = null;
+        if (hook != null && Thread.currentThread() != hook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+                // JVM이 이미 종료 중
+            }
+        }
     }
     
-    @Override
-    public void close() {
-        System.out.println("🔴 ApplicationContext 종료 중...");
-        
-        // 🔥 새로 추가: 빈 소멸 시 @PreDestroy 메서드 호출
-        for (Map.Entry<String, BeanDefinition> entry : beanDefinitionMap.entrySet()) {
-            String beanName = entry.getKey();
-            BeanDefinition beanDefinition = entry.getValue();
-            Object bean = singletonBeans.get(beanName);
+    /**
+     * 🛑 새로 추가: 마지막 close()에서 빈별 또는 전체 제한 시간을 넘긴 빈 이름들
+     */
+    public List<String> getShutdownBudgetExceededBeans() {
+        return shutdownBudgetExceededBeans;
+    }
+    
+    /**
+     * 빈 소멸: @PreDestroy 메서드와 @Bean의 destroyMethod 호출
+     * (싱글톤은 close 시, request/pooled 스코프 빈은 스코프가 인스턴스를 버릴 때 호출)
+     */
+    private void destroyBean(BeanDefinition beanDefinition, Object bean) {
+        String beanName = beanDefinition.getBeanName();
+        // 🧬 프록시는 private 콜백을 재정의하지 못하고 JDK 프록시는 인터페이스 메서드만 있으므로 원본 객체에서 호출 (@PostConstruct와 같은 객체)
+        bean = ProxyUtils.getTargetObject(bean);
+        try {
+            // 1. @PreDestroy 메서드들 호출
+            for (Method preDestroyMethod : beanDefinition.getPreDestroyMethods()) {
+                preDestroyMethod.setAccessible(true);
+                preDestroyMethod.invoke(bean);
+                log.debug("🛑 @PreDestroy 호출: {}.{}", beanName, preDestroyMethod.getName());
+            }
             
-            if (bean != null) {
+            // 2. @Bean의 destroyMethod 호출 (있는 경우)
+            String destroyMethodName = beanDefinition.getDestroyMethodName();
+            if (destroyMethodName != null && !destroyMethodName.isEmpty()) {
                 try {
-                    // 1. @PreDestroy 메서드들 호출
-                    for (Method preDestroyMethod : beanDefinition.getPreDestroyMethods()) {
-                        preDestroyMethod.setAccessible(true);
-                        preDestroyMethod.invoke(bean);
-                        System.out.println("🛑 @PreDestroy 호출: " + beanName + "." + preDestroyMethod.getName());
-                    }
-                    
-                    // 2. @Bean의 destroyMethod 호출 (있는 경우)
-                    String destroyMethodName = beanDefinition.getDestroyMethodName();
-                    if (destroyMethodName != null && !destroyMethodName.isEmpty()) {
-                        try {
-                            Method destroyMethod = bean.getClass().getDeclaredMethod(destroyMethodName);
-                            destroyMethod.setAccessible(true);
-                            destroyMethod.invoke(bean);
-                            System.out.println("🛑 destroyMethod 호출: " + beanName + "." + destroyMethodName);
-                        } catch (NoSuchMethodException e) {
-                            System.err.println("⚠️  destroyMethod 를 찾을 수 없습니다: " + destroyMethodName);
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("❌ 빈 소멸 중 오류 발생: " + beanName);
-                    e.printStackTrace();
+                    Method destroyMethod = bean.getClass().getDeclaredMethod(destroyMethodName);
+                    destroyMethod.setAccessible(true);
+                    destroyMethod.invoke(bean);
+                    log.debug("🛑 destroyMethod 호출: {}.{}", beanName, destroyMethodName);
+                } catch (NoSuchMethodException e) {
+                    log.warn("⚠️  destroyMethod 를 찾을 수 없습니다: {}", destroyMethodName);
                 }
             }
+        } catch (Exception e) {
+            log.error("❌ 빈 소멸 중 오류 발생: {}", beanName, e);
         }
-        
-        running = false;
-        singletonBeans.clear();
-        System.out.println("✅ ApplicationContext 종료 완료");
     }
     
     @Override
@@ -354,93 +1326,274 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
     
     @Override
     public String[] getBeanDefinitionNames() {
-        return beanDefinitionMap.keySet().toArray(new String[0]);
+        return beanDefinitionNames.toArray(new String[0]);
     }
     
     private Object createBean(BeanDefinition beanDefinition) {
         String beanName = beanDefinition.getBeanName();
         
-        // 순환 의존성 체크
-        if (creatingBeans.contains(beanName)) {
+        // 순환 의존성 체크 (현재 스레드의 생성 체인 기준)
+        Set<String> creating = creatingBeans.get();
+        if (creating.contains(beanName)) {
             throw new RuntimeException("Circular dependency detected for bean: " + beanName);
         }
         
-        creatingBeans.add(beanName);
+        creating.add(beanName);
+        
+        // 🕒 빈 생성 단계 (체인: 현재 스레드에서 이 빈의 생성을 유발한 빈들)
+        StartupRecorder.Step createStep = startupRecorder.start("bean.create");
+        if (startupRecorder.isRecording()) {
+            createStep.tag("beanName", beanName)
+                .tag("scope", beanDefinition.getScope())
+                .tag("chain", String.join(" → ", creating));
+        }
         
         try {
             Object instance;
+            InjectionPlan plan = getInjectionPlan(beanDefinition);
             
             // 🔥 @Bean 메서드로 생성된 빈인지 확인
             if (beanDefinition.isBeanMethod()) {
-                instance = createBeanFromMethod(beanDefinition);
+                StartupRecorder.Step step = startupRecorder.start("bean.instantiate");
+                try {
+                    instance = createBeanFromMethod(beanDefinition, plan);
+                } finally {
+                    step.end();
+                }
             } else {
-                instance = instantiateBean(beanDefinition);
-                populateBean(instance, beanDefinition);
+                StartupRecorder.Step step = startupRecorder.start("bean.instantiate");
+                try {
+                    instance = instantiateBean(beanDefinition, plan);
+                } finally {
+                    step.end();
+                }
+                step = startupRecorder.start("bean.populate");
+                try {
+                    populateBean(instance, beanDefinition, plan);
+                } finally {
+                    step.end();
+                }
             }
             
             // 빈 초기화 (라이프사이클 메서드 호출)
-            initializeBean(instance, beanDefinition);
+            StartupRecorder.Step postConstructStep = startupRecorder.start("bean.post-construct");
+            try {
+                initializeBean(instance, beanDefinition, plan);
+            } finally {
+                postConstructStep.end();
+            }
             
             // 🔥 AOP 프록시 적용 (Aspect 클래스가 아닌 경우만)
-            if (!beanDefinition.getBeanClass().isAnnotationPresent(Aspect.class)) {
-                if (aopProxyFactory.needsProxy(instance)) {
-                    Object aopProxy = aopProxyFactory.createProxy(instance);
-                    System.out.println("🎭 AOP 프록시 생성: " + beanName + " → " + aopProxy.getClass().getSimpleName());
+            // 애스펙트 어드바이스, @Transactional, @Async 처리가 하나의 인터셉터 체인으로 합쳐진 프록시 한 겹
+            StartupRecorder.Step aopProxyStep = startupRecorder.start("bean.aop-proxy");
+            try {
+                Boolean aopProxyRequired = plan.getAopProxyRequired();
+                if (aopProxyRequired == null) {
+                    aopProxyRequired = !beanDefinition.getBeanClass().isAnnotationPresent(Aspect.class)
+                        && aopProxyFactory.needsProxy(instance);
+                    plan.setAopProxyRequired(aopProxyRequired);
+                }
+                if (aopProxyRequired) {
+                    aopTargetClasses.put(beanName, instance.getClass());
+                    Object aopProxy = aopProxyFactory.createProxy(instance, getSnapshotAdvice(beanName));
+                    log.debug("🎭 AOP 프록시 생성: {} → {}", beanName, aopProxy.getClass().getSimpleName());
                     instance = aopProxy;
                 }
-            }
-            
-            // @Transactional이 있으면 트랜잭션 프록시 생성
-            if (needsProxy(beanDefinition.getBeanClass())) {
-                Object txProxy = proxyFactory.createProxy(instance);
-                System.out.println("💳 트랜잭션 프록시 생성: " + beanName);
-                instance = txProxy;
+            } finally {
+                aopProxyStep.end();
             }
             
             return instance;
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new RuntimeException("Failed to create bean: " + beanName, e);
         } finally {
-            creatingBeans.remove(beanName);
+            createStep.end();
+            creating.remove(beanName);
         }
     }
     
     /**
-     * 🔥 새로 추가: @Bean 메서드로부터 빈 생성
+     * ⚡ 빈 정의의 주입 계획을 가져옵니다. 없거나 빈 정의가 바뀌었으면 다시 컴파일합니다.
      */
-    private Object createBeanFromMethod(BeanDefinition beanDefinition) throws Exception {
-        Method beanMethod = beanDefinition.getBeanMethod();
-        Object configInstance = beanDefinition.getConfigurationInstance();
-        
-        // 메서드 파라미터들에 대한 의존성 주입
-        Parameter[] parameters = beanMethod.getParameters();
-        Object[] args = new Object[parameters.length];
-        
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter parameter = parameters[i];
+    private InjectionPlan getInjectionPlan(BeanDefinition beanDefinition) {
+        int version = definitionsVersion;
+        InjectionPlan plan = beanDefinition.getInjectionPlan();
+        if (plan == null || plan.getVersion() != version) {
+            resolveConfigurationInstance(beanDefinition);
+            StartupRecorder.Step step = startupRecorder.start("bean.plan-compile");
+            try {
+                plan = InjectionPlan.compile(beanDefinition, dependencyResolver(beanDefinition.getBeanName()), version);
+            } finally {
+                step.end();
+            }
+            // 📦 스냅샷에 기록된 프록시 결정이 있으면 그대로 사용 (메서드/포인트컷 스캔 생략)
+            plan.setAopProxyRequired(beanDefinition.getAopProxyRequired());
+            beanDefinition.setInjectionPlan(plan);
+        }
+        return plan;
+    }
+    
+    /**
+     * 📦 스냅샷으로 복원된 @Bean 빈은 설정 인스턴스 대신 설정 빈 이름만 가지고 있으므로 여기서 찾습니다.
+     */
+    private void resolveConfigurationInstance(BeanDefinition beanDefinition) {
+        if (beanDefinition.isBeanMethod() && beanDefinition.getConfigurationInstance() == null
+                && beanDefinition.getFactoryBeanName() != null
+                && !Modifier.isStatic(beanDefinition.getBeanMethod().getModifiers())) {
+            beanDefinition.setConfigurationInstance(
+                dependencyLookup(beanDefinition.getBeanName()).apply(beanDefinition.getFactoryBeanName()));
+        }
+    }
+    
+    /**
+     * 📦 스냅샷에 기록된 포인트컷 매칭 결과를 현재 애스펙트의 어드바이스로 복원합니다.
+     * 스냅샷이 없거나 복원할 수 없으면 null (호출 시 포인트컷 평가)
+     */
+    private Map<Method, List<AdviceMetadata>> getSnapshotAdvice(String beanName) {
+        if (snapshot == null || beanDefinitionMap.get(beanName).getAopProxyRequired() != Boolean.TRUE) {
+            return null;
+        }
+        Map<Method, List<AdviceMetadata>> adviceByMethod = new HashMap<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ContextSnapshot.AdviceMatch match : snapshot.getAdviceMatches(beanName)) {
+            List<AdviceMetadata> matchingAdvice = new ArrayList<>();
+            for (int i = 0; i < match.aspectClassNames.size(); i++) {
+                AdviceMetadata advice = findAdvice(match.aspectClassNames.get(i), match.adviceMethods.get(i));
+                if (advice == null) {
+                    log.warn("⚠️  스냅샷의 어드바이스를 찾을 수 없습니다 (포인트컷 평가로 대체): {}.{}",
+                        match.aspectClassNames.get(i), match.adviceMethods.get(i).name);
+                    return null;
+                }
+                matchingAdvice.add(advice);
+            }
+            try {
+                adviceByMethod.put(match.method.resolve(classLoader), matchingAdvice);
+            } catch (ReflectiveOperationException e) {
+                log.warn("⚠️  스냅샷의 메서드를 찾을 수 없습니다 (포인트컷 평가로 대체): {}", match.method.name);
+                return null;
+            }
+        }
+        return adviceByMethod;
+    }
+    
+    private AdviceMetadata findAdvice(String aspectClassName, ContextSnapshot.MethodRef adviceMethod) {
+        for (AspectMetadata aspect : aopProxyFactory.getAspects()) {
+            if (!aspect.getAspectClass().getName().equals(aspectClassName)) {
+                continue;
+            }
+            for (AdviceMetadata advice : aspect.getAdviceList()) {
+                if (adviceMethod.matches(advice.getAdviceMethod())) {
+                    return advice;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * ⚡ dependentBeanName 빈의 주입 계획이 의존성을 결정할 때 사용하는 콜백
+     */
+    private InjectionPlan.DependencyResolver dependencyResolver(String dependentBeanName) {
+        return new InjectionPlan.DependencyResolver() {
+            @Override
+            public String resolveBeanName(Class<?> type) {
+                return requireBeanNameForType(type);
+            }
+            
+            @Override
+            public Object createLazyProxy(Class<?> type, String beanName) {
+                return createLazyResolutionProxy(type, beanName, dependentBeanName);
+            }
             
-            // 파라미터에 대한 의존성 주입
-            Object dependency = getBean(parameter.getType());
-            args[i] = dependency;
+            @Override
+            public Object createScopedProxy(Class<?> type, String beanName) {
+                return AnnotationApplicationContext.this.createScopedProxy(type, beanName);
+            }
+            
+            @Override
+            public Object resolveValue(String expression, Class<?> type) {
+                return environment.resolveValue(expression, type);
+            }
+        };
+    }
+    
+    /**
+     * 🛑 dependentBeanName 빈에 주입할 빈을 찾는 함수. 찾은 빈을 resolvedDependencies에 기록합니다.
+     */
+    private Function<String, Object> dependencyLookup(String dependentBeanName) {
+        return beanName -> {
+            Object bean = getBean(beanName);
+            registerResolvedDependency(dependentBeanName, beanName);
+            return bean;
+        };
+    }
+    
+    private void registerResolvedDependency(String dependentBeanName, String beanName) {
+        Set<String> dependencies = resolvedDependencies.computeIfAbsent(dependentBeanName,
+            name -> ConcurrentHashMap.newKeySet());
+        if (!dependencies.contains(beanName)) {
+            dependencies.add(beanName);
         }
+    }
+    
+    /**
+     * 💤 @Lazy 주입 지점에 넣을 지연 해석 프록시 생성
+     * 인터페이스가 아닌 타입은 JDK 프록시로 감쌀 수 없으므로 즉시 주입합니다.
+     * 프록시가 대상을 찾으면 dependentBeanName의 의존성으로 기록됩니다. (대상보다 먼저 소멸)
+     */
+    private Object createLazyResolutionProxy(Class<?> type, String beanName, String dependentBeanName) {
+        if (!type.isInterface()) {
+            log.warn("⚠️  @Lazy 주입 지점은 인터페이스 타입이어야 합니다 (즉시 주입): {}", type.getName());
+            return null;
+        }
+        log.debug("💤 지연 해석 프록시 생성: {} ({})", beanName, type.getSimpleName());
+        return LazyResolutionProxy.create(dependencyLookup(dependentBeanName), type, beanName,
+            findBeanDefinition(beanName).isSingleton());
+    }
+    
+    /**
+     * 🧭 thread / request 스코프 빈을 더 오래 사는 빈에 주입할 때 쓰는 스코프 프록시
+     * 호출마다 getBean으로 현재 스레드/요청의 인스턴스를 찾습니다. (pooled 빈은 getBean이 이미 프록시를 반환)
+     */
+    private Object createScopedProxy(Class<?> type, String beanName) {
+        BeanDefinition beanDefinition = findBeanDefinition(beanName);
+        if (!beanDefinition.isCustomScope() || Scope.POOLED.equals(beanDefinition.getScope())) {
+            return null;
+        }
+        if (!type.isInterface()) {
+            log.warn("⚠️  {} 스코프 빈의 주입 지점은 인터페이스 타입이어야 합니다 (즉시 주입): {}",
+                beanDefinition.getScope(), type.getName());
+            return null;
+        }
+        return LazyResolutionProxy.create(this::getBean, type, beanName, false);
+    }
+    
+    /**
+     * 🔥 새로 추가: @Bean 메서드로부터 빈 생성
+     */
+    private Object createBeanFromMethod(BeanDefinition beanDefinition, InjectionPlan plan) throws Throwable {
+        // 메서드 파라미터 의존성은 주입 계획에 빈 이름으로 미리 결정되어 있음
+        String beanName = beanDefinition.getBeanName();
+        if (beanDefinition.getFactoryBeanName() != null && !Modifier.isStatic(beanDefinition.getBeanMethod().getModifiers())) {
+            registerResolvedDependency(beanName, beanDefinition.getFactoryBeanName());
+        }
+        Object bean = plan.instantiate(dependencyLookup(beanName));
         
-        // @Bean 메서드 호출
-        beanMethod.setAccessible(true);
-        Object bean = beanMethod.invoke(configInstance, args);
-        
-        System.out.println("🔧 @Bean 메서드로 빈 생성: " + beanDefinition.getBeanName() + " = " + bean);
+        log.debug("🔧 @Bean 메서드로 빈 생성: {} = {}", beanDefinition.getBeanName(), bean);
         return bean;
     }
     
     /**
      * 🔥 새로 추가: 빈 초기화 및 라이프사이클 메서드 호출
      */
-    private void initializeBean(Object bean, BeanDefinition beanDefinition) throws Exception {
+    private void initializeBean(Object bean, BeanDefinition beanDefinition, InjectionPlan plan) throws Throwable {
         // 1. @PostConstruct 메서드들 호출
-        for (Method postConstructMethod : beanDefinition.getPostConstructMethods()) {
-            postConstructMethod.setAccessible(true);
-            postConstructMethod.invoke(bean);
-            System.out.println("🚀 @PostConstruct 호출: " + beanDefinition.getBeanName() + "." + postConstructMethod.getName());
+        List<Method> postConstructMethods = beanDefinition.getPostConstructMethods();
+        for (int i = 0; i < postConstructMethods.size(); i++) {
+            plan.invokePostConstruct(i, bean);
+            log.debug("🚀 @PostConstruct 호출: {}.{}", beanDefinition.getBeanName(), postConstructMethods.get(i).getName());
         }
         
         // 2. @Bean의 initMethod 호출 (있는 경우)
@@ -450,78 +1603,25 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
                 Method initMethod = bean.getClass().getDeclaredMethod(initMethodName);
                 initMethod.setAccessible(true);
                 initMethod.invoke(bean);
-                System.out.println("🚀 initMethod 호출: " + beanDefinition.getBeanName() + "." + initMethodName);
+                log.debug("🚀 initMethod 호출: {}.{}", beanDefinition.getBeanName(), initMethodName);
             } catch (NoSuchMethodException e) {
-                System.err.println("⚠️  initMethod 를 찾을 수 없습니다: " + initMethodName);
+                log.warn("⚠️  initMethod 를 찾을 수 없습니다: {}", initMethodName);
             }
         }
     }
     
-    private Object instantiateBean(BeanDefinition beanDefinition) {
+    private Object instantiateBean(BeanDefinition beanDefinition, InjectionPlan plan) {
         try {
-            Class<?> beanClass = beanDefinition.getBeanClass();
-            Constructor<?> autowiredConstructor = beanDefinition.getAutowiredConstructor();
-            
-            if (autowiredConstructor != null) {
-                // @Autowired 생성자 사용
-                Class<?>[] paramTypes = autowiredConstructor.getParameterTypes();
-                Object[] args = new Object[paramTypes.length];
-                
-                for (int i = 0; i < paramTypes.length; i++) {
-                    args[i] = getBean(paramTypes[i]);
-                }
-                
-                return autowiredConstructor.newInstance(args);
-            } else {
-                // 기본 생성자 사용
-                return beanClass.getDeclaredConstructor().newInstance();
-            }
-        } catch (Exception e) {
+            // @Autowired 생성자 또는 기본 생성자 (주입 계획에 MethodHandle로 준비됨)
+            return plan.instantiate(dependencyLookup(beanDefinition.getBeanName()));
+        } catch (Throwable e) {
             throw new RuntimeException("Failed to instantiate bean: " + beanDefinition.getBeanName(), e);
         }
     }
     
-    private void populateBean(Object instance, BeanDefinition beanDefinition) {
-        // 필드 주입
-        for (Field field : beanDefinition.getAutowiredFields()) {
-            try {
-                Object dependency = getBean(field.getType());
-                field.set(instance, dependency);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to inject field: " + field.getName(), e);
-            }
-        }
-        
-        // 메소드 주입
-        for (Method method : beanDefinition.getAutowiredMethods()) {
-            try {
-                Class<?>[] paramTypes = method.getParameterTypes();
-                Object[] args = new Object[paramTypes.length];
-                
-                for (int i = 0; i < paramTypes.length; i++) {
-                    args[i] = getBean(paramTypes[i]);
-                }
-                
-                method.invoke(instance, args);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to inject method: " + method.getName(), e);
-            }
-        }
-    }
-    
-    private boolean needsProxy(Class<?> clazz) {
-        // 클래스나 메소드에 @Transactional이 있는지 확인
-        if (clazz.isAnnotationPresent(Transactional.class)) {
-            return true;
-        }
-        
-        for (Method method : clazz.getDeclaredMethods()) {
-            if (method.isAnnotationPresent(Transactional.class)) {
-                return true;
-            }
-        }
-        
-        return false;
+    private void populateBean(Object instance, BeanDefinition beanDefinition, InjectionPlan plan) {
+        // 필드 주입 + 메소드 주입
+        plan.populate(instance, dependencyLookup(beanDefinition.getBeanName()));
     }
     
     /**
@@ -533,12 +1633,30 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
         for (Method method : methods) {
             if (method.isAnnotationPresent(PostConstruct.class)) {
                 beanDefinition.getPostConstructMethods().add(method);
-                System.out.println("  📋 @PostConstruct 메서드 발견: " + method.getName());
+                log.trace("  📋 @PostConstruct 메서드 발견: {}", method.getName());
             }
             
             if (method.isAnnotationPresent(PreDestroy.class)) {
                 beanDefinition.getPreDestroyMethods().add(method);
-                System.out.println("  📋 @PreDestroy 메서드 발견: " + method.getName());
+                log.trace("  📋 @PreDestroy 메서드 발견: {}", method.getName());
+            }
+        }
+        
+        scanListenerAndScheduledMethods(clazz, beanDefinition);
+    }
+    
+    /**
+     * 📣 새로 추가: @EventListener / @Scheduled 메서드 스캔 (@Bean 빈은 반환 타입 클래스에서 찾음)
+     */
+    private void scanListenerAndScheduledMethods(Class<?> clazz, BeanDefinition beanDefinition) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(EventListener.class)) {
+                beanDefinition.getEventListenerMethods().add(method);
+                log.trace("  📋 @EventListener 메서드 발견: {}", method.getName());
+            }
+            if (method.isAnnotationPresent(Scheduled.class)) {
+                beanDefinition.getScheduledMethods().add(method);
+                log.trace("  📋 @Scheduled 메서드 발견: {}", method.getName());
             }
         }
     }
@@ -549,31 +1667,43 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
     private void instantiateConfigurationClasses() {
         for (BeanDefinition bd : beanDefinitionMap.values()) {
             if (bd.getBeanClass().isAnnotationPresent(Configuration.class)) {
-                try {
-                    Object configInstance = createBean(bd);
-                    configurationInstances.put(bd.getBeanClass(), configInstance);
-                    System.out.println("⚙️  Configuration 클래스 인스턴스화: " + bd.getBeanName());
-                } catch (Exception e) {
-                    System.err.println("❌ Configuration 클래스 인스턴스화 실패: " + bd.getBeanName());
-                    e.printStackTrace();
-                }
+                instantiateConfigurationClass(bd);
             }
         }
     }
     
+    /**
+     * 설정 클래스도 싱글톤 레지스트리를 거쳐 생성합니다.
+     * (나중에 getBean/주입으로 다시 생성되어 @PostConstruct가 두 번 실행되지 않도록)
+     */
+    private void instantiateConfigurationClass(BeanDefinition bd) {
+        try {
+            Object configInstance = singletonBeans.getOrCreate(bd.getBeanName(), () -> createBean(bd));
+            configurationInstances.put(bd.getBeanClass(), configInstance);
+            configurationBeanNames.put(bd.getBeanClass(), bd.getBeanName());
+            log.debug("⚙️  Configuration 클래스 인스턴스화: {}", bd.getBeanName());
+        } catch (Exception e) {
+            log.error("❌ Configuration 클래스 인스턴스화 실패: {}", bd.getBeanName(), e);
+        }
+    }
+    
     /**
      * 🔥 새로 추가: @Configuration 클래스들에서 @Bean 메서드 스캔
      */
     private void scanBeanMethods() {
         for (Map.Entry<Class<?>, Object> entry : configurationInstances.entrySet()) {
-            Class<?> configClass = entry.getKey();
-            Object configInstance = entry.getValue();
-            
-            Method[] methods = configClass.getDeclaredMethods();
-            for (Method method : methods) {
-                if (method.isAnnotationPresent(Bean.class)) {
-                    createBeanDefinitionFromMethod(method, configInstance);
-                }
+            scanBeanMethods(entry.getKey(), entry.getValue());
+        }
+    }
+    
+    private void scanBeanMethods(Class<?> configClass, Object configInstance) {
+        if (configInstance == null) {
+            return; // 인스턴스화 실패
+        }
+        Method[] methods = configClass.getDeclaredMethods();
+        for (Method method : methods) {
+            if (method.isAnnotationPresent(Bean.class)) {
+                createBeanDefinitionFromMethod(method, configInstance);
             }
         }
     }
@@ -582,6 +1712,22 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
      * 🔥 새로 추가: @Bean 메서드로부터 BeanDefinition 생성
      */
     private void createBeanDefinitionFromMethod(Method method, Object configInstance) {
+        // 🔀 새로 추가: 조건부 @Bean 메서드
+        String failedCondition = conditionEvaluator.findFailedImmediateCondition(method, environment);
+        if (failedCondition != null) {
+            log.debug("🔀 조건 불일치로 @Bean 등록 건너뜀: {}.{} ({})",
+                method.getDeclaringClass().getSimpleName(), method.getName(), failedCondition);
+            return;
+        }
+        if (conditionEvaluator.hasMissingBeanCondition(method)) {
+            conditionalRegistrations.add(new ConditionalRegistration(method, method.getReturnType(),
+                () -> registerBeanMethod(method, configInstance)));
+            return;
+        }
+        registerBeanMethod(method, configInstance);
+    }
+    
+    private void registerBeanMethod(Method method, Object configInstance) {
         Bean beanAnnotation = method.getAnnotation(Bean.class);
         
         // 빈 이름 결정 (value가 있으면 사용, 없으면 메서드명 사용)
@@ -596,54 +1742,191 @@ public class AnnotationApplicationContext implements ApplicationContext, AutoClo
         Class<?> beanClass = method.getReturnType();
         
         BeanDefinition beanDefinition = new BeanDefinition(beanName, beanClass, method, configInstance);
+        beanDefinition.setFactoryBeanName(configurationBeanNames.get(method.getDeclaringClass()));
         
         // @Bean 어노테이션 속성들 설정
         beanDefinition.setInitMethodName(beanAnnotation.initMethod());
         beanDefinition.setDestroyMethodName(beanAnnotation.destroyMethod());
         beanDefinition.setDefaultCandidate(beanAnnotation.defaultCandidate());
         
-        beanDefinitionMap.put(beanName, beanDefinition);
-        typeToNameMap.put(beanClass, beanName);
-        System.out.println("🔧 @Bean 메서드로부터 BeanDefinition 등록: " + beanName + " (" + beanClass.getSimpleName() + ")");
+        Lazy lazy = method.getAnnotation(Lazy.class);
+        if (lazy != null) {
+            beanDefinition.setLazy(lazy.value());
+        }
+        applyScope(method.getAnnotation(Scope.class), beanDefinition);
+        scanListenerAndScheduledMethods(beanClass, beanDefinition);
+        
+        putBeanDefinition(beanName, beanDefinition);
+        log.debug("🔧 @Bean 메서드로부터 BeanDefinition 등록: {} ({})", beanName, beanClass.getSimpleName());
     }
     
     /**
      * 🔥 새로 추가: @Aspect 애스펙트 스캔 및 등록
+     * 👪 자식 컨텍스트는 부모의 애스펙트(파싱된 포인트컷, 애스펙트 인스턴스)를 그대로 재사용합니다.
+     * 자식에 애스펙트가 없으면 부모의 AopProxyFactory를 공유하므로 클래스별 프록시 판단 캐시도 공유됩니다.
      */
     private void scanAndRegisterAspects() {
+        List<BeanDefinition> aspectDefinitions = new ArrayList<>();
         for (BeanDefinition bd : beanDefinitionMap.values()) {
             if (bd.getBeanClass().isAnnotationPresent(Aspect.class)) {
-                try {
-                    // Aspect 인스턴스 생성
-                    Object aspectInstance = getBean(bd.getBeanName());
-                    
-                    // AspectScanner를 사용해서 aspect 메타데이터 처리
-                    AspectMetadata aspectMetadata = AspectScanner.processAspect(aspectInstance);
-                    aspects.add(aspectMetadata);
-                    
-                    // AopProxyFactory에 aspect 추가
+                aspectDefinitions.add(bd);
+            }
+        }
+        
+        if (parent != null && !parent.aspects.isEmpty()) {
+            if (aspectDefinitions.isEmpty()) {
+                aopProxyFactory = parent.aopProxyFactory;
+            } else {
+                for (AspectMetadata aspectMetadata : parent.aopProxyFactory.getAspects()) {
                     aopProxyFactory.addAspect(aspectMetadata);
-                    
-                    System.out.println("✅ Aspect 등록 완료: " + bd.getBeanName());
-                } catch (Exception e) {
-                    System.err.println("❌ Aspect 등록 실패: " + bd.getBeanName());
-                    e.printStackTrace();
                 }
             }
+            aspects.addAll(parent.aspects);
+            definitionsVersion++;
+            log.debug("👪 부모 컨텍스트의 Aspect {}개 재사용", parent.aspects.size());
+        }
+        
+        for (BeanDefinition bd : aspectDefinitions) {
+            try {
+                // Aspect 인스턴스 생성
+                Object aspectInstance = getBean(bd.getBeanName());
+                
+                // AspectScanner를 사용해서 aspect 메타데이터 처리
+                AspectMetadata aspectMetadata = AspectScanner.processAspect(aspectInstance);
+                aspects.add(aspectMetadata);
+                
+                // AopProxyFactory에 aspect 추가
+                aopProxyFactory.addAspect(aspectMetadata);
+                definitionsVersion++;
+                
+                log.debug("✅ Aspect 등록 완료: {}", bd.getBeanName());
+            } catch (Exception e) {
+                log.error("❌ Aspect 등록 실패: {}", bd.getBeanName(), e);
+            }
+        }
+        
+        registerTransactionAdvisor();
+        registerAsyncAdvisor();
+    }
+    
+    /**
+     * 🔄 @Transactional 처리를 애스펙트와 같은 인터셉터 체인에 넣는 어드바이저 등록
+     * 트랜잭션 프록시를 따로 씌우지 않으므로 빈마다 프록시는 한 겹입니다.
+     * TransactionAspect를 직접 등록했으면 트랜잭션이 두 번 걸리지 않도록 생략하고,
+     * 부모의 AopProxyFactory를 공유하면 부모의 어드바이저를 그대로 씁니다.
+     */
+    private void registerTransactionAdvisor() {
+        if (parent != null && aopProxyFactory == parent.aopProxyFactory) {
+            return;
+        }
+        for (AspectMetadata aspect : aspects) {
+            if (aspect.getAspectInstance() instanceof TransactionAspect) {
+                log.debug("🔄 TransactionAspect가 등록되어 있어 기본 트랜잭션 어드바이저를 생략합니다");
+                return;
+            }
         }
+        int order = environment.getProperty(TRANSACTION_ORDER_PROPERTY, Integer.class, Order.LOWEST_PRECEDENCE);
+        aopProxyFactory.addAdvisor(new TransactionAdvisor(this::findTransactionManager, order));
+        definitionsVersion++;
+    }
+    
+    /**
+     * 🧵 @Async 메서드를 실행기로 넘기는 어드바이저 (인터셉터 체인의 가장 바깥)
+     * 부모의 AopProxyFactory를 그대로 쓰는 자식 컨텍스트는 부모의 어드바이저와 실행기를 사용합니다.
+     */
+    private void registerAsyncAdvisor() {
+        if (parent != null && aopProxyFactory == parent.aopProxyFactory) {
+            return;
+        }
+        aopProxyFactory.addAdvisor(new AsyncAdvisor(asyncExecutors));
+        definitionsVersion++;
+    }
+    
+    /**
+     * 트랜잭션 인터셉터가 호출 시점에 사용하는 TransactionManager (부모 컨텍스트 포함, 없으면 null)
+     */
+    private TransactionManager findTransactionManager() {
+        TransactionManager manager = transactionManager;
+        if (manager == null) {
+            String beanName = resolveBeanNameInHierarchy(TransactionManager.class);
+            if (beanName == null) {
+                return null;
+            }
+            manager = (TransactionManager) getBean(beanName);
+            transactionManager = manager;
+        }
+        return manager;
     }
     
     /**
      * 수동으로 싱글톤 빈을 등록합니다 (트랜잭션 관련 빈들을 위해 추가)
      */
     public void registerBean(String beanName, Object beanInstance) {
-        singletonBeans.put(beanName, beanInstance);
-        typeToNameMap.put(beanInstance.getClass(), beanName);
+        singletonBeans.register(beanName, beanInstance);
+        manualSingletonNames.add(beanName);
         
         // 간단한 BeanDefinition도 생성해서 등록
         BeanDefinition beanDefinition = new BeanDefinition(beanName, beanInstance.getClass());
-        beanDefinitionMap.put(beanName, beanDefinition);
+        putBeanDefinition(beanName, beanDefinition);
+        
+        log.debug("✅ 수동 빈 등록: {} ({})", beanName, beanInstance.getClass().getSimpleName());
+    }
+    
+    /**
+     * 📦 새로 추가: refresh가 끝난 현재 상태를 컨텍스트 스냅샷으로 만듭니다.
+     * 빈 정의, 미리 해석된 의존성, 생성된 빈의 프록시 결정과 포인트컷 매칭 결과가 기록됩니다.
+     * registerBean(name, instance)로 수동 등록한 싱글톤은 포함되지 않습니다.
+     */
+    public ContextSnapshot createSnapshot() {
+        List<ContextSnapshot.BeanEntry> entries = new ArrayList<>();
+        for (String beanName : beanDefinitionNames) {
+            if (manualSingletonNames.contains(beanName)) {
+                continue;
+            }
+            BeanDefinition beanDefinition = beanDefinitionMap.get(beanName);
+            ContextSnapshot.BeanEntry entry = ContextSnapshot.toEntry(beanDefinition);
+            
+            try {
+                entry.dependsOn = new ArrayList<>(getDependencyBeanNames(beanDefinition));
+            } catch (RuntimeException e) {
+                entry.dependsOn = null; // 모호한 타입 등 → 시작 시 다시 해석해서 같은 오류를 보고
+            }
+            
+            // 생성된 적이 있는 빈만 프록시 결정이 확정되어 있음
+            InjectionPlan plan = beanDefinition.getInjectionPlan();
+            if (plan != null) {
+                entry.aopProxyRequired = plan.getAopProxyRequired();
+            }
+            Class<?> aopTargetClass = aopTargetClasses.get(beanName);
+            if (aopTargetClass != null) {
+                for (Map.Entry<Method, List<AdviceMetadata>> match : aopProxyFactory.matchAdvice(aopTargetClass).entrySet()) {
+                    List<String> aspectClassNames = new ArrayList<>();
+                    List<ContextSnapshot.MethodRef> adviceMethods = new ArrayList<>();
+                    for (AdviceMetadata advice : match.getValue()) {
+                        aspectClassNames.add(advice.getAspectInstance().getClass().getName());
+                        adviceMethods.add(ContextSnapshot.MethodRef.of(advice.getAdviceMethod()));
+                    }
+                    entry.adviceMatches.add(new ContextSnapshot.AdviceMatch(
+                        ContextSnapshot.MethodRef.of(match.getKey()), aspectClassNames, adviceMethods));
+                }
+            }
+            entries.add(entry);
+        }
+        return new ContextSnapshot(entries);
+    }
+    
+    /**
+     * 🔀 @ConditionalOnMissingBean 평가를 기다리는 빈 등록
+     */
+    private static final class ConditionalRegistration {
+        final AnnotatedElement element;
+        final Class<?> beanType;
+        final Runnable register;
         
-        System.out.println("✅ 수동 빈 등록: " + beanName + " (" + beanInstance.getClass().getSimpleName() + ")");
+        ConditionalRegistration(AnnotatedElement element, Class<?> beanType, Runnable register) {
+            this.element = element;
+            this.beanType = beanType;
+            this.register = register;
+        }
     }
 } 
\ No newline at end of file
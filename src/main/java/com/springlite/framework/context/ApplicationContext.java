@@ -1,6 +1,8 @@
 package com.springlite.framework.context;
 
-public interface ApplicationContext extends BeanFactory {
+import com.springlite.framework.context.event.ApplicationEventPublisher;
+
+public interface ApplicationContext extends BeanFactory, ApplicationEventPublisher {
     
     void refresh();
     
@@ -9,4 +11,6 @@ public interface ApplicationContext extends BeanFactory {
     boolean isRunning();
     
     String[] getBeanDefinitionNames();
+    
+    ApplicationContext getParent();
 } 
\ No newline at end of file
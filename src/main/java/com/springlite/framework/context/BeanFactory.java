@@ -1,5 +1,7 @@
 package com.springlite.framework.context;
 
+import java.util.Map;
+
 public interface BeanFactory {
     
     Object getBean(String name);
@@ -8,6 +10,10 @@ public interface BeanFactory {
     
     <T> T getBean(Class<T> requiredType);
     
+    String[] getBeanNamesForType(Class<?> type);
+    
+    <T> Map<String, T> getBeansOfType(Class<T> type);
+    
     boolean containsBean(String name);
     
     boolean isSingleton(String name);
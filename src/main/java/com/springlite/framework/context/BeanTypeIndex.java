@@ -0,0 +1,85 @@
+package com.springlite.framework.context;
+
+import com.springlite.framework.beans.BeanDefinition;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🗂️ 타입 → 후보 빈 이름 인덱스
+ * Spring Framework의 DefaultListableBeanFactory.allBeanNamesByType 캐시를 참고하여 구현
+ *
+ * 모든 빈 클래스의 상위 클래스와 (상속된 것까지 포함한) 인터페이스를 펼쳐서
+ * 타입별 후보 빈 이름을 등록 순서대로 보관합니다.
+ * getBean(Class)와 필드 주입 시 beanDefinitionMap 전체를 isAssignableFrom으로 훑지 않습니다.
+ *
+ * 인덱스는 불변이고, 빈 정의가 바뀌면 컨텍스트가 새 version으로 다시 만듭니다.
+ */
+class BeanTypeIndex {
+
+    private final int version;
+    private final Map<Class<?>, List<String>> candidates;
+
+    // 타입 → 유일하게 결정된 빈 이름 캐시 (모호한 타입은 캐시하지 않음)
+    private final Map<Class<?>, String> resolvedNames = new ConcurrentHashMap<>();
+
+    private BeanTypeIndex(int version, Map<Class<?>, List<String>> candidates) {
+        this.version = version;
+        this.candidates = candidates;
+    }
+
+    /**
+     * @param beanDefinitions 등록 순서대로 정렬된 빈 정의들
+     */
+    static BeanTypeIndex build(List<BeanDefinition> beanDefinitions, int version) {
+        Map<Class<?>, List<String>> candidates = new HashMap<>();
+        for (BeanDefinition beanDefinition : beanDefinitions) {
+            for (Class<?> type : collectTypes(beanDefinition.getBeanClass())) {
+                candidates.computeIfAbsent(type, key -> new ArrayList<>()).add(beanDefinition.getBeanName());
+            }
+        }
+        return new BeanTypeIndex(version, candidates);
+    }
+
+    private static Set<Class<?>> collectTypes(Class<?> beanClass) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+            types.add(type);
+            collectInterfaces(type, types);
+        }
+        return types;
+    }
+
+    private static void collectInterfaces(Class<?> type, Set<Class<?>> types) {
+        for (Class<?> ifc : type.getInterfaces()) {
+            if (types.add(ifc)) {
+                collectInterfaces(ifc, types);
+            }
+        }
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * requiredType에 할당 가능한 모든 빈 이름 (등록 순서)
+     */
+    List<String> getCandidates(Class<?> requiredType) {
+        return candidates.getOrDefault(requiredType, Collections.emptyList());
+    }
+
+    String getResolvedName(Class<?> requiredType) {
+        return resolvedNames.get(requiredType);
+    }
+
+    void cacheResolvedName(Class<?> requiredType, String beanName) {
+        resolvedNames.put(requiredType, beanName);
+    }
+}
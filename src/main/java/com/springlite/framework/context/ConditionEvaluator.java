@@ -0,0 +1,113 @@
+package com.springlite.framework.context;
+
+import com.springlite.framework.annotations.ConditionalOnClass;
+import com.springlite.framework.annotations.ConditionalOnMissingBean;
+import com.springlite.framework.annotations.ConditionalOnProperty;
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.env.Environment;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Collection;
+
+/**
+ * 🔀 조건부 빈 등록 평가기
+ * Spring Boot의 OnPropertyCondition / OnClassCondition / OnBeanCondition을 참고하여 구현
+ *
+ * 빈 정의를 등록하는 시점에 어노테이션 메타데이터만 보고 판단하므로 조건이 맞지 않는 빈은
+ * 인스턴스화는 물론 @Autowired 멤버 탐색도 하지 않습니다.
+ * - @ConditionalOnProperty, @ConditionalOnClass: 등록 시점에 바로 평가
+ * - @ConditionalOnMissingBean: 다른 빈 정의가 모두 모인 뒤에 평가 (스캔 순서와 무관하게)
+ */
+class ConditionEvaluator {
+
+    private final ClassLoader classLoader;
+
+    ConditionEvaluator(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @ConditionalOnProperty / @ConditionalOnClass 평가
+     * @param environment 프로퍼티 조회 대상 (시스템 프로퍼티, 환경 변수, application.properties)
+     * @return 맞지 않는 조건 설명 (모두 맞으면 null)
+     */
+    String findFailedImmediateCondition(AnnotatedElement element, Environment environment) {
+        ConditionalOnProperty onProperty = element.getAnnotation(ConditionalOnProperty.class);
+        if (onProperty != null) {
+            for (String name : onProperty.name()) {
+                String key = propertyKey(onProperty.prefix(), name);
+                if (!matchesProperty(environment.getProperty(key), onProperty)) {
+                    return "@ConditionalOnProperty(" + key + ")";
+                }
+            }
+        }
+
+        ConditionalOnClass onClass = element.getAnnotation(ConditionalOnClass.class);
+        if (onClass != null) {
+            for (String className : onClass.value()) {
+                if (!isPresent(className)) {
+                    return "@ConditionalOnClass(" + className + ")";
+                }
+            }
+        }
+        return null;
+    }
+
+    boolean hasMissingBeanCondition(AnnotatedElement element) {
+        return element.isAnnotationPresent(ConditionalOnMissingBean.class);
+    }
+
+    /**
+     * @ConditionalOnMissingBean 평가
+     * @param beanType value와 name이 모두 비었을 때 사용할 타입 (클래스 또는 @Bean 메서드 반환 타입)
+     * @return 이미 등록된 빈 설명 (조건이 맞으면 null)
+     */
+    String findExistingBean(AnnotatedElement element, Class<?> beanType, Collection<BeanDefinition> registered) {
+        ConditionalOnMissingBean onMissingBean = element.getAnnotation(ConditionalOnMissingBean.class);
+        Class<?>[] types = onMissingBean.value();
+        String[] names = onMissingBean.name();
+        if (types.length == 0 && names.length == 0) {
+            types = new Class<?>[]{beanType};
+        }
+
+        for (BeanDefinition beanDefinition : registered) {
+            for (String name : names) {
+                if (name.equals(beanDefinition.getBeanName())) {
+                    return beanDefinition.getBeanName();
+                }
+            }
+            for (Class<?> type : types) {
+                if (type.isAssignableFrom(beanDefinition.getBeanClass())) {
+                    return beanDefinition.getBeanName() + " (" + type.getSimpleName() + ")";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String propertyKey(String prefix, String name) {
+        if (prefix.isEmpty()) {
+            return name;
+        }
+        return prefix.endsWith(".") ? prefix + name : prefix + "." + name;
+    }
+
+    private static boolean matchesProperty(String value, ConditionalOnProperty onProperty) {
+        if (value == null) {
+            return onProperty.matchIfMissing();
+        }
+        if (onProperty.havingValue().isEmpty()) {
+            return !"false".equalsIgnoreCase(value.trim());
+        }
+        return onProperty.havingValue().equalsIgnoreCase(value.trim());
+    }
+
+    private boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, classLoader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,572 @@
+package com.springlite.framework.context;
+
+import com.springlite.framework.beans.BeanDefinition;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📦 컨텍스트 스냅샷 (AOT 모드)
+ * Spring Framework의 AOT 처리(ApplicationContextAotGenerator)를 참고하여 구현
+ *
+ * 빌드 시점에 refresh를 한 번 실행해서 알아낸 정보를 작은 바이너리 파일로 저장합니다.
+ * - 빈 정의 (클래스, 스코프, @Autowired 멤버, 라이프사이클 메서드, @EventListener / @Scheduled 메서드, @Bean 팩토리 메서드)
+ * - 주입 순서 (미리 해석된 싱글톤 의존성 빈 이름)
+ * - 프록시 결정 (AOP / 트랜잭션 프록시 필요 여부)
+ * - 포인트컷 매칭 결과 (프록시 인터페이스 메서드별 어드바이스)
+ *
+ * 스냅샷으로 시작하면 컴포넌트 스캔, 멤버 어노테이션 탐색, @Bean 메서드 스캔, 포인트컷 평가를 건너뛰고
+ * 이름으로 필요한 멤버만 찾습니다. (getDeclaredField / getDeclaredMethod)
+ *
+ * 파일 형식: MAGIC, 형식 버전, 문자열 테이블, 빈 엔트리들 (문자열은 테이블 인덱스로 참조)
+ */
+public final class ContextSnapshot {
+
+    private static final int MAGIC = 0x53504C53; // "SPLS"
+    private static final int FORMAT_VERSION = 6;
+
+    private static final int NONE = 0xFFFF;
+
+    private static final int FLAG_LAZY = 1;
+    private static final int FLAG_DEFAULT_CANDIDATE = 1 << 1;
+    private static final int FLAG_BEAN_METHOD = 1 << 2;
+    private static final int FLAG_AUTOWIRED_CONSTRUCTOR = 1 << 3;
+    private static final int FLAG_DEPENDS_ON = 1 << 4;
+
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[]{boolean.class, byte.class, char.class, short.class,
+                int.class, long.class, float.class, double.class, void.class}) {
+            PRIMITIVES.put(type.getName(), type);
+        }
+    }
+
+    /**
+     * 빈 정의 하나에 대한 스냅샷 엔트리
+     */
+    static final class BeanEntry {
+        String name;
+        String className;
+        String scope;
+        int poolSize;
+        boolean lazy;
+        boolean defaultCandidate;
+        String initMethodName;
+        String destroyMethodName;
+
+        // @Bean 메서드 빈
+        boolean beanMethod;
+        String factoryBeanName;
+        String factoryClassName;
+        String factoryMethodName;
+        List<String> factoryParameterTypes = Collections.emptyList();
+
+        // 컴포넌트 빈
+        List<String> constructorParameterTypes; // @Autowired 생성자가 없으면 null
+        List<String> autowiredFields = new ArrayList<>();
+        List<MethodRef> autowiredMethods = new ArrayList<>();
+        List<String> postConstructMethods = new ArrayList<>();
+        List<String> preDestroyMethods = new ArrayList<>();
+
+        List<MethodRef> eventListenerMethods = new ArrayList<>();
+        List<MethodRef> scheduledMethods = new ArrayList<>();
+
+        List<String> dependsOn; // 해석하지 못했으면 null
+        Boolean aopProxyRequired;
+        List<AdviceMatch> adviceMatches = new ArrayList<>();
+    }
+
+    static final class MethodRef {
+        final String declaringClassName;
+        final String name;
+        final List<String> parameterTypes;
+
+        MethodRef(String declaringClassName, String name, List<String> parameterTypes) {
+            this.declaringClassName = declaringClassName;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+
+        static MethodRef of(Method method) {
+            return new MethodRef(method.getDeclaringClass().getName(), method.getName(), typeNames(method.getParameterTypes()));
+        }
+
+        Method resolve(ClassLoader classLoader) throws ReflectiveOperationException {
+            return loadClass(declaringClassName, classLoader).getDeclaredMethod(name, loadClasses(parameterTypes, classLoader));
+        }
+
+        /**
+         * 클래스를 로드하지 않고 method가 이 참조와 같은 메서드인지 (오버로드는 파라미터 타입으로 구분)
+         */
+        boolean matches(Method method) {
+            return method.getName().equals(name)
+                && method.getDeclaringClass().getName().equals(declaringClassName)
+                && typeNames(method.getParameterTypes()).equals(parameterTypes);
+        }
+    }
+
+    /**
+     * 프록시 인터페이스 메서드 하나에 매칭된 어드바이스들 (애스펙트 클래스명 + 어드바이스 메서드)
+     * 어드바이스 메서드는 파라미터 타입까지 기록하므로 오버로드된 어드바이스도 구분됩니다.
+     */
+    static final class AdviceMatch {
+        final MethodRef method;
+        final List<String> aspectClassNames;
+        final List<MethodRef> adviceMethods;
+
+        AdviceMatch(MethodRef method, List<String> aspectClassNames, List<MethodRef> adviceMethods) {
+            this.method = method;
+            this.aspectClassNames = aspectClassNames;
+            this.adviceMethods = adviceMethods;
+        }
+    }
+
+    private final List<BeanEntry> beans;
+    private final Map<String, BeanEntry> beansByName = new HashMap<>();
+
+    ContextSnapshot(List<BeanEntry> beans) {
+        this.beans = beans;
+        for (BeanEntry bean : beans) {
+            beansByName.put(bean.name, bean);
+        }
+    }
+
+    public int getBeanCount() {
+        return beans.size();
+    }
+
+    List<BeanEntry> getBeans() {
+        return beans;
+    }
+
+    /**
+     * 스냅샷의 빈 정의들을 등록 순서대로 복원합니다.
+     */
+    List<BeanDefinition> createBeanDefinitions(ClassLoader classLoader) {
+        List<BeanDefinition> beanDefinitions = new ArrayList<>(beans.size());
+        for (BeanEntry bean : beans) {
+            beanDefinitions.add(toBeanDefinition(bean, classLoader));
+        }
+        return beanDefinitions;
+    }
+
+    List<AdviceMatch> getAdviceMatches(String beanName) {
+        BeanEntry bean = beansByName.get(beanName);
+        return bean != null ? bean.adviceMatches : Collections.emptyList();
+    }
+
+    // ===== BeanDefinition ↔ BeanEntry =====
+
+    static BeanEntry toEntry(BeanDefinition beanDefinition) {
+        BeanEntry entry = new BeanEntry();
+        entry.name = beanDefinition.getBeanName();
+        entry.className = beanDefinition.getBeanClass().getName();
+        entry.scope = beanDefinition.getScope();
+        entry.poolSize = beanDefinition.getPoolSize();
+        entry.lazy = beanDefinition.isLazy();
+        entry.defaultCandidate = beanDefinition.isDefaultCandidate();
+        entry.initMethodName = emptyToNull(beanDefinition.getInitMethodName());
+        entry.destroyMethodName = emptyToNull(beanDefinition.getDestroyMethodName());
+
+        if (beanDefinition.isBeanMethod()) {
+            Method factoryMethod = beanDefinition.getBeanMethod();
+            entry.beanMethod = true;
+            entry.factoryBeanName = beanDefinition.getFactoryBeanName();
+            entry.factoryClassName = factoryMethod.getDeclaringClass().getName();
+            entry.factoryMethodName = factoryMethod.getName();
+            entry.factoryParameterTypes = typeNames(factoryMethod.getParameterTypes());
+        }
+
+        Constructor<?> constructor = beanDefinition.getAutowiredConstructor();
+        if (constructor != null) {
+            entry.constructorParameterTypes = typeNames(constructor.getParameterTypes());
+        }
+        for (Field field : beanDefinition.getAutowiredFields()) {
+            entry.autowiredFields.add(field.getName());
+        }
+        for (Method method : beanDefinition.getAutowiredMethods()) {
+            entry.autowiredMethods.add(MethodRef.of(method));
+        }
+        for (Method method : beanDefinition.getPostConstructMethods()) {
+            entry.postConstructMethods.add(method.getName());
+        }
+        for (Method method : beanDefinition.getPreDestroyMethods()) {
+            entry.preDestroyMethods.add(method.getName());
+        }
+        for (Method method : beanDefinition.getEventListenerMethods()) {
+            entry.eventListenerMethods.add(MethodRef.of(method));
+        }
+        for (Method method : beanDefinition.getScheduledMethods()) {
+            entry.scheduledMethods.add(MethodRef.of(method));
+        }
+        return entry;
+    }
+
+    /**
+     * 스냅샷 엔트리로부터 BeanDefinition을 복원합니다. 멤버는 이름으로만 찾습니다.
+     */
+    static BeanDefinition toBeanDefinition(BeanEntry entry, ClassLoader classLoader) {
+        try {
+            Class<?> beanClass = loadClass(entry.className, classLoader);
+            BeanDefinition beanDefinition;
+
+            if (entry.beanMethod) {
+                Method factoryMethod = loadClass(entry.factoryClassName, classLoader)
+                    .getDeclaredMethod(entry.factoryMethodName, loadClasses(entry.factoryParameterTypes, classLoader));
+                beanDefinition = new BeanDefinition(entry.name, beanClass, factoryMethod, null);
+                beanDefinition.setFactoryBeanName(entry.factoryBeanName);
+            } else {
+                beanDefinition = new BeanDefinition(entry.name, beanClass);
+                if (entry.constructorParameterTypes != null) {
+                    Constructor<?> constructor = beanClass.getDeclaredConstructor(
+                        loadClasses(entry.constructorParameterTypes, classLoader));
+                    constructor.setAccessible(true);
+                    beanDefinition.setAutowiredConstructor(constructor);
+                }
+                for (String fieldName : entry.autowiredFields) {
+                    Field field = beanClass.getDeclaredField(fieldName);
+                    field.setAccessible(true);
+                    beanDefinition.getAutowiredFields().add(field);
+                }
+                for (MethodRef methodRef : entry.autowiredMethods) {
+                    Method method = methodRef.resolve(classLoader);
+                    method.setAccessible(true);
+                    beanDefinition.getAutowiredMethods().add(method);
+                }
+                for (String methodName : entry.postConstructMethods) {
+                    beanDefinition.getPostConstructMethods().add(beanClass.getDeclaredMethod(methodName));
+                }
+                for (String methodName : entry.preDestroyMethods) {
+                    beanDefinition.getPreDestroyMethods().add(beanClass.getDeclaredMethod(methodName));
+                }
+            }
+
+            for (MethodRef methodRef : entry.eventListenerMethods) {
+                beanDefinition.getEventListenerMethods().add(methodRef.resolve(classLoader));
+            }
+            for (MethodRef methodRef : entry.scheduledMethods) {
+                beanDefinition.getScheduledMethods().add(methodRef.resolve(classLoader));
+            }
+
+            beanDefinition.setScope(entry.scope);
+            beanDefinition.setPoolSize(entry.poolSize);
+            beanDefinition.setLazy(entry.lazy);
+            beanDefinition.setDefaultCandidate(entry.defaultCandidate);
+            beanDefinition.setInitMethodName(entry.initMethodName);
+            beanDefinition.setDestroyMethodName(entry.destroyMethodName);
+            beanDefinition.setDependsOn(entry.dependsOn);
+            beanDefinition.setAopProxyRequired(entry.aopProxyRequired);
+            return beanDefinition;
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Context snapshot is out of date for bean: " + entry.name
+                + " (regenerate the snapshot)", e);
+        }
+    }
+
+    // ===== 쓰기 / 읽기 =====
+
+    public void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out);
+        }
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        // 1. 문자열 테이블 수집
+        StringTable strings = new StringTable();
+        for (BeanEntry bean : beans) {
+            strings.collect(bean);
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeShort(strings.values.size());
+        for (String value : strings.values) {
+            out.writeUTF(value);
+        }
+
+        // 2. 빈 엔트리
+        out.writeShort(beans.size());
+        for (BeanEntry bean : beans) {
+            int flags = (bean.lazy ? FLAG_LAZY : 0)
+                | (bean.defaultCandidate ? FLAG_DEFAULT_CANDIDATE : 0)
+                | (bean.beanMethod ? FLAG_BEAN_METHOD : 0)
+                | (bean.constructorParameterTypes != null ? FLAG_AUTOWIRED_CONSTRUCTOR : 0)
+                | (bean.dependsOn != null ? FLAG_DEPENDS_ON : 0);
+            out.writeByte(flags);
+            strings.write(out, bean.name);
+            strings.write(out, bean.className);
+            strings.write(out, bean.scope);
+            out.writeShort(bean.poolSize);
+            strings.write(out, bean.initMethodName);
+            strings.write(out, bean.destroyMethodName);
+
+            if (bean.beanMethod) {
+                strings.write(out, bean.factoryBeanName);
+                strings.write(out, bean.factoryClassName);
+                strings.write(out, bean.factoryMethodName);
+                strings.writeList(out, bean.factoryParameterTypes);
+            }
+            if (bean.constructorParameterTypes != null) {
+                strings.writeList(out, bean.constructorParameterTypes);
+            }
+            strings.writeList(out, bean.autowiredFields);
+            out.writeShort(bean.autowiredMethods.size());
+            for (MethodRef method : bean.autowiredMethods) {
+                strings.write(out, method);
+            }
+            strings.writeList(out, bean.postConstructMethods);
+            strings.writeList(out, bean.preDestroyMethods);
+            out.writeShort(bean.eventListenerMethods.size());
+            for (MethodRef method : bean.eventListenerMethods) {
+                strings.write(out, method);
+            }
+            out.writeShort(bean.scheduledMethods.size());
+            for (MethodRef method : bean.scheduledMethods) {
+                strings.write(out, method);
+            }
+            if (bean.dependsOn != null) {
+                strings.writeList(out, bean.dependsOn);
+            }
+            out.writeByte(encode(bean.aopProxyRequired));
+
+            out.writeShort(bean.adviceMatches.size());
+            for (AdviceMatch match : bean.adviceMatches) {
+                strings.write(out, match.method);
+                strings.writeList(out, match.aspectClassNames);
+                out.writeShort(match.adviceMethods.size());
+                for (MethodRef adviceMethod : match.adviceMethods) {
+                    strings.write(out, adviceMethod);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    public static ContextSnapshot read(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    public static ContextSnapshot read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a Spring Lite context snapshot");
+        }
+        int formatVersion = in.readUnsignedShort();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported context snapshot version: " + formatVersion);
+        }
+
+        String[] strings = new String[in.readUnsignedShort()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        int beanCount = in.readUnsignedShort();
+        List<BeanEntry> beans = new ArrayList<>(beanCount);
+        for (int i = 0; i < beanCount; i++) {
+            BeanEntry bean = new BeanEntry();
+            int flags = in.readUnsignedByte();
+            bean.lazy = (flags & FLAG_LAZY) != 0;
+            bean.defaultCandidate = (flags & FLAG_DEFAULT_CANDIDATE) != 0;
+            bean.beanMethod = (flags & FLAG_BEAN_METHOD) != 0;
+            bean.name = readString(in, strings);
+            bean.className = readString(in, strings);
+            bean.scope = readString(in, strings);
+            bean.poolSize = in.readUnsignedShort();
+            bean.initMethodName = readString(in, strings);
+            bean.destroyMethodName = readString(in, strings);
+
+            if (bean.beanMethod) {
+                bean.factoryBeanName = readString(in, strings);
+                bean.factoryClassName = readString(in, strings);
+                bean.factoryMethodName = readString(in, strings);
+                bean.factoryParameterTypes = readList(in, strings);
+            }
+            if ((flags & FLAG_AUTOWIRED_CONSTRUCTOR) != 0) {
+                bean.constructorParameterTypes = readList(in, strings);
+            }
+            bean.autowiredFields = readList(in, strings);
+            int methodCount = in.readUnsignedShort();
+            for (int j = 0; j < methodCount; j++) {
+                bean.autowiredMethods.add(readMethod(in, strings));
+            }
+            bean.postConstructMethods = readList(in, strings);
+            bean.preDestroyMethods = readList(in, strings);
+            int listenerCount = in.readUnsignedShort();
+            for (int j = 0; j < listenerCount; j++) {
+                bean.eventListenerMethods.add(readMethod(in, strings));
+            }
+            int scheduledCount = in.readUnsignedShort();
+            for (int j = 0; j < scheduledCount; j++) {
+                bean.scheduledMethods.add(readMethod(in, strings));
+            }
+            if ((flags & FLAG_DEPENDS_ON) != 0) {
+                bean.dependsOn = readList(in, strings);
+            }
+            bean.aopProxyRequired = decode(in.readByte());
+
+            int matchCount = in.readUnsignedShort();
+            for (int j = 0; j < matchCount; j++) {
+                MethodRef method = readMethod(in, strings);
+                List<String> aspectClassNames = readList(in, strings);
+                int adviceCount = in.readUnsignedShort();
+                List<MethodRef> adviceMethods = new ArrayList<>(adviceCount);
+                for (int k = 0; k < adviceCount; k++) {
+                    adviceMethods.add(readMethod(in, strings));
+                }
+                bean.adviceMatches.add(new AdviceMatch(method, aspectClassNames, adviceMethods));
+            }
+            beans.add(bean);
+        }
+        return new ContextSnapshot(beans);
+    }
+
+    /**
+     * 문자열 중복을 없애는 상수 테이블 (클래스명 등이 반복되므로 파일이 작아짐)
+     */
+    private static final class StringTable {
+        final List<String> values = new ArrayList<>();
+        final Map<String, Integer> indexes = new LinkedHashMap<>();
+
+        void add(String value) {
+            if (value != null && !indexes.containsKey(value)) {
+                if (values.size() >= NONE) {
+                    throw new IllegalStateException("Too many strings for context snapshot");
+                }
+                indexes.put(value, values.size());
+                values.add(value);
+            }
+        }
+
+        void addAll(List<String> list) {
+            if (list != null) {
+                list.forEach(this::add);
+            }
+        }
+
+        void add(MethodRef method) {
+            add(method.declaringClassName);
+            add(method.name);
+            addAll(method.parameterTypes);
+        }
+
+        void collect(BeanEntry bean) {
+            add(bean.name);
+            add(bean.className);
+            add(bean.scope);
+            add(bean.initMethodName);
+            add(bean.destroyMethodName);
+            add(bean.factoryBeanName);
+            add(bean.factoryClassName);
+            add(bean.factoryMethodName);
+            addAll(bean.factoryParameterTypes);
+            addAll(bean.constructorParameterTypes);
+            addAll(bean.autowiredFields);
+            bean.autowiredMethods.forEach(this::add);
+            addAll(bean.postConstructMethods);
+            addAll(bean.preDestroyMethods);
+            bean.eventListenerMethods.forEach(this::add);
+            bean.scheduledMethods.forEach(this::add);
+            addAll(bean.dependsOn);
+            for (AdviceMatch match : bean.adviceMatches) {
+                add(match.method);
+                addAll(match.aspectClassNames);
+                match.adviceMethods.forEach(this::add);
+            }
+        }
+
+        void write(DataOutputStream out, String value) throws IOException {
+            out.writeShort(value != null ? indexes.get(value) : NONE);
+        }
+
+        void writeList(DataOutputStream out, List<String> list) throws IOException {
+            out.writeShort(list.size());
+            for (String value : list) {
+                write(out, value);
+            }
+        }
+
+        void write(DataOutputStream out, MethodRef method) throws IOException {
+            write(out, method.declaringClassName);
+            write(out, method.name);
+            writeList(out, method.parameterTypes);
+        }
+    }
+
+    private static String readString(DataInputStream in, String[] strings) throws IOException {
+        int index = in.readUnsignedShort();
+        return index != NONE ? strings[index] : null;
+    }
+
+    private static List<String> readList(DataInputStream in, String[] strings) throws IOException {
+        int size = in.readUnsignedShort();
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readString(in, strings));
+        }
+        return list;
+    }
+
+    private static MethodRef readMethod(DataInputStream in, String[] strings) throws IOException {
+        String declaringClassName = readString(in, strings);
+        String name = readString(in, strings);
+        return new MethodRef(declaringClassName, name, readList(in, strings));
+    }
+
+    private static int encode(Boolean value) {
+        return value == null ? -1 : (value ? 1 : 0);
+    }
+
+    private static Boolean decode(byte value) {
+        return value < 0 ? null : value == 1;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    static List<String> typeNames(Class<?>[] types) {
+        List<String> names = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            names.add(type.getName());
+        }
+        return names;
+    }
+
+    static Class<?> loadClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, classLoader);
+    }
+
+    private static Class<?>[] loadClasses(List<String> names, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?>[] types = new Class<?>[names.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = loadClass(names.get(i), classLoader);
+        }
+        return types;
+    }
+}
@@ -0,0 +1,55 @@
+package com.springlite.framework.context;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * 📦 빌드 시점 컨텍스트 스냅샷 생성기
+ *
+ * 컨텍스트를 한 번 평소처럼 refresh 해서 (스캔 + 빈 생성) 그 결과를 스냅샷 파일로 저장합니다.
+ * 애플리케이션은 -Dspringlite.snapshot=파일 로 시작하면 스냅샷을 사용합니다.
+ *
+ * 사용법: ContextSnapshotGenerator <출력 파일> <설정 클래스 | 패키지...>
+ * (예: ./gradlew generateContextSnapshot)
+ */
+public class ContextSnapshotGenerator {
+
+    private static final Log log = LogFactory.getLog(ContextSnapshotGenerator.class);
+
+    public static final String SNAPSHOT_PROPERTY = "springlite.snapshot";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            log.error("사용법: ContextSnapshotGenerator <출력 파일> <설정 클래스 | 패키지...>");
+            System.exit(1);
+        }
+
+        Path output = Paths.get(args[0]);
+        String[] targets = Arrays.copyOfRange(args, 1, args.length);
+
+        try (AnnotationApplicationContext context = createContext(targets)) {
+            ContextSnapshot snapshot = context.createSnapshot();
+            snapshot.write(output);
+            log.info("📦 컨텍스트 스냅샷 생성 완료: {} ({} beans)", output.toAbsolutePath(), snapshot.getBeanCount());
+        }
+    }
+
+    /**
+     * 인자가 하나이고 클래스로 로딩되면 설정 클래스, 아니면 패키지 목록으로 취급합니다.
+     */
+    private static AnnotationApplicationContext createContext(String[] targets) {
+        if (targets.length == 1) {
+            try {
+                Class<?> configClass = Class.forName(targets[0], false, Thread.currentThread().getContextClassLoader());
+                return new AnnotationApplicationContext(configClass);
+            } catch (ClassNotFoundException e) {
+                // 패키지 이름
+            }
+        }
+        return new AnnotationApplicationContext(targets);
+    }
+}
@@ -0,0 +1,65 @@
+package com.springlite.framework.context;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * 💤 @Lazy 주입 지점용 지연 해석 프록시
+ * Spring Framework의 ContextAnnotationAutowireCandidateResolver.buildLazyResolutionProxy를 참고하여 구현
+ *
+ * 주입 시점에는 대상 빈을 만들지 않고, 프록시의 메서드가 처음 호출될 때 getBean으로 찾습니다.
+ * - 싱글톤 대상은 한 번 찾은 뒤 캐시합니다.
+ * - 프로토타입 대상은 호출마다 새로 찾습니다.
+ * thread / request 스코프 빈을 주입할 때의 스코프 프록시로도 사용합니다. (호출마다 현재 인스턴스를 찾음)
+ * 대상은 컨텍스트가 넘겨 준 조회 함수로 찾으므로 컨텍스트가 해석된 의존성을 기록할 수 있습니다.
+ * JDK 동적 프록시를 사용하므로 주입 지점 타입은 인터페이스여야 합니다.
+ */
+class LazyResolutionProxy implements InvocationHandler {
+
+    private final Function<String, Object> beanLookup;
+    private final String beanName;
+    private final boolean singleton;
+
+    private volatile Object target;
+
+    private LazyResolutionProxy(Function<String, Object> beanLookup, String beanName, boolean singleton) {
+        this.beanLookup = beanLookup;
+        this.beanName = beanName;
+        this.singleton = singleton;
+    }
+
+    static Object create(Function<String, Object> beanLookup, Class<?> type, String beanName, boolean singleton) {
+        return Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[]{type},
+            new LazyResolutionProxy(beanLookup, beanName, singleton));
+    }
+
+    private Object getTarget() {
+        if (!singleton) {
+            return beanLookup.apply(beanName);
+        }
+        Object result = target;
+        if (result == null) {
+            result = beanLookup.apply(beanName);
+            target = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class && "toString".equals(method.getName()) && target == null) {
+            // 디버깅 출력 때문에 대상 빈이 생성되지 않도록
+            return "LazyResolutionProxy for bean '" + beanName + "'";
+        }
+        try {
+            return method.invoke(getTarget(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
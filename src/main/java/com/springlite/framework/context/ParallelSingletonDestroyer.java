@@ -0,0 +1,294 @@
+package com.springlite.framework.context;
+
+import com.springlite.framework.scheduling.HashedWheelTimer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 🛑 의존성 그래프 역순 병렬 싱글톤 소멸기
+ *
+ * ParallelSingletonInstantiator와 같은 그래프(빈 이름 → 의존하는 빈 이름)를 거꾸로 따라갑니다.
+ * 빈은 자신에게 의존하는 빈들이 모두 소멸된 뒤에 소멸되고, 서로 독립적인 빈은 동시에 소멸됩니다.
+ * (커넥션 풀은 그 풀을 쓰는 서비스들이 모두 정리된 뒤에 닫힘)
+ *
+ * - 빈별 제한 시간: 넘기면 소멸 스레드를 interrupt하고 기다리지 않고 다음 빈으로 진행 (Report.getTimedOut())
+ * - 전체 제한 시간: 넘기면 아직 소멸되지 않은 빈은 포기 (Report.getAbandoned())
+ * - 소멸 콜백이 없는 빈은 스레드로 넘기지 않고 순서만 이어 줍니다.
+ * - 순환 의존성 때문에 정렬되지 않은 빈은 나머지가 끝난 뒤 하나씩 소멸합니다.
+ */
+class ParallelSingletonDestroyer {
+
+    private final int parallelism;
+    private final long beanTimeoutNanos;
+    private final long totalTimeoutNanos;
+
+    ParallelSingletonDestroyer(int parallelism, long beanTimeout, long totalTimeout, TimeUnit unit) {
+        this.parallelism = Math.max(1, parallelism);
+        this.beanTimeoutNanos = unit.toNanos(beanTimeout);
+        this.totalTimeoutNanos = unit.toNanos(totalTimeout);
+    }
+
+    /**
+     * @param dependencies 빈 이름 → 그 빈이 의존하는 빈 이름들 (생성된 싱글톤만, 등록 순서 유지)
+     * @param hasCallbacks @PreDestroy / destroyMethod가 있는 빈인지
+     * @param destroyer 빈 하나를 소멸시키는 콜백 (예외는 콜백이 처리)
+     */
+    Report destroy(Map<String, Set<String>> dependencies, Predicate<String> hasCallbacks, Consumer<String> destroyer) {
+        List<String> order = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        ParallelSingletonInstantiator.topologicalSort(dependencies, order, unresolved);
+
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + totalTimeoutNanos;
+        Run run = new Run(deadline, hasCallbacks, destroyer);
+        try {
+            // 생성 순서의 역순으로 만들면 의존하는 빈들의 future가 항상 먼저 만들어져 있음
+            Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+            for (int i = order.size() - 1; i >= 0; i--) {
+                String beanName = order.get(i);
+                CompletableFuture<?>[] upstream = dependents.getOrDefault(beanName, Collections.emptyList()).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture<?>[]::new);
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                futures.put(beanName, done);
+                CompletableFuture.allOf(upstream).whenComplete((ignored, error) -> run.start(beanName, done));
+            }
+            run.await(futures);
+
+            for (String beanName : unresolved) {
+                CompletableFuture<Void> done = new CompletableFuture<>();
+                run.start(beanName, done);
+                run.await(Collections.singletonMap(beanName, done));
+            }
+        } finally {
+            run.close();
+        }
+        return new Report(order.size() + unresolved.size(), run.durations, run.timedOut, run.abandoned,
+            System.nanoTime() - start, parallelism);
+    }
+
+    /**
+     * 한 번의 소멸 실행 상태 (작업 스레드 풀, 빈별 제한 시간 감시 타이머, 결과 수집)
+     */
+    private final class Run {
+        // 빈 하나의 소멸 작업 상태
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int INTERRUPTING = 2;
+        private static final int TIMED_OUT = 3;
+
+        private final long deadline;
+        private final Predicate<String> hasCallbacks;
+        private final Consumer<String> destroyer;
+
+        private final ExecutorService pool;
+        private final HashedWheelTimer watchdog;
+
+        final Map<String, Long> durations = new ConcurrentHashMap<>();
+        final Set<String> timedOut = ConcurrentHashMap.newKeySet();
+        final List<String> abandoned = Collections.synchronizedList(new ArrayList<>());
+
+        Run(long deadline, Predicate<String> hasCallbacks, Consumer<String> destroyer) {
+            this.deadline = deadline;
+            this.hasCallbacks = hasCallbacks;
+            this.destroyer = destroyer;
+            AtomicInteger threadNumber = new AtomicInteger();
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            this.pool = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "springlite-destroy-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setContextClassLoader(contextClassLoader);
+                return thread;
+            });
+            // 만료 처리는 future 완료와 interrupt뿐이므로 타이머 스레드에서 바로 실행
+            this.watchdog = new HashedWheelTimer("springlite-destroy-watchdog", 10, TimeUnit.MILLISECONDS, 64, Runnable::run);
+        }
+
+        void start(String beanName, CompletableFuture<Void> done) {
+            if (System.nanoTime() - deadline >= 0) {
+                abandoned.add(beanName);
+                done.complete(null);
+                return;
+            }
+            if (!hasCallbacks.test(beanName)) {
+                done.complete(null);
+                return;
+            }
+
+            try {
+                pool.execute(() -> run(beanName, done));
+            } catch (RejectedExecutionException e) {
+                abandoned.add(beanName);
+                done.complete(null);
+            }
+        }
+
+        /**
+         * 작업 스레드에서 소멸 콜백 실행. 빈별 제한 시간은 큐에서 기다린 시간을 빼고 실행을 시작한 시점부터 잽니다.
+         * 제한 시간이 지나면 스레드를 interrupt하고 이 빈을 기다리던 빈들을 진행시킵니다.
+         *
+         * 작업 상태(RUNNING → FINISHED / INTERRUPTING → TIMED_OUT)를 작업 스레드와 타이머가 CAS로 정하므로
+         * 콜백이 끝난 직후에 만료돼도 끝난 빈이 시간 초과로 기록되지 않습니다.
+         * 타이머가 먼저 이기면 작업 스레드는 interrupt가 끝날 때까지 기다렸다가 interrupt 상태를 지우고 반환하므로
+         * interrupt가 같은 스레드에서 실행될 다음 빈의 콜백에 걸리지 않습니다.
+         */
+        private void run(String beanName, CompletableFuture<Void> done) {
+            Thread worker = Thread.currentThread();
+            AtomicInteger state = new AtomicInteger(RUNNING);
+            long begin = System.nanoTime();
+            HashedWheelTimer.Timeout timeout = watchdog.newTimeout(() -> {
+                if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                    timedOut.add(beanName);
+                    worker.interrupt();
+                    state.set(TIMED_OUT);
+                    done.complete(null);
+                }
+            }, beanTimeoutNanos, TimeUnit.NANOSECONDS);
+            try {
+                destroyer.accept(beanName);
+            } finally {
+                timeout.cancel();
+                durations.put(beanName, System.nanoTime() - begin);
+                if (!state.compareAndSet(RUNNING, FINISHED)) {
+                    while (state.get() != TIMED_OUT) {
+                        Thread.onSpinWait();
+                    }
+                    Thread.interrupted();
+                }
+                done.complete(null);
+            }
+        }
+
+        /**
+         * 전체 제한 시간 안에 모두 끝나기를 기다리고, 끝나지 않은 빈은 포기 목록에 넣습니다.
+         */
+        void await(Map<String, CompletableFuture<Void>> futures) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                    .get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                for (Map.Entry<String, CompletableFuture<Void>> entry : futures.entrySet()) {
+                    if (entry.getValue().complete(null)) {
+                        abandoned.add(entry.getKey());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Map.Entry<String, CompletableFuture<Void>> entry : futures.entrySet()) {
+                    if (entry.getValue().complete(null)) {
+                        abandoned.add(entry.getKey());
+                    }
+                }
+            } catch (ExecutionException e) {
+                // 소멸 콜백의 예외는 destroyer가 처리하므로 여기까지 오지 않음
+            }
+        }
+
+        void close() {
+            pool.shutdownNow();
+            watchdog.stop();
+        }
+    }
+
+    /**
+     * 소멸 결과 리포트
+     */
+    static class Report {
+        private final int beanCount;
+        private final Map<String, Long> durations;
+        private final List<String> timedOut;
+        private final List<String> abandoned;
+        private final long wallNanos;
+        private final int parallelism;
+
+        Report(int beanCount, Map<String, Long> durations, Set<String> timedOut, List<String> abandoned,
+               long wallNanos, int parallelism) {
+            this.beanCount = beanCount;
+            this.durations = new HashMap<>(durations);
+            this.timedOut = new ArrayList<>(timedOut);
+            this.abandoned = new ArrayList<>(abandoned);
+            this.wallNanos = wallNanos;
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * 빈별 제한 시간을 넘긴 빈들
+         */
+        List<String> getTimedOut() {
+            return timedOut;
+        }
+
+        /**
+         * 전체 제한 시간이 지나서 소멸하지 못한 빈들
+         */
+        List<String> getAbandoned() {
+            return abandoned;
+        }
+
+        /**
+         * 소멸 콜백 실행 시간이 긴 순서 (최대 limit개)
+         */
+        Map<String, Long> getSlowest(int limit) {
+            Map<String, Long> slowest = new LinkedHashMap<>();
+            durations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(limit)
+                .forEach(entry -> slowest.put(entry.getKey(), entry.getValue()));
+            return slowest;
+        }
+
+        long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * 순차 소멸했다면 걸렸을 시간(빈별 소멸 시간 합) - 실제 경과 시간
+         */
+        long getSavedNanos() {
+            long total = 0;
+            for (long duration : durations.values()) {
+                total += duration;
+            }
+            return total - wallNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder slowest = new StringBuilder();
+            for (Map.Entry<String, Long> entry : getSlowest(3).entrySet()) {
+                slowest.append(slowest.length() == 0 ? "" : ", ")
+                    .append(String.format("%s %.1fms", entry.getKey(), entry.getValue() / 1e6));
+            }
+            return String.format(
+                "🛑 병렬 빈 소멸: %d beans, %d callbacks, parallelism=%d, wall=%.1fms, saved=%.1fms%n" +
+                "   느린 빈: %s",
+                beanCount, durations.size(), parallelism, wallNanos / 1e6, Math.max(getSavedNanos(), 0L) / 1e6,
+                slowest.length() == 0 ? "-" : slowest);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.springlite.framework.context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * ⚡ 의존성 그래프(DAG) 기반 병렬 싱글톤 생성기
+ *
+ * 빈 이름 → 의존하는 빈 이름 그래프를 위상 정렬한 뒤,
+ * 의존성이 모두 생성된 빈부터 고정 크기 스레드 풀에서 동시에 생성합니다.
+ * (@PostConstruct에서 캐시 워밍업, 커넥션 준비 등 느린 I/O를 하는 빈들이 서로 기다리지 않음)
+ *
+ * ForkJoinPool은 쓰지 않습니다. 다른 스레드가 생성 중인 빈을 join()으로 기다리는 동안
+ * 작업 훔치기(work-stealing)로 다른 빈의 생성을 같은 스레드에서 실행할 수 있고,
+ * 그러면 스레드별 "생성 중" 집합에 두 빈이 함께 들어가 가짜 순환 의존성 오류가 납니다.
+ * 작업은 의존성이 끝난 뒤에만 제출되므로, 대기 중인 스레드는 이미 실행 중인 생성만 기다립니다.
+ *
+ * 순환 의존성 때문에 정렬되지 않은 빈은 생성하지 않고 Report.getUnresolved()로 돌려줍니다.
+ * 호출자는 이 빈들을 기존처럼 순차 생성하여 순환 의존성 오류를 보고합니다.
+ */
+class ParallelSingletonInstantiator {
+
+    private final int parallelism;
+
+    ParallelSingletonInstantiator(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param dependencies 빈 이름 → 먼저 생성되어야 하는 빈 이름들 (삽입 순서 유지)
+     * @param creator 빈 하나를 생성하는 콜백 (getBean)
+     */
+    Report instantiate(Map<String, Set<String>> dependencies, Consumer<String> creator) {
+        List<String> order = new ArrayList<>();
+        List<String> unresolved = new ArrayList<>();
+        topologicalSort(dependencies, order, unresolved);
+
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        Map<String, CompletableFuture<Void>> futures = new HashMap<>();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        ExecutorService pool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), new InitializerThreadFactory(contextClassLoader));
+
+        long start = System.nanoTime();
+        try {
+            for (String beanName : order) {
+                Runnable task = () -> {
+                    long beanStart = System.nanoTime();
+                    creator.accept(beanName);
+                    durations.put(beanName, System.nanoTime() - beanStart);
+                };
+                CompletableFuture<?>[] upstream = dependencies.get(beanName).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture<?>[]::new);
+                CompletableFuture<Void> future = upstream.length == 0
+                    ? CompletableFuture.runAsync(task, pool)
+                    : CompletableFuture.allOf(upstream).thenRunAsync(task, pool);
+                futures.put(beanName, future);
+            }
+
+            try {
+                CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        return new Report(order, unresolved, dependencies, durations, wallNanos, parallelism);
+    }
+
+    /**
+     * Kahn 알고리즘으로 위상 정렬. 순환에 걸린 빈은 unresolved로 분리합니다.
+     */
+    static void topologicalSort(Map<String, Set<String>> dependencies, List<String> order, List<String> unresolved) {
+        Map<String, Integer> inDegree = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+            inDegree.put(entry.getKey(), entry.getValue().size());
+            for (String dependency : entry.getValue()) {
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+
+        Deque<String> ready = new ArrayDeque<>();
+        for (String beanName : dependencies.keySet()) {
+            if (inDegree.get(beanName) == 0) {
+                ready.add(beanName);
+            }
+        }
+        while (!ready.isEmpty()) {
+            String beanName = ready.poll();
+            order.add(beanName);
+            for (String dependent : dependents.getOrDefault(beanName, Collections.emptyList())) {
+                if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        Set<String> sorted = new LinkedHashSet<>(order);
+        for (String beanName : dependencies.keySet()) {
+            if (!sorted.contains(beanName)) {
+                unresolved.add(beanName);
+            }
+        }
+    }
+
+    /**
+     * 초기화 스레드에 이름과 컨텍스트 클래스로더를 지정하는 팩토리
+     */
+    private static class InitializerThreadFactory implements ThreadFactory {
+        private final ClassLoader contextClassLoader;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        InitializerThreadFactory(ClassLoader contextClassLoader) {
+            this.contextClassLoader = contextClassLoader;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "springlite-init-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }
+    }
+
+    /**
+     * 병렬 생성 결과 리포트
+     */
+    static class Report {
+        private final List<String> order;
+        private final List<String> unresolved;
+        private final long wallNanos;
+        private final long totalNanos;
+        private final long criticalPathNanos;
+        private final List<String> criticalPath;
+        private final int parallelism;
+
+        Report(List<String> order, List<String> unresolved, Map<String, Set<String>> dependencies,
+               Map<String, Long> durations, long wallNanos, int parallelism) {
+            this.order = order;
+            this.unresolved = unresolved;
+            this.wallNanos = wallNanos;
+            this.parallelism = parallelism;
+
+            // 위상 순서대로 "이 빈이 끝나는 가장 이른 시점"을 계산해서 임계 경로를 구함
+            Map<String, Long> finish = new HashMap<>();
+            Map<String, String> previous = new HashMap<>();
+            long total = 0;
+            String last = null;
+            for (String beanName : order) {
+                long duration = durations.getOrDefault(beanName, 0L);
+                total += duration;
+                long earliestStart = 0;
+                for (String dependency : dependencies.get(beanName)) {
+                    Long dependencyFinish = finish.get(dependency);
+                    if (dependencyFinish != null && dependencyFinish >= earliestStart) {
+                        earliestStart = dependencyFinish;
+                        previous.put(beanName, dependency);
+                    }
+                }
+                finish.put(beanName, earliestStart + duration);
+                if (last == null || finish.get(beanName) > finish.get(last)) {
+                    last = beanName;
+                }
+            }
+            this.totalNanos = total;
+            this.criticalPathNanos = last != null ? finish.get(last) : 0;
+
+            List<String> path = new ArrayList<>();
+            for (String beanName = last; beanName != null; beanName = previous.get(beanName)) {
+                path.add(0, beanName);
+            }
+            this.criticalPath = path;
+        }
+
+        List<String> getUnresolved() {
+            return unresolved;
+        }
+
+        List<String> getCriticalPath() {
+            return criticalPath;
+        }
+
+        long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * 순차 생성했다면 걸렸을 시간(빈별 생성 시간 합) - 실제 경과 시간
+         */
+        long getSavedNanos() {
+            return totalNanos - wallNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "⚡ 병렬 빈 생성: %d beans, parallelism=%d, wall=%.1fms, sequential=%.1fms, saved=%.1fms%n" +
+                "   임계 경로: %d beans, %.1fms %s",
+                order.size(), parallelism, wallNanos / 1e6, totalNanos / 1e6, getSavedNanos() / 1e6,
+                criticalPath.size(), criticalPathNanos / 1e6, String.join(" → ", criticalPath));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.springlite.framework.context;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 🔒 싱글톤 레지스트리
+ * Spring Framework의 DefaultSingletonBeanRegistry를 참고하여 구현
+ *
+ * - 생성이 끝난 싱글톤은 ConcurrentHashMap에서 락 없이 읽습니다.
+ * - 생성은 빈마다 CompletableFuture 하나로 조율합니다. (전역 락 없음)
+ *   같은 빈을 동시에 처음 요청한 스레드들은 먼저 등록한 스레드의 결과를 기다리므로
+ *   인스턴스와 @PostConstruct가 정확히 한 번만 만들어지고 실행됩니다.
+ * - 스레드 간 대기 그래프(wait-for graph)를 따라가서 서로를 기다리는 순환을 감지하면
+ *   데드락 대신 순환 의존성 예외를 던집니다.
+ */
+class SingletonRegistry {
+
+    private final Map<String, Object> singletons = new ConcurrentHashMap<>();
+
+    // 생성 중인 빈 이름 → 생성 작업
+    private final Map<String, Creation> creations = new ConcurrentHashMap<>();
+
+    // 대기 중인 스레드 → 기다리는 빈 이름
+    private final Map<Thread, String> waiting = new ConcurrentHashMap<>();
+
+    private static class Creation {
+        final Thread owner = Thread.currentThread();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+    }
+
+    Object get(String beanName) {
+        return singletons.get(beanName);
+    }
+
+    boolean contains(String beanName) {
+        return singletons.containsKey(beanName);
+    }
+
+    /**
+     * 이미 만들어진 인스턴스를 등록합니다. (수동 등록)
+     */
+    void register(String beanName, Object instance) {
+        singletons.put(beanName, instance);
+    }
+
+    void clear() {
+        singletons.clear();
+    }
+
+    /**
+     * 싱글톤을 반환합니다. 없으면 factory로 정확히 한 번만 생성합니다.
+     */
+    Object getOrCreate(String beanName, Supplier<Object> factory) {
+        // 1. 빠른 경로: 락 없는 읽기
+        Object instance = singletons.get(beanName);
+        if (instance != null) {
+            return instance;
+        }
+
+        // 2. 생성 권한 얻기 (빈마다 하나의 Creation만 등록됨)
+        Creation creation = new Creation();
+        Creation existing = creations.putIfAbsent(beanName, creation);
+        if (existing != null) {
+            return awaitCreation(beanName, existing);
+        }
+
+        try {
+            // 첫 읽기와 등록 사이에 다른 스레드가 생성을 끝냈을 수 있음
+            instance = singletons.get(beanName);
+            if (instance == null) {
+                instance = factory.get();
+                singletons.put(beanName, instance);
+            }
+            creation.future.complete(instance);
+            return instance;
+        } catch (RuntimeException | Error e) {
+            creation.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            creations.remove(beanName, creation);
+        }
+    }
+
+    private Object awaitCreation(String beanName, Creation creation) {
+        Thread current = Thread.currentThread();
+        if (creation.owner == current) {
+            throw new RuntimeException("Circular dependency detected for bean: " + beanName);
+        }
+
+        waiting.put(current, beanName);
+        try {
+            detectDeadlock(current, beanName);
+            return creation.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        } finally {
+            waiting.remove(current);
+        }
+    }
+
+    /**
+     * 현재 스레드 → (빈 생성 스레드) → (그 스레드가 기다리는 빈의 생성 스레드) ... 를 따라가서
+     * 다시 현재 스레드로 돌아오면 서로를 기다리는 순환입니다.
+     */
+    private void detectDeadlock(Thread current, String beanName) {
+        StringBuilder chain = new StringBuilder(beanName);
+        String waitingFor = beanName;
+        for (int hops = 0; waitingFor != null && hops <= creations.size(); hops++) {
+            Creation creation = creations.get(waitingFor);
+            if (creation == null) {
+                return;
+            }
+            if (creation.owner == current) {
+                throw new RuntimeException("Circular dependency detected between threads: " + chain);
+            }
+            waitingFor = waiting.get(creation.owner);
+            if (waitingFor != null) {
+                chain.append(" → ").append(waitingFor);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.springlite.framework.context.event;
+
+/**
+ * 📣 애플리케이션 이벤트 기본 클래스
+ * Spring Framework의 ApplicationEvent를 참고하여 구현
+ *
+ * 이벤트가 꼭 이 클래스를 상속할 필요는 없습니다. (아무 객체나 publishEvent 가능)
+ * 발생시킨 객체와 시각이 필요한 이벤트에 사용합니다.
+ */
+public abstract class ApplicationEvent {
+
+    private final Object source;
+    private final long timestamp;
+
+    protected ApplicationEvent(Object source) {
+        this.source = source;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public Object getSource() {
+        return source;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[source=" + source + "]";
+    }
+}
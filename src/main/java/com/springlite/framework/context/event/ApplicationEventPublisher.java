@@ -0,0 +1,18 @@
+package com.springlite.framework.context.event;
+
+/**
+ * 📣 이벤트 발행 인터페이스
+ * Spring Framework의 ApplicationEventPublisher를 참고하여 구현
+ *
+ * 빈끼리 서로를 직접 주입받지 않고 이벤트로 통신할 수 있습니다.
+ * ApplicationContext가 구현하며 applicationEventPublisher 빈으로 주입받을 수 있습니다.
+ */
+@FunctionalInterface
+public interface ApplicationEventPublisher {
+
+    /**
+     * 이벤트 타입(및 상위 타입)을 받는 모든 @EventListener에 전달합니다.
+     * 동기 리스너는 발행한 스레드에서 바로, @Async 리스너는 이벤트 실행기에서 실행됩니다.
+     */
+    void publishEvent(Object event);
+}
@@ -0,0 +1,147 @@
+package com.springlite.framework.context.event;
+
+import com.springlite.framework.annotations.Async;
+import com.springlite.framework.annotations.EventListener;
+import com.springlite.framework.proxy.ProxyUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * 📣 @EventListener 메서드 하나를 리스너로 감싼 어댑터
+ * Spring Framework의 ApplicationListenerMethodAdapter를 참고하여 구현
+ *
+ * 이벤트 타입과 @Async 여부는 만들 때 한 번 결정하고, 메서드는 MethodHandle로 호출합니다.
+ * 빈이 인터페이스 기반 프록시(AOP, 트랜잭션)로 감싸져 있으면 프록시가 구현한 인터페이스의 같은 메서드를 호출합니다.
+ * 싱글톤 리스너 빈은 처음 찾은 인스턴스를 재사용합니다.
+ */
+public class ApplicationListenerMethodAdapter {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final String beanName;
+    private final Method method;
+    private final Class<?>[] eventTypes;
+    private final boolean async;
+    private final boolean singleton;
+    private final Function<String, Object> beanLookup;
+
+    // 대상 클래스별 호출 핸들 (싱글톤이면 사실상 한 번만 만듦)
+    private volatile Class<?> invokerTargetClass;
+    private volatile MethodHandle invoker;
+    private volatile Object singletonTarget;
+
+    public ApplicationListenerMethodAdapter(String beanName, Method method, boolean singleton,
+                                            Function<String, Object> beanLookup) {
+        this.beanName = beanName;
+        this.method = method;
+        this.eventTypes = resolveEventTypes(method);
+        this.async = method.isAnnotationPresent(Async.class);
+        this.singleton = singleton;
+        this.beanLookup = beanLookup;
+    }
+
+    private static Class<?>[] resolveEventTypes(Method method) {
+        EventListener eventListener = method.getAnnotation(EventListener.class);
+        if (method.getParameterCount() > 1) {
+            throw new RuntimeException("@EventListener method must have at most one parameter: " + method);
+        }
+        if (method.getParameterCount() == 1) {
+            Class<?> parameterType = method.getParameterTypes()[0];
+            for (Class<?> declared : eventListener.value()) {
+                if (!parameterType.isAssignableFrom(declared)) {
+                    throw new RuntimeException("@EventListener type " + declared.getName()
+                        + " is not assignable to parameter of " + method);
+                }
+            }
+            return eventListener.value().length > 0 ? eventListener.value() : new Class<?>[]{parameterType};
+        }
+        if (eventListener.value().length == 0) {
+            throw new RuntimeException("@EventListener method without parameter must declare event types: " + method);
+        }
+        return eventListener.value();
+    }
+
+    public boolean supportsEventType(Class<?> eventType) {
+        for (Class<?> type : eventTypes) {
+            if (type.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public String getBeanName() {
+        return beanName;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * 리스너 메서드를 호출합니다. (리스너가 던진 예외는 그대로 전파)
+     */
+    public void onEvent(Object event) {
+        Object target = getTarget();
+        MethodHandle handle = getInvoker(target.getClass());
+        try {
+            handle.invokeExact(target, event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Event listener failed: " + this, e);
+        }
+    }
+
+    private Object getTarget() {
+        Object target = singletonTarget;
+        if (target == null) {
+            target = beanLookup.apply(beanName);
+            if (singleton) {
+                singletonTarget = target;
+            }
+        }
+        return target;
+    }
+
+    private MethodHandle getInvoker(Class<?> targetClass) {
+        MethodHandle handle = invoker;
+        if (handle != null && invokerTargetClass == targetClass) {
+            return handle;
+        }
+        handle = createInvoker(targetClass);
+        invoker = handle;
+        invokerTargetClass = targetClass;
+        return handle;
+    }
+
+    private MethodHandle createInvoker(Class<?> targetClass) {
+        // 프록시: 프록시가 구현한 인터페이스에서 같은 시그니처의 메서드를 찾음
+        Method invocable = ProxyUtils.selectInvocableMethod(method, targetClass);
+        try {
+            invocable.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflect(invocable);
+            if (invocable.getParameterCount() == 0) {
+                handle = MethodHandles.dropArguments(handle, 1, Object.class);
+            }
+            return handle.asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access event listener method: " + invocable, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return beanName + "." + method.getName() + Arrays.toString(eventTypes) + (async ? " (async)" : "");
+    }
+}
@@ -0,0 +1,17 @@
+package com.springlite.framework.context.event;
+
+import com.springlite.framework.context.ApplicationContext;
+
+/**
+ * 📣 close 시작 이벤트 (빈이 소멸되기 전이므로 리스너에서 아직 빈을 사용할 수 있음)
+ */
+public class ContextClosedEvent extends ApplicationEvent {
+
+    public ContextClosedEvent(ApplicationContext source) {
+        super(source);
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return (ApplicationContext) getSource();
+    }
+}
@@ -0,0 +1,17 @@
+package com.springlite.framework.context.event;
+
+import com.springlite.framework.context.ApplicationContext;
+
+/**
+ * 📣 refresh 완료 이벤트 (모든 즉시 생성 싱글톤이 준비된 뒤)
+ */
+public class ContextRefreshedEvent extends ApplicationEvent {
+
+    public ContextRefreshedEvent(ApplicationContext source) {
+        super(source);
+    }
+
+    public ApplicationContext getApplicationContext() {
+        return (ApplicationContext) getSource();
+    }
+}
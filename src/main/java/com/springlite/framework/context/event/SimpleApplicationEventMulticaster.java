@@ -0,0 +1,149 @@
+package com.springlite.framework.context.event;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📣 이벤트를 리스너들에게 전달하는 멀티캐스터
+ * Spring Framework의 SimpleApplicationEventMulticaster를 참고하여 구현
+ *
+ * 이벤트 클래스별로 받을 리스너 배열을 한 번만 계산해서 캐시합니다.
+ * 발행할 때는 캐시 조회 한 번 + MethodHandle 호출뿐이고, 리스너가 추가되면 캐시를 비웁니다.
+ *
+ * @Async 리스너는 크기가 제한된 실행기로 넘깁니다.
+ * 큐가 가득 차면 발행한 스레드가 직접 실행하므로(caller-runs) 이벤트를 버리거나 큐가 끝없이 커지지 않고
+ * 발행 속도가 소비 속도에 맞춰 느려집니다. (backpressure)
+ */
+public class SimpleApplicationEventMulticaster {
+
+    private static final Log log = LogFactory.getLog(SimpleApplicationEventMulticaster.class);
+
+    private static final ApplicationListenerMethodAdapter[] NO_LISTENERS = new ApplicationListenerMethodAdapter[0];
+
+    private final List<ApplicationListenerMethodAdapter> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, ApplicationListenerMethodAdapter[]> listenerCache = new ConcurrentHashMap<>();
+    private volatile ThreadPoolExecutor asyncExecutor;
+
+    public void addListener(ApplicationListenerMethodAdapter listener) {
+        listeners.add(listener);
+        listenerCache.clear();
+    }
+
+    public void removeAllListeners() {
+        listeners.clear();
+        listenerCache.clear();
+    }
+
+    public List<ApplicationListenerMethodAdapter> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    public boolean hasAsyncListeners() {
+        for (ApplicationListenerMethodAdapter listener : listeners) {
+            if (listener.isAsync()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @Async 리스너용 실행기 (없으면 @Async 리스너도 발행한 스레드에서 실행)
+     */
+    public void setAsyncExecutor(ThreadPoolExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public ThreadPoolExecutor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * 이벤트를 받을 리스너들 (등록 순서)
+     */
+    public ApplicationListenerMethodAdapter[] getListeners(Class<?> eventType) {
+        ApplicationListenerMethodAdapter[] cached = listenerCache.get(eventType);
+        if (cached == null) {
+            cached = listenerCache.computeIfAbsent(eventType, this::retrieveListeners);
+        }
+        return cached;
+    }
+
+    private ApplicationListenerMethodAdapter[] retrieveListeners(Class<?> eventType) {
+        List<ApplicationListenerMethodAdapter> matching = new ArrayList<>();
+        for (ApplicationListenerMethodAdapter listener : listeners) {
+            if (listener.supportsEventType(eventType)) {
+                matching.add(listener);
+            }
+        }
+        return matching.isEmpty() ? NO_LISTENERS : matching.toArray(NO_LISTENERS);
+    }
+
+    public void multicastEvent(Object event) {
+        ApplicationListenerMethodAdapter[] targets = getListeners(event.getClass());
+        for (ApplicationListenerMethodAdapter listener : targets) {
+            ThreadPoolExecutor executor = asyncExecutor;
+            if (listener.isAsync() && executor != null) {
+                executor.execute(() -> invokeAsync(listener, event));
+            } else {
+                listener.onEvent(event);
+            }
+        }
+    }
+
+    private static void invokeAsync(ApplicationListenerMethodAdapter listener, Object event) {
+        try {
+            listener.onEvent(event);
+        } catch (Throwable e) {
+            // 비동기 리스너의 예외는 발행한 쪽에 전달할 방법이 없으므로 기록만 함
+            log.error("❌ 비동기 이벤트 리스너 실패: {} ({})", listener, event, e);
+        }
+    }
+
+    /**
+     * 실행 중이거나 큐에 남은 비동기 이벤트를 timeout 동안 기다린 뒤 실행기를 종료합니다.
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        ThreadPoolExecutor executor = asyncExecutor;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, unit)) {
+                List<Runnable> dropped = executor.shutdownNow();
+                log.warn("⚠️  비동기 이벤트 {}건을 처리하지 못하고 종료합니다", dropped.size());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 크기가 제한된 실행기 (고정 스레드 수 + 제한된 큐 + caller-runs)
+     * 종료된 뒤에 들어온 작업도 호출한 스레드에서 실행하므로 이벤트가 사라지지 않습니다.
+     */
+    public static ThreadPoolExecutor createBoundedExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, (runnable, executor) -> runnable.run());
+    }
+}
@@ -0,0 +1,119 @@
+package com.springlite.framework.context.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * 🗂️ 컴파일 시점에 생성된 컴포넌트 인덱스
+ * Spring Framework의 CandidateComponentsIndex를 참고하여 구현
+ *
+ * ComponentIndexProcessor가 만든 META-INF/spring-lite.components 파일들을 읽어서
+ * 패키지 디렉토리 탐색과 Class.forName 없이 후보 컴포넌트 클래스명을 돌려줍니다.
+ * 인덱스 파일이 있는 클래스패스 루트(디렉토리 / jar)만 인덱스가 대신하므로, 인덱스가 없는 루트
+ * (프로세서 없이 빌드한 IDE 출력, 인덱싱되지 않은 jar)는 호출자가 계속 스캔해야 합니다. ({@link #covers})
+ *
+ * -Dspringlite.index.ignore=true 로 인덱스를 무시하고 클래스패스 스캔을 강제할 수 있습니다.
+ */
+public class CandidateComponentsIndex {
+
+    public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring-lite.components";
+
+    public static final String IGNORE_INDEX_PROPERTY = "springlite.index.ignore";
+
+    // 클래스로더별 캐시 (인덱스가 없으면 NONE)
+    // 약한 키: 벤치마크의 URLClassLoader처럼 버려진 클래스로더가 캐시 때문에 수거되지 않는 일이 없도록
+    private static final Map<ClassLoader, CandidateComponentsIndex> cache =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final CandidateComponentsIndex NONE =
+        new CandidateComponentsIndex(Collections.emptyList(), Collections.emptySet());
+
+    private final List<String> candidateTypes;
+    private final Set<String> indexedRoots; // 인덱스 파일이 있는 루트 URL (예: jar:file:/app.jar!/)
+
+    private CandidateComponentsIndex(List<String> candidateTypes, Set<String> indexedRoots) {
+        this.candidateTypes = candidateTypes;
+        this.indexedRoots = indexedRoots;
+    }
+
+    /**
+     * 클래스로더에서 인덱스를 읽어옵니다.
+     * 인덱스 파일이 없거나 springlite.index.ignore=true 이면 null을 반환합니다.
+     */
+    public static CandidateComponentsIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return null;
+        }
+        CandidateComponentsIndex index = cache.computeIfAbsent(classLoader, CandidateComponentsIndex::doLoad);
+        return index != NONE ? index : null;
+    }
+
+    private static CandidateComponentsIndex doLoad(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+            if (!urls.hasMoreElements()) {
+                return NONE;
+            }
+            List<String> types = new ArrayList<>();
+            Set<String> roots = new HashSet<>();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Properties properties = new Properties();
+                try (InputStream in = url.openStream()) {
+                    properties.load(in);
+                }
+                types.addAll(properties.stringPropertyNames());
+                String spec = url.toString();
+                roots.add(spec.substring(0, spec.length() - COMPONENTS_RESOURCE_LOCATION.length()));
+            }
+            Collections.sort(types);
+            return new CandidateComponentsIndex(types, roots);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load component index from " + COMPONENTS_RESOURCE_LOCATION, e);
+        }
+    }
+
+    /**
+     * basePackage(하위 패키지 포함)에 속한 후보 컴포넌트 클래스명을 반환합니다.
+     */
+    public List<String> getCandidateTypes(String basePackage) {
+        String prefix = basePackage + ".";
+        List<String> result = new ArrayList<>();
+        for (String type : candidateTypes) {
+            if (type.startsWith(prefix)) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * basePackage 디렉토리 URL(ClassLoader.getResources의 결과)이 인덱스 파일이 있는 루트에 속하는지
+     * false이면 그 루트의 컴포넌트는 인덱스에 없으므로 스캔해야 합니다.
+     */
+    public boolean covers(URL packageUrl, String basePackage) {
+        String spec = packageUrl.toString();
+        if (spec.endsWith("/")) {
+            spec = spec.substring(0, spec.length() - 1);
+        }
+        String packagePath = basePackage.replace('.', '/');
+        if (!spec.endsWith(packagePath)) {
+            return false;
+        }
+        return indexedRoots.contains(spec.substring(0, spec.length() - packagePath.length()));
+    }
+
+    public int size() {
+        return candidateTypes.size();
+    }
+}
@@ -0,0 +1,197 @@
+package com.springlite.framework.context.scan;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 📄 클래스 파일(.class) 바이트코드에서 읽어낸 최소한의 메타데이터
+ * Spring Framework의 ClassMetadata / AnnotationMetadata (ASM 기반)를 참고하여 구현
+ *
+ * 클래스를 로딩하지 않고 상수 풀과 클래스 레벨 RuntimeVisibleAnnotations 속성만 파싱합니다.
+ * 따라서 정적 초기화가 실행되지 않고, 후보가 아닌 클래스는 JVM에 정의되지도 않습니다.
+ */
+public final class ClassFileMetadata {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_ANNOTATION = 0x2000;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final String className;
+    private final int accessFlags;
+    private final List<String> annotationTypes;
+
+    private ClassFileMetadata(String className, int accessFlags, List<String> annotationTypes) {
+        this.className = className;
+        this.accessFlags = accessFlags;
+        this.annotationTypes = annotationTypes;
+    }
+
+    /**
+     * 클래스 파일 바이트를 파싱합니다.
+     */
+    public static ClassFileMetadata read(byte[] classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor_version
+        in.readUnsignedShort(); // major_version
+
+        // 1. 상수 풀: Utf8 문자열과 Class 엔트리만 보관
+        int constantPoolCount = in.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+        boolean hasAnnotations = false;
+
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8[i] = in.readUTF();
+                    if (RUNTIME_VISIBLE_ANNOTATIONS.equals(utf8[i])) {
+                        hasAnnotations = true;
+                    }
+                    break;
+                case 7: // Class
+                    classNameIndex[i] = in.readUnsignedShort();
+                    break;
+                case 8:  // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.skipBytes(2);
+                    break;
+                case 15: // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3:  // Integer
+                case 4:  // Float
+                case 9:  // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.skipBytes(8);
+                    i++; // 8바이트 상수는 두 슬롯을 차지
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        int accessFlags = in.readUnsignedShort();
+        String className = utf8[classNameIndex[in.readUnsignedShort()]].replace('/', '.');
+
+        // 어노테이션 속성이 상수 풀에 없으면 나머지는 볼 필요가 없음
+        if (!hasAnnotations) {
+            return new ClassFileMetadata(className, accessFlags, Collections.emptyList());
+        }
+
+        in.readUnsignedShort(); // super_class
+        int interfacesCount = in.readUnsignedShort();
+        in.skipBytes(interfacesCount * 2);
+
+        // 2. 필드 / 메서드는 건너뛰기
+        skipMembers(in);
+        skipMembers(in);
+
+        // 3. 클래스 레벨 속성에서 RuntimeVisibleAnnotations 찾기
+        List<String> annotationTypes = new ArrayList<>();
+        int attributesCount = in.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            String attributeName = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                int annotationCount = in.readUnsignedShort();
+                for (int j = 0; j < annotationCount; j++) {
+                    annotationTypes.add(descriptorToClassName(utf8[in.readUnsignedShort()]));
+                    skipElementValuePairs(in);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+        return new ClassFileMetadata(className, accessFlags, annotationTypes);
+    }
+
+    private static void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.skipBytes(6); // access_flags, name_index, descriptor_index
+            int attributesCount = in.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                in.skipBytes(2);
+                in.skipBytes(in.readInt());
+            }
+        }
+    }
+
+    private static void skipElementValuePairs(DataInputStream in) throws IOException {
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipBytes(2); // element_name_index
+            skipElementValue(in);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e': // enum: type_name_index, const_name_index
+                in.skipBytes(4);
+                break;
+            case '@': // 중첩 어노테이션
+                in.skipBytes(2);
+                skipElementValuePairs(in);
+                break;
+            case '[': // 배열
+                int values = in.readUnsignedShort();
+                for (int i = 0; i < values; i++) {
+                    skipElementValue(in);
+                }
+                break;
+            default: // 기본형, String, Class: const_value_index / class_info_index
+                in.skipBytes(2);
+        }
+    }
+
+    private static String descriptorToClassName(String descriptor) {
+        // "Lcom/example/Foo;" → "com.example.Foo"
+        return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * 인스턴스화 가능한 구체 클래스인지 (인터페이스, 추상 클래스, 어노테이션 제외)
+     */
+    public boolean isConcrete() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION)) == 0;
+    }
+
+    public boolean isAnnotation() {
+        return (accessFlags & ACC_ANNOTATION) != 0;
+    }
+
+    /**
+     * 클래스에 직접 선언된 (RUNTIME 유지) 어노테이션 타입명 목록
+     */
+    public List<String> getAnnotationTypes() {
+        return annotationTypes;
+    }
+}
@@ -0,0 +1,170 @@
+package com.springlite.framework.context.scan;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 🔎 클래스패스 컴포넌트 스캐너
+ * Spring Framework의 ClassPathScanningCandidateComponentProvider를 참고하여 구현
+ *
+ * - 디렉토리와 jar(FileSystems.newFileSystem)를 모두 NIO로 탐색합니다.
+ *   (fat jar로 실행해도 컴포넌트를 찾을 수 있음)
+ * - 각 .class 파일은 ClassFileMetadata로 바이트코드만 읽어서 스테레오타입 어노테이션을 확인합니다.
+ * - 클래스 로딩은 호출자가 후보 클래스에 대해서만 수행합니다.
+ */
+public class ClassPathComponentScanner {
+
+    private static final String COMPONENT = "com.springlite.framework.annotations.Component";
+
+    private final ClassLoader classLoader;
+    private final Set<String> stereotypes;
+
+    // 어노테이션 타입명 → @Component 메타 어노테이션 여부 캐시
+    private final Map<String, Boolean> metaAnnotationCache = new HashMap<>();
+
+    public ClassPathComponentScanner(ClassLoader classLoader, Set<String> stereotypes) {
+        this.classLoader = classLoader;
+        this.stereotypes = stereotypes;
+    }
+
+    /**
+     * basePackage(하위 패키지 포함)에서 스테레오타입이 붙은 구체 클래스명을 찾습니다.
+     */
+    public List<String> findCandidateComponents(String basePackage) throws IOException {
+        return findCandidateComponents(basePackage, root -> true);
+    }
+
+    /**
+     * rootFilter를 통과한 클래스패스 루트의 basePackage 디렉토리만 탐색합니다.
+     * (컴포넌트 인덱스가 있는 루트를 건너뛸 때 사용)
+     */
+    public List<String> findCandidateComponents(String basePackage, Predicate<URL> rootFilter) throws IOException {
+        String packagePath = basePackage.replace('.', '/');
+        Set<String> candidates = new LinkedHashSet<>();
+
+        Enumeration<URL> roots = classLoader.getResources(packagePath);
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if (!rootFilter.test(root)) {
+                continue;
+            }
+            try {
+                if ("jar".equals(root.getProtocol())) {
+                    scanJar(root, packagePath, candidates);
+                } else if ("file".equals(root.getProtocol())) {
+                    scanPath(Paths.get(root.toURI()), candidates);
+                }
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid classpath root: " + root, e);
+            }
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    private void scanJar(URL root, String packagePath, Set<String> candidates) throws IOException, URISyntaxException {
+        // jar:file:/app.jar!/com/example → jar:file:/app.jar
+        String spec = root.toString();
+        int separator = spec.indexOf("!/");
+        URI jarUri = new URI(separator >= 0 ? spec.substring(0, separator) : spec);
+
+        FileSystem fileSystem;
+        boolean created = false;
+        try {
+            fileSystem = FileSystems.newFileSystem(jarUri, Collections.emptyMap());
+            created = true;
+        } catch (FileSystemAlreadyExistsException e) {
+            fileSystem = FileSystems.getFileSystem(jarUri);
+        }
+
+        try {
+            scanPath(fileSystem.getPath("/" + packagePath), candidates);
+        } finally {
+            if (created) {
+                fileSystem.close();
+            }
+        }
+    }
+
+    private void scanPath(Path packageDir, Set<String> candidates) throws IOException {
+        if (!Files.isDirectory(packageDir)) {
+            return;
+        }
+        List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(packageDir)) {
+            classFiles = paths
+                .filter(path -> path.getFileName().toString().endsWith(".class"))
+                .filter(path -> !path.getFileName().toString().endsWith("-info.class"))
+                .collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            ClassFileMetadata metadata = ClassFileMetadata.read(Files.readAllBytes(classFile));
+            if (isCandidate(metadata)) {
+                candidates.add(metadata.getClassName());
+            }
+        }
+    }
+
+    private boolean isCandidate(ClassFileMetadata metadata) {
+        if (!metadata.isConcrete()) {
+            return false;
+        }
+        for (String annotationType : metadata.getAnnotationTypes()) {
+            if (stereotypes.contains(annotationType) || isMetaAnnotatedComponent(annotationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 정의 스테레오타입 지원: 어노테이션 클래스 파일을 읽어서 @Component 메타 어노테이션을 확인
+     */
+    private boolean isMetaAnnotatedComponent(String annotationType) {
+        Boolean cached = metaAnnotationCache.get(annotationType);
+        if (cached != null) {
+            return cached;
+        }
+        // 재귀 순환 방지를 위해 먼저 false로 기록
+        metaAnnotationCache.put(annotationType, false);
+
+        boolean result = false;
+        if (!annotationType.startsWith("java.")) {
+            try (InputStream in = classLoader.getResourceAsStream(annotationType.replace('.', '/') + ".class")) {
+                if (in != null) {
+                    ClassFileMetadata metadata = ClassFileMetadata.read(in.readAllBytes());
+                    for (String meta : metadata.getAnnotationTypes()) {
+                        if (COMPONENT.equals(meta) || isMetaAnnotatedComponent(meta)) {
+                            result = true;
+                            break;
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read annotation type " + annotationType, e);
+            }
+        }
+        metaAnnotationCache.put(annotationType, result);
+        return result;
+    }
+}
@@ -0,0 +1,26 @@
+package com.springlite.framework.context.scope;
+
+import com.springlite.framework.beans.BeanDefinition;
+
+import java.util.function.Supplier;
+
+/**
+ * 🧭 빈 스코프
+ * Spring Framework의 org.springframework.beans.factory.config.Scope를 참고하여 구현
+ *
+ * singleton / prototype 이외의 스코프에서 빈 인스턴스를 어디에 보관하고 언제 새로 만들지 결정합니다.
+ * 컨텍스트는 getBean 시 빈 정의의 스코프 이름으로 BeanScope를 찾아 위임합니다.
+ */
+public interface BeanScope {
+    
+    /**
+     * 현재 스코프의 빈 인스턴스를 반환합니다. 없으면 objectFactory로 생성합니다.
+     */
+    Object get(BeanDefinition beanDefinition, Supplier<Object> objectFactory);
+    
+    /**
+     * 컨텍스트 종료 시 호출됩니다. 보관 중인 인스턴스를 정리합니다.
+     */
+    default void close() {
+    }
+}
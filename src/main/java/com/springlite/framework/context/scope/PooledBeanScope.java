@@ -0,0 +1,192 @@
+package com.springlite.framework.context.scope;
+
+import com.springlite.framework.beans.BeanDefinition;
+import com.springlite.framework.proxy.MethodInvoker;
+import com.springlite.framework.proxy.ProxyDispatcher;
+import com.springlite.framework.proxy.ProxyUtils;
+import com.springlite.framework.proxy.SubclassProxyFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * ♻️ pooled 스코프 - 비싼 non-thread-safe 인스턴스를 풀에서 빌려 쓰기
+ * Spring Framework의 CommonsPool2TargetSource를 참고하여 구현
+ *
+ * getBean은 빈마다 하나인 풀 프록시를 반환합니다. 프록시의 메서드가 호출될 때마다
+ * 유휴 인스턴스를 빌려서 호출하고 다시 반납하므로, 여러 스레드가 동시에 써도 인스턴스는 공유되지 않습니다.
+ * - 유휴 인스턴스는 최대 poolSize개까지 보관합니다.
+ * - 풀이 비어 있으면 기다리지 않고 새로 만들고, 반납 시 풀이 가득 차 있으면 소멸시킵니다.
+ *   (재진입 호출이나 풀 크기보다 많은 동시 호출에서도 데드락이 없음)
+ * 상속할 수 있는 빈 클래스는 클래스 기반(서브클래스) 프록시를 사용하므로 getBean(구체 클래스)로도 찾을 수 있습니다.
+ * final 클래스 등은 JDK 동적 프록시를 사용하므로 인터페이스를 구현해야 하고, 인터페이스 타입으로만 찾을 수 있습니다.
+ */
+public class PooledBeanScope implements BeanScope {
+    
+    private final BiConsumer<BeanDefinition, Object> destroyer;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    
+    /**
+     * @param destroyer 풀에서 버려지는 인스턴스를 소멸시키는 콜백 (@PreDestroy, destroyMethod 호출)
+     */
+    public PooledBeanScope(BiConsumer<BeanDefinition, Object> destroyer) {
+        this.destroyer = destroyer;
+    }
+    
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> objectFactory) {
+        String beanName = beanDefinition.getBeanName();
+        Pool pool = pools.get(beanName);
+        if (pool == null) {
+            // 풀 생성은 인스턴스를 만들지 않으므로 경쟁해도 하나만 남기면 됨
+            Pool created = new Pool(beanDefinition, objectFactory);
+            pool = pools.putIfAbsent(beanName, created);
+            if (pool == null) {
+                pool = created;
+            }
+        }
+        return pool.proxy;
+    }
+    
+    @Override
+    public void close() {
+        for (Pool pool : pools.values()) {
+            pool.drain();
+        }
+        pools.clear();
+    }
+    
+    private final class Pool implements InvocationHandler, ProxyDispatcher {
+        private final BeanDefinition beanDefinition;
+        private final Supplier<Object> objectFactory;
+        private final BlockingQueue<Object> idle;
+        private final List<Method> methods; // 클래스 기반 프록시의 메서드 번호표 (JDK 프록시면 null)
+        private final MethodInvoker invoker;
+        private final Object proxy;
+        
+        Pool(BeanDefinition beanDefinition, Supplier<Object> objectFactory) {
+            this.beanDefinition = beanDefinition;
+            this.objectFactory = objectFactory;
+            this.idle = new ArrayBlockingQueue<>(Math.max(1, beanDefinition.getPoolSize()));
+            Class<?> beanClass = beanDefinition.getBeanClass();
+            if (SubclassProxyFactory.isProxyable(beanClass)) {
+                SubclassProxyFactory.ProxyClass proxyClass = SubclassProxyFactory.getProxyClass(beanClass);
+                this.methods = proxyClass.getMethods();
+                this.invoker = proxyClass.getInvoker();
+                this.proxy = proxyClass.newInstance(this);
+            } else {
+                this.methods = null;
+                this.invoker = null;
+                this.proxy = Proxy.newProxyInstance(beanClass.getClassLoader(), collectInterfaces(beanClass), this);
+            }
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            Object target = borrow();
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                giveBack(target);
+            }
+        }
+        
+        @Override
+        public Object dispatch(Object proxy, int methodIndex, Object[] args) throws Throwable {
+            Method method = methods.get(methodIndex);
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, method, args);
+            }
+            Object target = borrow();
+            try {
+                if (beanDefinition.getBeanClass().isInstance(target)) {
+                    return invoker.invoke(methodIndex, target, args);
+                }
+                // 인터페이스 기반 AOP 프록시로 감싸진 인스턴스는 인터페이스 메서드로 호출
+                return ProxyUtils.selectInvocableMethod(method, target.getClass()).invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                giveBack(target);
+            }
+        }
+        
+        /**
+         * 풀 프록시에는 고정된 원본 객체가 없음 (호출마다 빌려 씀)
+         */
+        @Override
+        public Object getTarget() {
+            return null;
+        }
+        
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledProxy for bean '" + beanDefinition.getBeanName() + "'";
+                default:
+                    Object target = borrow();
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        giveBack(target);
+                    }
+            }
+        }
+        
+        private Object borrow() {
+            Object target = idle.poll();
+            return target != null ? target : objectFactory.get();
+        }
+        
+        private void giveBack(Object target) {
+            if (!idle.offer(target)) {
+                destroyer.accept(beanDefinition, target);
+            }
+        }
+        
+        void drain() {
+            Object target;
+            while ((target = idle.poll()) != null) {
+                destroyer.accept(beanDefinition, target);
+            }
+        }
+    }
+    
+    private static Class<?>[] collectInterfaces(Class<?> beanClass) {
+        if (beanClass.isInterface()) {
+            return new Class<?>[]{beanClass};
+        }
+        Set<Class<?>> interfaces = new LinkedHashSet<>();
+        for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+            for (Class<?> ifc : type.getInterfaces()) {
+                interfaces.add(ifc);
+            }
+        }
+        if (interfaces.isEmpty()) {
+            throw new RuntimeException("Pooled bean must implement an interface: " + beanClass.getName());
+        }
+        return interfaces.toArray(new Class<?>[0]);
+    }
+}
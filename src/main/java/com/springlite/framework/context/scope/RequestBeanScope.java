@@ -0,0 +1,40 @@
+package com.springlite.framework.context.scope;
+
+import com.springlite.framework.beans.BeanDefinition;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 🌐 request 스코프 - DispatcherServlet 요청마다 하나의 인스턴스
+ * Spring Framework의 RequestScope를 참고하여 구현
+ *
+ * 인스턴스는 RequestContextHolder의 현재 요청에 보관되고, 요청이 끝나면 destroyer로 소멸됩니다.
+ */
+public class RequestBeanScope implements BeanScope {
+    
+    private final BiConsumer<BeanDefinition, Object> destroyer;
+    
+    /**
+     * @param destroyer 요청이 끝날 때 빈을 소멸시키는 콜백 (@PreDestroy, destroyMethod 호출)
+     */
+    public RequestBeanScope(BiConsumer<BeanDefinition, Object> destroyer) {
+        this.destroyer = destroyer;
+    }
+    
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> objectFactory) {
+        String beanName = beanDefinition.getBeanName();
+        RequestContextHolder.RequestAttributes attributes = RequestContextHolder.currentRequestAttributes(beanName);
+        Map<String, Object> scopedObjects = attributes.getScopedObjects(this);
+        Object instance = scopedObjects.get(beanName);
+        if (instance == null) {
+            instance = objectFactory.get();
+            scopedObjects.put(beanName, instance);
+            Object created = instance;
+            attributes.registerDestructionCallback(() -> destroyer.accept(beanDefinition, created));
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,87 @@
+package com.springlite.framework.context.scope;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🌐 현재 스레드에 바인딩된 요청 정보
+ * Spring Framework의 RequestContextHolder / RequestAttributes를 참고하여 구현
+ *
+ * DispatcherServlet이 요청을 처리하는 동안 request 스코프 빈을 보관하고,
+ * 요청이 끝나면 등록된 소멸 콜백(@PreDestroy 등)을 생성의 역순으로 실행합니다.
+ */
+public final class RequestContextHolder {
+    
+    private static final Log log = LogFactory.getLog(RequestContextHolder.class);
+    
+    private static final ThreadLocal<RequestAttributes> CURRENT = new ThreadLocal<>();
+    
+    private RequestContextHolder() {
+    }
+    
+    /**
+     * 요청 하나 동안 유지되는 속성
+     */
+    public static final class RequestAttributes {
+        // 스코프(컨텍스트)별 빈 이름 → 인스턴스
+        private final Map<Object, Map<String, Object>> scopedObjects = new HashMap<>();
+        private final List<Runnable> destructionCallbacks = new ArrayList<>();
+        
+        Map<String, Object> getScopedObjects(Object owner) {
+            return scopedObjects.computeIfAbsent(owner, key -> new HashMap<>());
+        }
+        
+        void registerDestructionCallback(Runnable callback) {
+            destructionCallbacks.add(callback);
+        }
+    }
+    
+    /**
+     * 요청을 시작합니다. 이미 진행 중인 요청이 있으면 (forward/include 등) false를 반환하고
+     * 바깥 요청이 그대로 유지됩니다. true를 받은 호출자만 endRequest()를 호출해야 합니다.
+     */
+    public static boolean beginRequest() {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new RequestAttributes());
+        return true;
+    }
+    
+    /**
+     * 요청을 끝내고 request 스코프 빈들을 소멸시킵니다.
+     */
+    public static void endRequest() {
+        RequestAttributes attributes = CURRENT.get();
+        CURRENT.remove();
+        if (attributes == null) {
+            return;
+        }
+        List<Runnable> callbacks = attributes.destructionCallbacks;
+        for (int i = callbacks.size() - 1; i >= 0; i--) {
+            try {
+                callbacks.get(i).run();
+            } catch (RuntimeException e) {
+                log.error("❌ request 스코프 빈 소멸 중 오류 발생", e);
+            }
+        }
+    }
+    
+    public static boolean isRequestActive() {
+        return CURRENT.get() != null;
+    }
+    
+    static RequestAttributes currentRequestAttributes(String beanName) {
+        RequestAttributes attributes = CURRENT.get();
+        if (attributes == null) {
+            throw new RuntimeException("No active request for request-scoped bean '" + beanName
+                + "' (request scope is only available while DispatcherServlet handles a request)");
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.springlite.framework.context.scope;
+
+import com.springlite.framework.beans.BeanDefinition;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 🧵 thread 스코프 - 스레드마다 하나의 인스턴스
+ * Spring Framework의 SimpleThreadScope를 참고하여 구현
+ *
+ * 인스턴스는 스레드가 살아 있는 동안 유지되며 @PreDestroy는 호출되지 않습니다.
+ * (다른 스레드의 ThreadLocal에는 접근할 수 없으므로 close()는 현재 스레드 것만 정리)
+ */
+public class ThreadBeanScope implements BeanScope {
+    
+    private final ThreadLocal<Map<String, Object>> threadScope = ThreadLocal.withInitial(HashMap::new);
+    
+    @Override
+    public Object get(BeanDefinition beanDefinition, Supplier<Object> objectFactory) {
+        Map<String, Object> scopedObjects = threadScope.get();
+        Object instance = scopedObjects.get(beanDefinition.getBeanName());
+        if (instance == null) {
+            // 생성 중에 다른 thread 빈을 조회할 수 있으므로 computeIfAbsent를 쓰지 않음
+            instance = objectFactory.get();
+            scopedObjects.put(beanDefinition.getBeanName(), instance);
+        }
+        return instance;
+    }
+    
+    @Override
+    public void close() {
+        threadScope.remove();
+    }
+}
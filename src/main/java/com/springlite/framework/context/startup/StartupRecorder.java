@@ -0,0 +1,239 @@
+package com.springlite.framework.context.startup;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🕒 기동 단계 기록기
+ * Spring Framework의 ApplicationStartup / StartupStep (BufferingApplicationStartup)을 참고하여 구현
+ *
+ * refresh의 각 단계(스캔, 설정 클래스 생성, @Bean 스캔, 애스펙트 등록, 빈 생성)와 빈마다의
+ * 생성 / 주입 / @PostConstruct / 프록시 생성을 단계(Step)로 기록합니다.
+ * 단계마다 소요 시간, 스레드, (같은 스레드의) 할당 바이트, 부모 단계를 남기므로
+ * JSON 리포트와 flame graph용 collapsed stack으로 느린 빈을 찾을 수 있습니다.
+ *
+ * 비활성화 상태에서는 모든 단계가 같은 no-op 객체이므로 비용이 거의 없습니다.
+ */
+public class StartupRecorder {
+
+    /**
+     * 지정하면 refresh 후 리포트를 저장합니다. (값.json / 값.collapsed)
+     */
+    public static final String REPORT_PROPERTY = "springlite.startup.report";
+
+    private static final Step NOOP_STEP = new Step(null, 0, 0, "noop", null);
+
+    private final boolean enabled;
+    private volatile boolean recording;
+    private final long startNanos = System.nanoTime();
+    private final AtomicInteger ids = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Step> steps = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Deque<Step>> currentSteps = ThreadLocal.withInitial(ArrayDeque::new);
+
+    // 다른 스레드에서 시작된 단계(병렬 빈 생성 등)는 진행 중인 최상위 단계 아래에 기록
+    private volatile Step activePhase;
+
+    public StartupRecorder(boolean enabled) {
+        this.enabled = enabled;
+        this.recording = enabled;
+    }
+
+    /**
+     * -Dspringlite.startup.report 가 있으면 활성화된 기록기
+     */
+    public static StartupRecorder fromSystemProperties() {
+        return new StartupRecorder(System.getProperty(REPORT_PROPERTY) != null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기록 중인지 (refresh가 끝나면 finish()로 기록을 멈춰서 이후 getBean이 단계를 쌓지 않음)
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void finish() {
+        recording = false;
+    }
+
+    /**
+     * 단계를 시작합니다. 현재 스레드에서 진행 중인 단계가 부모가 됩니다.
+     * 반드시 같은 스레드에서 end()(또는 try-with-resources)로 끝내야 합니다.
+     */
+    public Step start(String name) {
+        if (!recording) {
+            return NOOP_STEP;
+        }
+        Deque<Step> stack = currentSteps.get();
+        Step parent = stack.peek();
+        if (parent == null) {
+            parent = activePhase;
+        }
+        Step step = new Step(this, ids.incrementAndGet(), parent != null ? parent.id : 0, name, parent);
+        stack.push(step);
+        if (step.parent == null) {
+            activePhase = step;
+        }
+        steps.add(step);
+        return step;
+    }
+
+    /**
+     * 단계를 시작하고 action을 실행한 뒤 끝냅니다. (태그를 달지 않는 단계용)
+     */
+    public void record(String name, Runnable action) {
+        Step step = start(name);
+        try {
+            action.run();
+        } finally {
+            step.end();
+        }
+    }
+
+    private void end(Step step) {
+        Deque<Step> stack = currentSteps.get();
+        stack.remove(step);
+        if (activePhase == step) {
+            activePhase = null;
+        }
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 기록된 단계들 (시작 순서)
+     */
+    public List<Step> getSteps() {
+        return Collections.unmodifiableList(new ArrayList<>(steps));
+    }
+
+    /**
+     * JSON 리포트와 collapsed stack 파일을 저장합니다.
+     * @param prefix 파일 경로 접두사 (prefix.json, prefix.collapsed)
+     */
+    public void writeReports(String prefix) throws IOException {
+        StartupReportWriter writer = new StartupReportWriter(this);
+        writer.writeJson(Paths.get(prefix + ".json"));
+        writer.writeCollapsedStacks(Paths.get(prefix + ".collapsed"));
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0L;
+    }
+
+    /**
+     * 기록된 단계 하나
+     */
+    public static final class Step implements AutoCloseable {
+        private final StartupRecorder recorder;
+        private final int id;
+        private final int parentId;
+        private final String name;
+        private final Step parent;
+        private final String threadName;
+        private final long startNanos;
+        private final long startAllocatedBytes;
+        private final Map<String, String> tags = new LinkedHashMap<>();
+
+        private volatile long endNanos;
+        private volatile long allocatedBytes;
+
+        private Step(StartupRecorder recorder, int id, int parentId, String name, Step parent) {
+            this.recorder = recorder;
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+            this.parent = parent;
+            this.threadName = Thread.currentThread().getName();
+            this.startNanos = recorder != null ? System.nanoTime() : 0L;
+            this.startAllocatedBytes = recorder != null ? allocatedBytes() : 0L;
+        }
+
+        public Step tag(String key, String value) {
+            if (recorder != null) {
+                tags.put(key, value);
+            }
+            return this;
+        }
+
+        public void end() {
+            if (recorder == null || endNanos != 0L) {
+                return;
+            }
+            allocatedBytes = allocatedBytes() - startAllocatedBytes;
+            endNanos = System.nanoTime();
+            recorder.end(this);
+        }
+
+        @Override
+        public void close() {
+            end();
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public int getParentId() {
+            return parentId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Step getParent() {
+            return parent;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public Map<String, String> getTags() {
+            return tags;
+        }
+
+        public boolean isEnded() {
+            return endNanos != 0L;
+        }
+
+        /**
+         * 기록기 생성 시점부터 단계 시작까지 (ns)
+         */
+        public long getStartOffsetNanos() {
+            return startNanos - recorder.getStartNanos();
+        }
+
+        public long getDurationNanos() {
+            return (endNanos != 0L ? endNanos : System.nanoTime()) - startNanos;
+        }
+
+        /**
+         * 이 단계를 시작한 스레드에서 단계 동안 할당된 바이트 (자식 단계 포함)
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
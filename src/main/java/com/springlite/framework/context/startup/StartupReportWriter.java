@@ -0,0 +1,204 @@
+package com.springlite.framework.context.startup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🕒 기동 리포트 출력
+ *
+ * - JSON: 최상위 단계(phase) 요약, 빈별 생성 시간 (느린 순), 전체 단계 목록
+ * - collapsed stack: "refresh;context.instantiate;bean.create[a];bean.create[b] 123" 형식 (값은 self 시간 µs)
+ *   flamegraph.pl, speedscope, async-profiler의 converter 등에서 그대로 열 수 있습니다.
+ */
+public class StartupReportWriter {
+
+    private static final String BEAN_CREATE = "bean.create";
+
+    private final List<StartupRecorder.Step> steps;
+    private final Map<Integer, Long> childNanos = new HashMap<>();
+
+    public StartupReportWriter(StartupRecorder recorder) {
+        this.steps = recorder.getSteps();
+        for (StartupRecorder.Step step : steps) {
+            if (step.getParent() != null) {
+                childNanos.merge(step.getParentId(), step.getDurationNanos(), Long::sum);
+            }
+        }
+    }
+
+    /**
+     * 자식 단계를 뺀 자기 시간
+     * 병렬로 실행된 자식들의 합이 부모의 벽시계 시간보다 길면 0 (부모는 기다리기만 한 것)
+     */
+    public long getSelfNanos(StartupRecorder.Step step) {
+        return Math.max(0L, step.getDurationNanos() - childNanos.getOrDefault(step.getId(), 0L));
+    }
+
+    /**
+     * 빈 생성 단계 (소요 시간이 긴 순)
+     */
+    public List<StartupRecorder.Step> getBeanSteps() {
+        List<StartupRecorder.Step> beanSteps = new ArrayList<>();
+        for (StartupRecorder.Step step : steps) {
+            if (BEAN_CREATE.equals(step.getName())) {
+                beanSteps.add(step);
+            }
+        }
+        beanSteps.sort(Comparator.comparingLong(StartupRecorder.Step::getDurationNanos).reversed());
+        return beanSteps;
+    }
+
+    public void writeJson(Path path) throws IOException {
+        StringBuilder json = new StringBuilder(4096);
+        long totalNanos = 0L;
+        for (StartupRecorder.Step step : steps) {
+            totalNanos = Math.max(totalNanos, step.getStartOffsetNanos() + step.getDurationNanos());
+        }
+
+        json.append("{\n  \"totalMillis\": ").append(millis(totalNanos)).append(",\n");
+
+        json.append("  \"phases\": [");
+        String separator = "\n";
+        for (StartupRecorder.Step step : steps) {
+            if (step.getParent() == null) {
+                json.append(separator).append("    {\"name\": ").append(quote(step.getName()))
+                    .append(", \"thread\": ").append(quote(step.getThreadName()))
+                    .append(", \"durationMillis\": ").append(millis(step.getDurationNanos()))
+                    .append(", \"allocatedBytes\": ").append(step.getAllocatedBytes()).append('}');
+                separator = ",\n";
+            }
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"beans\": [");
+        separator = "\n";
+        for (StartupRecorder.Step step : getBeanSteps()) {
+            json.append(separator).append("    {\"beanName\": ").append(quote(step.getTags().get("beanName")))
+                .append(", \"chain\": ").append(quote(step.getTags().get("chain")))
+                .append(", \"thread\": ").append(quote(step.getThreadName()))
+                .append(", \"durationMicros\": ").append(micros(step.getDurationNanos()))
+                .append(", \"selfMicros\": ").append(micros(getSelfNanos(step)))
+                .append(", \"allocatedBytes\": ").append(step.getAllocatedBytes()).append('}');
+            separator = ",\n";
+        }
+        json.append("\n  ],\n");
+
+        json.append("  \"steps\": [");
+        separator = "\n";
+        for (StartupRecorder.Step step : steps) {
+            json.append(separator).append("    {\"id\": ").append(step.getId())
+                .append(", \"parentId\": ").append(step.getParentId())
+                .append(", \"name\": ").append(quote(step.getName()))
+                .append(", \"thread\": ").append(quote(step.getThreadName()))
+                .append(", \"startMicros\": ").append(micros(step.getStartOffsetNanos()))
+                .append(", \"durationMicros\": ").append(micros(step.getDurationNanos()))
+                .append(", \"selfMicros\": ").append(micros(getSelfNanos(step)))
+                .append(", \"allocatedBytes\": ").append(step.getAllocatedBytes())
+                .append(", \"tags\": {");
+            String tagSeparator = "";
+            for (Map.Entry<String, String> tag : step.getTags().entrySet()) {
+                json.append(tagSeparator).append(quote(tag.getKey())).append(": ").append(quote(tag.getValue()));
+                tagSeparator = ", ";
+            }
+            json.append("}}");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+
+        write(path, json.toString());
+    }
+
+    public void writeCollapsedStacks(Path path) throws IOException {
+        Map<String, Long> stacks = new LinkedHashMap<>();
+        for (StartupRecorder.Step step : steps) {
+            long selfMicros = micros(getSelfNanos(step));
+            if (selfMicros > 0) {
+                stacks.merge(stackOf(step), selfMicros, Long::sum);
+            }
+        }
+
+        StringBuilder collapsed = new StringBuilder(4096);
+        for (Map.Entry<String, Long> stack : stacks.entrySet()) {
+            collapsed.append(stack.getKey()).append(' ').append(stack.getValue()).append('\n');
+        }
+        write(path, collapsed.toString());
+    }
+
+    private String stackOf(StartupRecorder.Step step) {
+        List<String> frames = new ArrayList<>();
+        for (StartupRecorder.Step current = step; current != null; current = current.getParent()) {
+            frames.add(frameOf(current));
+        }
+        StringBuilder stack = new StringBuilder("refresh");
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            stack.append(';').append(frames.get(i));
+        }
+        return stack.toString();
+    }
+
+    private static String frameOf(StartupRecorder.Step step) {
+        String beanName = step.getTags().get("beanName");
+        String frame = BEAN_CREATE.equals(step.getName()) && beanName != null
+            ? step.getName() + "[" + beanName + "]"
+            : step.getName();
+        // collapsed 형식에서 ';'는 프레임 구분자, 공백은 값 구분자
+        return frame.replace(';', '_').replace(' ', '_');
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1_000L;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(java.util.Locale.ROOT, "%.3f", nanos / 1_000_000d);
+    }
+
+    private static String quote(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
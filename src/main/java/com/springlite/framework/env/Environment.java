@@ -0,0 +1,243 @@
+package com.springlite.framework.env;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ⚙️ 외부 설정 (PropertySource 체인 + ${...} 자리표시자 해석 + 타입 변환)
+ * Spring Framework의 StandardEnvironment / PropertySourcesPlaceholderConfigurer를 참고하여 구현
+ *
+ * 기본 우선순위 (앞쪽이 이김):
+ * 1. 시스템 프로퍼티 (-Dserver.port=9090)
+ * 2. 환경 변수 (SERVER_PORT=9090)
+ * 3. 클래스패스 application.properties
+ *
+ * 자리표시자 문법:
+ * - ${key}          : 없으면 예외 (resolveRequiredPlaceholders) 또는 그대로 둠 (resolvePlaceholders)
+ * - ${key:default}  : 없으면 기본값 (기본값 안에도 자리표시자 사용 가능)
+ * - 프로퍼티 값 안의 ${...}도 재귀적으로 해석 (순환 참조는 예외)
+ */
+public class Environment {
+
+    public static final String APPLICATION_PROPERTIES = "application.properties";
+
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+    private static final char VALUE_SEPARATOR = ':';
+
+    private final List<PropertySource> propertySources = new CopyOnWriteArrayList<>();
+    private final TypeConverter typeConverter = new TypeConverter();
+
+    /**
+     * 시스템 프로퍼티 → 환경 변수 → 클래스패스 application.properties
+     */
+    public Environment() {
+        this(Thread.currentThread().getContextClassLoader() != null
+            ? Thread.currentThread().getContextClassLoader() : Environment.class.getClassLoader());
+    }
+
+    public Environment(ClassLoader classLoader) {
+        propertySources.add(new PropertiesPropertySource("systemProperties", System.getProperties()));
+        propertySources.add(new SystemEnvironmentPropertySource(System.getenv()));
+        PropertiesPropertySource applicationProperties = PropertiesPropertySource.fromClasspath(APPLICATION_PROPERTIES, classLoader);
+        if (applicationProperties != null) {
+            propertySources.add(applicationProperties);
+        }
+    }
+
+    // ========== PropertySource 체인 ==========
+
+    /**
+     * 가장 높은 우선순위로 추가 (테스트용 덮어쓰기 등)
+     */
+    public void addFirst(PropertySource propertySource) {
+        propertySources.add(0, propertySource);
+    }
+
+    /**
+     * 가장 낮은 우선순위로 추가 (기본값 모음 등)
+     */
+    public void addLast(PropertySource propertySource) {
+        propertySources.add(propertySource);
+    }
+
+    public List<PropertySource> getPropertySources() {
+        return Collections.unmodifiableList(propertySources);
+    }
+
+    public TypeConverter getTypeConverter() {
+        return typeConverter;
+    }
+
+    // ========== 프로퍼티 조회 ==========
+
+    public boolean containsProperty(String key) {
+        return getRawProperty(key) != null;
+    }
+
+    /**
+     * @return 자리표시자가 해석된 값 (없으면 null)
+     */
+    public String getProperty(String key) {
+        String value = getRawProperty(key);
+        return value != null ? resolveRequiredPlaceholders(value) : null;
+    }
+
+    public String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public <T> T getProperty(String key, Class<T> targetType) {
+        return typeConverter.convert(getProperty(key), targetType);
+    }
+
+    public <T> T getProperty(String key, Class<T> targetType, T defaultValue) {
+        String value = getProperty(key);
+        return value != null ? typeConverter.convert(value, targetType) : defaultValue;
+    }
+
+    public String getRequiredProperty(String key) {
+        String value = getProperty(key);
+        if (value == null) {
+            throw new RuntimeException("Required property '" + key + "' not found in " + propertySources);
+        }
+        return value;
+    }
+
+    public <T> T getRequiredProperty(String key, Class<T> targetType) {
+        return typeConverter.convert(getRequiredProperty(key), targetType);
+    }
+
+    // ========== 자리표시자 ==========
+
+    /**
+     * 해석할 수 없는 ${key}는 그대로 남깁니다.
+     */
+    public String resolvePlaceholders(String text) {
+        return resolve(text, false, new ArrayList<>());
+    }
+
+    /**
+     * 해석할 수 없는 ${key}가 있으면 예외
+     */
+    public String resolveRequiredPlaceholders(String text) {
+        return resolve(text, true, new ArrayList<>());
+    }
+
+    /**
+     * @Value 표현식 해석 + 타입 변환
+     * 변환 결과는 (해석된 문자열, 타입) 단위로 캐시됩니다.
+     */
+    public <T> T resolveValue(String expression, Class<T> targetType) {
+        return typeConverter.convert(resolveRequiredPlaceholders(expression), targetType);
+    }
+
+    private String getRawProperty(String key) {
+        for (PropertySource propertySource : propertySources) {
+            String value = propertySource.getProperty(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private String resolve(String text, boolean required, List<String> visiting) {
+        int start = text.indexOf(PREFIX);
+        if (start < 0) {
+            return text;
+        }
+
+        StringBuilder result = new StringBuilder(text.length());
+        int position = 0;
+        while (start >= 0) {
+            int end = findPlaceholderEnd(text, start);
+            if (end < 0) {
+                break;
+            }
+            result.append(text, position, start);
+
+            // 키와 기본값을 먼저 나누고, 기본값은 키가 없을 때만 해석 (${a:${b}}는 a가 있으면 b가 없어도 됨)
+            String placeholder = text.substring(start + PREFIX.length(), end);
+            String defaultValue = null;
+            int separator = findValueSeparator(placeholder);
+            if (separator >= 0) {
+                defaultValue = placeholder.substring(separator + 1);
+                placeholder = placeholder.substring(0, separator);
+            }
+            String key = resolve(placeholder, required, visiting);
+
+            if (visiting.contains(key)) {
+                throw new RuntimeException("Circular placeholder reference '" + key + "' in property definitions: " + visiting);
+            }
+            String value = getRawProperty(key);
+            if (value != null) {
+                visiting.add(key);
+                value = resolve(value, required, visiting);
+                visiting.remove(visiting.size() - 1);
+            } else if (defaultValue != null) {
+                value = resolve(defaultValue, required, visiting);
+            }
+
+            if (value != null) {
+                result.append(value);
+            } else if (required) {
+                throw new RuntimeException("Could not resolve placeholder '" + key + "' in value \"" + text + "\"");
+            } else {
+                result.append(text, start, end + SUFFIX.length());
+            }
+
+            position = end + SUFFIX.length();
+            start = text.indexOf(PREFIX, position);
+        }
+        return result.append(text, position, text.length()).toString();
+    }
+
+    /**
+     * 중첩된 ${...} 밖에 있는 첫 기본값 구분자(:) 위치를 찾습니다.
+     */
+    private static int findValueSeparator(String placeholder) {
+        int depth = 0;
+        int index = 0;
+        while (index < placeholder.length()) {
+            if (placeholder.startsWith(PREFIX, index)) {
+                depth++;
+                index += PREFIX.length();
+            } else if (depth > 0 && placeholder.startsWith(SUFFIX, index)) {
+                depth--;
+                index += SUFFIX.length();
+            } else if (depth == 0 && placeholder.charAt(index) == VALUE_SEPARATOR) {
+                return index;
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 중첩된 ${...}를 건너뛰며 짝이 맞는 } 위치를 찾습니다.
+     */
+    private static int findPlaceholderEnd(String text, int start) {
+        int depth = 0;
+        int index = start + PREFIX.length();
+        while (index < text.length()) {
+            if (text.startsWith(PREFIX, index)) {
+                depth++;
+                index += PREFIX.length();
+            } else if (text.startsWith(SUFFIX, index)) {
+                if (depth == 0) {
+                    return index;
+                }
+                depth--;
+                index += SUFFIX.length();
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.springlite.framework.env;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * java.util.Properties 기반 프로퍼티 출처
+ * System.getProperties()를 넘기면 실행 중 바뀐 시스템 프로퍼티도 그대로 보입니다.
+ */
+public class PropertiesPropertySource extends PropertySource {
+
+    private final Properties properties;
+
+    public PropertiesPropertySource(String name, Properties properties) {
+        super(name);
+        this.properties = properties;
+    }
+
+    /**
+     * 클래스패스 리소스를 UTF-8로 읽습니다. 리소스가 없으면 null
+     */
+    public static PropertiesPropertySource fromClasspath(String resource, ClassLoader classLoader) {
+        URL url = classLoader.getResource(resource);
+        if (url == null) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = url.openStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load properties: " + url, e);
+        }
+        return new PropertiesPropertySource("classpath:" + resource, properties);
+    }
+
+    @Override
+    public String getProperty(String key) {
+        return properties.getProperty(key);
+    }
+}
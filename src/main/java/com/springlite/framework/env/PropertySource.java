@@ -0,0 +1,28 @@
+package com.springlite.framework.env;
+
+/**
+ * ⚙️ 이름이 있는 프로퍼티 출처 (application.properties, 시스템 프로퍼티, 환경 변수 등)
+ * Spring Framework의 PropertySource를 참고하여 구현
+ */
+public abstract class PropertySource {
+
+    private final String name;
+
+    protected PropertySource(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return 값 (없으면 null)
+     */
+    public abstract String getProperty(String key);
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + name + "]";
+    }
+}
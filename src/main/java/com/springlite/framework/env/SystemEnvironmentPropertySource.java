@@ -0,0 +1,34 @@
+package com.springlite.framework.env;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 환경 변수 프로퍼티 출처
+ * Spring Framework의 SystemEnvironmentPropertySource를 참고하여 구현
+ *
+ * 환경 변수 이름에는 '.'과 '-'를 쓸 수 없으므로 server.port는 server.port → server_port → SERVER_PORT 순서로 찾습니다.
+ */
+public class SystemEnvironmentPropertySource extends PropertySource {
+
+    private final Map<String, String> environment;
+
+    public SystemEnvironmentPropertySource(Map<String, String> environment) {
+        super("systemEnvironment");
+        this.environment = environment;
+    }
+
+    @Override
+    public String getProperty(String key) {
+        String value = environment.get(key);
+        if (value != null) {
+            return value;
+        }
+        String underscored = key.replace('.', '_').replace('-', '_');
+        value = environment.get(underscored);
+        if (value != null) {
+            return value;
+        }
+        return environment.get(underscored.toUpperCase(Locale.ROOT));
+    }
+}
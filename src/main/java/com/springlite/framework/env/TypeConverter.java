@@ -0,0 +1,219 @@
+package com.springlite.framework.env;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 🔁 프로퍼티 문자열 → 대상 타입 변환기 (변환 결과 캐시)
+ * Spring Framework의 DefaultConversionService를 참고하여 구현
+ *
+ * 지원 타입:
+ * - String, 기본 타입과 래퍼, enum (대소문자 무시)
+ * - Duration: ISO-8601(PT30S) 또는 500ms / 30s / 5m / 1h / 2d (단위가 없으면 ms)
+ * - 배열, List, Set: 쉼표로 구분 (List, Set 요소는 String)
+ *
+ * 같은 (문자열, 타입) 쌍은 한 번만 변환합니다.
+ * 프로토타입 빈에 같은 @Value를 반복 주입해도 파싱 비용은 첫 번째 한 번뿐이고 이후에는 맵 조회 한 번입니다.
+ * 배열은 가변이므로 캐시에서 꺼낼 때마다 복사하고, List / Set은 불변 컬렉션으로 캐시합니다.
+ */
+public class TypeConverter {
+
+    private static final Map<Class<?>, Function<String, Object>> SCALAR_CONVERTERS = new ConcurrentHashMap<>();
+
+    static {
+        SCALAR_CONVERTERS.put(String.class, value -> value);
+        SCALAR_CONVERTERS.put(Object.class, value -> value);
+        SCALAR_CONVERTERS.put(CharSequence.class, value -> value);
+        SCALAR_CONVERTERS.put(int.class, Integer::valueOf);
+        SCALAR_CONVERTERS.put(Integer.class, Integer::valueOf);
+        SCALAR_CONVERTERS.put(long.class, Long::valueOf);
+        SCALAR_CONVERTERS.put(Long.class, Long::valueOf);
+        SCALAR_CONVERTERS.put(short.class, Short::valueOf);
+        SCALAR_CONVERTERS.put(Short.class, Short::valueOf);
+        SCALAR_CONVERTERS.put(byte.class, Byte::valueOf);
+        SCALAR_CONVERTERS.put(Byte.class, Byte::valueOf);
+        SCALAR_CONVERTERS.put(double.class, Double::valueOf);
+        SCALAR_CONVERTERS.put(Double.class, Double::valueOf);
+        SCALAR_CONVERTERS.put(float.class, Float::valueOf);
+        SCALAR_CONVERTERS.put(Float.class, Float::valueOf);
+        SCALAR_CONVERTERS.put(boolean.class, TypeConverter::parseBoolean);
+        SCALAR_CONVERTERS.put(Boolean.class, TypeConverter::parseBoolean);
+        SCALAR_CONVERTERS.put(char.class, TypeConverter::parseChar);
+        SCALAR_CONVERTERS.put(Character.class, TypeConverter::parseChar);
+        SCALAR_CONVERTERS.put(Duration.class, TypeConverter::parseDuration);
+    }
+
+    /** 타입별 (원본 문자열 → 변환 결과) 캐시 */
+    private final Map<Class<?>, Map<String, Object>> cache = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <T> T convert(String value, Class<T> targetType) {
+        if (value == null) {
+            if (targetType.isPrimitive()) {
+                throw new RuntimeException("Cannot convert null to primitive type " + targetType.getName());
+            }
+            return null;
+        }
+        if (targetType == String.class) {
+            return (T) value;
+        }
+
+        Map<String, Object> converted = cache.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+        Object result = converted.get(value);
+        if (result == null) {
+            result = doConvert(value, targetType);
+            Object previous = converted.putIfAbsent(value, result);
+            if (previous != null) {
+                result = previous;
+            }
+        }
+        if (targetType.isArray()) {
+            return (T) copyArray(result);
+        }
+        return (T) result;
+    }
+
+    public boolean canConvert(Class<?> targetType) {
+        if (targetType.isArray()) {
+            return canConvert(targetType.getComponentType());
+        }
+        return SCALAR_CONVERTERS.containsKey(targetType) || targetType.isEnum()
+            || targetType == List.class || targetType == Set.class;
+    }
+
+    /**
+     * 캐시된 변환 결과 수 (모든 타입 합계)
+     */
+    public int getCacheSize() {
+        int size = 0;
+        for (Map<String, Object> converted : cache.values()) {
+            size += converted.size();
+        }
+        return size;
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private Object doConvert(String value, Class<?> targetType) {
+        try {
+            if (targetType.isArray()) {
+                Class<?> componentType = targetType.getComponentType();
+                List<String> elements = split(value);
+                Object array = Array.newInstance(componentType, elements.size());
+                for (int i = 0; i < elements.size(); i++) {
+                    Array.set(array, i, doConvert(elements.get(i), componentType));
+                }
+                return array;
+            }
+            if (targetType == List.class) {
+                return Collections.unmodifiableList(split(value));
+            }
+            if (targetType == Set.class) {
+                return Collections.unmodifiableSet(new LinkedHashSet<>(split(value)));
+            }
+            if (targetType.isEnum()) {
+                return parseEnum(value.trim(), targetType);
+            }
+            Function<String, Object> converter = SCALAR_CONVERTERS.get(targetType);
+            if (converter == null) {
+                throw new RuntimeException("No converter for type " + targetType.getName());
+            }
+            return converter.apply(targetType == String.class ? value : value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Cannot convert '" + value + "' to " + targetType.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static List<String> split(String value) {
+        List<String> elements = new ArrayList<>();
+        if (value.trim().isEmpty()) {
+            return elements;
+        }
+        for (String element : value.split(",")) {
+            elements.add(element.trim());
+        }
+        return elements;
+    }
+
+    private static Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object parseEnum(String value, Class<?> enumType) {
+        for (Object constant : enumType.getEnumConstants()) {
+            if (((Enum) constant).name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("No enum constant " + enumType.getSimpleName() + "." + value);
+    }
+
+    private static Object parseBoolean(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "yes":
+            case "on":
+            case "1":
+                return Boolean.TRUE;
+            case "false":
+            case "no":
+            case "off":
+            case "0":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException("Not a boolean value");
+        }
+    }
+
+    private static Object parseChar(String value) {
+        if (value.length() != 1) {
+            throw new IllegalArgumentException("Expected a single character");
+        }
+        return value.charAt(0);
+    }
+
+    private static Object parseDuration(String value) {
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.startsWith("p") || lower.startsWith("-p")) {
+            return Duration.parse(value);
+        }
+        int unitStart = 0;
+        while (unitStart < lower.length() && (Character.isDigit(lower.charAt(unitStart)) || lower.charAt(unitStart) == '-')) {
+            unitStart++;
+        }
+        if (unitStart == 0) {
+            throw new IllegalArgumentException("Not a duration");
+        }
+        long amount = Long.parseLong(lower.substring(0, unitStart));
+        switch (lower.substring(unitStart).trim()) {
+            case "":
+            case "ms":
+                return Duration.ofMillis(amount);
+            case "s":
+                return Duration.ofSeconds(amount);
+            case "m":
+                return Duration.ofMinutes(amount);
+            case "h":
+                return Duration.ofHours(amount);
+            case "d":
+                return Duration.ofDays(amount);
+            default:
+                throw new IllegalArgumentException("Unknown duration unit");
+        }
+    }
+}
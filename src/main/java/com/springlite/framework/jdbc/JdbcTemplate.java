@@ -2,6 +2,8 @@ package com.springlite.framework.jdbc;
 
 import com.springlite.framework.transaction.JdbcTransactionManager;
 import com.springlite.framework.transaction.TransactionStatus;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
 
 import javax.sql.DataSource;
 import java.sql.*;
@@ -25,6 +27,8 @@ import java.util.Map;
  */
 public class JdbcTemplate {
     
+    private static final Log log = LogFactory.getLog(JdbcTemplate.class);
+    
     private DataSource dataSource;
     
     /**
@@ -32,7 +36,7 @@ public class JdbcTemplate {
      */
     public JdbcTemplate(DataSource dataSource) {
         this.dataSource = dataSource;
-        System.out.println("📋 JdbcTemplate 생성됨 with DataSource: " + dataSource.getClass().getSimpleName());
+        log.debug("📋 JdbcTemplate 생성됨 with DataSource: {}", dataSource.getClass().getSimpleName());
     }
     
     /**
@@ -40,7 +44,7 @@ public class JdbcTemplate {
      */
     public void setDataSource(DataSource dataSource) {
         this.dataSource = dataSource;
-        System.out.println("📋 JdbcTemplate DataSource 설정됨: " + dataSource.getClass().getSimpleName());
+        log.debug("📋 JdbcTemplate DataSource 설정됨: {}", dataSource.getClass().getSimpleName());
     }
     
     public DataSource getDataSource() {
@@ -58,12 +62,12 @@ public class JdbcTemplate {
         if (currentTransaction != null && !currentTransaction.isCompleted()) {
             // 트랜잭션이 있으면 해당 Connection 사용
             Connection connection = currentTransaction.getConnection();
-            System.out.println("🔄 현재 트랜잭션의 Connection 사용: " + connection.hashCode());
+            log.debug("🔄 현재 트랜잭션의 Connection 사용: {}", connection.hashCode());
             return connection;
         } else {
             // 트랜잭션이 없으면 새로운 Connection 생성 (autoCommit=true)
             Connection connection = dataSource.getConnection();
-            System.out.println("🆕 새로운 Connection 생성: " + connection.hashCode());
+            log.debug("🆕 새로운 Connection 생성: {}", connection.hashCode());
             return connection;
         }
     }
@@ -76,16 +80,16 @@ public class JdbcTemplate {
         
         if (currentTransaction != null && !currentTransaction.isCompleted()) {
             // 트랜잭션이 있으면 Connection을 닫지 않음 (트랜잭션 매니저가 관리)
-            System.out.println("🔄 트랜잭션 Connection은 닫지 않음: " + connection.hashCode());
+            log.debug("🔄 트랜잭션 Connection은 닫지 않음: {}", connection.hashCode());
         } else {
             // 트랜잭션이 없으면 Connection 닫기
             try {
                 if (connection != null && !connection.isClosed()) {
                     connection.close();
-                    System.out.println("🆕 새로운 Connection 닫음: " + connection.hashCode());
+                    log.debug("🆕 새로운 Connection 닫음: {}", connection.hashCode());
                 }
             } catch (SQLException e) {
-                System.err.println("⚠️ Connection 닫기 실패: " + e.getMessage());
+                log.warn("⚠️ Connection 닫기 실패: {}", e.getMessage());
             }
         }
     }
@@ -101,17 +105,17 @@ public class JdbcTemplate {
      * jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, name VARCHAR(100))");
      */
     public void execute(String sql) {
-        System.out.println("🗒️ DDL 실행: " + sql);
+        log.debug("🗒️ DDL 실행: {}", sql);
         
         Connection conn = null;
         try {
             conn = getConnection();
             try (Statement stmt = conn.createStatement()) {
                 stmt.execute(sql);
-                System.out.println("✅ DDL 실행 성공");
+                log.debug("✅ DDL 실행 성공");
             }
         } catch (SQLException e) {
-            System.err.println("❌ DDL 실행 실패: " + e.getMessage());
+            log.error("❌ DDL 실행 실패: {}", e.getMessage());
             throw new JdbcException("DDL 실행 실패: " + sql, e);
         } finally {
             closeConnection(conn);
@@ -129,7 +133,7 @@ public class JdbcTemplate {
      * int rows = jdbcTemplate.update("INSERT INTO users (name, email) VALUES (?, ?)", "김춘식", "chunsik@example.com");
      */
     public int update(String sql, Object... params) {
-        System.out.println("📝 DML 실행: " + sql + " with params: " + java.util.Arrays.toString(params));
+        log.debug("📝 DML 실행: {} with params: {}", sql, params);
         
         Connection conn = null;
         try {
@@ -139,11 +143,11 @@ public class JdbcTemplate {
                 setParameters(pstmt, params);
                 
                 int affectedRows = pstmt.executeUpdate();
-                System.out.println("✅ DML 실행 성공, 영향받은 행: " + affectedRows);
+                log.debug("✅ DML 실행 성공, 영향받은 행: {}", affectedRows);
                 return affectedRows;
             }
         } catch (SQLException e) {
-            System.err.println("❌ DML 실행 실패: " + e.getMessage());
+            log.error("❌ DML 실행 실패: {}", e.getMessage());
             throw new JdbcException("DML 실행 실패: " + sql, e);
         } finally {
             closeConnection(conn);
@@ -163,7 +167,7 @@ public class JdbcTemplate {
      */
     @SuppressWarnings("unchecked")
     public <T> T queryForObject(String sql, Class<T> requiredType, Object... params) {
-        System.out.println("🔍 단일 값 조회: " + sql + " with params: " + java.util.Arrays.toString(params));
+        log.debug("🔍 단일 값 조회: {} with params: {}", sql, params);
         
         Connection conn = null;
         try {
@@ -176,16 +180,16 @@ public class JdbcTemplate {
                     if (rs.next()) {
                         Object value = rs.getObject(1);
                         T result = convertValue(value, requiredType);
-                        System.out.println("✅ 단일 값 조회 성공: " + result);
+                        log.debug("✅ 단일 값 조회 성공: {}", result);
                         return result;
                     } else {
-                        System.out.println("⚠️ 조회 결과 없음");
+                        log.debug("⚠️ 조회 결과 없음");
                         return null;
                     }
                 }
             }
         } catch (SQLException e) {
-            System.err.println("❌ 단일 값 조회 실패: " + e.getMessage());
+            log.error("❌ 단일 값 조회 실패: {}", e.getMessage());
             throw new JdbcException("단일 값 조회 실패: " + sql, e);
         } finally {
             closeConnection(conn);
@@ -203,7 +207,7 @@ public class JdbcTemplate {
      * List<Map<String, Object>> users = jdbcTemplate.queryForList("SELECT * FROM users");
      */
     public List<Map<String, Object>> queryForList(String sql, Object... params) {
-        System.out.println("📋 리스트 조회: " + sql + " with params: " + java.util.Arrays.toString(params));
+        log.debug("📋 리스트 조회: {} with params: {}", sql, params);
         
         Connection conn = null;
         try {
@@ -227,12 +231,12 @@ public class JdbcTemplate {
                         results.add(row);
                     }
                     
-                    System.out.println("✅ 리스트 조회 성공: " + results.size() + "개 행");
+                    log.debug("✅ 리스트 조회 성공: {}개 행", results.size());
                     return results;
                 }
             }
         } catch (SQLException e) {
-            System.err.println("❌ 리스트 조회 실패: " + e.getMessage());
+            log.error("❌ 리스트 조회 실패: {}", e.getMessage());
             throw new JdbcException("리스트 조회 실패: " + sql, e);
         } finally {
             closeConnection(conn);
@@ -251,7 +255,7 @@ public class JdbcTemplate {
      *     (rs, rowNum) -> new User(rs.getLong("id"), rs.getString("name"), rs.getString("email")));
      */
     public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... params) {
-        System.out.println("🎯 객체 매핑 조회: " + sql + " with params: " + java.util.Arrays.toString(params));
+        log.debug("🎯 객체 매핑 조회: {} with params: {}", sql, params);
         
         Connection conn = null;
         try {
@@ -269,12 +273,12 @@ public class JdbcTemplate {
                         results.add(object);
                     }
                     
-                    System.out.println("✅ 객체 매핑 조회 성공: " + results.size() + "개 객체");
+                    log.debug("✅ 객체 매핑 조회 성공: {}개 객체", results.size());
                     return results;
                 }
             }
         } catch (SQLException e) {
-            System.err.println("❌ 객체 매핑 조회 실패: " + e.getMessage());
+            log.error("❌ 객체 매핑 조회 실패: {}", e.getMessage());
             throw new JdbcException("객체 매핑 조회 실패: " + sql, e);
         } finally {
             closeConnection(conn);
@@ -292,7 +296,7 @@ public class JdbcTemplate {
         List<T> results = query(sql, rowMapper, params);
         
         if (results.isEmpty()) {
-            System.out.println("⚠️ 객체 조회 결과 없음");
+            log.debug("⚠️ 객체 조회 결과 없음");
             return null;
         } else if (results.size() == 1) {
             return results.get(0);
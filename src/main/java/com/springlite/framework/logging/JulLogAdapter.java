@@ -0,0 +1,52 @@
+package com.springlite.framework.logging;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * java.util.logging 어댑터 (SLF4J 바인딩이 없을 때의 기본값)
+ *
+ * TRACE → FINEST, DEBUG → FINE, INFO → INFO, WARN → WARNING, ERROR → SEVERE
+ */
+class JulLogAdapter implements LogAdapter {
+
+    private final Logger logger;
+
+    JulLogAdapter(String name) {
+        this.logger = Logger.getLogger(name);
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        return logger.isLoggable(toJulLevel(level));
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Throwable throwable) {
+        LogRecord record = new LogRecord(toJulLevel(level), message);
+        record.setLoggerName(logger.getName());
+        record.setThrown(throwable);
+        // 호출 위치 추론(스택 워킹)을 막기 위해 소스는 로거 이름으로 고정
+        record.setSourceClassName(logger.getName());
+        record.setSourceMethodName(null);
+        logger.log(record);
+    }
+
+    static Level toJulLevel(LogLevel level) {
+        switch (level) {
+            case TRACE:
+                return Level.FINEST;
+            case DEBUG:
+                return Level.FINE;
+            case INFO:
+                return Level.INFO;
+            case WARN:
+                return Level.WARNING;
+            case ERROR:
+                return Level.SEVERE;
+            default:
+                return Level.OFF;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.springlite.framework.logging;
+
+/**
+ * 📝 프레임워크 로깅 파사드
+ * SLF4J API를 참고하여 구현 (메시지 포맷의 {} 자리표시자, 마지막 인자가 Throwable이면 예외로 기록)
+ *
+ * 모든 로그 메서드는 레벨을 먼저 확인하고, 꺼져 있으면 메시지를 만들지 않고 바로 반환합니다.
+ * - 인자 1~2개 오버로드는 varargs 배열도 만들지 않음
+ * - 인자를 만드는 것 자체가 비싸면 호출하는 쪽에서 isDebugEnabled() 등으로 감싸기
+ *
+ * 레벨은 두 단계로 확인합니다: LogFactory의 전역 임계값 (-Dspringlite.log.level) → 백엔드 설정
+ *
+ * 사용 예:
+ * private static final Log log = LogFactory.getLog(MyClass.class);
+ * log.debug("요청 처리: {} {}", method, uri);
+ */
+public final class Log {
+
+    private final String name;
+    private final LogAdapter adapter;
+
+    Log(String name, LogAdapter adapter) {
+        this.name = name;
+        this.adapter = adapter;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return LogFactory.getLevel().allows(level) && adapter.isEnabled(level);
+    }
+
+    public boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public boolean isInfoEnabled() {
+        return isEnabled(LogLevel.INFO);
+    }
+
+    public boolean isWarnEnabled() {
+        return isEnabled(LogLevel.WARN);
+    }
+
+    public boolean isErrorEnabled() {
+        return isEnabled(LogLevel.ERROR);
+    }
+
+    // ========== TRACE ==========
+
+    public void trace(String message) {
+        if (isEnabled(LogLevel.TRACE)) {
+            adapter.log(LogLevel.TRACE, message, null);
+        }
+    }
+
+    public void trace(String format, Object arg) {
+        if (isEnabled(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, format, new Object[]{arg});
+        }
+    }
+
+    public void trace(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void trace(String format, Object... args) {
+        if (isEnabled(LogLevel.TRACE)) {
+            write(LogLevel.TRACE, format, args);
+        }
+    }
+
+    // ========== DEBUG ==========
+
+    public void debug(String message) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            adapter.log(LogLevel.DEBUG, message, null);
+        }
+    }
+
+    public void debug(String format, Object arg) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, format, new Object[]{arg});
+        }
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void debug(String format, Object... args) {
+        if (isEnabled(LogLevel.DEBUG)) {
+            write(LogLevel.DEBUG, format, args);
+        }
+    }
+
+    // ========== INFO ==========
+
+    public void info(String message) {
+        if (isEnabled(LogLevel.INFO)) {
+            adapter.log(LogLevel.INFO, message, null);
+        }
+    }
+
+    public void info(String format, Object arg) {
+        if (isEnabled(LogLevel.INFO)) {
+            write(LogLevel.INFO, format, new Object[]{arg});
+        }
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.INFO)) {
+            write(LogLevel.INFO, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void info(String format, Object... args) {
+        if (isEnabled(LogLevel.INFO)) {
+            write(LogLevel.INFO, format, args);
+        }
+    }
+
+    // ========== WARN ==========
+
+    public void warn(String message) {
+        if (isEnabled(LogLevel.WARN)) {
+            adapter.log(LogLevel.WARN, message, null);
+        }
+    }
+
+    public void warn(String format, Object arg) {
+        if (isEnabled(LogLevel.WARN)) {
+            write(LogLevel.WARN, format, new Object[]{arg});
+        }
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.WARN)) {
+            write(LogLevel.WARN, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void warn(String format, Object... args) {
+        if (isEnabled(LogLevel.WARN)) {
+            write(LogLevel.WARN, format, args);
+        }
+    }
+
+    // ========== ERROR ==========
+
+    public void error(String message) {
+        if (isEnabled(LogLevel.ERROR)) {
+            adapter.log(LogLevel.ERROR, message, null);
+        }
+    }
+
+    public void error(String format, Object arg) {
+        if (isEnabled(LogLevel.ERROR)) {
+            write(LogLevel.ERROR, format, new Object[]{arg});
+        }
+    }
+
+    public void error(String format, Object arg1, Object arg2) {
+        if (isEnabled(LogLevel.ERROR)) {
+            write(LogLevel.ERROR, format, new Object[]{arg1, arg2});
+        }
+    }
+
+    public void error(String format, Object... args) {
+        if (isEnabled(LogLevel.ERROR)) {
+            write(LogLevel.ERROR, format, args);
+        }
+    }
+
+    private void write(LogLevel level, String format, Object[] args) {
+        int placeholders = countPlaceholders(format);
+        Throwable throwable = null;
+        // SLF4J와 같은 규칙: 자리표시자보다 인자가 많고 마지막 인자가 Throwable이면 예외로 기록
+        if (args.length > placeholders && args[args.length - 1] instanceof Throwable) {
+            throwable = (Throwable) args[args.length - 1];
+        }
+        adapter.log(level, format(format, args, placeholders), throwable);
+    }
+
+    /**
+     * {}를 순서대로 인자로 치환합니다. (\{}는 문자 그대로의 {})
+     */
+    static String format(String format, Object[] args) {
+        return format(format, args, countPlaceholders(format));
+    }
+
+    private static String format(String format, Object[] args, int placeholders) {
+        if (format == null || placeholders == 0) {
+            return format;
+        }
+        StringBuilder message = new StringBuilder(format.length() + 16 * placeholders);
+        int argIndex = 0;
+        int start = 0;
+        int index;
+        while ((index = format.indexOf("{}", start)) >= 0) {
+            if (index > 0 && format.charAt(index - 1) == '\\') {
+                message.append(format, start, index - 1).append("{}");
+            } else {
+                message.append(format, start, index);
+                message.append(argIndex < args.length ? toString(args[argIndex++]) : "{}");
+            }
+            start = index + 2;
+        }
+        return message.append(format, start, format.length()).toString();
+    }
+
+    private static int countPlaceholders(String format) {
+        if (format == null) {
+            return 0;
+        }
+        int count = 0;
+        int index = 0;
+        while ((index = format.indexOf("{}", index)) >= 0) {
+            if (index == 0 || format.charAt(index - 1) != '\\') {
+                count++;
+            }
+            index += 2;
+        }
+        return count;
+    }
+
+    private static String toString(Object arg) {
+        if (arg instanceof Object[]) {
+            return java.util.Arrays.deepToString((Object[]) arg);
+        }
+        return String.valueOf(arg);
+    }
+}
@@ -0,0 +1,21 @@
+package com.springlite.framework.logging;
+
+/**
+ * 🔌 로깅 백엔드 연결 지점
+ *
+ * Log 파사드는 레벨 확인과 메시지 포맷팅을 담당하고, 어댑터는 이미 완성된 메시지를 백엔드로 넘기기만 합니다.
+ * 기본 제공: Slf4jLogAdapter (SLF4J 바인딩이 있을 때), JulLogAdapter (java.util.logging)
+ * 다른 백엔드는 LogFactory.setAdapterFactory로 연결합니다.
+ */
+public interface LogAdapter {
+
+    /**
+     * 백엔드 설정상 level 로그가 켜져 있는지
+     */
+    boolean isEnabled(LogLevel level);
+
+    /**
+     * @param throwable 없으면 null
+     */
+    void log(LogLevel level, String message, Throwable throwable);
+}
@@ -0,0 +1,84 @@
+package com.springlite.framework.logging;
+
+import java.util.function.Function;
+
+/**
+ * 📝 Log 생성 팩토리
+ *
+ * 백엔드 선택 (-Dspringlite.log.backend = slf4j | jul, 없으면 자동):
+ * - SLF4J API와 바인딩(slf4j-simple 등)이 클래스패스에 있으면 SLF4J
+ * - 아니면 java.util.logging
+ *
+ * 전역 임계값 (-Dspringlite.log.level = trace | debug | info | warn | error | off, 기본 trace):
+ * 백엔드 설정보다 먼저 확인되므로 off로 두면 백엔드와 상관없이 레벨 확인 한 번으로 끝납니다.
+ * 기본값 trace는 "백엔드 설정을 따름"과 같습니다.
+ */
+public final class LogFactory {
+
+    public static final String BACKEND_PROPERTY = "springlite.log.backend";
+    public static final String LEVEL_PROPERTY = "springlite.log.level";
+
+    private static volatile LogLevel level = LogLevel.parse(System.getProperty(LEVEL_PROPERTY, "trace"));
+    private static volatile Function<String, LogAdapter> adapterFactory = detectAdapterFactory();
+
+    private LogFactory() {
+    }
+
+    public static Log getLog(Class<?> clazz) {
+        return getLog(clazz.getName());
+    }
+
+    public static Log getLog(String name) {
+        return new Log(name, adapterFactory.apply(name));
+    }
+
+    public static LogLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * 전역 임계값 변경 (실행 중에도 바로 반영)
+     */
+    public static void setLevel(LogLevel newLevel) {
+        level = newLevel;
+    }
+
+    /**
+     * 다른 로깅 백엔드 연결
+     * 이미 만들어진 Log(대부분 static 필드)에는 반영되지 않으므로 프레임워크 클래스가 로딩되기 전에 호출해야 합니다.
+     */
+    public static void setAdapterFactory(Function<String, LogAdapter> factory) {
+        adapterFactory = factory;
+    }
+
+    public static String getBackendName() {
+        LogAdapter adapter = adapterFactory.apply(LogFactory.class.getName());
+        if (adapter instanceof Slf4jLogAdapter) {
+            return "slf4j";
+        }
+        if (adapter instanceof JulLogAdapter) {
+            return "jul";
+        }
+        return adapter.getClass().getName();
+    }
+
+    private static Function<String, LogAdapter> detectAdapterFactory() {
+        String backend = System.getProperty(BACKEND_PROPERTY);
+        if ("jul".equalsIgnoreCase(backend)) {
+            return JulLogAdapter::new;
+        }
+        if ("slf4j".equalsIgnoreCase(backend) || isSlf4jAvailable()) {
+            return Slf4jLogAdapter::new;
+        }
+        return JulLogAdapter::new;
+    }
+
+    private static boolean isSlf4jAvailable() {
+        try {
+            Class.forName("org.slf4j.LoggerFactory", false, LogFactory.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+        return Slf4jLogAdapter.isBound();
+    }
+}
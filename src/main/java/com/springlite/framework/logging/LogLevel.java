@@ -0,0 +1,30 @@
+package com.springlite.framework.logging;
+
+/**
+ * 📝 로그 레벨 (낮은 것부터)
+ *
+ * OFF는 임계값으로만 사용합니다. (모든 로그 끄기)
+ */
+public enum LogLevel {
+    TRACE,
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * 이 레벨이 임계값일 때 level 로그가 출력되는지
+     */
+    public boolean allows(LogLevel level) {
+        return level.ordinal() >= ordinal();
+    }
+
+    public static LogLevel parse(String value) {
+        try {
+            return LogLevel.valueOf(value.trim().toUpperCase(java.util.Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("알 수 없는 로그 레벨: " + value);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.springlite.framework.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SLF4J 어댑터 (build.gradle의 slf4j-simple 바인딩 등)
+ *
+ * 이 클래스는 SLF4J가 클래스패스에 있을 때만 로딩됩니다. (LogFactory에서 확인)
+ */
+class Slf4jLogAdapter implements LogAdapter {
+
+    private final Logger logger;
+
+    Slf4jLogAdapter(String name) {
+        this.logger = LoggerFactory.getLogger(name);
+    }
+
+    /**
+     * 바인딩 없이 slf4j-api만 있으면 SLF4J는 NOP 로거를 돌려주므로 사용하지 않습니다.
+     */
+    static boolean isBound() {
+        return !"org.slf4j.helpers.NOPLoggerFactory".equals(LoggerFactory.getILoggerFactory().getClass().getName());
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+        switch (level) {
+            case TRACE:
+                return logger.isTraceEnabled();
+            case DEBUG:
+                return logger.isDebugEnabled();
+            case INFO:
+                return logger.isInfoEnabled();
+            case WARN:
+                return logger.isWarnEnabled();
+            case ERROR:
+                return logger.isErrorEnabled();
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void log(LogLevel level, String message, Throwable throwable) {
+        switch (level) {
+            case TRACE:
+                logger.trace(message, throwable);
+                break;
+            case DEBUG:
+                logger.debug(message, throwable);
+                break;
+            case INFO:
+                logger.info(message, throwable);
+                break;
+            case WARN:
+                logger.warn(message, throwable);
+                break;
+            case ERROR:
+                logger.error(message, throwable);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.springlite.framework.proxy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧱 프록시 생성용 최소 클래스 파일 작성기
+ *
+ * 상수 풀, 필드, 메서드(Code 속성)만 지원합니다. 분기는 tableswitch의 4바이트 오프셋뿐입니다.
+ * 클래스 파일 버전 49(Java 5)로 쓰므로 StackMapTable 프레임을 계산하지 않아도 됩니다.
+ * (50 이상은 분기 대상마다 프레임이 필요하지만 49는 JVM이 타입 추론 검증기로 검증함)
+ */
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_PROTECTED = 0x0004;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+    static final int ACC_SYNTHETIC = 0x1000;
+
+    // 사용하는 명령어만
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+    static final int LDC_W = 0x13;
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int FLOAD = 0x17;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int AALOAD = 0x32;
+    static final int AASTORE = 0x53;
+    static final int POP = 0x57;
+    static final int DUP = 0x59;
+    static final int TABLESWITCH = 0xaa;
+    static final int IRETURN = 0xac;
+    static final int LRETURN = 0xad;
+    static final int FRETURN = 0xae;
+    static final int DRETURN = 0xaf;
+    static final int ARETURN = 0xb0;
+    static final int RETURN = 0xb1;
+    static final int GETFIELD = 0xb4;
+    static final int PUTFIELD = 0xb5;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKESTATIC = 0xb8;
+    static final int INVOKEINTERFACE = 0xb9;
+    static final int NEW = 0xbb;
+    static final int ANEWARRAY = 0xbd;
+    static final int ATHROW = 0xbf;
+    static final int CHECKCAST = 0xc0;
+
+    private static final int CLASS_FILE_VERSION = 49;
+
+    private final ConstantPool constants = new ConstantPool();
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+    private final int access;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+
+    /**
+     * @param name 내부 이름 (예: com/example/Foo$$SpringLiteProxy)
+     */
+    ClassFileWriter(int access, String name, String superName, String... interfaceNames) {
+        this.access = access;
+        this.thisClass = constants.classRef(name);
+        this.superClass = constants.classRef(superName);
+        this.interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i++) {
+            interfaces[i] = constants.classRef(interfaceNames[i]);
+        }
+    }
+
+    void addField(int access, String name, String descriptor) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeShort(access);
+            out.writeShort(constants.utf8(name));
+            out.writeShort(constants.utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        fields.add(bytes.toByteArray());
+    }
+
+    /**
+     * 메서드를 시작합니다. 명령어를 쓴 뒤 {@link Code#end(int, int)}로 끝냅니다.
+     */
+    Code addMethod(int access, String name, String descriptor) {
+        return new Code(access, name, descriptor);
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            constants.writeTo(out);
+            out.writeShort(access);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(interfaces.length);
+            for (int index : interfaces) {
+                out.writeShort(index);
+            }
+            out.writeShort(fields.size());
+            for (byte[] field : fields) {
+                out.write(field);
+            }
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 메서드 하나의 바이트코드
+     */
+    final class Code {
+        private final int access;
+        private final int name;
+        private final int descriptor;
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private final List<Patch> patches = new ArrayList<>();
+
+        private Code(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = constants.utf8(name);
+            this.descriptor = constants.utf8(descriptor);
+        }
+
+        Code op(int opcode) {
+            code.write(opcode);
+            return this;
+        }
+
+        Code load(int opcode, int slot) {
+            if (slot <= 3) {
+                // xload_<n>: iload_0(0x1a)부터 종류마다 4개씩
+                code.write(0x1a + (opcode - ILOAD) * 4 + slot);
+            } else {
+                code.write(opcode);
+                code.write(slot);
+            }
+            return this;
+        }
+
+        Code pushInt(int value) {
+            if (value >= -1 && value <= 5) {
+                code.write(ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                code.write(BIPUSH);
+                code.write(value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                code.write(SIPUSH);
+                writeShort(value);
+            } else {
+                code.write(LDC_W);
+                writeShort(constants.integer(value));
+            }
+            return this;
+        }
+
+        Code type(int opcode, String internalName) {
+            code.write(opcode);
+            writeShort(constants.classRef(internalName));
+            return this;
+        }
+
+        Code field(int opcode, String owner, String name, String descriptor) {
+            code.write(opcode);
+            writeShort(constants.memberRef(9, owner, name, descriptor));
+            return this;
+        }
+
+        Code invoke(int opcode, String owner, String name, String descriptor) {
+            boolean isInterface = opcode == INVOKEINTERFACE;
+            code.write(opcode);
+            writeShort(constants.memberRef(isInterface ? 11 : 10, owner, name, descriptor));
+            if (isInterface) {
+                code.write(argumentSlots(descriptor) + 1);
+                code.write(0);
+            }
+            return this;
+        }
+
+        /**
+         * tableswitch [0, caseCount) 를 쓰고 case 라벨 위치를 돌려줍니다.
+         * 반환 배열의 마지막 원소는 default 라벨입니다. 대상 위치는 {@link #mark(Label)}로 정합니다.
+         */
+        Label[] tableSwitch(int caseCount) {
+            int instructionStart = code.size();
+            code.write(TABLESWITCH);
+            while (code.size() % 4 != 0) {
+                code.write(0);
+            }
+            Label[] labels = new Label[caseCount + 1];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+            reserve(instructionStart, labels[caseCount]);
+            writeInt(0);
+            writeInt(caseCount - 1);
+            for (int i = 0; i < caseCount; i++) {
+                reserve(instructionStart, labels[i]);
+            }
+            return labels;
+        }
+
+        Code mark(Label label) {
+            label.position = code.size();
+            return this;
+        }
+
+        /**
+         * @param maxStack  피연산자 스택 최대 깊이 (슬롯 단위)
+         * @param maxLocals 지역 변수 슬롯 수 (this와 파라미터 포함)
+         */
+        void end(int maxStack, int maxLocals) {
+            byte[] bytecode = code.toByteArray();
+            for (Patch patch : patches) {
+                if (patch.label.position < 0) {
+                    throw new IllegalStateException("Unmarked branch target");
+                }
+                int offset = patch.label.position - patch.instructionStart;
+                bytecode[patch.position] = (byte) (offset >>> 24);
+                bytecode[patch.position + 1] = (byte) (offset >>> 16);
+                bytecode[patch.position + 2] = (byte) (offset >>> 8);
+                bytecode[patch.position + 3] = (byte) offset;
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            try {
+                out.writeShort(access);
+                out.writeShort(name);
+                out.writeShort(descriptor);
+                out.writeShort(1);
+                out.writeShort(constants.utf8("Code"));
+                out.writeInt(12 + bytecode.length);
+                out.writeShort(maxStack);
+                out.writeShort(maxLocals);
+                out.writeInt(bytecode.length);
+                out.write(bytecode);
+                out.writeShort(0);
+                out.writeShort(0);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            methods.add(bytes.toByteArray());
+        }
+
+        private void reserve(int instructionStart, Label label) {
+            patches.add(new Patch(instructionStart, code.size(), label));
+            writeInt(0);
+        }
+
+        private void writeShort(int value) {
+            code.write(value >>> 8);
+            code.write(value);
+        }
+
+        private void writeInt(int value) {
+            writeShort(value >>> 16);
+            writeShort(value & 0xFFFF);
+        }
+    }
+
+    static final class Label {
+        private int position = -1;
+    }
+
+    /**
+     * 분기 오프셋을 나중에 채울 자리 (오프셋은 분기 명령어의 시작 위치 기준)
+     */
+    private static final class Patch {
+        final int instructionStart;
+        final int position;
+        final Label label;
+
+        Patch(int instructionStart, int position, Label label) {
+            this.instructionStart = instructionStart;
+            this.position = position;
+            this.label = label;
+        }
+    }
+
+    /**
+     * 메서드 디스크립터의 인자가 차지하는 슬롯 수 (long / double은 2)
+     */
+    static int argumentSlots(String descriptor) {
+        int slots = 0;
+        int i = 1;
+        while (descriptor.charAt(i) != ')') {
+            char c = descriptor.charAt(i);
+            if (c == 'J' || c == 'D') {
+                slots += 2;
+                i++;
+            } else {
+                slots++;
+                while (descriptor.charAt(i) == '[') {
+                    i++;
+                }
+                i = descriptor.charAt(i) == 'L' ? descriptor.indexOf(';', i) + 1 : i + 1;
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * 상수 풀 (같은 상수는 한 번만 등록)
+     */
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return add("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int integer(int value) {
+            return add("I" + value, () -> {
+                out.writeByte(3);
+                out.writeInt(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return add("C" + internalName, () -> {
+                out.writeByte(7);
+                out.writeShort(name);
+            });
+        }
+
+        /**
+         * @param tag 9 = Fieldref, 10 = Methodref, 11 = InterfaceMethodref
+         */
+        int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = add("N" + name + ' ' + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return add("M" + tag + ':' + owner + '.' + name + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int add(String key, Entry entry) {
+            Integer index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                entry.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            indexes.put(key, count);
+            return count++;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            bytes.writeTo(target);
+        }
+
+        private interface Entry {
+            void write() throws IOException;
+        }
+    }
+}
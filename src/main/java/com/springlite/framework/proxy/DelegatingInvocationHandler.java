@@ -0,0 +1,17 @@
+package com.springlite.framework.proxy;
+
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * 🎭 원본 객체에 호출을 위임하는 인터페이스 기반(JDK) 프록시의 호출 처리기
+ *
+ * 클래스 기반 프록시의 {@link ProxyDispatcher#getTarget()}처럼 원본 객체를 꺼낼 수 있게 하여
+ * 프록시가 구현하지 않은 메서드(@PreDestroy 등)를 원본 객체에서 호출할 수 있게 합니다.
+ */
+public interface DelegatingInvocationHandler extends InvocationHandler {
+
+    /**
+     * 호출을 위임받는 원본 객체 (다른 프록시일 수 있음)
+     */
+    Object getTarget();
+}
@@ -0,0 +1,12 @@
+package com.springlite.framework.proxy;
+
+/**
+ * 🧬 원본 메서드 호출기
+ *
+ * 프록시 클래스마다 생성되며, 메서드 번호로 분기해서 원본 메서드를 invokevirtual로 직접 호출합니다.
+ * Method.invoke와 달리 접근 검사, 인자 검사가 없고 원본 메서드의 예외가 감싸지지 않고 그대로 전파됩니다.
+ */
+public interface MethodInvoker {
+
+    Object invoke(int methodIndex, Object target, Object[] args) throws Throwable;
+}
@@ -0,0 +1,18 @@
+package com.springlite.framework.proxy;
+
+/**
+ * 🧬 클래스 기반 프록시의 호출 처리기 (InvocationHandler에 해당)
+ *
+ * Method 객체 대신 프록시 클래스의 메서드 번호를 받으므로 미리 만들어 둔 배열에서
+ * 어드바이스 / 트랜잭션 설정을 바로 꺼낼 수 있습니다.
+ * (번호 → Method는 {@link SubclassProxyFactory.ProxyClass#getMethods()})
+ */
+public interface ProxyDispatcher {
+
+    Object dispatch(Object proxy, int methodIndex, Object[] args) throws Throwable;
+
+    /**
+     * 호출을 위임받는 원본 객체 (다른 프록시일 수 있음)
+     */
+    Object getTarget();
+}
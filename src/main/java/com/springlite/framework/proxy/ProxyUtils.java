@@ -0,0 +1,72 @@
+package com.springlite.framework.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * 🎭 프록시 관련 유틸리티
+ * Spring Framework의 AopUtils.selectInvocableMethod를 참고하여 구현
+ */
+public final class ProxyUtils {
+    
+    private ProxyUtils() {
+    }
+    
+    /**
+     * 🧬 클래스 기반 프록시면 원본 클래스를, 아니면 그대로 돌려줍니다.
+     * (프록시 클래스의 재정의 메서드에는 어노테이션이 없으므로 매핑 / 어노테이션 조회는 원본 클래스에서)
+     */
+    public static Class<?> getUserClass(Class<?> type) {
+        while (SubclassProxy.class.isAssignableFrom(type)) {
+            type = type.getSuperclass();
+        }
+        return type;
+    }
+    
+    /**
+     * 🧬 프록시를 모두 벗겨낸 원본 객체
+     * 클래스 기반 프록시와 DelegatingInvocationHandler를 쓰는 인터페이스 기반 프록시(AOP)를 벗깁니다.
+     * 재정의되지 않는 private / final 메서드나 인터페이스에 없는 메서드(@PreDestroy 등)는 원본 객체에서 호출해야 합니다.
+     */
+    public static Object getTargetObject(Object bean) {
+        while (bean != null) {
+            Object target;
+            if (bean instanceof SubclassProxy) {
+                target = ((SubclassProxy) bean).getProxyDispatcher().getTarget();
+            } else if (Proxy.isProxyClass(bean.getClass())
+                    && Proxy.getInvocationHandler(bean) instanceof DelegatingInvocationHandler) {
+                target = ((DelegatingInvocationHandler) Proxy.getInvocationHandler(bean)).getTarget();
+            } else {
+                return bean;
+            }
+            if (target == null) {
+                // 고정된 원본 객체가 없는 프록시 (pooled 등)
+                return bean;
+            }
+            bean = target;
+        }
+        return null;
+    }
+    
+    /**
+     * 빈 클래스에 선언된 method를 실제 빈 인스턴스(targetClass)에서 호출할 수 있는 메서드로 바꿉니다.
+     * 빈이 인터페이스 기반 프록시(AOP, 트랜잭션, @Async)로 감싸져 있으면 프록시가 구현한 인터페이스의
+     * 같은 시그니처 메서드를 찾습니다. (프록시를 거쳐 호출되므로 어드바이스도 적용됨)
+     */
+    public static Method selectInvocableMethod(Method method, Class<?> targetClass) {
+        if (method.getDeclaringClass().isAssignableFrom(targetClass)) {
+            return method;
+        }
+        for (Class<?> type = targetClass; type != null; type = type.getSuperclass()) {
+            for (Class<?> candidate : type.getInterfaces()) {
+                try {
+                    return candidate.getMethod(method.getName(), method.getParameterTypes());
+                } catch (NoSuchMethodException e) {
+                    // 다음 인터페이스
+                }
+            }
+        }
+        throw new RuntimeException("Method " + method + " is not exposed by proxy " + targetClass.getName()
+            + " (declare it on an interface the bean implements)");
+    }
+}
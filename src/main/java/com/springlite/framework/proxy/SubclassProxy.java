@@ -0,0 +1,14 @@
+package com.springlite.framework.proxy;
+
+/**
+ * 🧬 SubclassProxyFactory가 생성한 클래스 기반 프록시가 구현하는 인터페이스
+ *
+ * 프록시는 원본 클래스를 상속하고, 재정의한 메서드마다 메서드 번호와 인자 배열로
+ * {@link ProxyDispatcher#dispatch(Object, int, Object[])}를 바로 호출합니다.
+ */
+public interface SubclassProxy {
+
+    void setProxyDispatcher(ProxyDispatcher dispatcher);
+
+    ProxyDispatcher getProxyDispatcher();
+}
@@ -0,0 +1,286 @@
+package com.springlite.framework.proxy;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🧬 클래스 기반(서브클래스) 프록시 생성기
+ * Spring Framework의 CGLIB 프록시(ObjenesisCglibAopProxy)를 참고하여 구현
+ *
+ * 인터페이스가 없는 클래스(컨트롤러, 구체 서비스 등)도 AOP / 트랜잭션을 적용할 수 있도록
+ * 원본 클래스를 상속한 프록시 클래스를 직접 바이트코드로 생성합니다.
+ * - 재정의한 메서드는 메서드 번호로 ProxyDispatcher를 바로 호출 (InvocationHandler + Method 조회 없음)
+ * - 원본 메서드는 생성된 MethodInvoker가 invokevirtual로 직접 호출 (Method.invoke 없음)
+ * - 프록시 클래스는 원본 클래스마다 한 번만 생성하여 ClassValue에 캐시
+ * - 인스턴스는 원본 클래스의 생성자를 호출하지 않고 만듭니다. (가능한 JVM에서, Objenesis와 같은 방식)
+ *
+ * final / private / static 메서드는 재정의할 수 없으므로 프록시를 거치지 않고 프록시 인스턴스에서 실행됩니다.
+ */
+public final class SubclassProxyFactory {
+
+    private static final Log log = LogFactory.getLog(SubclassProxyFactory.class);
+
+    private static final String PROXY_CLASS_SUFFIX = "$$SpringLiteProxy$$";
+    private static final String INVOKER_CLASS_SUFFIX = "$$SpringLiteInvoker$$";
+
+    private static final AtomicInteger classCounter = new AtomicInteger();
+
+    private static final ClassValue<Object> proxyClasses = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return generate(type);
+            } catch (RuntimeException | LinkageError e) {
+                // 실패도 캐시 (클래스마다 한 번만 시도)
+                return e;
+            }
+        }
+    };
+
+    private SubclassProxyFactory() {
+    }
+
+    /**
+     * 클래스 기반 프록시를 만들 수 있는 클래스인지 (상속 가능한 일반 클래스)
+     */
+    public static boolean isProxyable(Class<?> targetClass) {
+        int modifiers = targetClass.getModifiers();
+        return !targetClass.isInterface() && !targetClass.isArray() && !targetClass.isPrimitive()
+            && !targetClass.isEnum() && !Modifier.isFinal(modifiers)
+            && !SubclassProxy.class.isAssignableFrom(targetClass)
+            && !targetClass.getName().startsWith("java.");
+    }
+
+    /**
+     * 원본 클래스의 프록시 클래스 (캐시됨)
+     * @throws RuntimeException 상속할 수 없거나 클래스 정의에 실패한 경우
+     */
+    public static ProxyClass getProxyClass(Class<?> targetClass) {
+        if (!isProxyable(targetClass)) {
+            throw new RuntimeException("Cannot subclass " + targetClass.getName()
+                + " (final, interface, enum or JDK class)");
+        }
+        Object value = proxyClasses.get(targetClass);
+        if (value instanceof Throwable) {
+            throw new RuntimeException("Failed to generate subclass proxy for " + targetClass.getName(), (Throwable) value);
+        }
+        return (ProxyClass) value;
+    }
+
+    private static ProxyClass generate(Class<?> targetClass) {
+        long start = System.nanoTime();
+        Method[] methods = collectProxyMethods(targetClass);
+        MethodHandles.Lookup lookup = lookupIn(targetClass);
+
+        int id = classCounter.incrementAndGet();
+        Constructor<?> defaultConstructor = findDefaultConstructor(targetClass);
+        byte[] proxyBytes = SubclassProxyGenerator.generateProxy(
+            targetClass.getName() + PROXY_CLASS_SUFFIX + id, targetClass, methods, defaultConstructor != null);
+        byte[] invokerBytes = SubclassProxyGenerator.generateInvoker(
+            targetClass.getName() + INVOKER_CLASS_SUFFIX + id, targetClass, methods);
+
+        try {
+            Class<?> proxyClass = lookup.defineClass(proxyBytes);
+            Class<?> invokerClass = lookup.defineClass(invokerBytes);
+            MethodInvoker invoker = (MethodInvoker) invokerClass.getConstructor().newInstance();
+            Constructor<?> instantiator = createInstantiator(proxyClass, defaultConstructor != null);
+
+            log.debug("🧬 서브클래스 프록시 생성: {} ({} methods, {}B + {}B, {}ms)", proxyClass.getName(), methods.length,
+                proxyBytes.length, invokerBytes.length, String.format("%.2f", (System.nanoTime() - start) / 1e6));
+            return new ProxyClass(targetClass, proxyClass, methods, invoker, instantiator);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to define subclass proxy for " + targetClass.getName(), e);
+        }
+    }
+
+    /**
+     * 원본 클래스의 메서드들을 invokevirtual로 직접 호출하는 MethodInvoker (인터페이스 프록시용)
+     *
+     * 메서드 번호는 methods 배열의 순서이며, 각 메서드는 원본 클래스에서 호출할 수 있어야 합니다. (원본 클래스가 구현한 인터페이스 메서드 등)
+     * 호출할 때마다 새 클래스를 정의하므로 결과는 호출하는 쪽에서 원본 클래스마다 캐시해야 합니다.
+     * @throws RuntimeException 원본 클래스의 패키지에 클래스를 정의할 수 없는 경우 (JDK 클래스 등)
+     */
+    public static MethodInvoker createInvoker(Class<?> targetClass, Method[] methods) {
+        MethodHandles.Lookup lookup = lookupIn(targetClass);
+        byte[] invokerBytes = SubclassProxyGenerator.generateInvoker(
+            targetClass.getName() + INVOKER_CLASS_SUFFIX + classCounter.incrementAndGet(), targetClass, methods);
+        try {
+            return (MethodInvoker) lookup.defineClass(invokerBytes).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new RuntimeException("Failed to define method invoker for " + targetClass.getName(), e);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupIn(Class<?> targetClass) {
+        try {
+            return MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Package of " + targetClass.getName() + " is not open for proxy generation", e);
+        }
+    }
+
+    /**
+     * 프록시가 재정의할 메서드들: 원본 클래스와 상위 클래스의 재정의 가능한 메서드 + 상속된 public 메서드
+     * (인터페이스의 default 메서드, Object의 equals / hashCode / toString 포함)
+     */
+    public static Method[] collectProxyMethods(Class<?> targetClass) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                addIfOverridable(methods, method, targetClass);
+            }
+        }
+        for (Method method : targetClass.getMethods()) {
+            addIfOverridable(methods, method, targetClass);
+        }
+        return methods.values().stream().filter(Objects::nonNull).toArray(Method[]::new);
+    }
+
+    private static void addIfOverridable(Map<String, Method> methods, Method method, Class<?> targetClass) {
+        String key = method.getName() + Arrays.toString(method.getParameterTypes());
+        if (methods.containsKey(key)) {
+            return;
+        }
+        int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || method.isBridge() || method.isSynthetic()) {
+            return;
+        }
+        // 가장 하위 클래스의 선언이 먼저 등록되므로 final 메서드는 상위 선언도 가리도록 등록만 막음
+        if (Modifier.isFinal(modifiers)) {
+            methods.put(key, null);
+            log.debug("🧬 final 메서드는 프록시를 거치지 않습니다: {}", method);
+            return;
+        }
+        boolean samePackage = isSameRuntimePackage(method.getDeclaringClass(), targetClass);
+        if (!Modifier.isPublic(modifiers) && !samePackage) {
+            // 다른 패키지의 protected / package-private 메서드는 원본 객체에서 호출할 수 없음
+            methods.put(key, null);
+            return;
+        }
+        List<Class<?>> signatureTypes = new ArrayList<>(Arrays.asList(method.getParameterTypes()));
+        signatureTypes.add(method.getReturnType());
+        for (Class<?> type : signatureTypes) {
+            if (!isAccessibleFrom(type, targetClass)) {
+                methods.put(key, null);
+                return;
+            }
+        }
+        methods.put(key, method);
+    }
+
+    private static boolean isAccessibleFrom(Class<?> type, Class<?> targetClass) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive() || Modifier.isPublic(type.getModifiers())) {
+            return true;
+        }
+        return isSameRuntimePackage(type, targetClass);
+    }
+
+    private static boolean isSameRuntimePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+
+    private static Constructor<?> findDefaultConstructor(Class<?> targetClass) {
+        try {
+            Constructor<?> constructor = targetClass.getDeclaredConstructor();
+            return Modifier.isPrivate(constructor.getModifiers()) ? null : constructor;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 원본 클래스의 생성자를 실행하지 않는 생성자 (sun.reflect.ReflectionFactory, Objenesis와 같은 방식).
+     * 사용할 수 없으면 원본 클래스의 기본 생성자를 호출하는 프록시 생성자로 대체합니다.
+     */
+    private static Constructor<?> createInstantiator(Class<?> proxyClass, boolean hasDefaultConstructor)
+            throws ReflectiveOperationException {
+        try {
+            Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            Object factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+            Method newConstructor = factoryClass.getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+            Constructor<?> constructor = (Constructor<?>) newConstructor.invoke(factory, proxyClass,
+                Object.class.getDeclaredConstructor());
+            if (constructor != null) {
+                constructor.setAccessible(true);
+                return constructor;
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("sun.reflect.ReflectionFactory unavailable, falling back to default constructor: {}", e.toString());
+        }
+        if (!hasDefaultConstructor) {
+            throw new RuntimeException("No default constructor in " + proxyClass.getSuperclass().getName());
+        }
+        Constructor<?> constructor = proxyClass.getConstructor();
+        constructor.setAccessible(true);
+        return constructor;
+    }
+
+    /**
+     * 생성된 프록시 클래스와 메서드 번호표, 원본 메서드 호출기
+     */
+    public static final class ProxyClass {
+        private final Class<?> targetClass;
+        private final Class<?> proxyClass;
+        private final List<Method> methods;
+        private final MethodInvoker invoker;
+        private final Constructor<?> instantiator;
+
+        ProxyClass(Class<?> targetClass, Class<?> proxyClass, Method[] methods, MethodInvoker invoker,
+                   Constructor<?> instantiator) {
+            this.targetClass = targetClass;
+            this.proxyClass = proxyClass;
+            this.methods = Collections.unmodifiableList(Arrays.asList(methods));
+            this.invoker = invoker;
+            this.instantiator = instantiator;
+        }
+
+        /**
+         * 새 프록시 인스턴스. 모든 호출은 dispatcher로 전달됩니다.
+         */
+        public Object newInstance(ProxyDispatcher dispatcher) {
+            Objects.requireNonNull(dispatcher, "dispatcher");
+            try {
+                SubclassProxy proxy = (SubclassProxy) instantiator.newInstance();
+                proxy.setProxyDispatcher(dispatcher);
+                return proxy;
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException("Failed to instantiate subclass proxy for " + targetClass.getName(), e);
+            }
+        }
+
+        public Class<?> getTargetClass() {
+            return targetClass;
+        }
+
+        public Class<?> getProxyClass() {
+            return proxyClass;
+        }
+
+        /**
+         * 메서드 번호 → 원본 클래스의 메서드 (ProxyDispatcher.dispatch의 methodIndex)
+         */
+        public List<Method> getMethods() {
+            return methods;
+        }
+
+        public MethodInvoker getInvoker() {
+            return invoker;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.springlite.framework.proxy;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static com.springlite.framework.proxy.ClassFileWriter.*;
+
+/**
+ * 🧬 클래스 기반 프록시의 바이트코드 생성
+ *
+ * 프록시 클래스 (원본 클래스를 상속, SubclassProxy 구현):
+ * <pre>
+ * public String find(long id) {
+ *     return (String) this.$$dispatcher.dispatch(this, 3, new Object[] { Long.valueOf(id) });
+ * }
+ * </pre>
+ * 원본 호출기 (MethodInvoker 구현):
+ * <pre>
+ * public Object invoke(int index, Object target, Object[] args) {
+ *     switch (index) {
+ *         case 3: return ((Foo) target).find(((Long) args[0]).longValue());
+ *         ...
+ *         default: throw new IllegalArgumentException();
+ *     }
+ * }
+ * </pre>
+ */
+final class SubclassProxyGenerator {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String SUBCLASS_PROXY = internalName(SubclassProxy.class);
+    private static final String PROXY_DISPATCHER = internalName(ProxyDispatcher.class);
+    private static final String METHOD_INVOKER = internalName(MethodInvoker.class);
+    private static final String DISPATCHER_FIELD = "$$dispatcher";
+    private static final String DISPATCHER_DESCRIPTOR = "L" + PROXY_DISPATCHER + ";";
+    private static final String DISPATCH_DESCRIPTOR = "(Ljava/lang/Object;I[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String INVOKE_DESCRIPTOR = "(ILjava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+
+    private SubclassProxyGenerator() {
+    }
+
+    /**
+     * @param generateConstructor 원본 클래스의 기본 생성자를 호출하는 생성자를 만들지 여부
+     *                            (생성자 없이 인스턴스를 만들 수 없는 JVM을 위한 대체 경로)
+     */
+    static byte[] generateProxy(String proxyName, Class<?> targetClass, Method[] methods, boolean generateConstructor) {
+        String proxy = proxyName.replace('.', '/');
+        String superName = internalName(targetClass);
+        ClassFileWriter writer = new ClassFileWriter(ACC_PUBLIC | ACC_SUPER | ACC_SYNTHETIC, proxy, superName, SUBCLASS_PROXY);
+        writer.addField(ACC_PRIVATE, DISPATCHER_FIELD, DISPATCHER_DESCRIPTOR);
+
+        if (generateConstructor) {
+            writer.addMethod(ACC_PUBLIC, "<init>", "()V")
+                .load(ALOAD, 0)
+                .invoke(INVOKESPECIAL, superName, "<init>", "()V")
+                .op(RETURN)
+                .end(1, 1);
+        }
+
+        writer.addMethod(ACC_PUBLIC, "setProxyDispatcher", "(" + DISPATCHER_DESCRIPTOR + ")V")
+            .load(ALOAD, 0)
+            .load(ALOAD, 1)
+            .field(PUTFIELD, proxy, DISPATCHER_FIELD, DISPATCHER_DESCRIPTOR)
+            .op(RETURN)
+            .end(2, 2);
+        writer.addMethod(ACC_PUBLIC, "getProxyDispatcher", "()" + DISPATCHER_DESCRIPTOR)
+            .load(ALOAD, 0)
+            .field(GETFIELD, proxy, DISPATCHER_FIELD, DISPATCHER_DESCRIPTOR)
+            .op(ARETURN)
+            .end(1, 1);
+
+        for (int index = 0; index < methods.length; index++) {
+            Method method = methods[index];
+            String descriptor = methodDescriptor(method);
+            int access = method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED);
+            ClassFileWriter.Code code = writer.addMethod(access, method.getName(), descriptor)
+                .load(ALOAD, 0)
+                .field(GETFIELD, proxy, DISPATCHER_FIELD, DISPATCHER_DESCRIPTOR)
+                .load(ALOAD, 0)
+                .pushInt(index);
+
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            code.pushInt(parameterTypes.length).type(ANEWARRAY, OBJECT);
+            int slot = 1;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                code.op(DUP).pushInt(i).load(loadOpcode(parameterTypes[i]), slot);
+                box(code, parameterTypes[i]);
+                code.op(AASTORE);
+                slot += slotSize(parameterTypes[i]);
+            }
+            code.invoke(INVOKEINTERFACE, PROXY_DISPATCHER, "dispatch", DISPATCH_DESCRIPTOR);
+
+            Class<?> returnType = method.getReturnType();
+            if (returnType == void.class) {
+                code.op(POP).op(RETURN);
+            } else {
+                unboxOrCast(code, returnType);
+                code.op(returnOpcode(returnType));
+            }
+            // dispatcher, this, index, 배열, 배열(dup), 배열 인덱스, 인자(long/double은 2)
+            code.end(8, slot);
+        }
+        return writer.toByteArray();
+    }
+
+    static byte[] generateInvoker(String invokerName, Class<?> targetClass, Method[] methods) {
+        String target = internalName(targetClass);
+        ClassFileWriter writer = new ClassFileWriter(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC,
+            invokerName.replace('.', '/'), OBJECT, METHOD_INVOKER);
+
+        writer.addMethod(ACC_PUBLIC, "<init>", "()V")
+            .load(ALOAD, 0)
+            .invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+            .op(RETURN)
+            .end(1, 1);
+
+        ClassFileWriter.Code code = writer.addMethod(ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR);
+        int maxStack = 3;
+        if (methods.length > 0) {
+            ClassFileWriter.Label[] labels = code.load(ILOAD, 1).tableSwitch(methods.length);
+            for (int index = 0; index < methods.length; index++) {
+                Method method = methods[index];
+                code.mark(labels[index])
+                    .load(ALOAD, 2)
+                    .type(CHECKCAST, target);
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                int slots = 0;
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    code.load(ALOAD, 3).pushInt(i).op(AALOAD);
+                    unboxOrCast(code, parameterTypes[i]);
+                    slots += slotSize(parameterTypes[i]);
+                }
+                // target, 앞 인자들, 배열, 배열 인덱스
+                maxStack = Math.max(maxStack, 1 + slots + 2);
+                code.invoke(INVOKEVIRTUAL, target, method.getName(), methodDescriptor(method));
+
+                Class<?> returnType = method.getReturnType();
+                if (returnType == void.class) {
+                    code.op(ACONST_NULL);
+                } else {
+                    box(code, returnType);
+                }
+                code.op(ARETURN);
+            }
+            code.mark(labels[methods.length]);
+        }
+        code.type(NEW, "java/lang/IllegalArgumentException")
+            .op(DUP)
+            .invoke(INVOKESPECIAL, "java/lang/IllegalArgumentException", "<init>", "()V")
+            .op(ATHROW)
+            .end(maxStack, 4);
+        return writer.toByteArray();
+    }
+
+    private static void box(ClassFileWriter.Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(wrapperType(type));
+            code.invoke(INVOKESTATIC, wrapper, "valueOf", "(" + descriptor(type) + ")L" + wrapper + ";");
+        }
+    }
+
+    private static void unboxOrCast(ClassFileWriter.Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(wrapperType(type));
+            code.type(CHECKCAST, wrapper)
+                .invoke(INVOKEVIRTUAL, wrapper, type.getName() + "Value", "()" + descriptor(type));
+        } else if (type != Object.class) {
+            code.type(CHECKCAST, internalName(type));
+        }
+    }
+
+    private static int loadOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LLOAD;
+        } else if (type == float.class) {
+            return FLOAD;
+        } else if (type == double.class) {
+            return DLOAD;
+        } else if (type.isPrimitive()) {
+            return ILOAD;
+        }
+        return ALOAD;
+    }
+
+    private static int returnOpcode(Class<?> type) {
+        if (type == long.class) {
+            return LRETURN;
+        } else if (type == float.class) {
+            return FRETURN;
+        } else if (type == double.class) {
+            return DRETURN;
+        } else if (type.isPrimitive()) {
+            return IRETURN;
+        }
+        return ARETURN;
+    }
+
+    private static int slotSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static Class<?> wrapperType(Class<?> primitive) {
+        if (primitive == int.class) return Integer.class;
+        if (primitive == long.class) return Long.class;
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == double.class) return Double.class;
+        if (primitive == float.class) return Float.class;
+        if (primitive == char.class) return Character.class;
+        if (primitive == short.class) return Short.class;
+        if (primitive == byte.class) return Byte.class;
+        throw new IllegalArgumentException("Not a primitive type: " + primitive);
+    }
+
+    /**
+     * 클래스 이름 (배열은 디스크립터) - CHECKCAST / NEW 등의 피연산자 형식
+     */
+    static String internalName(Class<?> type) {
+        return type.isArray() ? descriptor(type) : type.getName().replace('.', '/');
+    }
+
+    static String methodDescriptor(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            descriptor.append(descriptor(parameterType));
+        }
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    static String descriptor(Class<?> type) {
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        }
+        if (type == void.class) return "V";
+        if (type == int.class) return "I";
+        if (type == long.class) return "J";
+        if (type == boolean.class) return "Z";
+        if (type == double.class) return "D";
+        if (type == float.class) return "F";
+        if (type == char.class) return "C";
+        if (type == short.class) return "S";
+        if (type == byte.class) return "B";
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+}
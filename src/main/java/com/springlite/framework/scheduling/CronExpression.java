@@ -0,0 +1,206 @@
+package com.springlite.framework.scheduling;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * 🕰️ cron 표현식
+ * Spring Framework의 CronExpression을 참고하여 구현
+ *
+ * "초 분 시 일 월 요일" 6개 필드 (초가 없는 5개 필드도 허용 → 0초)
+ * - 각 필드: *, ?, 값, 범위(a-b), 목록(a,b,c), 간격(* /n, a/n, a-b/n)
+ * - 월: 1-12 또는 JAN-DEC, 요일: 0-7 (0과 7은 일요일) 또는 SUN-SAT
+ * - 매크로: @yearly(@annually), @monthly, @weekly, @daily(@midnight), @hourly
+ * - 일과 요일이 모두 지정되면 둘 다 맞아야 합니다. (Spring과 동일)
+ *
+ * 파싱 결과는 필드별 BitSet이고 next()는 필드 단위로 건너뛰며 찾으므로 초 단위로 훑지 않습니다.
+ */
+public final class CronExpression {
+
+    private static final String[] MONTH_NAMES =
+        {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    /** 일치하는 시각이 없는 표현식(예: 2월 30일)에서 무한히 찾지 않도록 하는 한도 */
+    private static final int MAX_YEARS_AHEAD = 8;
+
+    private final String expression;
+    private final BitSet seconds;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek; // 0 = 일요일
+
+    private CronExpression(String expression, BitSet seconds, BitSet minutes, BitSet hours,
+                           BitSet daysOfMonth, BitSet months, BitSet daysOfWeek) {
+        this.expression = expression;
+        this.seconds = seconds;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.daysOfMonth = daysOfMonth;
+        this.months = months;
+        this.daysOfWeek = daysOfWeek;
+    }
+
+    public static CronExpression parse(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cron expression must not be empty");
+        }
+        String trimmed = expression.trim();
+        String[] fields = expandMacro(trimmed).split("\\s+");
+        if (fields.length == 5) {
+            String[] withSeconds = new String[6];
+            withSeconds[0] = "0";
+            System.arraycopy(fields, 0, withSeconds, 1, 5);
+            fields = withSeconds;
+        }
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Cron expression must consist of 5 or 6 fields (found "
+                + fields.length + ") in \"" + trimmed + "\"");
+        }
+        try {
+            BitSet daysOfWeek = parseField(fields[5], 0, 7, DAY_NAMES);
+            if (daysOfWeek.get(7)) {
+                daysOfWeek.set(0);
+                daysOfWeek.clear(7);
+            }
+            return new CronExpression(trimmed,
+                parseField(fields[0], 0, 59, null),
+                parseField(fields[1], 0, 59, null),
+                parseField(fields[2], 0, 23, null),
+                parseField(fields[3], 1, 31, null),
+                parseField(fields[4], 1, 12, MONTH_NAMES),
+                daysOfWeek);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(e.getMessage() + " in cron expression \"" + trimmed + "\"", e);
+        }
+    }
+
+    private static String expandMacro(String expression) {
+        switch (expression.toLowerCase(Locale.ROOT)) {
+            case "@yearly":
+            case "@annually":
+                return "0 0 0 1 1 *";
+            case "@monthly":
+                return "0 0 0 1 * *";
+            case "@weekly":
+                return "0 0 0 * * 0";
+            case "@daily":
+            case "@midnight":
+                return "0 0 0 * * *";
+            case "@hourly":
+                return "0 0 * * * *";
+            default:
+                return expression;
+        }
+    }
+
+    private static BitSet parseField(String field, int min, int max, String[] names) {
+        BitSet bits = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Empty value in field '" + field + "'");
+            }
+            int step = 1;
+            String range = part;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                range = part.substring(0, slash);
+                step = parseNumber(part.substring(slash + 1), field);
+                if (step <= 0) {
+                    throw new IllegalArgumentException("Step must be positive in field '" + field + "'");
+                }
+            }
+
+            int start;
+            int end;
+            if ("*".equals(range) || "?".equals(range)) {
+                start = min;
+                end = max;
+            } else {
+                int dash = range.indexOf('-');
+                if (dash > 0) {
+                    start = parseValue(range.substring(0, dash), names, min, field);
+                    end = parseValue(range.substring(dash + 1), names, min, field);
+                } else {
+                    start = parseValue(range, names, min, field);
+                    end = slash >= 0 ? max : start; // "a/n" = a부터 끝까지 n 간격
+                }
+            }
+            if (start < min || end > max || start > end) {
+                throw new IllegalArgumentException("Value out of range [" + min + "-" + max + "] in field '" + field + "'");
+            }
+            for (int value = start; value <= end; value += step) {
+                bits.set(value);
+            }
+        }
+        return bits;
+    }
+
+    private static int parseValue(String value, String[] names, int min, String field) {
+        if (names != null) {
+            String upper = value.toUpperCase(Locale.ROOT);
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(upper)) {
+                    return i + (min == 1 ? 1 : 0); // 월은 1부터, 요일은 0부터
+                }
+            }
+        }
+        return parseNumber(value, field);
+    }
+
+    private static int parseNumber(String value, String field) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' in field '" + field + "'");
+        }
+    }
+
+    /**
+     * @return dateTime 이후(같은 시각 제외) 처음으로 일치하는 시각, 없으면 null
+     */
+    public ZonedDateTime next(ZonedDateTime dateTime) {
+        ZonedDateTime candidate = dateTime.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
+        int yearLimit = candidate.getYear() + MAX_YEARS_AHEAD;
+
+        while (candidate.getYear() <= yearLimit) {
+            if (!months.get(candidate.getMonthValue())) {
+                candidate = candidate.plusMonths(1).withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+                continue;
+            }
+            if (!daysOfMonth.get(candidate.getDayOfMonth())
+                || !daysOfWeek.get(candidate.getDayOfWeek().getValue() % 7)) {
+                candidate = candidate.plusDays(1).truncatedTo(ChronoUnit.DAYS);
+                continue;
+            }
+            if (!hours.get(candidate.getHour())) {
+                candidate = candidate.plusHours(1).truncatedTo(ChronoUnit.HOURS);
+                continue;
+            }
+            if (!minutes.get(candidate.getMinute())) {
+                candidate = candidate.plusMinutes(1).truncatedTo(ChronoUnit.MINUTES);
+                continue;
+            }
+            int second = seconds.nextSetBit(candidate.getSecond());
+            if (second < 0) {
+                candidate = candidate.plusMinutes(1).truncatedTo(ChronoUnit.MINUTES);
+                continue;
+            }
+            return candidate.withSecond(second);
+        }
+        return null;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,385 @@
+package com.springlite.framework.scheduling;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * ⏱️ 해시 타이머 휠
+ * Netty의 HashedWheelTimer를 참고하여 구현
+ *
+ * 스레드 하나가 tickDuration마다 휠을 한 칸씩 돌고, 현재 칸(bucket)에서 만료된 타임아웃만 꺼내
+ * 작업 실행기로 넘깁니다. 등록 / 취소는 O(1)이고 타임아웃이 몇 개든 타이머 스레드는 하나입니다.
+ * - 지연이 휠 한 바퀴보다 길면 remainingRounds로 남은 바퀴 수를 셉니다.
+ * - 등록 / 취소는 락 없는 큐에 넣고, 타이머 스레드만 bucket을 만지므로 bucket에는 동기화가 필요 없습니다.
+ * - 정밀도는 tickDuration 단위입니다. (기본 10ms, 주기 작업 용도로 충분)
+ */
+public class HashedWheelTimer {
+
+    private static final Log log = LogFactory.getLog(HashedWheelTimer.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_STOPPED = 2;
+
+    /** 한 tick에 bucket으로 옮길 최대 등록 수 (등록 폭주 시 tick이 밀리지 않도록) */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    /**
+     * 등록된 타임아웃 핸들
+     */
+    public interface Timeout {
+
+        /**
+         * @return 아직 실행되지 않아서 취소했으면 true
+         */
+        boolean cancel();
+
+        boolean isCancelled();
+
+        boolean isExpired();
+    }
+
+    private final long tickNanos;
+    private final WheelBucket[] wheel;
+    private final int mask;
+    private final Executor taskExecutor;
+    private final Thread workerThread;
+
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+
+    private volatile long startTime;
+
+    /**
+     * @param threadName   타이머 스레드 이름
+     * @param tickDuration 휠 한 칸의 시간
+     * @param wheelSize    칸 수 (2의 거듭제곱으로 올림)
+     * @param taskExecutor 만료된 작업을 실행할 실행기 (타이머 스레드에서 작업을 실행하지 않음)
+     */
+    public HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int wheelSize, Executor taskExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > (1 << 30)) {
+            throw new IllegalArgumentException("wheelSize out of range: " + wheelSize);
+        }
+        this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+        int normalized = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (normalized <= 0) {
+            normalized = 1;
+        }
+        this.wheel = new WheelBucket[normalized];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new WheelBucket();
+        }
+        this.mask = wheel.length - 1;
+        this.taskExecutor = taskExecutor;
+        this.workerThread = new Thread(this::runWheel, threadName);
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * delay 후에 task를 작업 실행기로 넘깁니다. 첫 호출 시 타이머 스레드를 시작합니다.
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() + Math.max(unit.toNanos(delay), 0L) - startTime;
+        WheelTimeout timeout = new WheelTimeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void start() {
+        switch (state.get()) {
+            case STATE_INIT:
+                if (state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case STATE_STARTED:
+                break;
+            default:
+                throw new RejectedExecutionException("Timer has been stopped");
+        }
+        // 타이머 스레드가 startTime을 정할 때까지 대기 (deadline 계산 기준)
+        while (startTime == 0) {
+            try {
+                startLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while starting timer", e);
+            }
+        }
+    }
+
+    /**
+     * 타이머 스레드를 멈추고 실행되지 않은 타임아웃 수를 반환합니다. (이미 실행기로 넘어간 작업은 기다리지 않음)
+     */
+    public int stop() {
+        if (Thread.currentThread() == workerThread) {
+            throw new IllegalStateException("stop() cannot be called from the timer thread");
+        }
+        if (state.getAndSet(STATE_STOPPED) != STATE_STARTED) {
+            return 0;
+        }
+        workerThread.interrupt();
+        boolean interrupted = false;
+        while (workerThread.isAlive()) {
+            try {
+                workerThread.join(100);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        int unprocessed = 0;
+        for (WheelBucket bucket : wheel) {
+            unprocessed += bucket.clear();
+        }
+        for (WheelTimeout timeout; (timeout = pendingTimeouts.poll()) != null; ) {
+            if (timeout.cancel()) {
+                unprocessed++;
+            }
+        }
+        cancelledTimeouts.clear();
+        return unprocessed;
+    }
+
+    public long getTickDuration(TimeUnit unit) {
+        return unit.convert(tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    // ========== 타이머 스레드 ==========
+
+    private void runWheel() {
+        long now = System.nanoTime();
+        startTime = now == 0 ? 1 : now; // 0은 "시작 전" 표시
+        startLatch.countDown();
+
+        long tick = 0;
+        while (state.get() == STATE_STARTED) {
+            long deadline = waitForNextTick(tick);
+            if (deadline <= 0) {
+                continue; // 중단됨 → 상태 재확인
+            }
+            processCancelledTimeouts();
+            transferPendingTimeouts(tick);
+            wheel[(int) (tick & mask)].expireTimeouts(deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * 다음 tick 시각까지 잠들고 (startTime 기준) 현재 시각을 반환합니다. 중단되면 0 이하.
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - currentTime + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return currentTime <= 0 ? 1 : currentTime;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_STOPPED) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTimeouts(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTimeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state != WheelTimeout.ST_INIT) {
+                continue; // bucket에 들어가기 전에 취소됨
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick); // 이미 지난 deadline은 현재 칸에서 바로 실행
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        for (WheelTimeout timeout; (timeout = cancelledTimeouts.poll()) != null; ) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void dispatch(WheelTimeout timeout) {
+        try {
+            taskExecutor.execute(timeout.task);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️  실행기가 타이머 작업을 거부했습니다: {}", e.getMessage());
+        } catch (Throwable t) {
+            log.error("❌ 타이머 작업 전달 실패", t);
+        }
+    }
+
+    // ========== 타임아웃 / bucket ==========
+
+    private final class WheelTimeout implements Timeout {
+
+        static final int ST_INIT = 0;
+        static final int ST_CANCELLED = 1;
+        static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+
+        // 타이머 스레드 전용
+        long remainingRounds;
+        WheelTimeout next;
+        WheelTimeout prev;
+        WheelBucket bucket;
+
+        volatile int state = ST_INIT;
+
+        WheelTimeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        boolean compareAndSetState(int expected, int newState) {
+            return STATE_UPDATER.compareAndSet(this, expected, newState);
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!compareAndSetState(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            // bucket에서 빼는 일은 타이머 스레드가 다음 tick에 처리
+            cancelledTimeouts.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        void expire() {
+            if (compareAndSetState(ST_INIT, ST_EXPIRED)) {
+                dispatch(this);
+            }
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+    /**
+     * 휠 한 칸: 타임아웃 이중 연결 리스트 (타이머 스레드만 접근)
+     */
+    private static final class WheelBucket {
+
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        // 배치 계산상 일어날 수 없음
+                        throw new IllegalStateException("timeout.deadline (" + timeout.deadline + ") > deadline (" + deadline + ")");
+                    }
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(WheelTimeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        /**
+         * @return 취소한 (아직 실행되지 않은) 타임아웃 수
+         */
+        int clear() {
+            int cleared = 0;
+            List<WheelTimeout> timeouts = new ArrayList<>();
+            for (WheelTimeout timeout = head; timeout != null; timeout = timeout.next) {
+                timeouts.add(timeout);
+            }
+            for (WheelTimeout timeout : timeouts) {
+                remove(timeout);
+                if (timeout.compareAndSetState(WheelTimeout.ST_INIT, WheelTimeout.ST_CANCELLED)) {
+                    cleared++;
+                }
+            }
+            return cleared;
+        }
+    }
+}
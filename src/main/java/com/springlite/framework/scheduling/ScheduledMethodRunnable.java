@@ -0,0 +1,55 @@
+package com.springlite.framework.scheduling;
+
+import com.springlite.framework.proxy.ProxyUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * 🏃 @Scheduled 메서드 실행기
+ * Spring Framework의 ScheduledMethodRunnable을 참고하여 구현
+ *
+ * 싱글톤 빈 인스턴스에 묶은 MethodHandle을 만들어 두므로 실행마다 리플렉션 조회가 없습니다.
+ * 빈이 프록시면 인터페이스 메서드를 호출하므로 AOP / @Transactional도 적용됩니다.
+ */
+public class ScheduledMethodRunnable implements Runnable {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class);
+
+    private final String name;
+    private final MethodHandle invoker;
+
+    public ScheduledMethodRunnable(String beanName, Object target, Method method) {
+        this.name = beanName + "." + method.getName();
+        Method invocable = ProxyUtils.selectInvocableMethod(method, target.getClass());
+        try {
+            invocable.setAccessible(true);
+            this.invoker = LOOKUP.unreflect(invocable).bindTo(target).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access @Scheduled method: " + invocable, e);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            invoker.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException("@Scheduled method threw checked exception: " + name, t);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,150 @@
+package com.springlite.framework.scheduling;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 📅 스케줄된 작업 하나
+ * Spring Framework의 ScheduledTask / ReschedulingRunnable을 참고하여 구현
+ *
+ * 실행이 끝난 뒤에 다음 실행을 휠에 등록하므로 같은 작업이 겹쳐 실행되지 않고,
+ * 작업 하나가 실행기 큐에 올리는 항목도 최대 하나입니다.
+ * - fixedRate: 계획된 시작 시각 기준 주기. 실행이 주기보다 길어서 놓친 회차는 건너뜁니다.
+ * - fixedDelay: 실행이 끝난 시각 기준 지연
+ * - cron: 현재 시각 이후 다음으로 일치하는 시각
+ */
+public final class ScheduledTask {
+
+    enum Kind { FIXED_RATE, FIXED_DELAY, CRON }
+
+    private final WheelTaskScheduler scheduler;
+    private final String name;
+    private final Runnable runnable;
+    private final Kind kind;
+    private final long periodNanos;
+    private final CronExpression cron;
+    private final ZoneId zone;
+
+    // 실행 → 재등록이 항상 순서대로 일어나므로 한 번에 한 스레드만 접근 (타이머 / 실행기 전달로 happens-before)
+    private long plannedNanos;
+    private ZonedDateTime lastCronTime;
+
+    private volatile HashedWheelTimer.Timeout timeout;
+    private volatile boolean cancelled;
+
+    ScheduledTask(WheelTaskScheduler scheduler, String name, Runnable runnable, Kind kind,
+                  long periodNanos, CronExpression cron, ZoneId zone) {
+        this.scheduler = scheduler;
+        this.name = name;
+        this.runnable = runnable;
+        this.kind = kind;
+        this.periodNanos = periodNanos;
+        this.cron = cron;
+        this.zone = zone;
+    }
+
+    void start(long initialDelayNanos) {
+        if (kind == Kind.CRON) {
+            scheduleNextCron();
+        } else {
+            plannedNanos = System.nanoTime() + initialDelayNanos;
+            schedule(initialDelayNanos);
+        }
+    }
+
+    private void schedule(long delayNanos) {
+        if (cancelled) {
+            return;
+        }
+        try {
+            timeout = scheduler.getTimer().newTimeout(this::runAndReschedule, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            cancelled = true; // 스케줄러 종료 중
+        }
+        if (cancelled) {
+            HashedWheelTimer.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+
+    private void runAndReschedule() {
+        if (cancelled) {
+            return;
+        }
+        scheduler.execute(this);
+
+        switch (kind) {
+            case FIXED_RATE:
+                long now = System.nanoTime();
+                plannedNanos += periodNanos;
+                if (plannedNanos - now < 0) {
+                    long missed = (now - plannedNanos) / periodNanos + 1;
+                    plannedNanos += missed * periodNanos;
+                    scheduler.recordSkipped(missed);
+                }
+                schedule(plannedNanos - now);
+                break;
+            case FIXED_DELAY:
+                schedule(periodNanos);
+                break;
+            default:
+                scheduleNextCron();
+                break;
+        }
+    }
+
+    private void scheduleNextCron() {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        // 휠이 벽시계보다 조금 일찍 깨어나도 같은 시각에 두 번 실행되지 않도록
+        ZonedDateTime base = lastCronTime != null && lastCronTime.isAfter(now) ? lastCronTime : now;
+        ZonedDateTime next = cron.next(base);
+        if (next == null) {
+            scheduler.remove(this);
+            cancelled = true;
+            return;
+        }
+        lastCronTime = next;
+        schedule(Math.max(Duration.between(now, next).toNanos(), 0L));
+    }
+
+    void runTask() {
+        runnable.run();
+    }
+
+    /**
+     * 다음 실행을 취소합니다. (실행 중인 회차는 끝까지 실행)
+     */
+    public void cancel() {
+        cancelled = true;
+        HashedWheelTimer.Timeout current = timeout;
+        if (current != null) {
+            current.cancel();
+        }
+        scheduler.remove(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        switch (kind) {
+            case FIXED_RATE:
+                return name + " (fixedRate=" + TimeUnit.NANOSECONDS.toMillis(periodNanos) + "ms)";
+            case FIXED_DELAY:
+                return name + " (fixedDelay=" + TimeUnit.NANOSECONDS.toMillis(periodNanos) + "ms)";
+            default:
+                return name + " (cron=" + cron + ")";
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.springlite.framework.scheduling;
+
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ⏰ 공유 작업 스케줄러
+ * Spring Framework의 ThreadPoolTaskScheduler를 참고하여 구현 (타이머는 해시 타이머 휠)
+ *
+ * 모든 주기 작업이 타이머 스레드 하나(HashedWheelTimer)와 작은 작업 스레드 풀을 공유합니다.
+ * 작업마다 Timer 스레드를 만드는 대신 휠에 타임아웃만 등록하므로 수천 개의 작업도 스레드 수가 늘지 않습니다.
+ * - 작업은 끝난 뒤에 다음 회차를 등록하므로 작업당 대기 항목은 최대 하나 → 작업 큐는 작업 수로 제한됨
+ * - 작업이 던진 예외는 로그로 남기고 다음 회차는 계속 실행합니다.
+ */
+public class WheelTaskScheduler {
+
+    private static final Log log = LogFactory.getLog(WheelTaskScheduler.class);
+
+    public static final int DEFAULT_POOL_SIZE = 2;
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final HashedWheelTimer timer;
+    private final ThreadPoolExecutor workers;
+    private final Set<ScheduledTask> tasks = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    private volatile boolean shutdown;
+
+    public WheelTaskScheduler() {
+        this(DEFAULT_POOL_SIZE, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param poolSize   작업 스레드 수
+     * @param tickMillis 휠 한 칸의 시간 (실행 시각의 정밀도)
+     * @param wheelSize  휠 칸 수
+     */
+    public WheelTaskScheduler(int poolSize, long tickMillis, int wheelSize) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive: " + poolSize);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "scheduling-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), threadFactory);
+        this.timer = new HashedWheelTimer("scheduling-timer", tickMillis, TimeUnit.MILLISECONDS, wheelSize, workers);
+    }
+
+    /**
+     * 계획된 시작 시각 기준으로 period마다 실행 (놓친 회차는 건너뜀)
+     */
+    public ScheduledTask scheduleAtFixedRate(String name, Runnable task, long initialDelay, long period, TimeUnit unit) {
+        requirePositive(period, "period");
+        return start(new ScheduledTask(this, name, task, ScheduledTask.Kind.FIXED_RATE, unit.toNanos(period), null, null),
+            unit.toNanos(initialDelay));
+    }
+
+    /**
+     * 실행이 끝난 뒤 delay만큼 기다렸다가 다시 실행
+     */
+    public ScheduledTask scheduleWithFixedDelay(String name, Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        requirePositive(delay, "delay");
+        return start(new ScheduledTask(this, name, task, ScheduledTask.Kind.FIXED_DELAY, unit.toNanos(delay), null, null),
+            unit.toNanos(initialDelay));
+    }
+
+    /**
+     * cron 표현식과 일치하는 시각마다 실행
+     */
+    public ScheduledTask schedule(String name, Runnable task, CronExpression cron, ZoneId zone) {
+        return start(new ScheduledTask(this, name, task, ScheduledTask.Kind.CRON, 0L, cron, zone), 0L);
+    }
+
+    private ScheduledTask start(ScheduledTask task, long initialDelayNanos) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Scheduler has been shut down: " + task.getName());
+        }
+        tasks.add(task);
+        task.start(Math.max(initialDelayNanos, 0L));
+        return task;
+    }
+
+    private static void requirePositive(long value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+    }
+
+    HashedWheelTimer getTimer() {
+        return timer;
+    }
+
+    void execute(ScheduledTask task) {
+        try {
+            task.runTask();
+        } catch (Throwable t) {
+            failures.increment();
+            log.error("❌ 스케줄 작업 실패: {}", task.getName(), t);
+        } finally {
+            executions.increment();
+        }
+    }
+
+    void recordSkipped(long count) {
+        skipped.add(count);
+    }
+
+    void remove(ScheduledTask task) {
+        tasks.remove(task);
+    }
+
+    /**
+     * 작업을 모두 취소하고 실행 중인 회차가 끝나기를 timeout만큼 기다립니다.
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        for (ScheduledTask task : new ArrayList<>(tasks)) {
+            task.cancel();
+        }
+        timer.stop();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(timeout, unit)) {
+                List<Runnable> dropped = workers.shutdownNow();
+                log.warn("⚠️  스케줄 작업이 {} {} 안에 끝나지 않아 중단합니다 (대기 {}건)", timeout, unit, dropped.size());
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public int getScheduledTaskCount() {
+        return tasks.size();
+    }
+
+    public List<ScheduledTask> getScheduledTasks() {
+        return new ArrayList<>(tasks);
+    }
+
+    /** 작업 스레드 수 (타이머 스레드 제외) */
+    public int getPoolSize() {
+        return workers.getCorePoolSize();
+    }
+
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /** fixedRate 작업이 실행 시간이 길어서 건너뛴 회차 수 */
+    public long getSkippedCount() {
+        return skipped.sum();
+    }
+}
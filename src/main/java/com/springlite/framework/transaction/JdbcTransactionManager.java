@@ -1,5 +1,8 @@
 package com.springlite.framework.transaction;
 
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -22,6 +25,8 @@ import java.util.Stack;
  */
 public class JdbcTransactionManager implements TransactionManager {
     
+    private static final Log log = LogFactory.getLog(JdbcTransactionManager.class);
+    
     private DataSource dataSource;
     
     // 현재 스레드의 트랜잭션 상태를 저장
@@ -32,7 +37,7 @@ public class JdbcTransactionManager implements TransactionManager {
     
     public JdbcTransactionManager(DataSource dataSource) {
         this.dataSource = dataSource;
-        System.out.println("🔄 JdbcTransactionManager 생성됨 with DataSource: " + dataSource.getClass().getSimpleName());
+        log.debug("🔄 JdbcTransactionManager 생성됨 with DataSource: {}", dataSource.getClass().getSimpleName());
     }
     
     public void setDataSource(DataSource dataSource) {
@@ -45,7 +50,7 @@ public class JdbcTransactionManager implements TransactionManager {
     
     @Override
     public TransactionStatus getTransaction(TransactionDefinition definition) throws TransactionException {
-        System.out.println("🚀 트랜잭션 시작 요청: " + definition);
+        log.debug("🚀 트랜잭션 시작 요청: {}", definition);
         
         try {
             // 기존 트랜잭션 확인
@@ -64,7 +69,7 @@ public class JdbcTransactionManager implements TransactionManager {
             }
             
         } catch (SQLException e) {
-            System.err.println("❌ 트랜잭션 시작 실패: " + e.getMessage());
+            log.error("❌ 트랜잭션 시작 실패: {}", e.getMessage());
             throw new TransactionException("트랜잭션 시작 실패", e);
         }
     }
@@ -75,7 +80,7 @@ public class JdbcTransactionManager implements TransactionManager {
      */
     private TransactionStatus handleRequired(TransactionStatus existingTransaction, TransactionDefinition definition) throws SQLException {
         if (existingTransaction != null && !existingTransaction.isCompleted()) {
-            System.out.println("📝 기존 트랜잭션에 참여: " + existingTransaction);
+            log.debug("📝 기존 트랜잭션에 참여: {}", existingTransaction);
             return existingTransaction;
         }
         
@@ -90,7 +95,7 @@ public class JdbcTransactionManager implements TransactionManager {
     private TransactionStatus handleRequiresNew(TransactionStatus existingTransaction, TransactionDefinition definition) throws SQLException {
         // 기존 트랜잭션이 있으면 일시 중단
         if (existingTransaction != null && !existingTransaction.isCompleted()) {
-            System.out.println("⏸️ 기존 트랜잭션 일시 중단: " + existingTransaction);
+            log.debug("⏸️ 기존 트랜잭션 일시 중단: {}", existingTransaction);
             suspendTransaction(existingTransaction);
         }
         
@@ -111,7 +116,7 @@ public class JdbcTransactionManager implements TransactionManager {
         // 읽기 전용 설정
         if (definition.isReadOnly()) {
             connection.setReadOnly(true);
-            System.out.println("📖 읽기 전용 트랜잭션 설정");
+            log.debug("📖 읽기 전용 트랜잭션 설정");
         }
         
         // 트랜잭션 격리 수준 설정 (기본: READ_COMMITTED)
@@ -123,7 +128,7 @@ public class JdbcTransactionManager implements TransactionManager {
         currentTransaction.set(status);
         
         String txType = isRequiresNew ? "🆕 REQUIRES_NEW" : "🔄 REQUIRED";
-        System.out.println("✅ " + txType + " 트랜잭션 시작됨: " + status);
+        log.debug("✅ {} 트랜잭션 시작됨: {}", txType, status);
         return status;
     }
     
@@ -141,7 +146,7 @@ public class JdbcTransactionManager implements TransactionManager {
         
         // 현재 트랜잭션에서 제거
         currentTransaction.remove();
-        System.out.println("⏸️ 트랜잭션 중단됨: " + transaction);
+        log.debug("⏸️ 트랜잭션 중단됨: {}", transaction);
     }
     
     /**
@@ -152,7 +157,7 @@ public class JdbcTransactionManager implements TransactionManager {
         if (stack != null && !stack.isEmpty()) {
             TransactionStatus suspendedTransaction = stack.pop();
             currentTransaction.set(suspendedTransaction);
-            System.out.println("▶️ 트랜잭션 재개: " + suspendedTransaction);
+            log.debug("▶️ 트랜잭션 재개: {}", suspendedTransaction);
             
             // 스택이 비어있으면 ThreadLocal 정리
             if (stack.isEmpty()) {
@@ -163,15 +168,15 @@ public class JdbcTransactionManager implements TransactionManager {
     
     @Override
     public void commit(TransactionStatus status) throws TransactionException {
-        System.out.println("💾 트랜잭션 커밋 시도: " + status);
+        log.debug("💾 트랜잭션 커밋 시도: {}", status);
         
         if (status.isCompleted()) {
-            System.out.println("⚠️ 이미 완료된 트랜잭션입니다");
+            log.debug("⚠️ 이미 완료된 트랜잭션입니다");
             return;
         }
         
         if (status.isRollbackOnly()) {
-            System.out.println("🔄 롤백 전용 트랜잭션이므로 롤백 수행");
+            log.debug("🔄 롤백 전용 트랜잭션이므로 롤백 수행");
             rollback(status);
             return;
         }
@@ -181,10 +186,10 @@ public class JdbcTransactionManager implements TransactionManager {
             if (connection != null) {
                 // ✅ ACID의 D (Durability) 보장 - 커밋으로 영구 저장
                 connection.commit();
-                System.out.println("✅ 트랜잭션 커밋 성공");
+                log.debug("✅ 트랜잭션 커밋 성공");
             }
         } catch (SQLException e) {
-            System.err.println("❌ 트랜잭션 커밋 실패: " + e.getMessage());
+            log.error("❌ 트랜잭션 커밋 실패: {}", e.getMessage());
             throw new TransactionException("트랜잭션 커밋 실패", e);
         } finally {
             cleanupTransaction(status);
@@ -193,10 +198,10 @@ public class JdbcTransactionManager implements TransactionManager {
     
     @Override
     public void rollback(TransactionStatus status) throws TransactionException {
-        System.out.println("🔄 트랜잭션 롤백 시도: " + status);
+        log.debug("🔄 트랜잭션 롤백 시도: {}", status);
         
         if (status.isCompleted()) {
-            System.out.println("⚠️ 이미 완료된 트랜잭션입니다");
+            log.debug("⚠️ 이미 완료된 트랜잭션입니다");
             return;
         }
         
@@ -205,10 +210,10 @@ public class JdbcTransactionManager implements TransactionManager {
             if (connection != null) {
                 // ✅ ACID의 A (Atomicity) 보장 - 롤백으로 원자성 유지
                 connection.rollback();
-                System.out.println("✅ 트랜잭션 롤백 성공");
+                log.debug("✅ 트랜잭션 롤백 성공");
             }
         } catch (SQLException e) {
-            System.err.println("❌ 트랜잭션 롤백 실패: " + e.getMessage());
+            log.error("❌ 트랜잭션 롤백 실패: {}", e.getMessage());
             throw new TransactionException("트랜잭션 롤백 실패", e);
         } finally {
             cleanupTransaction(status);
@@ -226,10 +231,10 @@ public class JdbcTransactionManager implements TransactionManager {
                 connection.setAutoCommit(true);
                 connection.setReadOnly(false);
                 connection.close();
-                System.out.println("🧹 Connection 정리 완료");
+                log.debug("🧹 Connection 정리 완료");
             }
         } catch (SQLException e) {
-            System.err.println("⚠️ Connection 정리 중 오류: " + e.getMessage());
+            log.warn("⚠️ Connection 정리 중 오류: {}", e.getMessage());
         } finally {
             status.setCompleted();
             
@@ -237,12 +242,12 @@ public class JdbcTransactionManager implements TransactionManager {
             if (status.isRequiresNew()) {
                 currentTransaction.remove();
                 resumeTransaction();
-                System.out.println("🔄 REQUIRES_NEW 트랜잭션 완료, 이전 트랜잭션 재개");
+                log.debug("🔄 REQUIRES_NEW 트랜잭션 완료, 이전 트랜잭션 재개");
             } else {
                 currentTransaction.remove();
             }
             
-            System.out.println("🧹 트랜잭션 ThreadLocal 정리 완료");
+            log.debug("🧹 트랜잭션 ThreadLocal 정리 완료");
         }
     }
     
@@ -0,0 +1,66 @@
+package com.springlite.framework.transaction;
+
+import com.springlite.framework.aop.Advisor;
+import com.springlite.framework.aop.MethodInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * 🔄 트랜잭션 어드바이저
+ * Spring Framework의 BeanFactoryTransactionAttributeSourceAdvisor를 참고하여 구현
+ *
+ * @Transactional 메서드(또는 클래스)에 TransactionInterceptor를 붙입니다.
+ * AopProxyFactory에 등록되면 트랜잭션 처리가 애스펙트 어드바이스와 같은 체인에 들어가고,
+ * 순서는 애스펙트의 @Order와 함께 getOrder()로 정해집니다.
+ *
+ * @Transactional은 다음 순서로 찾습니다.
+ * 1. 타겟 클래스의 메서드  2. 타겟 클래스  3. 인터페이스 메서드  4. 인터페이스
+ */
+public class TransactionAdvisor implements Advisor {
+    
+    private final Supplier<TransactionManager> transactionManager;
+    private final int order;
+    
+    public TransactionAdvisor(Supplier<TransactionManager> transactionManager, int order) {
+        this.transactionManager = transactionManager;
+        this.order = order;
+    }
+    
+    @Override
+    public int getOrder() {
+        return order;
+    }
+    
+    @Override
+    public MethodInterceptor getInterceptor(Method method, Class<?> targetClass) {
+        Transactional transactional = findTransactional(method, targetClass);
+        return transactional != null ? new TransactionInterceptor(transactionManager, transactional) : null;
+    }
+    
+    static Transactional findTransactional(Method method, Class<?> targetClass) {
+        if (method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        Method targetMethod = method;
+        if (method.getDeclaringClass() != targetClass) {
+            try {
+                targetMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
+            } catch (NoSuchMethodException e) {
+                // public이 아닌 메서드는 선언된 메서드 그대로 사용
+            }
+        }
+        
+        Transactional transactional = targetMethod.getAnnotation(Transactional.class);
+        if (transactional == null) {
+            transactional = targetClass.getAnnotation(Transactional.class);
+        }
+        if (transactional == null) {
+            transactional = method.getAnnotation(Transactional.class);
+        }
+        if (transactional == null) {
+            transactional = method.getDeclaringClass().getAnnotation(Transactional.class);
+        }
+        return transactional;
+    }
+}
@@ -4,6 +4,8 @@ import com.springlite.framework.aop.annotations.Around;
 import com.springlite.framework.aop.annotations.Aspect;
 import com.springlite.framework.aop.annotations.Pointcut;
 import com.springlite.framework.aop.ProceedingJoinPoint;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
 
 import java.lang.reflect.Method;
 
@@ -17,10 +19,15 @@ import java.lang.reflect.Method;
  * - Consistency (일관성): 데이터 무결성 제약조건 유지
  * - Isolation (고립성): 트랜잭션 격리 수준 설정
  * - Durability (지속성): 커밋된 데이터의 영구 저장
+ *
+ * 컨텍스트에 이 애스펙트가 등록되어 있으면 컨텍스트는 기본 TransactionAdvisor를 등록하지 않습니다.
+ * (같은 메서드에 트랜잭션이 두 번 걸리지 않도록)
  */
 @Aspect
 public class TransactionAspect {
     
+    private static final Log log = LogFactory.getLog(TransactionAspect.class);
+    
     private TransactionManager transactionManager;
     
     /**
@@ -44,51 +51,20 @@ public class TransactionAspect {
      */
     @Around("transactionalMethods()")
     public Object manageTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
-        System.out.println("🔥 TransactionAspect.manageTransaction() 호출됨! 메서드: " + joinPoint.getMethod().getName());
+        log.debug("🔥 TransactionAspect.manageTransaction() 호출됨! 메서드: {}", joinPoint.getMethod().getName());
         
         Transactional transactional = getTransactionalAnnotation(joinPoint);
         if (transactional == null) {
-            System.out.println("⚠️ @Transactional 어노테이션을 찾을 수 없음");
+            log.debug("⚠️ @Transactional 어노테이션을 찾을 수 없음");
             // @Transactional이 없으면 그냥 메서드 실행
             return joinPoint.proceed();
         }
         
-        System.out.println("🎯 @Transactional 발견: readOnly=" + transactional.readOnly());
-        
-        // 트랜잭션 정의 생성
-        TransactionDefinition definition = new DefaultTransactionDefinition(transactional);
-        
-        // 트랜잭션 시작
-        System.out.println("🚀 트랜잭션 시작 중...");
-        TransactionStatus status = transactionManager.getTransaction(definition);
-        System.out.println("✅ 트랜잭션 시작됨: " + status);
+        log.debug("🎯 @Transactional 발견: readOnly={}", transactional.readOnly());
         
-        try {
-            // 실제 메서드 실행
-            System.out.println("🔄 메서드 실행 중: " + joinPoint.getMethod().getName());
-            Object result = joinPoint.proceed();
-            System.out.println("✅ 메서드 실행 완료");
-            
-            // 성공 시 커밋
-            System.out.println("💾 트랜잭션 커밋 중...");
-            transactionManager.commit(status);
-            System.out.println("✅ 트랜잭션 커밋 완료");
-            return result;
-            
-        } catch (Exception e) {
-            System.out.println("💥 예외 발생: " + e.getMessage());
-            // 예외 발생 시 롤백 여부 판단
-            if (shouldRollback(e, transactional)) {
-                System.out.println("🔄 트랜잭션 롤백 중...");
-                transactionManager.rollback(status);
-                System.out.println("✅ 트랜잭션 롤백 완료");
-            } else {
-                System.out.println("💾 예외 발생했지만 커밋 중...");
-                transactionManager.commit(status);
-                System.out.println("✅ 트랜잭션 커밋 완료");
-            }
-            throw e;
-        }
+        // 트랜잭션 시작 / 커밋 / 롤백 규칙은 TransactionInterceptor와 공유
+        return TransactionInterceptor.invokeWithinTransaction(transactionManager, joinPoint.getMethod().getName(),
+            transactional, new DefaultTransactionDefinition(transactional), ProceedingJoinPoint::proceed, joinPoint);
     }
     
     /**
@@ -105,59 +81,36 @@ public class TransactionAspect {
             // 1. 타겟 메서드 레벨에서 찾기
             Transactional transactional = targetMethod.getAnnotation(Transactional.class);
             if (transactional != null) {
-                System.out.println("✅ 메서드 레벨에서 @Transactional 발견");
+                log.debug("✅ 메서드 레벨에서 @Transactional 발견");
                 return transactional;
             }
             
             // 2. 타겟 클래스 레벨에서 찾기
             transactional = target.getClass().getAnnotation(Transactional.class);
             if (transactional != null) {
-                System.out.println("✅ 클래스 레벨에서 @Transactional 발견");
+                log.debug("✅ 클래스 레벨에서 @Transactional 발견");
                 return transactional;
             }
             
         } catch (NoSuchMethodException e) {
-            System.out.println("⚠️ 타겟 클래스에서 메서드를 찾을 수 없음: " + method.getName());
+            log.debug("⚠️ 타겟 클래스에서 메서드를 찾을 수 없음: {}", method.getName());
         }
         
         // 3. 프록시 메서드에서 찾기 (백업)
         Transactional transactional = method.getAnnotation(Transactional.class);
         if (transactional != null) {
-            System.out.println("✅ 프록시 메서드에서 @Transactional 발견");
+            log.debug("✅ 프록시 메서드에서 @Transactional 발견");
             return transactional;
         }
         
         // 4. 프록시 클래스에서 찾기 (백업)
         transactional = method.getDeclaringClass().getAnnotation(Transactional.class);
         if (transactional != null) {
-            System.out.println("✅ 프록시 클래스에서 @Transactional 발견");
+            log.debug("✅ 프록시 클래스에서 @Transactional 발견");
             return transactional;
         }
         
-        System.out.println("❌ 어디에서도 @Transactional을 찾을 수 없음");
+        log.debug("❌ 어디에서도 @Transactional을 찾을 수 없음");
         return null;
     }
-    
-    /**
-     * 예외 발생 시 롤백 여부 판단
-     */
-    private boolean shouldRollback(Exception e, Transactional transactional) {
-        // rollbackFor에 지정된 예외인지 확인
-        for (Class<? extends Throwable> rollbackClass : transactional.rollbackFor()) {
-            if (rollbackClass.isAssignableFrom(e.getClass())) {
-                return true;
-            }
-        }
-        
-        // noRollbackFor에 지정된 예외인지 확인
-        for (Class<? extends Throwable> noRollbackClass : transactional.noRollbackFor()) {
-            if (noRollbackClass.isAssignableFrom(e.getClass())) {
-                return false;
-            }
-        }
-        
-        // 기본적으로 RuntimeException과 Error는 롤백
-        return e instanceof RuntimeException;
-    }
 }
- 
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.springlite.framework.transaction;
+
+import com.springlite.framework.aop.MethodInterceptor;
+import com.springlite.framework.aop.MethodInvocation;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
+import java.util.function.Supplier;
+
+/**
+ * 🔄 트랜잭션 인터셉터
+ * Spring Framework의 TransactionInterceptor를 참고하여 구현
+ *
+ * 한 메서드의 @Transactional 설정으로 만들어지는 인터셉터 체인의 한 고리입니다.
+ * 애스펙트의 어드바이스와 같은 체인에서 실행되므로 빈에는 프록시가 한 겹만 씌워집니다.
+ * - 어노테이션과 트랜잭션 정의는 프록시를 만들 때 한 번만 해석 (호출 시 어노테이션 조회 없음)
+ * - TransactionManager 빈이 없으면 트랜잭션 없이 메서드만 실행하고 로그만 남깁니다.
+ */
+public class TransactionInterceptor implements MethodInterceptor {
+    
+    private static final Log log = LogFactory.getLog(TransactionInterceptor.class);
+    
+    private final Supplier<TransactionManager> transactionManager;
+    private final Transactional transactional;
+    private final TransactionDefinition definition;
+    
+    /**
+     * @param transactionManager 호출 시점의 TransactionManager (없으면 null을 반환)
+     */
+    public TransactionInterceptor(Supplier<TransactionManager> transactionManager, Transactional transactional) {
+        this.transactionManager = transactionManager;
+        this.transactional = transactional;
+        this.definition = new DefaultTransactionDefinition(transactional);
+    }
+    
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        // 캡처 없는 메서드 참조 + 인자로 넘겨 호출마다 람다 객체를 만들지 않음
+        return invokeWithinTransaction(transactionManager.get(), invocation.getMethod().getName(),
+            transactional, definition, MethodInvocation::proceed, invocation);
+    }
+    
+    /**
+     * 트랜잭션 안에서 작업을 실행합니다. 성공하면 커밋, 예외가 나면 롤백 규칙에 따라 롤백 또는 커밋합니다.
+     * (TransactionAspect도 같은 규칙을 사용)
+     */
+    static <T> Object invokeWithinTransaction(TransactionManager transactionManager, String methodName,
+                                              Transactional transactional, TransactionDefinition definition,
+                                              Invocation<T> invocation, T context) throws Throwable {
+        if (transactionManager == null) {
+            log.debug("Starting transaction for method: {} (no TransactionManager)", methodName);
+            log.debug("Transaction config - readOnly: {}, propagation: {}", transactional.readOnly(), transactional.propagation());
+            return invocation.proceed(context);
+        }
+        
+        log.debug("🚀 트랜잭션 시작 중: {}", methodName);
+        TransactionStatus status = transactionManager.getTransaction(definition);
+        log.debug("✅ 트랜잭션 시작됨: {}", status);
+        
+        Object result;
+        try {
+            result = invocation.proceed(context);
+        } catch (Exception e) {
+            log.debug("💥 예외 발생: {}", e.getMessage());
+            if (shouldRollback(e, transactional)) {
+                log.debug("🔄 트랜잭션 롤백 중...");
+                transactionManager.rollback(status);
+            } else {
+                log.debug("💾 예외 발생했지만 커밋 중...");
+                transactionManager.commit(status);
+            }
+            throw e;
+        }
+        log.debug("💾 트랜잭션 커밋 중...");
+        transactionManager.commit(status);
+        return result;
+    }
+    
+    /**
+     * 예외 발생 시 롤백 여부 판단
+     */
+    static boolean shouldRollback(Exception e, Transactional transactional) {
+        // rollbackFor에 지정된 예외인지 확인
+        for (Class<? extends Throwable> rollbackClass : transactional.rollbackFor()) {
+            if (rollbackClass.isAssignableFrom(e.getClass())) {
+                return true;
+            }
+        }
+        
+        // noRollbackFor에 지정된 예외인지 확인
+        for (Class<? extends Throwable> noRollbackClass : transactional.noRollbackFor()) {
+            if (noRollbackClass.isAssignableFrom(e.getClass())) {
+                return false;
+            }
+        }
+        
+        // 기본적으로 RuntimeException은 롤백
+        return e instanceof RuntimeException;
+    }
+    
+    public Transactional getTransactional() {
+        return transactional;
+    }
+    
+    /**
+     * 트랜잭션 안에서 실행할 작업 (인터셉터 체인의 나머지 또는 조인 포인트)
+     */
+    @FunctionalInterface
+    interface Invocation<T> {
+        Object proceed(T context) throws Throwable;
+    }
+}
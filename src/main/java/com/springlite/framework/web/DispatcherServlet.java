@@ -3,6 +3,10 @@ package com.springlite.framework.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springlite.framework.annotations.*;
 import com.springlite.framework.context.ApplicationContext;
+import com.springlite.framework.context.scope.RequestContextHolder;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+import com.springlite.framework.proxy.ProxyUtils;
 
 import javax.servlet.RequestDispatcher;
 import javax.servlet.ServletException;
@@ -19,6 +23,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 public class DispatcherServlet extends HttpServlet {
     
+    private static final Log log = LogFactory.getLog(DispatcherServlet.class);
+    
     private ApplicationContext applicationContext;
     private Map<String, HandlerMapping> handlerMappings = new HashMap<>();
     private List<HandlerAdapter> handlerAdapters = new ArrayList<>();
@@ -50,15 +56,21 @@ public class DispatcherServlet extends HttpServlet {
         // @RequestMapping 기반 Controller를 위한 어댑터 등록
         handlerAdapters.add(new RequestMappingHandlerAdapter());
         
-        System.out.println("Initialized HandlerAdapters: " + handlerAdapters.size());
+        log.debug("Initialized HandlerAdapters: {}", handlerAdapters.size());
     }
     
     private void initHandlerMappings() {
         String[] beanNames = applicationContext.getBeanDefinitionNames();
         
         for (String beanName : beanNames) {
+            // 🧭 컨트롤러가 아닌 빈은 만들지 않음 (지연 빈, request 스코프 빈 등은 요청 밖에서 생성하면 안 됨)
+            Class<?> beanType = applicationContext.getType(beanName);
+            if (beanType == null || !beanType.isAnnotationPresent(Controller.class)) {
+                continue;
+            }
             Object bean = applicationContext.getBean(beanName);
-            Class<?> beanClass = bean.getClass();
+            // 🧬 클래스 기반 프록시면 매핑 어노테이션은 원본 클래스에 있음 (호출은 프록시로)
+            Class<?> beanClass = ProxyUtils.getUserClass(bean.getClass());
             
             if (beanClass.isAnnotationPresent(Controller.class)) {
                 String baseMapping = "";
@@ -81,8 +93,8 @@ public class DispatcherServlet extends HttpServlet {
                         // 🔥 수정: 독립적인 HandlerMapping 클래스 사용
                         handlerMappings.put(key, new HandlerMapping(bean, method, fullPath));
                         
-                        System.out.println("Mapped [" + httpMethod + " " + fullPath + "] -> " + 
-                                         beanClass.getSimpleName() + "." + method.getName());
+                        log.info("Mapped [{} {}] -> {}.{}", httpMethod, fullPath,
+                                 beanClass.getSimpleName(), method.getName());
                     }
                 }
             }
@@ -120,15 +132,16 @@ public class DispatcherServlet extends HttpServlet {
         String uri = request.getRequestURI();
         String method = request.getMethod();
         
-        System.out.println("\n🌐 DispatcherServlet: Processing " + method + " " + uri);
+        log.debug("🌐 DispatcherServlet: Processing {} {}", method, uri);
         
+        // 🧭 새로 추가: request 스코프 시작 (요청이 끝나면 request 스코프 빈 소멸)
+        boolean requestOwner = RequestContextHolder.beginRequest();
         try {
             // 🔥 MVC 요청 처리
             processRequest(request, response);
             
         } catch (Exception e) {
-            System.out.println("❌ DispatcherServlet: Error processing request: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ DispatcherServlet: Error processing request: {} {}", method, uri, e);
             
             // 에러 페이지 응답
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -139,6 +152,10 @@ public class DispatcherServlet extends HttpServlet {
                 "<p>Error: " + e.getMessage() + "</p>" +
                 "</body></html>"
             );
+        } finally {
+            if (requestOwner) {
+                RequestContextHolder.endRequest();
+            }
         }
     }
     
@@ -148,7 +165,7 @@ public class DispatcherServlet extends HttpServlet {
         String method = request.getMethod();
         String path = request.getRequestURI();
         
-        System.out.println("🔍 Looking for handler: " + method + ":" + path);
+        log.debug("🔍 Looking for handler: {}:{}", method, path);
         
         // 🔥 핵심 수정: 실제 Spring Framework 방식 적용
         // 1. 정확한 매칭 먼저 시도
@@ -183,7 +200,7 @@ public class DispatcherServlet extends HttpServlet {
                 response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 response.setContentType("application/json");
                 response.getWriter().write("{\"error\":\"" + e.getMessage() + "\"}");
-                e.printStackTrace();
+                log.error("❌ Handler failed: {}:{}", method, path, e);
             }
         } else {
             // 🔥 핵심 수정: 실제 Spring Framework 방식 적용
@@ -197,7 +214,7 @@ public class DispatcherServlet extends HttpServlet {
      * URL 패턴에서 {id} 같은 PathVariable을 포함한 매칭
      */
     private HandlerMapping findPatternMatch(String httpMethod, String requestPath) {
-        System.out.println("🔍 Pattern matching for: " + httpMethod + ":" + requestPath);
+        log.trace("🔍 Pattern matching for: {}:{}", httpMethod, requestPath);
         
         for (Map.Entry<String, HandlerMapping> entry : handlerMappings.entrySet()) {
             String key = entry.getKey();
@@ -209,15 +226,15 @@ public class DispatcherServlet extends HttpServlet {
             }
             
             String urlPattern = mapping.getUrlPattern();
-            System.out.println("  Checking pattern: " + urlPattern + " against path: " + requestPath);
+            log.trace("  Checking pattern: {} against path: {}", urlPattern, requestPath);
             
             if (isPatternMatch(urlPattern, requestPath)) {
-                System.out.println("  ✅ Pattern matched!");
+                log.trace("  ✅ Pattern matched!");
                 return mapping;
             }
         }
         
-        System.out.println("  ❌ No pattern match found");
+        log.trace("  ❌ No pattern match found");
         return null;
     }
     
@@ -240,7 +257,7 @@ public class DispatcherServlet extends HttpServlet {
         // /users/{id} → /users/([^/]+)
         String regexPattern = pattern.replaceAll("\\{[^}]+\\}", "([^/]+)");
         
-        System.out.println("    Regex pattern: " + regexPattern);
+        log.trace("    Regex pattern: {}", regexPattern);
         
         return path.matches(regexPattern);
     }
@@ -251,21 +268,21 @@ public class DispatcherServlet extends HttpServlet {
     private void delegateToNextServlet(HttpServletRequest request, HttpServletResponse response, String path) 
             throws ServletException, IOException {
         
-        System.out.println("🔄 DispatcherServlet: No handler found, delegating to appropriate servlet for: " + path);
+        log.debug("🔄 DispatcherServlet: No handler found, delegating to appropriate servlet for: {}", path);
         
         // 🔥 핵심 수정: 실제 Spring Framework 방식 적용
         // JSP 요청 처리 시 무한 루프 방지를 위한 더 정교한 처리
         
         // JSP 요청인지 확인 (실제 .jsp 파일 또는 JSP 내부 리소스)
         if (path.endsWith(".jsp") || path.contains("/WEB-INF/views/")) {
-            System.out.println("  → Detected JSP request: " + path);
+            log.debug("  → Detected JSP request: {}", path);
             
             // forward attribute가 이미 설정되어 있는지 확인 (무한루프 방지)
             String forwardRequestUri = (String) request.getAttribute("javax.servlet.forward.request_uri");
             
             if (forwardRequestUri != null) {
                 // 이미 forward된 요청은 404 처리 (무한루프 방지)
-                System.out.println("  → Already forwarded request, returning 404 to prevent infinite loop");
+                log.debug("  → Already forwarded request, returning 404 to prevent infinite loop");
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
                 return;
             }
@@ -273,14 +290,14 @@ public class DispatcherServlet extends HttpServlet {
             // 🔥 JSP 서블릿으로 위임 - Named Dispatcher 사용
             RequestDispatcher jspDispatcher = getServletContext().getNamedDispatcher("jsp");
             if (jspDispatcher != null) {
-                System.out.println("  → Delegating to named JSP servlet");
+                log.debug("  → Delegating to named JSP servlet");
                 // Spring의 방식: JSP는 forward 사용
                 jspDispatcher.forward(request, response);
                 return;
             }
             
             // Named JSP servlet이 없으면 직접 처리
-            System.out.println("  → No named JSP servlet, trying direct dispatch");
+            log.debug("  → No named JSP servlet, trying direct dispatch");
             RequestDispatcher dispatcher = request.getRequestDispatcher(path);
             if (dispatcher != null) {
                 dispatcher.forward(request, response);
@@ -289,14 +306,14 @@ public class DispatcherServlet extends HttpServlet {
         }
         
         // 정적 리소스 또는 기타 요청 - Default 서블릿으로 위임
-        System.out.println("  → Delegating to default servlet for resource: " + path);
+        log.debug("  → Delegating to default servlet for resource: {}", path);
         RequestDispatcher dispatcher = getServletContext().getNamedDispatcher("default");
         if (dispatcher != null) {
             // 🔥 정적 리소스는 include 방식 사용 (Spring Framework 방식)
             dispatcher.include(request, response);
         } else {
             // Default 서블릿도 없으면 404
-            System.out.println("❌ No default servlet available, returning 404");
+            log.warn("❌ No default servlet available, returning 404");
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
             response.setContentType("text/html;charset=UTF-8");
             response.getWriter().write(
@@ -326,21 +343,19 @@ public class DispatcherServlet extends HttpServlet {
         String viewName = modelAndView.getViewName();
         Map<String, Object> model = modelAndView.getModel();
         
-        System.out.println("🎬 DispatcherServlet: Handling ModelAndView");
-        System.out.println("  ViewName: " + viewName);
-        System.out.println("  Model: " + model);
+        log.debug("🎬 DispatcherServlet: Handling ModelAndView (viewName: {}, model: {})", viewName, model);
         
         if (viewName != null) {
             // ViewResolver를 통해 View 해결
             View view = viewResolver.resolveViewName(viewName);
-            System.out.println("  Resolved View: " + view);
+            log.debug("  Resolved View: {}", view);
             
             if (view != null) {
                 // 콘텐트 타입 설정
                 response.setContentType(view.getContentType());
                 // View 렌더링
                 view.render(model, request, response);
-                System.out.println("✅ Rendered view: " + viewName + " with model: " + model);
+                log.debug("✅ Rendered view: {} with model: {}", viewName, model);
             } else {
                 throw new RuntimeException("Could not resolve view with name '" + viewName + "'");
             }
@@ -1,5 +1,8 @@
 package com.springlite.framework.web;
 
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
+
 import javax.servlet.RequestDispatcher;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -7,6 +10,8 @@ import java.util.Map;
 
 public class JspView implements View {
     
+    private static final Log log = LogFactory.getLog(JspView.class);
+    
     private String url;
     
     public JspView(String url) {
@@ -17,13 +22,13 @@ public class JspView implements View {
     public void render(Map<String, Object> model, HttpServletRequest request, 
                       HttpServletResponse response) throws Exception {
         
-        System.out.println("🎨 JspView: Rendering view " + url);
+        log.debug("🎨 JspView: Rendering view {}", url);
         
         // 모델 데이터를 request attribute로 설정
         if (model != null) {
             for (Map.Entry<String, Object> entry : model.entrySet()) {
                 request.setAttribute(entry.getKey(), entry.getValue());
-                System.out.println("  Model: " + entry.getKey() + " = " + entry.getValue());
+                log.debug("  Model: {} = {}", entry.getKey(), entry.getValue());
             }
         }
         
@@ -36,7 +41,7 @@ public class JspView implements View {
             dispatcherPath = "/" + dispatcherPath;
         }
         
-        System.out.println("  → Forwarding to JSP: " + dispatcherPath);
+        log.debug("  → Forwarding to JSP: {}", dispatcherPath);
         
         // 🔥 핵심: Spring의 InternalResourceView는 forward() 사용
         // 하지만 StackOverflow를 피하기 위해 조건부 처리
@@ -48,14 +53,14 @@ public class JspView implements View {
             
             if (forwardRequestUri == null) {
                 // 최초 forward 요청 - 정상적인 Spring 방식
-                System.out.println("  → Using forward (Spring standard approach)");
+                log.debug("  → Using forward (Spring standard approach)");
                 dispatcher.forward(request, response);
-                System.out.println("✅ JSP rendered successfully via forward");
+                log.debug("✅ JSP rendered successfully via forward");
             } else {
                 // 이미 forward된 요청 - include 사용으로 무한루프 방지
-                System.out.println("  → Using include (avoiding infinite loop)");
+                log.debug("  → Using include (avoiding infinite loop)");
                 dispatcher.include(request, response);
-                System.out.println("✅ JSP rendered successfully via include");
+                log.debug("✅ JSP rendered successfully via include");
             }
         } else {
             throw new RuntimeException("Could not get RequestDispatcher for [" + dispatcherPath + "]");
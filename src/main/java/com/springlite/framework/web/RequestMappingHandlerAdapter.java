@@ -4,6 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.springlite.framework.annotations.PathVariable;
 import com.springlite.framework.annotations.RequestBody;
 import com.springlite.framework.annotations.RequestParam;
+import com.springlite.framework.logging.Log;
+import com.springlite.framework.logging.LogFactory;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -22,6 +24,8 @@ import java.util.regex.Pattern;
  */
 public class RequestMappingHandlerAdapter implements HandlerAdapter {
     
+    private static final Log log = LogFactory.getLog(RequestMappingHandlerAdapter.class);
+    
     private ObjectMapper objectMapper = new ObjectMapper();
     
     @Override
@@ -37,8 +41,7 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter {
         Object controllerInstance = handlerMapping.getHandler();
         Method controllerMethod = handlerMapping.getMethod();
         
-        System.out.println("RequestMappingHandlerAdapter: Executing " + 
-                          controllerInstance.getClass().getSimpleName() + "." + controllerMethod.getName());
+        log.debug("RequestMappingHandlerAdapter: Executing {}.{}", controllerInstance.getClass().getSimpleName(), controllerMethod.getName());
         
         // 🔥 확장된 매개변수 해결: @PathVariable, @RequestParam, @RequestBody 지원
         Object[] methodArgs = resolveMethodArguments(controllerMethod, request, response, handlerMapping);
@@ -105,9 +108,9 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter {
         // 매핑된 패턴
         String pattern = getUrlPattern(handlerMapping);
         
-        System.out.println("🔍 Path Variables Debug:");
-        System.out.println("  Request Path: " + requestPath);
-        System.out.println("  URL Pattern: " + pattern);
+        log.trace("🔍 Path Variables Debug:");
+        log.trace("  Request Path: {}", requestPath);
+        log.trace("  URL Pattern: {}", pattern);
         
         if (pattern != null && pattern.contains("{")) {
             // {id}, {name} 같은 패턴 변수를 찾아서 실제 값과 매칭
@@ -116,10 +119,11 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter {
             Pattern regex = Pattern.compile(regexPattern);
             Matcher matcher = regex.matcher(requestPath);
             
-            System.out.println("  Regex Pattern: " + regexPattern);
-            System.out.println("  Matches: " + matcher.matches());
+            log.trace("  Regex Pattern: {}", regexPattern);
+            boolean matches = matcher.matches();
+            log.trace("  Matches: {}", matches);
             
-            if (matcher.matches()) {
+            if (matches) {
                 // 패턴에서 변수명 추출
                 Pattern varPattern = Pattern.compile("\\{([^}]+)\\}");
                 Matcher varMatcher = varPattern.matcher(pattern);
@@ -129,7 +133,7 @@ public class RequestMappingHandlerAdapter implements HandlerAdapter {
                     String varName = varMatcher.group(1);
                     String varValue = matcher.group(groupIndex++);
                     pathVariables.put(varName, varValue);
-                    System.out.println("  Variable: " + varName + " = " + varValue);
+                    log.trace("  Variable: {} = {}", varName, varValue);
                 }
             }
         }
@@ -0,0 +1,143 @@
+package com.springlite.framework.context.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 🗂️ 컴포넌트 인덱스 어노테이션 프로세서
+ * Spring Framework의 CandidateComponentsIndexer를 참고하여 구현
+ *
+ * 컴파일 시점에 @Component, @Service, @Repository, @Controller, @Configuration, @Aspect
+ * (그리고 @Component로 메타 어노테이션된 스테레오타입) 클래스를 모아서
+ * META-INF/spring-lite.components 파일로 기록합니다.
+ *
+ * 파일 형식 (java.util.Properties):
+ * com.example.UserService=com.springlite.framework.annotations.Service
+ *
+ * 런타임에는 CandidateComponentsIndex가 이 파일을 읽어서 클래스패스 탐색을 대신합니다.
+ * 프레임워크 클래스를 직접 참조하지 않도록 어노테이션 이름은 문자열로만 다룹니다.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+    static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring-lite.components";
+
+    private static final String COMPONENT = "com.springlite.framework.annotations.Component";
+
+    private static final Set<String> STEREOTYPES = new HashSet<>(Arrays.asList(
+        COMPONENT,
+        "com.springlite.framework.annotations.Service",
+        "com.springlite.framework.annotations.Repository",
+        "com.springlite.framework.annotations.Controller",
+        "com.springlite.framework.annotations.Configuration",
+        "com.springlite.framework.aop.annotations.Aspect"
+    ));
+
+    // 클래스명 → 스테레오타입 목록 (출력 순서를 고정하기 위해 정렬)
+    private final Map<String, Set<String>> entries = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // 다른 프로세서가 같은 어노테이션을 처리할 수 있도록 claim 하지 않음
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+
+        if (type.getKind() == ElementKind.CLASS && !type.getModifiers().contains(Modifier.ABSTRACT)) {
+            Set<String> stereotypes = new LinkedHashSet<>();
+            for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+                String annotationName = annotationType.getQualifiedName().toString();
+                if (STEREOTYPES.contains(annotationName) || isMetaAnnotatedComponent(annotationType, new HashSet<>())) {
+                    stereotypes.add(annotationName);
+                }
+            }
+            if (!stereotypes.isEmpty()) {
+                entries.put(processingEnv.getElementUtils().getBinaryName(type).toString(), stereotypes);
+            }
+        }
+
+        // static 중첩 클래스도 컴포넌트가 될 수 있음
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement && enclosed.getModifiers().contains(Modifier.STATIC)) {
+                collect(enclosed);
+            }
+        }
+    }
+
+    /**
+     * 사용자 정의 스테레오타입 지원: @Component로 메타 어노테이션된 어노테이션인지 확인
+     */
+    private boolean isMetaAnnotatedComponent(TypeElement annotationType, Set<String> visited) {
+        if (!visited.add(annotationType.getQualifiedName().toString())) {
+            return false;
+        }
+        for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+            TypeElement metaType = (TypeElement) meta.getAnnotationType().asElement();
+            String metaName = metaType.getQualifiedName().toString();
+            if (COMPONENT.equals(metaName) || isMetaAnnotatedComponent(metaType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "", COMPONENTS_RESOURCE_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Spring Lite component index - generated by ComponentIndexProcessor\n");
+                for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Failed to write " + COMPONENTS_RESOURCE_LOCATION + ": " + e.getMessage());
+        }
+    }
+}